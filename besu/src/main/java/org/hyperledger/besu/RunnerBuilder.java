@@ -54,6 +54,7 @@ import org.hyperledger.besu.ethereum.api.jsonrpc.websocket.subscription.pending.
 import org.hyperledger.besu.ethereum.api.jsonrpc.websocket.subscription.syncing.SyncingSubscriptionService;
 import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
 import org.hyperledger.besu.ethereum.api.query.PrivacyQueries;
+import org.hyperledger.besu.ethereum.api.query.cache.CallResultCaches;
 import org.hyperledger.besu.ethereum.blockcreation.MiningCoordinator;
 import org.hyperledger.besu.ethereum.chain.Blockchain;
 import org.hyperledger.besu.ethereum.core.MiningParameters;
@@ -89,6 +90,7 @@ import org.hyperledger.besu.ethereum.permissioning.node.NodePermissioningControl
 import org.hyperledger.besu.ethereum.permissioning.node.PeerPermissionsAdapter;
 import org.hyperledger.besu.ethereum.privacy.PrivateTransactionObserver;
 import org.hyperledger.besu.ethereum.storage.StorageProvider;
+import org.hyperledger.besu.ethereum.storage.keyvalue.KeyValueSegmentIdentifier;
 import org.hyperledger.besu.ethereum.stratum.StratumServer;
 import org.hyperledger.besu.ethereum.transaction.TransactionSimulator;
 import org.hyperledger.besu.ethereum.worldstate.WorldStateArchive;
@@ -515,7 +517,14 @@ public class RunnerBuilder {
             context.getWorldStateArchive(),
             Optional.of(dataDir.resolve(CACHE_PATH)),
             Optional.of(besuController.getProtocolManager().ethContext().getScheduler()),
-            apiConfiguration);
+            apiConfiguration,
+            apiConfiguration.isLogIndexEnabled()
+                ? Optional.of(
+                    storageProvider.getStorageBySegmentIdentifier(
+                        KeyValueSegmentIdentifier.LOG_INDEX))
+                : Optional.empty());
+    final CallResultCaches callResultCaches =
+        CallResultCaches.create(apiConfiguration.getCallResultCacheSize(), metricsSystem);
 
     final PrivacyParameters privacyParameters = besuController.getPrivacyParameters();
 
@@ -575,6 +584,7 @@ public class RunnerBuilder {
               besuController,
               peerNetwork,
               blockchainQueries,
+              callResultCaches,
               synchronizer,
               transactionPool,
               miningCoordinator,
@@ -618,6 +628,7 @@ public class RunnerBuilder {
                 besuController,
                 peerNetwork,
                 blockchainQueries,
+                callResultCaches,
                 synchronizer,
                 transactionPool,
                 miningCoordinator,
@@ -690,6 +701,7 @@ public class RunnerBuilder {
               besuController,
               peerNetwork,
               blockchainQueries,
+              callResultCaches,
               synchronizer,
               transactionPool,
               miningCoordinator,
@@ -743,6 +755,7 @@ public class RunnerBuilder {
                 besuController,
                 peerNetwork,
                 blockchainQueries,
+                callResultCaches,
                 synchronizer,
                 transactionPool,
                 miningCoordinator,
@@ -811,6 +824,7 @@ public class RunnerBuilder {
         dataDir,
         pidPath,
         autoLogBloomCaching ? blockchainQueries.getTransactionLogBloomCacher() : Optional.empty(),
+        blockchainQueries.getTransactionLogIndex(),
         context.getBlockchain());
   }
 
@@ -924,6 +938,7 @@ public class RunnerBuilder {
       final BesuController besuController,
       final P2PNetwork network,
       final BlockchainQueries blockchainQueries,
+      final CallResultCaches callResultCaches,
       final Synchronizer synchronizer,
       final TransactionPool transactionPool,
       final MiningCoordinator miningCoordinator,
@@ -942,7 +957,7 @@ public class RunnerBuilder {
       final Path dataDir,
       final RpcEndpointServiceImpl rpcEndpointServiceImpl) {
     final Map<String, JsonRpcMethod> methods =
-        new JsonRpcMethodsFactory()
+        new JsonRpcMethodsFactory(callResultCaches)
             .methods(
                 BesuInfo.nodeName(identityString),
                 ethNetworkConfig.getNetworkId(),
@@ -1614,6 +1614,7 @@ public class BesuCommand implements DefaultCommandValues, Runnable {
     validateNetStatsParams();
     validateDnsOptionsParams();
     validateRpcOptionsParams();
+    unstableDataStorageOptions.validate(commandLine, isGoQuorumCompatibilityMode);
     p2pTLSConfigOptions.checkP2PTLSOptionsDependencies(logger, commandLine);
     pkiBlockCreationOptions.checkPkiBlockCreationOptionsDependencies(logger, commandLine);
   }
@@ -2024,6 +2025,12 @@ public class BesuCommand implements DefaultCommandValues, Runnable {
     jsonRpcConfiguration.setAuthenticationAlgorithm(rpcHttpAuthenticationAlgorithm);
     jsonRpcConfiguration.setTlsConfiguration(rpcHttpTlsConfiguration());
     jsonRpcConfiguration.setHttpTimeoutSec(unstableRPCOptions.getHttpTimeoutSec());
+    jsonRpcConfiguration.setMaxResponseBufferBytes(
+        unstableRPCOptions.getHttpMaxResponseBufferBytes());
+    jsonRpcConfiguration.setMaxBatchSize(unstableRPCOptions.getHttpMaxBatchSize());
+    jsonRpcConfiguration.setMaxBatchParallelism(unstableRPCOptions.getHttpMaxBatchParallelism());
+    jsonRpcConfiguration.setMaxBatchCpuTimeMillis(
+        unstableRPCOptions.getHttpMaxBatchCpuTimeMillis());
     return jsonRpcConfiguration;
   }
 
@@ -2226,6 +2233,10 @@ public class BesuCommand implements DefaultCommandValues, Runnable {
         .gasPricePercentile(apiGasPricePercentile)
         .gasPriceMin(minTransactionGasPrice.toLong())
         .gasPriceMax(apiGasPriceMax)
+        .isLogIndexEnabled(unstableRPCOptions.isLogIndexEnabled())
+        .logsQueryParallelism(unstableRPCOptions.getLogsQueryParallelism())
+        .traceFilterParallelism(unstableRPCOptions.getTraceFilterParallelism())
+        .callResultCacheSize(unstableRPCOptions.getCallResultCacheSize())
         .build();
   }
 
@@ -16,16 +16,22 @@
 
 package org.hyperledger.besu.cli.options.unstable;
 
+import static org.hyperledger.besu.ethereum.worldstate.DataStorageConfiguration.DEFAULT_ANCIENT_BLOCK_FINALITY_DEPTH;
 import static org.hyperledger.besu.ethereum.worldstate.DataStorageConfiguration.DEFAULT_BONSAI_MAX_LAYERS_TO_LOAD;
 
 import org.hyperledger.besu.cli.options.CLIOptions;
+import org.hyperledger.besu.ethereum.storage.ancient.AncientBlockStore;
 import org.hyperledger.besu.ethereum.worldstate.DataStorageConfiguration;
 import org.hyperledger.besu.ethereum.worldstate.DataStorageFormat;
 import org.hyperledger.besu.ethereum.worldstate.ImmutableDataStorageConfiguration;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
+import picocli.CommandLine;
 import picocli.CommandLine.Option;
+import picocli.CommandLine.ParameterException;
 
 public class DataStorageOptions implements CLIOptions<DataStorageConfiguration> {
 
@@ -34,6 +40,16 @@ public class DataStorageOptions implements CLIOptions<DataStorageConfiguration>
   private static final String BONSAI_STORAGE_FORMAT_MAX_LAYERS_TO_LOAD =
       "--Xbonsai-maximum-back-layers-to-load";
 
+  private static final String ANCIENT_BLOCK_STORE_ENABLED = "--Xancient-block-store-enabled";
+
+  private static final String ANCIENT_BLOCK_FINALITY_DEPTH = "--Xancient-block-finality-depth";
+
+  private static final String ANCIENT_BLOCK_COMPRESSED_TABLES =
+      "--Xancient-block-compressed-tables";
+
+  private static final String COMPACT_TRANSACTION_RECEIPTS_ENABLED =
+      "--Xcompact-transaction-receipts-enabled";
+
   // Use Bonsai DB
   @Option(
       names = {DATA_STORAGE_FORMAT},
@@ -52,24 +68,100 @@ public class DataStorageOptions implements CLIOptions<DataStorageConfiguration>
       arity = "1")
   private final Long bonsaiMaxLayersToLoad = DEFAULT_BONSAI_MAX_LAYERS_TO_LOAD;
 
+  @Option(
+      names = {ANCIENT_BLOCK_STORE_ENABLED},
+      hidden = true,
+      description =
+          "Move finalized blocks out of the key value store into append-only files "
+              + "(default: ${DEFAULT-VALUE}).",
+      arity = "1")
+  private final Boolean ancientBlockStoreEnabled = false;
+
+  @Option(
+      names = {ANCIENT_BLOCK_FINALITY_DEPTH},
+      hidden = true,
+      paramLabel = "<LONG>",
+      description =
+          "Number of blocks behind the chain head after which blocks are moved to the ancient "
+              + "block store (default: ${DEFAULT-VALUE}).",
+      arity = "1")
+  private final Long ancientBlockFinalityDepth = DEFAULT_ANCIENT_BLOCK_FINALITY_DEPTH;
+
+  @Option(
+      names = {ANCIENT_BLOCK_COMPRESSED_TABLES},
+      hidden = true,
+      paramLabel = "<TABLE>",
+      description =
+          "Comma separated list of ancient block store tables to compress. "
+              + "Any of HASHES, HEADERS, BODIES or RECEIPTS (default: none).",
+      split = ",",
+      arity = "1..*")
+  private final List<AncientBlockStore.Table> ancientBlockCompressedTables = new ArrayList<>();
+
+  @Option(
+      names = {COMPACT_TRANSACTION_RECEIPTS_ENABLED},
+      hidden = true,
+      description =
+          "Store transaction receipts without their logs blooms. Existing receipts stay readable "
+              + "and are converted when moved to the ancient block store. Receipts stored in "
+              + "this format can't be read by older versions (default: ${DEFAULT-VALUE}).",
+      arity = "1")
+  private final Boolean compactTransactionReceiptsEnabled = false;
+
   public static DataStorageOptions create() {
     return new DataStorageOptions();
   }
 
+  public void validate(final CommandLine commandLine, final boolean goQuorumCompatibilityMode) {
+    if (ancientBlockFinalityDepth <= 0) {
+      throw new ParameterException(
+          commandLine, ANCIENT_BLOCK_FINALITY_DEPTH + " must be greater than 0");
+    }
+    if (goQuorumCompatibilityMode
+        && (ancientBlockStoreEnabled || compactTransactionReceiptsEnabled)) {
+      throw new ParameterException(
+          commandLine,
+          ANCIENT_BLOCK_STORE_ENABLED
+              + " and "
+              + COMPACT_TRANSACTION_RECEIPTS_ENABLED
+              + " are not supported in GoQuorum compatibility mode");
+    }
+  }
+
   @Override
   public DataStorageConfiguration toDomainObject() {
     return ImmutableDataStorageConfiguration.builder()
         .dataStorageFormat(dataStorageFormat)
         .bonsaiMaxLayersToLoad(bonsaiMaxLayersToLoad)
+        .ancientBlockStoreEnabled(ancientBlockStoreEnabled)
+        .ancientBlockFinalityDepth(ancientBlockFinalityDepth)
+        .ancientBlockCompressedTables(ancientBlockCompressedTables)
+        .compactTransactionReceiptsEnabled(compactTransactionReceiptsEnabled)
         .build();
   }
 
   @Override
   public List<String> getCLIOptions() {
-    return List.of(
-        DATA_STORAGE_FORMAT,
-        dataStorageFormat.toString(),
-        BONSAI_STORAGE_FORMAT_MAX_LAYERS_TO_LOAD,
-        bonsaiMaxLayersToLoad.toString());
+    final List<String> options =
+        new ArrayList<>(
+            List.of(
+                DATA_STORAGE_FORMAT,
+                dataStorageFormat.toString(),
+                BONSAI_STORAGE_FORMAT_MAX_LAYERS_TO_LOAD,
+                bonsaiMaxLayersToLoad.toString(),
+                ANCIENT_BLOCK_STORE_ENABLED,
+                ancientBlockStoreEnabled.toString(),
+                ANCIENT_BLOCK_FINALITY_DEPTH,
+                ancientBlockFinalityDepth.toString(),
+                COMPACT_TRANSACTION_RECEIPTS_ENABLED,
+                compactTransactionReceiptsEnabled.toString()));
+    if (!ancientBlockCompressedTables.isEmpty()) {
+      options.add(ANCIENT_BLOCK_COMPRESSED_TABLES);
+      options.add(
+          ancientBlockCompressedTables.stream()
+              .map(AncientBlockStore.Table::name)
+              .collect(Collectors.joining(",")));
+    }
+    return options;
   }
 }
@@ -15,6 +15,7 @@
 package org.hyperledger.besu.cli.options.unstable;
 
 import org.hyperledger.besu.ethereum.api.handlers.TimeoutOptions;
+import org.hyperledger.besu.ethereum.api.jsonrpc.JsonRpcConfiguration;
 
 import picocli.CommandLine;
 
@@ -34,6 +35,80 @@ public class RPCOptions {
       arity = "1")
   private final Long wsTimeoutSec = TimeoutOptions.defaultOptions().getTimeoutSeconds();
 
+  @CommandLine.Option(
+      hidden = true,
+      names = {"--Xhttp-max-response-buffer-bytes"},
+      description =
+          "Maximum number of bytes of a JSON-RPC HTTP response buffered while the client is"
+              + " reading it (default: ${DEFAULT-VALUE})",
+      arity = "1")
+  private final Integer httpMaxResponseBufferBytes =
+      JsonRpcConfiguration.DEFAULT_MAX_RESPONSE_BUFFER_BYTES;
+
+  @CommandLine.Option(
+      hidden = true,
+      names = {"--Xhttp-max-batch-size"},
+      description =
+          "Maximum number of requests in a JSON-RPC batch, -1 for no limit"
+              + " (default: ${DEFAULT-VALUE})",
+      arity = "1")
+  private final Integer httpMaxBatchSize = JsonRpcConfiguration.DEFAULT_MAX_BATCH_SIZE;
+
+  @CommandLine.Option(
+      hidden = true,
+      names = {"--Xhttp-max-batch-parallelism"},
+      description =
+          "Maximum number of requests of a single JSON-RPC batch executed concurrently"
+              + " (default: ${DEFAULT-VALUE})",
+      arity = "1")
+  private final Integer httpMaxBatchParallelism =
+      JsonRpcConfiguration.DEFAULT_MAX_BATCH_PARALLELISM;
+
+  @CommandLine.Option(
+      hidden = true,
+      names = {"--Xhttp-max-batch-cpu-time-millis"},
+      description =
+          "CPU time in milliseconds a JSON-RPC batch may use before its remaining requests time"
+              + " out, 0 for no limit (default: ${DEFAULT-VALUE})",
+      arity = "1")
+  private final Long httpMaxBatchCpuTimeMillis = 0L;
+
+  @CommandLine.Option(
+      hidden = true,
+      names = {"--Xlog-index-enabled"},
+      description =
+          "Maintain an address and topic index of transaction logs to speed up eth_getLogs"
+              + " (default: ${DEFAULT-VALUE})",
+      arity = "1")
+  private final Boolean logIndexEnabled = Boolean.FALSE;
+
+  @CommandLine.Option(
+      hidden = true,
+      names = {"--Xlogs-query-parallelism"},
+      description =
+          "Number of threads scanning log bloom segments for eth_getLogs queries in parallel"
+              + " (default: ${DEFAULT-VALUE})",
+      arity = "1")
+  private final Integer logsQueryParallelism = 1;
+
+  @CommandLine.Option(
+      hidden = true,
+      names = {"--Xtrace-filter-parallelism"},
+      description =
+          "Number of threads replaying blocks for trace_filter requests in parallel"
+              + " (default: ${DEFAULT-VALUE})",
+      arity = "1")
+  private final Integer traceFilterParallelism = 1;
+
+  @CommandLine.Option(
+      hidden = true,
+      names = {"--Xrpc-call-result-cache-size"},
+      description =
+          "Maximum number of eth_call and eth_estimateGas results cached per method, keyed by block"
+              + " hash and call parameters, 0 to disable (default: ${DEFAULT-VALUE})",
+      arity = "1")
+  private final Long callResultCacheSize = 0L;
+
   public static RPCOptions create() {
     return new RPCOptions();
   }
@@ -45,4 +120,36 @@ public class RPCOptions {
   public Long getWsTimeoutSec() {
     return wsTimeoutSec;
   }
+
+  public int getHttpMaxResponseBufferBytes() {
+    return httpMaxResponseBufferBytes;
+  }
+
+  public int getHttpMaxBatchSize() {
+    return httpMaxBatchSize;
+  }
+
+  public int getHttpMaxBatchParallelism() {
+    return httpMaxBatchParallelism;
+  }
+
+  public long getHttpMaxBatchCpuTimeMillis() {
+    return httpMaxBatchCpuTimeMillis;
+  }
+
+  public boolean isLogIndexEnabled() {
+    return logIndexEnabled;
+  }
+
+  public int getLogsQueryParallelism() {
+    return logsQueryParallelism;
+  }
+
+  public int getTraceFilterParallelism() {
+    return traceFilterParallelism;
+  }
+
+  public long getCallResultCacheSize() {
+    return callResultCacheSize;
+  }
 }
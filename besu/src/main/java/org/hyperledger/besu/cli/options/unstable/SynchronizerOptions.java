@@ -17,9 +17,12 @@ package org.hyperledger.besu.cli.options.unstable;
 import org.hyperledger.besu.cli.options.CLIOptions;
 import org.hyperledger.besu.cli.options.OptionParser;
 import org.hyperledger.besu.ethereum.eth.sync.SynchronizerConfiguration;
+import org.hyperledger.besu.services.pipeline.WaitStrategy;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import com.google.common.collect.Range;
 import org.apache.tuweni.units.bigints.UInt256;
@@ -44,6 +47,10 @@ public class SynchronizerOptions implements CLIOptions<SynchronizerConfiguration
       "--Xsynchronizer-transactions-parallelism";
   private static final String COMPUTATION_PARALLELISM_FLAG =
       "--Xsynchronizer-computation-parallelism";
+  private static final String VIRTUAL_THREADS_ENABLED_FLAG =
+      "--Xsynchronizer-virtual-threads-enabled";
+  private static final String DOWNLOADER_PIPE_WAIT_STRATEGY_FLAG =
+      "--Xsynchronizer-downloader-pipe-wait-strategy";
   private static final String PIVOT_DISTANCE_FROM_HEAD_FLAG =
       "--Xsynchronizer-fast-sync-pivot-distance";
   private static final String FULL_VALIDATION_RATE_FLAG =
@@ -146,6 +153,23 @@ public class SynchronizerOptions implements CLIOptions<SynchronizerConfiguration
           "Number of threads to make available for bulk hash computations during downloads (default: # of processors)")
   private int computationParallelism = Runtime.getRuntime().availableProcessors();
 
+  @CommandLine.Option(
+      names = VIRTUAL_THREADS_ENABLED_FLAG,
+      hidden = true,
+      paramLabel = "<Boolean>",
+      arity = "1",
+      description =
+          "Run sync workers and pipeline stages on virtual threads when the JVM supports them (default: ${DEFAULT-VALUE})")
+  private boolean virtualThreadsEnabled = SynchronizerConfiguration.DEFAULT_VIRTUAL_THREADS_ENABLED;
+
+  @CommandLine.Option(
+      names = DOWNLOADER_PIPE_WAIT_STRATEGY_FLAG,
+      hidden = true,
+      paramLabel = "<STRATEGY>",
+      description =
+          "Connect the chain download pipeline stages with lock-free ring buffers waiting with this strategy (${COMPLETION-CANDIDATES}) instead of blocking queues (default: blocking queues)")
+  private WaitStrategy downloaderPipeWaitStrategy;
+
   @CommandLine.Option(
       names = PIVOT_DISTANCE_FROM_HEAD_FLAG,
       hidden = true,
@@ -231,6 +255,8 @@ public class SynchronizerOptions implements CLIOptions<SynchronizerConfiguration
     options.downloaderParallelism = config.getDownloaderParallelism();
     options.transactionsParallelism = config.getTransactionsParallelism();
     options.computationParallelism = config.getComputationParallelism();
+    options.virtualThreadsEnabled = config.isVirtualThreadsEnabled();
+    options.downloaderPipeWaitStrategy = config.getDownloaderPipeWaitStrategy().orElse(null);
     options.fastSyncPivotDistance = config.getFastSyncPivotDistance();
     options.fastSyncFullValidationRate = config.getFastSyncFullValidationRate();
     options.worldStateHashCountPerRequest = config.getWorldStateHashCountPerRequest();
@@ -253,6 +279,8 @@ public class SynchronizerOptions implements CLIOptions<SynchronizerConfiguration
     builder.downloaderParallelism(downloaderParallelism);
     builder.transactionsParallelism(transactionsParallelism);
     builder.computationParallelism(computationParallelism);
+    builder.virtualThreadsEnabled(virtualThreadsEnabled);
+    builder.downloaderPipeWaitStrategy(Optional.ofNullable(downloaderPipeWaitStrategy));
     builder.fastSyncPivotDistance(fastSyncPivotDistance);
     builder.fastSyncFullValidationRate(fastSyncFullValidationRate);
     builder.worldStateHashCountPerRequest(worldStateHashCountPerRequest);
@@ -265,38 +293,47 @@ public class SynchronizerOptions implements CLIOptions<SynchronizerConfiguration
 
   @Override
   public List<String> getCLIOptions() {
-    return Arrays.asList(
-        BLOCK_PROPAGATION_RANGE_FLAG,
-        OptionParser.format(blockPropagationRange),
-        DOWNLOADER_CHANGE_TARGET_THRESHOLD_BY_HEIGHT_FLAG,
-        OptionParser.format(downloaderChangeTargetThresholdByHeight),
-        DOWNLOADER_CHANGE_TARGET_THRESHOLD_BY_TD_FLAG,
-        OptionParser.format(downloaderChangeTargetThresholdByTd),
-        DOWNLOADER_HEADER_REQUEST_SIZE_FLAG,
-        OptionParser.format(downloaderHeaderRequestSize),
-        DOWNLOADER_CHECKPOINT_TIMEOUTS_PERMITTED_FLAG,
-        OptionParser.format(downloaderCheckpointTimeoutsPermitted),
-        DOWNLOADER_CHAIN_SEGMENT_SIZE_FLAG,
-        OptionParser.format(downloaderChainSegmentSize),
-        DOWNLOADER_PARALLELISM_FLAG,
-        OptionParser.format(downloaderParallelism),
-        TRANSACTIONS_PARALLELISM_FLAG,
-        OptionParser.format(transactionsParallelism),
-        COMPUTATION_PARALLELISM_FLAG,
-        OptionParser.format(computationParallelism),
-        PIVOT_DISTANCE_FROM_HEAD_FLAG,
-        OptionParser.format(fastSyncPivotDistance),
-        FULL_VALIDATION_RATE_FLAG,
-        OptionParser.format(fastSyncFullValidationRate),
-        WORLD_STATE_HASH_COUNT_PER_REQUEST_FLAG,
-        OptionParser.format(worldStateHashCountPerRequest),
-        WORLD_STATE_REQUEST_PARALLELISM_FLAG,
-        OptionParser.format(worldStateRequestParallelism),
-        WORLD_STATE_MAX_REQUESTS_WITHOUT_PROGRESS_FLAG,
-        OptionParser.format(worldStateMaxRequestsWithoutProgress),
-        WORLD_STATE_MIN_MILLIS_BEFORE_STALLING_FLAG,
-        OptionParser.format(worldStateMinMillisBeforeStalling),
-        WORLD_STATE_TASK_CACHE_SIZE_FLAG,
-        OptionParser.format(worldStateTaskCacheSize));
+    final List<String> options =
+        new ArrayList<>(
+            Arrays.asList(
+                BLOCK_PROPAGATION_RANGE_FLAG,
+                OptionParser.format(blockPropagationRange),
+                DOWNLOADER_CHANGE_TARGET_THRESHOLD_BY_HEIGHT_FLAG,
+                OptionParser.format(downloaderChangeTargetThresholdByHeight),
+                DOWNLOADER_CHANGE_TARGET_THRESHOLD_BY_TD_FLAG,
+                OptionParser.format(downloaderChangeTargetThresholdByTd),
+                DOWNLOADER_HEADER_REQUEST_SIZE_FLAG,
+                OptionParser.format(downloaderHeaderRequestSize),
+                DOWNLOADER_CHECKPOINT_TIMEOUTS_PERMITTED_FLAG,
+                OptionParser.format(downloaderCheckpointTimeoutsPermitted),
+                DOWNLOADER_CHAIN_SEGMENT_SIZE_FLAG,
+                OptionParser.format(downloaderChainSegmentSize),
+                DOWNLOADER_PARALLELISM_FLAG,
+                OptionParser.format(downloaderParallelism),
+                TRANSACTIONS_PARALLELISM_FLAG,
+                OptionParser.format(transactionsParallelism),
+                COMPUTATION_PARALLELISM_FLAG,
+                OptionParser.format(computationParallelism),
+                VIRTUAL_THREADS_ENABLED_FLAG,
+                String.valueOf(virtualThreadsEnabled),
+                PIVOT_DISTANCE_FROM_HEAD_FLAG,
+                OptionParser.format(fastSyncPivotDistance),
+                FULL_VALIDATION_RATE_FLAG,
+                OptionParser.format(fastSyncFullValidationRate),
+                WORLD_STATE_HASH_COUNT_PER_REQUEST_FLAG,
+                OptionParser.format(worldStateHashCountPerRequest),
+                WORLD_STATE_REQUEST_PARALLELISM_FLAG,
+                OptionParser.format(worldStateRequestParallelism),
+                WORLD_STATE_MAX_REQUESTS_WITHOUT_PROGRESS_FLAG,
+                OptionParser.format(worldStateMaxRequestsWithoutProgress),
+                WORLD_STATE_MIN_MILLIS_BEFORE_STALLING_FLAG,
+                OptionParser.format(worldStateMinMillisBeforeStalling),
+                WORLD_STATE_TASK_CACHE_SIZE_FLAG,
+                OptionParser.format(worldStateTaskCacheSize)));
+    if (downloaderPipeWaitStrategy != null) {
+      options.add(DOWNLOADER_PIPE_WAIT_STRATEGY_FLAG);
+      options.add(downloaderPipeWaitStrategy.name());
+    }
+    return options;
   }
 }
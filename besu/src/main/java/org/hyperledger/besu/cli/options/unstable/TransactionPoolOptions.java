@@ -33,6 +33,11 @@ public class TransactionPoolOptions
   private static final String ETH65_TX_ANNOUNCED_BUFFERING_PERIOD_FLAG =
       "--Xeth65-tx-announced-buffering-period-milliseconds";
 
+  private static final String TX_GOSSIP_MAX_BYTES_PER_PEER_FLAG = "--Xtx-gossip-max-bytes-per-peer";
+
+  private static final String TX_GOSSIP_BUDGET_PERIOD_FLAG =
+      "--Xtx-gossip-budget-period-milliseconds";
+
   private static final String STRICT_TX_REPLAY_PROTECTION_ENABLED_FLAG =
       "--strict-tx-replay-protection-enabled";
 
@@ -65,6 +70,26 @@ public class TransactionPoolOptions
   private long eth65TrxAnnouncedBufferingPeriod =
       TransactionPoolConfiguration.ETH65_TRX_ANNOUNCED_BUFFERING_PERIOD.toMillis();
 
+  @CommandLine.Option(
+      names = {TX_GOSSIP_MAX_BYTES_PER_PEER_FLAG},
+      paramLabel = "<INTEGER>",
+      hidden = true,
+      description =
+          "Maximum bytes of transactions gossiped to a peer per budget period (default: ${DEFAULT-VALUE})",
+      arity = "1")
+  private Integer txGossipMaxBytesPerPeer =
+      TransactionPoolConfiguration.DEFAULT_TX_GOSSIP_MAX_BYTES_PER_PEER;
+
+  @CommandLine.Option(
+      names = {TX_GOSSIP_BUDGET_PERIOD_FLAG},
+      paramLabel = "<LONG>",
+      hidden = true,
+      description =
+          "The period over which the transaction gossip budget of a peer refills in milliseconds (default: ${DEFAULT-VALUE})",
+      arity = "1")
+  private long txGossipBudgetPeriod =
+      TransactionPoolConfiguration.DEFAULT_TX_GOSSIP_BUDGET_PERIOD.toMillis();
+
   private TransactionPoolOptions() {}
 
   public static TransactionPoolOptions create() {
@@ -77,6 +102,8 @@ public class TransactionPoolOptions
     options.eth65TrxAnnouncedBufferingPeriod =
         config.getEth65TrxAnnouncedBufferingPeriod().toMillis();
     options.strictTxReplayProtectionEnabled = config.getStrictTransactionReplayProtectionEnabled();
+    options.txGossipMaxBytesPerPeer = config.getTxGossipMaxBytesPerPeer();
+    options.txGossipBudgetPeriod = config.getTxGossipBudgetPeriod().toMillis();
     return options;
   }
 
@@ -85,7 +112,9 @@ public class TransactionPoolOptions
     return ImmutableTransactionPoolConfiguration.builder()
         .strictTransactionReplayProtectionEnabled(strictTxReplayProtectionEnabled)
         .txMessageKeepAliveSeconds(txMessageKeepAliveSeconds)
-        .eth65TrxAnnouncedBufferingPeriod(Duration.ofMillis(eth65TrxAnnouncedBufferingPeriod));
+        .eth65TrxAnnouncedBufferingPeriod(Duration.ofMillis(eth65TrxAnnouncedBufferingPeriod))
+        .txGossipMaxBytesPerPeer(txGossipMaxBytesPerPeer)
+        .txGossipBudgetPeriod(Duration.ofMillis(txGossipBudgetPeriod));
   }
 
   @Override
@@ -95,6 +124,10 @@ public class TransactionPoolOptions
         TX_MESSAGE_KEEP_ALIVE_SEC_FLAG,
         OptionParser.format(txMessageKeepAliveSeconds),
         ETH65_TX_ANNOUNCED_BUFFERING_PERIOD_FLAG,
-        OptionParser.format(eth65TrxAnnouncedBufferingPeriod));
+        OptionParser.format(eth65TrxAnnouncedBufferingPeriod),
+        TX_GOSSIP_MAX_BYTES_PER_PEER_FLAG,
+        OptionParser.format(txGossipMaxBytesPerPeer),
+        TX_GOSSIP_BUDGET_PERIOD_FLAG,
+        OptionParser.format(txGossipBudgetPeriod));
   }
 }
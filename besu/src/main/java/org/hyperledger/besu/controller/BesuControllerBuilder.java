@@ -15,6 +15,7 @@
 package org.hyperledger.besu.controller;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
 
 import org.hyperledger.besu.config.GenesisConfigFile;
 import org.hyperledger.besu.consensus.qbft.pki.PkiBlockCreationConfiguration;
@@ -58,7 +59,11 @@ import org.hyperledger.besu.ethereum.eth.transactions.TransactionPoolFactory;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
 import org.hyperledger.besu.ethereum.p2p.config.SubProtocolConfiguration;
 import org.hyperledger.besu.ethereum.storage.StorageProvider;
+import org.hyperledger.besu.ethereum.storage.ancient.AncientBlockMigrator;
+import org.hyperledger.besu.ethereum.storage.ancient.AncientBlockStore;
 import org.hyperledger.besu.ethereum.storage.keyvalue.KeyValueSegmentIdentifier;
+import org.hyperledger.besu.ethereum.storage.keyvalue.KeyValueStoragePrefixedKeyBlockchainStorage;
+import org.hyperledger.besu.ethereum.storage.keyvalue.KeyValueStorageProvider;
 import org.hyperledger.besu.ethereum.worldstate.DataStorageConfiguration;
 import org.hyperledger.besu.ethereum.worldstate.DataStorageFormat;
 import org.hyperledger.besu.ethereum.worldstate.DefaultWorldStateArchive;
@@ -88,6 +93,7 @@ import org.slf4j.LoggerFactory;
 
 public abstract class BesuControllerBuilder implements MiningParameterOverrides {
   private static final Logger LOG = LoggerFactory.getLogger(BesuControllerBuilder.class);
+  private static final String ANCIENT_BLOCK_STORE_DIRECTORY = "ancient";
 
   protected GenesisConfigFile genesisConfig;
   protected SynchronizerConfiguration syncConfig;
@@ -266,8 +272,9 @@ public abstract class BesuControllerBuilder implements MiningParameterOverrides
     final WorldStateStorage worldStateStorage =
         storageProvider.createWorldStateStorage(dataStorageConfiguration.getDataStorageFormat());
 
+    final Optional<AncientBlockStore> maybeAncientBlockStore = createAncientBlockStore();
     final BlockchainStorage blockchainStorage =
-        storageProvider.createBlockchainStorage(protocolSchedule);
+        createBlockchainStorage(protocolSchedule, maybeAncientBlockStore);
 
     final MutableBlockchain blockchain =
         DefaultBlockchain.createMutable(
@@ -277,6 +284,15 @@ public abstract class BesuControllerBuilder implements MiningParameterOverrides
             reorgLoggingThreshold,
             dataDirectory.toString());
 
+    final Optional<AncientBlockMigrator> maybeAncientBlockMigrator =
+        maybeAncientBlockStore.map(
+            ancientBlockStore ->
+                new AncientBlockMigrator(
+                    (KeyValueStoragePrefixedKeyBlockchainStorage) blockchainStorage,
+                    ancientBlockStore,
+                    dataStorageConfiguration.getAncientBlockFinalityDepth()));
+    maybeAncientBlockMigrator.ifPresent(blockchain::observeBlockAdded);
+
     final WorldStateArchive worldStateArchive =
         createWorldStateArchive(worldStateStorage, blockchain);
 
@@ -325,7 +341,9 @@ public abstract class BesuControllerBuilder implements MiningParameterOverrides
         new EthScheduler(
             syncConfig.getDownloaderParallelism(),
             syncConfig.getTransactionsParallelism(),
+            EthScheduler.TX_WORKER_CAPACITY,
             syncConfig.getComputationParallelism(),
+            syncConfig.isVirtualThreadsEnabled(),
             metricsSystem);
     final EthContext ethContext = new EthContext(ethPeers, ethMessages, snapMessages, scheduler);
     final SyncState syncState = new SyncState(blockchain, ethPeers);
@@ -393,6 +411,8 @@ public abstract class BesuControllerBuilder implements MiningParameterOverrides
         createAdditionalJsonRpcMethodFactory(protocolContext);
 
     final List<Closeable> closeables = new ArrayList<>();
+    // The migrator writes to the blockchain storage, so it has to be closed first
+    maybeAncientBlockMigrator.ifPresent(closeables::add);
     closeables.add(storageProvider);
     if (privacyParameters.getPrivateStorageProvider() != null) {
       closeables.add(privacyParameters.getPrivateStorageProvider());
@@ -500,6 +520,36 @@ public abstract class BesuControllerBuilder implements MiningParameterOverrides
     return Optional.empty();
   }
 
+  private BlockchainStorage createBlockchainStorage(
+      final ProtocolSchedule protocolSchedule,
+      final Optional<AncientBlockStore> maybeAncientBlockStore) {
+    if (maybeAncientBlockStore.isEmpty()
+        && !dataStorageConfiguration.getCompactTransactionReceiptsEnabled()) {
+      return storageProvider.createBlockchainStorage(protocolSchedule);
+    }
+    checkState(
+        storageProvider instanceof KeyValueStorageProvider,
+        "Optional blockchain storage features require a key value storage provider");
+    return ((KeyValueStorageProvider) storageProvider)
+        .createBlockchainStorage(
+            protocolSchedule,
+            maybeAncientBlockStore,
+            dataStorageConfiguration.getCompactTransactionReceiptsEnabled());
+  }
+
+  private Optional<AncientBlockStore> createAncientBlockStore() {
+    if (!dataStorageConfiguration.getAncientBlockStoreEnabled()) {
+      return Optional.empty();
+    }
+    checkState(
+        storageProvider instanceof KeyValueStorageProvider,
+        "The ancient block store requires a key value storage provider");
+    return Optional.of(
+        new AncientBlockStore(
+            dataDirectory.resolve(ANCIENT_BLOCK_STORE_DIRECTORY),
+            dataStorageConfiguration.getAncientBlockCompressedTables()));
+  }
+
   private WorldStateArchive createWorldStateArchive(
       final WorldStateStorage worldStateStorage, final Blockchain blockchain) {
     switch (dataStorageConfiguration.getDataStorageFormat()) {
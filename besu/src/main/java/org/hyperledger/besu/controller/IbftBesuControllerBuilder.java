@@ -26,6 +26,7 @@ import org.hyperledger.besu.consensus.common.bft.BftExecutors;
 import org.hyperledger.besu.consensus.common.bft.BftExtraDataCodec;
 import org.hyperledger.besu.consensus.common.bft.BftProcessor;
 import org.hyperledger.besu.consensus.common.bft.BlockTimer;
+import org.hyperledger.besu.consensus.common.bft.ConsensusRoundIdentifier;
 import org.hyperledger.besu.consensus.common.bft.EthSynchronizerUpdater;
 import org.hyperledger.besu.consensus.common.bft.EventMultiplexer;
 import org.hyperledger.besu.consensus.common.bft.MessageTracker;
@@ -34,7 +35,9 @@ import org.hyperledger.besu.consensus.common.bft.UniqueMessageMulticaster;
 import org.hyperledger.besu.consensus.common.bft.blockcreation.BftBlockCreatorFactory;
 import org.hyperledger.besu.consensus.common.bft.blockcreation.BftMiningCoordinator;
 import org.hyperledger.besu.consensus.common.bft.blockcreation.ProposerSelector;
+import org.hyperledger.besu.consensus.common.bft.messagedata.MessageRoundReader;
 import org.hyperledger.besu.consensus.common.bft.network.ValidatorPeers;
+import org.hyperledger.besu.consensus.common.bft.payload.RecoveredAuthorCache;
 import org.hyperledger.besu.consensus.common.bft.protocol.BftProtocolManager;
 import org.hyperledger.besu.consensus.common.bft.statemachine.BftEventHandler;
 import org.hyperledger.besu.consensus.common.bft.statemachine.BftFinalState;
@@ -100,7 +103,11 @@ public class IbftBesuControllerBuilder extends BftBesuControllerBuilder {
   @Override
   protected void prepForBuild() {
     bftConfig = genesisConfig.getConfigOptions(genesisConfigOverrides).getBftConfigOptions();
-    bftEventQueue = new BftEventQueue(bftConfig.getMessageQueueLimit());
+    bftEventQueue =
+        new BftEventQueue(
+            bftConfig.getMessageQueueLimit(),
+            new MessageRoundReader(ConsensusRoundIdentifier::readFrom),
+            metricsSystem);
     forksSchedule = IbftForksSchedulesFactory.create(genesisConfig.getConfigOptions());
   }
 
@@ -164,7 +171,10 @@ public class IbftBesuControllerBuilder extends BftBesuControllerBuilder {
     final UniqueMessageMulticaster uniqueMessageMulticaster =
         new UniqueMessageMulticaster(peers, bftConfig.getGossipedHistoryLimit());
 
-    final IbftGossip gossiper = new IbftGossip(uniqueMessageMulticaster);
+    final RecoveredAuthorCache recoveredAuthorCache =
+        new RecoveredAuthorCache(bftExecutors::executeSignatureRecovery);
+
+    final IbftGossip gossiper = new IbftGossip(uniqueMessageMulticaster, recoveredAuthorCache);
 
     final BftFinalState finalState =
         new BftFinalState(
@@ -180,7 +190,11 @@ public class IbftBesuControllerBuilder extends BftBesuControllerBuilder {
 
     final MessageValidatorFactory messageValidatorFactory =
         new MessageValidatorFactory(
-            proposerSelector, protocolSchedule, protocolContext, bftExtraDataCodec().get());
+            proposerSelector,
+            protocolSchedule,
+            protocolContext,
+            bftExtraDataCodec().get(),
+            recoveredAuthorCache);
 
     final Subscribers<MinedBlockObserver> minedBlockObservers = Subscribers.create();
     minedBlockObservers.subscribe(ethProtocolManager);
@@ -215,7 +229,8 @@ public class IbftBesuControllerBuilder extends BftBesuControllerBuilder {
             gossiper,
             duplicateMessageTracker,
             futureMessageBuffer,
-            new EthSynchronizerUpdater(ethProtocolManager.ethContext().getEthPeers()));
+            new EthSynchronizerUpdater(ethProtocolManager.ethContext().getEthPeers()),
+            recoveredAuthorCache);
 
     final EventMultiplexer eventMultiplexer = new EventMultiplexer(ibftController);
     final BftProcessor bftProcessor = new BftProcessor(bftEventQueue, eventMultiplexer);
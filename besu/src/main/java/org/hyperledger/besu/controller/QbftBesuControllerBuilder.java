@@ -37,7 +37,9 @@ import org.hyperledger.besu.consensus.common.bft.UniqueMessageMulticaster;
 import org.hyperledger.besu.consensus.common.bft.blockcreation.BftBlockCreatorFactory;
 import org.hyperledger.besu.consensus.common.bft.blockcreation.BftMiningCoordinator;
 import org.hyperledger.besu.consensus.common.bft.blockcreation.ProposerSelector;
+import org.hyperledger.besu.consensus.common.bft.messagedata.MessageRoundReader;
 import org.hyperledger.besu.consensus.common.bft.network.ValidatorPeers;
+import org.hyperledger.besu.consensus.common.bft.payload.RecoveredAuthorCache;
 import org.hyperledger.besu.consensus.common.bft.protocol.BftProtocolManager;
 import org.hyperledger.besu.consensus.common.bft.statemachine.BftEventHandler;
 import org.hyperledger.besu.consensus.common.bft.statemachine.BftFinalState;
@@ -52,6 +54,7 @@ import org.hyperledger.besu.consensus.qbft.QbftProtocolSchedule;
 import org.hyperledger.besu.consensus.qbft.blockcreation.QbftBlockCreatorFactory;
 import org.hyperledger.besu.consensus.qbft.jsonrpc.QbftJsonRpcMethods;
 import org.hyperledger.besu.consensus.qbft.payload.MessageFactory;
+import org.hyperledger.besu.consensus.qbft.payload.QbftPayload;
 import org.hyperledger.besu.consensus.qbft.pki.PkiQbftExtraDataCodec;
 import org.hyperledger.besu.consensus.qbft.protocol.Istanbul100SubProtocol;
 import org.hyperledger.besu.consensus.qbft.statemachine.QbftBlockHeightManagerFactory;
@@ -119,7 +122,11 @@ public class QbftBesuControllerBuilder extends BftBesuControllerBuilder {
   @Override
   protected void prepForBuild() {
     qbftConfig = genesisConfig.getConfigOptions(genesisConfigOverrides).getQbftConfigOptions();
-    bftEventQueue = new BftEventQueue(qbftConfig.getMessageQueueLimit());
+    bftEventQueue =
+        new BftEventQueue(
+            qbftConfig.getMessageQueueLimit(),
+            new MessageRoundReader(QbftPayload::readConsensusRound),
+            metricsSystem);
     qbftForksSchedule = QbftForksSchedulesFactory.create(genesisConfig.getConfigOptions());
   }
 
@@ -204,7 +211,11 @@ public class QbftBesuControllerBuilder extends BftBesuControllerBuilder {
     final UniqueMessageMulticaster uniqueMessageMulticaster =
         new UniqueMessageMulticaster(peers, qbftConfig.getGossipedHistoryLimit());
 
-    final QbftGossip gossiper = new QbftGossip(uniqueMessageMulticaster, bftExtraDataCodec().get());
+    final RecoveredAuthorCache recoveredAuthorCache =
+        new RecoveredAuthorCache(bftExecutors::executeSignatureRecovery);
+
+    final QbftGossip gossiper =
+        new QbftGossip(uniqueMessageMulticaster, bftExtraDataCodec().get(), recoveredAuthorCache);
 
     final BftFinalState finalState =
         new BftFinalState(
@@ -220,7 +231,11 @@ public class QbftBesuControllerBuilder extends BftBesuControllerBuilder {
 
     final MessageValidatorFactory messageValidatorFactory =
         new MessageValidatorFactory(
-            proposerSelector, protocolSchedule, protocolContext, bftExtraDataCodec().get());
+            proposerSelector,
+            protocolSchedule,
+            protocolContext,
+            bftExtraDataCodec().get(),
+            recoveredAuthorCache);
 
     final Subscribers<MinedBlockObserver> minedBlockObservers = Subscribers.create();
     minedBlockObservers.subscribe(ethProtocolManager);
@@ -257,7 +272,8 @@ public class QbftBesuControllerBuilder extends BftBesuControllerBuilder {
             duplicateMessageTracker,
             futureMessageBuffer,
             new EthSynchronizerUpdater(ethProtocolManager.ethContext().getEthPeers()),
-            bftExtraDataCodec().get());
+            bftExtraDataCodec().get(),
+            recoveredAuthorCache);
 
     final EventMultiplexer eventMultiplexer = new EventMultiplexer(qbftController);
     final BftProcessor bftProcessor = new BftProcessor(bftEventQueue, eventMultiplexer);
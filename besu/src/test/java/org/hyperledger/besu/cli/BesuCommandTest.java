@@ -1712,6 +1712,35 @@ public class BesuCommandTest extends CommandTestAbstract {
             "Invalid value for option '--Xbonsai-maximum-back-layers-to-load': 'ten' is not a long");
   }
 
+  @Test
+  public void ancientBlockFinalityDepthMustBePositive() {
+    parseCommand("--Xancient-block-store-enabled", "true", "--Xancient-block-finality-depth", "0");
+
+    Mockito.verifyNoInteractions(mockRunnerBuilder);
+    assertThat(commandOutput.toString(UTF_8)).isEmpty();
+    assertThat(commandErrorOutput.toString(UTF_8))
+        .contains("--Xancient-block-finality-depth must be greater than 0");
+  }
+
+  @Test
+  public void ancientBlockStoreCannotBeUsedInGoQuorumMode() throws IOException {
+    final Path genesisFile =
+        createFakeGenesisFile(VALID_GENESIS_QUORUM_INTEROP_ENABLED_WITH_CHAINID);
+    parseCommand(
+        "--genesis-file",
+        genesisFile.toString(),
+        "--min-gas-price",
+        "0",
+        "--privacy-public-key-file",
+        ENCLAVE_PUBLIC_KEY_PATH,
+        "--Xancient-block-store-enabled",
+        "true");
+
+    Mockito.verifyNoInteractions(mockRunnerBuilder);
+    assertThat(commandErrorOutput.toString(UTF_8))
+        .contains("are not supported in GoQuorum compatibility mode");
+  }
+
   @Test
   public void launcherDefaultOptionValue() {
     TestBesuCommand besuCommand = parseCommand();
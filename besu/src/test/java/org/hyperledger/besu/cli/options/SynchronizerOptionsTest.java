@@ -16,9 +16,11 @@ package org.hyperledger.besu.cli.options;
 
 import org.hyperledger.besu.cli.options.unstable.SynchronizerOptions;
 import org.hyperledger.besu.ethereum.eth.sync.SynchronizerConfiguration;
+import org.hyperledger.besu.services.pipeline.WaitStrategy;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import com.google.common.collect.Range;
 import org.junit.runner.RunWith;
@@ -64,7 +66,9 @@ public class SynchronizerOptionsTest
             SynchronizerConfiguration.DEFAULT_DOWNLOADER_CHAIN_SEGMENT_SIZE + 2)
         .downloaderParallelism(SynchronizerConfiguration.DEFAULT_DOWNLOADER_PARALLELISM + 2)
         .transactionsParallelism(SynchronizerConfiguration.DEFAULT_TRANSACTIONS_PARALLELISM + 2)
-        .computationParallelism(SynchronizerConfiguration.DEFAULT_COMPUTATION_PARALLELISM + 2);
+        .computationParallelism(SynchronizerConfiguration.DEFAULT_COMPUTATION_PARALLELISM + 2)
+        .virtualThreadsEnabled(!SynchronizerConfiguration.DEFAULT_VIRTUAL_THREADS_ENABLED)
+        .downloaderPipeWaitStrategy(Optional.of(WaitStrategy.PARKING));
   }
 
   @Override
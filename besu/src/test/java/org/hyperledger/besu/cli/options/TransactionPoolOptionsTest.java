@@ -113,6 +113,24 @@ public class TransactionPoolOptionsTest
     assertThat(commandErrorOutput.toString(UTF_8)).isEmpty();
   }
 
+  @Test
+  public void txGossipBudget() {
+    final TestBesuCommand cmd =
+        parseCommand(
+            "--Xtx-gossip-max-bytes-per-peer",
+            "1024",
+            "--Xtx-gossip-budget-period-milliseconds",
+            "200");
+
+    final TransactionPoolOptions options = getOptionsFromBesuCommand(cmd);
+    final TransactionPoolConfiguration config = options.toDomainObject().build();
+    assertThat(config.getTxGossipMaxBytesPerPeer()).isEqualTo(1024);
+    assertThat(config.getTxGossipBudgetPeriod()).hasMillis(200);
+
+    assertThat(commandOutput.toString(UTF_8)).isEmpty();
+    assertThat(commandErrorOutput.toString(UTF_8)).isEmpty();
+  }
+
   @Override
   ImmutableTransactionPoolConfiguration.Builder createDefaultDomainObject() {
     final ImmutableTransactionPoolConfiguration defaultValue =
@@ -120,7 +138,9 @@ public class TransactionPoolOptionsTest
     return ImmutableTransactionPoolConfiguration.builder()
         .strictTransactionReplayProtectionEnabled(false)
         .txMessageKeepAliveSeconds(defaultValue.getTxMessageKeepAliveSeconds())
-        .eth65TrxAnnouncedBufferingPeriod(defaultValue.getEth65TrxAnnouncedBufferingPeriod());
+        .eth65TrxAnnouncedBufferingPeriod(defaultValue.getEth65TrxAnnouncedBufferingPeriod())
+        .txGossipMaxBytesPerPeer(defaultValue.getTxGossipMaxBytesPerPeer())
+        .txGossipBudgetPeriod(defaultValue.getTxGossipBudgetPeriod());
   }
 
   @Override
@@ -130,7 +150,10 @@ public class TransactionPoolOptionsTest
         .txMessageKeepAliveSeconds(TransactionPoolConfiguration.DEFAULT_TX_MSG_KEEP_ALIVE + 1)
         .eth65TrxAnnouncedBufferingPeriod(
             TransactionPoolConfiguration.ETH65_TRX_ANNOUNCED_BUFFERING_PERIOD.plus(
-                Duration.ofMillis(100)));
+                Duration.ofMillis(100)))
+        .txGossipMaxBytesPerPeer(
+            TransactionPoolConfiguration.DEFAULT_TX_GOSSIP_MAX_BYTES_PER_PEER / 2)
+        .txGossipBudgetPeriod(Duration.ofMillis(200));
   }
 
   @Override
@@ -15,24 +15,104 @@
 package org.hyperledger.besu.consensus.common.bft;
 
 import org.hyperledger.besu.consensus.common.bft.events.BftEvent;
+import org.hyperledger.besu.consensus.common.bft.events.BftEvents;
+import org.hyperledger.besu.consensus.common.bft.events.BftReceivedMessageEvent;
+import org.hyperledger.besu.consensus.common.bft.events.NewChainHead;
+import org.hyperledger.besu.ethereum.p2p.rlpx.wire.Message;
+import org.hyperledger.besu.metrics.BesuMetricCategory;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledGauge;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
 
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
 import javax.annotation.Nullable;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-/** Threadsafe queue that lets parts of the system inform the Bft infrastructure about events */
+/**
+ * Threadsafe queue that lets parts of the system inform the Bft infrastructure about events.
+ *
+ * <p>Timer and new chain head events are always handed out before received messages, and messages
+ * for the height currently being agreed on are handed out before messages whose height is unknown
+ * or in the future. Messages for heights that are already part of the chain are dropped, both when
+ * they are added and when a new chain head makes them stale. Only messages count towards the queue
+ * limit, so timer and new chain head events are never dropped.
+ */
 public class BftEventQueue {
-  private final BlockingQueue<BftEvent> queue = new LinkedBlockingQueue<>();
+
+  private enum Priority {
+    // Timers and new chain heads
+    CONTROL,
+    // Messages for the height currently being agreed on
+    CURRENT_MESSAGE,
+    // Messages for future heights, or whose height could not be determined
+    OTHER_MESSAGE
+  }
 
   private static final Logger LOG = LoggerFactory.getLogger(BftEventQueue.class);
+  private static final long UNKNOWN_HEIGHT = -1;
+
+  private final ArrayDeque<QueuedEvent> controlEvents = new ArrayDeque<>();
+  private final ArrayDeque<QueuedEvent> currentMessages = new ArrayDeque<>();
+  private final ArrayDeque<QueuedEvent> otherMessages = new ArrayDeque<>();
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition notEmpty = lock.newCondition();
+
   private final int messageQueueLimit;
+  private final Function<Message, Optional<ConsensusRoundIdentifier>> messageRoundExtractor;
+  private final Counter staleMessagesCounter;
+  private final Counter overflowMessagesCounter;
+
+  // Height of the latest chain head announced through a NewChainHead event
+  private long chainHeadHeight = UNKNOWN_HEIGHT;
 
   public BftEventQueue(final int messageQueueLimit) {
+    this(messageQueueLimit, message -> Optional.empty(), new NoOpMetricsSystem());
+  }
+
+  /**
+   * Creates a queue that orders and sheds received messages based on their round.
+   *
+   * @param messageQueueLimit the maximum number of messages held by the queue
+   * @param messageRoundExtractor reads the round a received message belongs to, without fully
+   *     decoding it
+   * @param metricsSystem the metrics system to report queue depths and dropped messages to
+   */
+  public BftEventQueue(
+      final int messageQueueLimit,
+      final Function<Message, Optional<ConsensusRoundIdentifier>> messageRoundExtractor,
+      final MetricsSystem metricsSystem) {
     this.messageQueueLimit = messageQueueLimit;
+    this.messageRoundExtractor = messageRoundExtractor;
+
+    final LabelledGauge queueDepth =
+        metricsSystem.createLabelledGauge(
+            BesuMetricCategory.CONSENSUS,
+            "bft_event_queue_depth_current",
+            "Current number of events in the bft event queue",
+            "priority");
+    queueDepth.labels(() -> depth(controlEvents), label(Priority.CONTROL));
+    queueDepth.labels(() -> depth(currentMessages), label(Priority.CURRENT_MESSAGE));
+    queueDepth.labels(() -> depth(otherMessages), label(Priority.OTHER_MESSAGE));
+
+    final LabelledMetric<Counter> droppedMessages =
+        metricsSystem.createLabelledCounter(
+            BesuMetricCategory.CONSENSUS,
+            "bft_event_queue_dropped_messages_total",
+            "Total number of received messages dropped by the bft event queue",
+            "reason");
+    staleMessagesCounter = droppedMessages.labels("stale");
+    overflowMessagesCounter = droppedMessages.labels("overflow");
   }
 
   /**
@@ -41,19 +121,45 @@ public class BftEventQueue {
    * @param event Provided bft event
    */
   public void add(final BftEvent event) {
-    if (queue.size() > messageQueueLimit) {
-      LOG.warn("Queue size exceeded trying to add new bft event {}", event);
-    } else {
-      queue.add(event);
+    final long height = messageHeight(event);
+    lock.lock();
+    try {
+      if (event.getType() == BftEvents.Type.NEW_CHAIN_HEAD) {
+        onNewChainHead(((NewChainHead) event).getNewChainHeadHeader().getNumber());
+      }
+      final Priority priority = priority(event, height);
+      if (priority == Priority.CONTROL) {
+        controlEvents.add(new QueuedEvent(event, height));
+      } else if (isStale(height)) {
+        LOG.trace("Dropping bft event for already imported height {}", height);
+        staleMessagesCounter.inc();
+        return;
+      } else if (currentMessages.size() + otherMessages.size() > messageQueueLimit) {
+        LOG.warn("Queue size exceeded trying to add new bft event {}", event);
+        overflowMessagesCounter.inc();
+        return;
+      } else if (priority == Priority.CURRENT_MESSAGE) {
+        currentMessages.add(new QueuedEvent(event, height));
+      } else {
+        otherMessages.add(new QueuedEvent(event, height));
+      }
+      notEmpty.signal();
+    } finally {
+      lock.unlock();
     }
   }
 
   public int size() {
-    return queue.size();
+    lock.lock();
+    try {
+      return controlEvents.size() + currentMessages.size() + otherMessages.size();
+    } finally {
+      lock.unlock();
+    }
   }
 
   public boolean isEmpty() {
-    return queue.isEmpty();
+    return size() == 0;
   }
 
   /**
@@ -67,6 +173,111 @@ public class BftEventQueue {
    */
   @Nullable
   public BftEvent poll(final long timeout, final TimeUnit unit) throws InterruptedException {
-    return queue.poll(timeout, unit);
+    long remainingNanos = unit.toNanos(timeout);
+    lock.lockInterruptibly();
+    try {
+      while (true) {
+        final QueuedEvent next = nextEvent();
+        if (next != null) {
+          return next.event;
+        }
+        if (remainingNanos <= 0) {
+          return null;
+        }
+        remainingNanos = notEmpty.awaitNanos(remainingNanos);
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private QueuedEvent nextEvent() {
+    if (!controlEvents.isEmpty()) {
+      return controlEvents.poll();
+    }
+    if (!currentMessages.isEmpty()) {
+      return currentMessages.poll();
+    }
+    return otherMessages.poll();
+  }
+
+  private void onNewChainHead(final long height) {
+    if (height <= chainHeadHeight) {
+      return;
+    }
+    chainHeadHeight = height;
+
+    // Drop messages that are now stale, and promote the ones for the new current height
+    final Iterator<QueuedEvent> current = currentMessages.iterator();
+    while (current.hasNext()) {
+      if (isStale(current.next().height)) {
+        current.remove();
+        staleMessagesCounter.inc();
+      }
+    }
+    final Iterator<QueuedEvent> other = otherMessages.iterator();
+    while (other.hasNext()) {
+      final QueuedEvent queued = other.next();
+      if (isStale(queued.height)) {
+        other.remove();
+        staleMessagesCounter.inc();
+      } else if (queued.height == chainHeadHeight + 1) {
+        other.remove();
+        currentMessages.add(queued);
+      }
+    }
+  }
+
+  private Priority priority(final BftEvent event, final long height) {
+    if (isControlEvent(event)) {
+      return Priority.CONTROL;
+    }
+    if (chainHeadHeight != UNKNOWN_HEIGHT && height == chainHeadHeight + 1) {
+      return Priority.CURRENT_MESSAGE;
+    }
+    return Priority.OTHER_MESSAGE;
+  }
+
+  private static boolean isControlEvent(final BftEvent event) {
+    return event.getType() == BftEvents.Type.NEW_CHAIN_HEAD
+        || event.getType() == BftEvents.Type.BLOCK_TIMER_EXPIRY
+        || event.getType() == BftEvents.Type.ROUND_EXPIRY;
+  }
+
+  private boolean isStale(final long height) {
+    return height != UNKNOWN_HEIGHT && height <= chainHeadHeight;
+  }
+
+  private long messageHeight(final BftEvent event) {
+    if (!(event instanceof BftReceivedMessageEvent)) {
+      return UNKNOWN_HEIGHT;
+    }
+    return messageRoundExtractor
+        .apply(((BftReceivedMessageEvent) event).getMessage())
+        .map(ConsensusRoundIdentifier::getSequenceNumber)
+        .orElse(UNKNOWN_HEIGHT);
+  }
+
+  private double depth(final ArrayDeque<QueuedEvent> events) {
+    lock.lock();
+    try {
+      return events.size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private static String label(final Priority priority) {
+    return priority.name().toLowerCase(Locale.ROOT);
+  }
+
+  private static class QueuedEvent {
+    private final BftEvent event;
+    private final long height;
+
+    private QueuedEvent(final BftEvent event, final long height) {
+      this.event = event;
+      this.height = height;
+    }
   }
 }
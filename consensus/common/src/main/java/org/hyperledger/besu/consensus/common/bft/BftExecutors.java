@@ -45,12 +45,16 @@ public class BftExecutors {
 
   private static final Logger LOG = LoggerFactory.getLogger(BftExecutors.class);
 
+  private static final int SIGNATURE_RECOVERY_THREADS =
+      Math.min(4, Runtime.getRuntime().availableProcessors());
+
   private final Duration shutdownTimeout = Duration.ofSeconds(30);
   private final MetricsSystem metricsSystem;
   private final ConsensusType consensusType;
 
   private volatile ScheduledExecutorService timerExecutor;
   private volatile ExecutorService bftProcessorExecutor;
+  private volatile ExecutorService signatureRecoveryExecutor;
   private volatile State state = State.IDLE;
 
   private BftExecutors(final MetricsSystem metricsSystem, final ConsensusType consensusType) {
@@ -77,6 +81,11 @@ public class BftExecutors {
     timerExecutor =
         MonitoredExecutors.newScheduledThreadPool(
             "BftTimerExecutor-" + consensusType.name(), 1, metricsSystem);
+    signatureRecoveryExecutor =
+        MonitoredExecutors.newFixedThreadPool(
+            "BftSignatureRecoveryExecutor-" + consensusType.name(),
+            SIGNATURE_RECOVERY_THREADS,
+            metricsSystem);
   }
 
   public void stop() {
@@ -88,6 +97,7 @@ public class BftExecutors {
     }
     timerExecutor.shutdownNow();
     bftProcessorExecutor.shutdownNow();
+    signatureRecoveryExecutor.shutdownNow();
   }
 
   public void awaitStop() throws InterruptedException {
@@ -97,6 +107,11 @@ public class BftExecutors {
     if (!bftProcessorExecutor.awaitTermination(shutdownTimeout.getSeconds(), TimeUnit.SECONDS)) {
       LOG.error("{} bftProcessor executor did not shutdown cleanly.", getClass().getSimpleName());
     }
+    if (!signatureRecoveryExecutor.awaitTermination(
+        shutdownTimeout.getSeconds(), TimeUnit.SECONDS)) {
+      LOG.error(
+          "{} signature recovery executor did not shutdown cleanly.", getClass().getSimpleName());
+    }
   }
 
   public synchronized void executeBftProcessor(final BftProcessor bftProcessor) {
@@ -104,6 +119,11 @@ public class BftExecutors {
     bftProcessorExecutor.execute(bftProcessor);
   }
 
+  public synchronized void executeSignatureRecovery(final Runnable recovery) {
+    assertRunning();
+    signatureRecoveryExecutor.execute(recovery);
+  }
+
   public synchronized ScheduledFuture<?> scheduleTask(
       final Runnable command, final long delay, final TimeUnit unit) {
     assertRunning();
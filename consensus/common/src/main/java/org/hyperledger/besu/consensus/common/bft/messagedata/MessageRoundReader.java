@@ -0,0 +1,57 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.consensus.common.bft.messagedata;
+
+import org.hyperledger.besu.consensus.common.bft.ConsensusRoundIdentifier;
+import org.hyperledger.besu.ethereum.p2p.rlpx.wire.Message;
+import org.hyperledger.besu.ethereum.rlp.RLP;
+import org.hyperledger.besu.ethereum.rlp.RLPException;
+import org.hyperledger.besu.ethereum.rlp.RLPInput;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Reads the round a received bft message belongs to without decoding the whole message. Every bft
+ * message starts with its signed payload, whose first entries are the round identifier, so the
+ * round is found by entering the leading nested lists.
+ */
+public class MessageRoundReader implements Function<Message, Optional<ConsensusRoundIdentifier>> {
+
+  private final Function<RLPInput, ConsensusRoundIdentifier> roundIdentifierReader;
+
+  /**
+   * Create a reader for messages of a bft protocol
+   *
+   * @param roundIdentifierReader reads the round identifier as encoded by the protocol's payloads
+   */
+  public MessageRoundReader(
+      final Function<RLPInput, ConsensusRoundIdentifier> roundIdentifierReader) {
+    this.roundIdentifierReader = roundIdentifierReader;
+  }
+
+  @Override
+  public Optional<ConsensusRoundIdentifier> apply(final Message message) {
+    try {
+      final RLPInput rlpInput = RLP.input(message.getData().getData());
+      while (rlpInput.nextIsList()) {
+        rlpInput.enterList();
+      }
+      return Optional.of(roundIdentifierReader.apply(rlpInput));
+    } catch (final RLPException e) {
+      return Optional.empty();
+    }
+  }
+}
@@ -17,6 +17,7 @@ package org.hyperledger.besu.consensus.common.bft.messagewrappers;
 import org.hyperledger.besu.consensus.common.bft.ConsensusRoundIdentifier;
 import org.hyperledger.besu.consensus.common.bft.payload.Authored;
 import org.hyperledger.besu.consensus.common.bft.payload.Payload;
+import org.hyperledger.besu.consensus.common.bft.payload.RecoveredAuthorCache;
 import org.hyperledger.besu.consensus.common.bft.payload.RoundSpecific;
 import org.hyperledger.besu.consensus.common.bft.payload.SignedData;
 import org.hyperledger.besu.crypto.SECPSignature;
@@ -68,14 +69,16 @@ public class BftMessage<P extends Payload> implements Authored, RoundSpecific {
   }
 
   protected static <T extends Payload> SignedData<T> readPayload(
-      final RLPInput rlpInput, final Function<RLPInput, T> decoder) {
+      final RLPInput rlpInput,
+      final Function<RLPInput, T> decoder,
+      final RecoveredAuthorCache recoveredAuthorCache) {
     rlpInput.enterList();
     final T unsignedMessageData = decoder.apply(rlpInput);
     final SECPSignature signature =
         rlpInput.readBytes((SignatureAlgorithmFactory.getInstance()::decodeSignature));
     rlpInput.leaveList();
 
-    return SignedData.create(unsignedMessageData, signature);
+    return SignedData.create(unsignedMessageData, signature, recoveredAuthorCache);
   }
 
   @Override
@@ -0,0 +1,123 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.consensus.common.bft.payload;
+
+import org.hyperledger.besu.crypto.SECPSignature;
+import org.hyperledger.besu.datatypes.Address;
+import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.ethereum.core.Util;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.apache.tuweni.bytes.Bytes;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Caches the addresses recovered from BFT message signatures, keyed by the signed hash and the
+ * signature. The same prepares are piggybacked on every round change and proposal, so this avoids
+ * repeating the public key recovery for each of them.
+ */
+public class RecoveredAuthorCache {
+
+  private static final Logger LOG = LoggerFactory.getLogger(RecoveredAuthorCache.class);
+
+  private static final int MAX_CACHE_SIZE = 10_000;
+  private static final Duration DEFAULT_RECOVERY_TIMEOUT = Duration.ofSeconds(1);
+
+  private final Cache<Bytes, Address> recoveredAuthors =
+      CacheBuilder.newBuilder().maximumSize(MAX_CACHE_SIZE).build();
+  private final Executor recoveryExecutor;
+  private final Duration recoveryTimeout;
+
+  public RecoveredAuthorCache(final Executor recoveryExecutor) {
+    this(recoveryExecutor, DEFAULT_RECOVERY_TIMEOUT);
+  }
+
+  @VisibleForTesting
+  RecoveredAuthorCache(final Executor recoveryExecutor, final Duration recoveryTimeout) {
+    this.recoveryExecutor = recoveryExecutor;
+    this.recoveryTimeout = recoveryTimeout;
+  }
+
+  /**
+   * Recovers the authors of the given messages on the recovery executor, so that subsequent calls
+   * to {@link SignedData#getAuthor()} do not need to recover them one at a time. Waits at most the
+   * recovery timeout for the executor; any author it has not recovered by then, because the
+   * recovery was rejected, cancelled or is still queued, is recovered on the calling thread.
+   *
+   * @param msgs the messages whose authors are to be recovered
+   */
+  public void recoverAuthors(final Collection<? extends SignedData<?>> msgs) {
+    final List<CompletableFuture<Void>> recoveries = new ArrayList<>(msgs.size());
+    for (final SignedData<?> msg : msgs) {
+      try {
+        recoveries.add(CompletableFuture.runAsync(() -> msg.recoverAuthor(this), recoveryExecutor));
+      } catch (final RejectedExecutionException e) {
+        LOG.debug("Signature recovery rejected, recovering remaining authors inline", e);
+        break;
+      }
+    }
+
+    try {
+      CompletableFuture.allOf(recoveries.toArray(CompletableFuture[]::new))
+          .get(recoveryTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (final ExecutionException | CancellationException | TimeoutException e) {
+      LOG.debug("Unable to recover message authors in parallel", e);
+    }
+
+    msgs.forEach(msg -> msg.recoverAuthor(this));
+  }
+
+  /**
+   * Returns the address of the signer of the given hash.
+   *
+   * @param signature the signature from which the address is to be recovered
+   * @param dataHash the hash of the data which was signed
+   * @return the signer's address, or null if no public key could be recovered
+   */
+  public Address signatureToAddress(final SECPSignature signature, final Hash dataHash) {
+    final Bytes key = Bytes.concatenate(dataHash, signature.encodedBytes());
+    final Address cached = recoveredAuthors.getIfPresent(key);
+    if (cached != null) {
+      return cached;
+    }
+    final Address author = Util.signatureToAddress(signature, dataHash);
+    if (author != null) {
+      recoveredAuthors.put(key, author);
+    }
+    return author;
+  }
+
+  @VisibleForTesting
+  long size() {
+    return recoveredAuthors.size();
+  }
+}
@@ -22,31 +22,63 @@ import org.hyperledger.besu.ethereum.rlp.BytesValueRLPOutput;
 import org.hyperledger.besu.ethereum.rlp.RLPOutput;
 
 import java.util.Objects;
+import java.util.Optional;
 import java.util.StringJoiner;
 
 import org.apache.tuweni.bytes.Bytes;
 
 public class SignedData<M extends Payload> implements Authored {
 
-  private final Address sender;
+  // Null until the author is recovered, either on first use or in bulk by RecoveredAuthorCache
+  private volatile Optional<Address> sender;
   private final SECPSignature signature;
   private final M unsignedPayload;
+  private final Optional<RecoveredAuthorCache> recoveredAuthorCache;
 
   public static <T extends Payload> SignedData<T> create(
       final T payload, final SECPSignature signature) {
-    final Hash msgHash = payload.hashForSignature();
-    return new SignedData<>(payload, Util.signatureToAddress(signature, msgHash), signature);
+    return new SignedData<>(payload, signature, Optional.empty());
   }
 
-  private SignedData(final M unsignedPayload, final Address sender, final SECPSignature signature) {
+  public static <T extends Payload> SignedData<T> create(
+      final T payload,
+      final SECPSignature signature,
+      final RecoveredAuthorCache recoveredAuthorCache) {
+    return new SignedData<>(payload, signature, Optional.of(recoveredAuthorCache));
+  }
+
+  private SignedData(
+      final M unsignedPayload,
+      final SECPSignature signature,
+      final Optional<RecoveredAuthorCache> recoveredAuthorCache) {
     this.unsignedPayload = unsignedPayload;
-    this.sender = sender;
     this.signature = signature;
+    this.recoveredAuthorCache = recoveredAuthorCache;
   }
 
   @Override
   public Address getAuthor() {
-    return sender;
+    final Optional<Address> author = sender;
+    if (author != null) {
+      return author.orElse(null);
+    }
+    final Hash hash = unsignedPayload.hashForSignature();
+    if (recoveredAuthorCache.isPresent()) {
+      return setAuthor(recoveredAuthorCache.get().signatureToAddress(signature, hash));
+    }
+    return setAuthor(Util.signatureToAddress(signature, hash));
+  }
+
+  void recoverAuthor(final RecoveredAuthorCache recoveredAuthorCache) {
+    if (sender == null) {
+      setAuthor(
+          recoveredAuthorCache.signatureToAddress(signature, unsignedPayload.hashForSignature()));
+    }
+  }
+
+  private Address setAuthor(final Address author) {
+    sender = Optional.ofNullable(author);
+    return author;
   }
 
   public M getPayload() {
@@ -75,20 +107,20 @@ public class SignedData<M extends Payload> implements Authored {
       return false;
     }
     final SignedData<?> that = (SignedData<?>) o;
-    return Objects.equals(sender, that.sender)
+    return Objects.equals(getAuthor(), that.getAuthor())
         && Objects.equals(signature, that.signature)
         && Objects.equals(unsignedPayload, that.unsignedPayload);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(sender, signature, unsignedPayload);
+    return Objects.hash(getAuthor(), signature, unsignedPayload);
   }
 
   @Override
   public String toString() {
     return new StringJoiner(", ", SignedData.class.getSimpleName() + "[", "]")
-        .add("sender=" + sender)
+        .add("sender=" + getAuthor())
         .add("signature=" + signature)
         .add("unsignedPayload=" + unsignedPayload)
         .toString();
@@ -16,12 +16,23 @@ package org.hyperledger.besu.consensus.common.bft;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 import org.hyperledger.besu.consensus.common.bft.events.BftEvent;
 import org.hyperledger.besu.consensus.common.bft.events.BftEvents;
+import org.hyperledger.besu.consensus.common.bft.events.BftReceivedMessageEvent;
+import org.hyperledger.besu.consensus.common.bft.events.BlockTimerExpiry;
+import org.hyperledger.besu.consensus.common.bft.events.NewChainHead;
+import org.hyperledger.besu.ethereum.core.BlockHeader;
+import org.hyperledger.besu.ethereum.p2p.rlpx.wire.Message;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
 import org.junit.Test;
@@ -85,4 +96,99 @@ public class BftEventQueueTest {
     assertThat(drain).doesNotContainNull();
     assertThat(queue.poll(0, TimeUnit.MICROSECONDS)).isNull();
   }
+
+  @Test
+  public void controlEventsAndCurrentHeightMessagesArePolledFirst() throws InterruptedException {
+    final Map<Message, ConsensusRoundIdentifier> rounds = new HashMap<>();
+    final BftEventQueue queue = createRoundAwareQueue(rounds);
+    final NewChainHead newChainHead = newChainHead(10);
+    queue.add(newChainHead);
+    assertThat(queue.poll(0, TimeUnit.MICROSECONDS)).isEqualTo(newChainHead);
+
+    final BftEvent futureMessage = messageEvent(rounds, 12, 0);
+    final BftEvent unknownMessage = new BftReceivedMessageEvent(mock(Message.class));
+    final BftEvent currentMessage = messageEvent(rounds, 11, 1);
+    final BlockTimerExpiry blockTimerExpiry =
+        new BlockTimerExpiry(new ConsensusRoundIdentifier(11, 0));
+    queue.add(futureMessage);
+    queue.add(unknownMessage);
+    queue.add(currentMessage);
+    queue.add(blockTimerExpiry);
+
+    assertThat(queue.poll(0, TimeUnit.MICROSECONDS)).isEqualTo(blockTimerExpiry);
+    assertThat(queue.poll(0, TimeUnit.MICROSECONDS)).isEqualTo(currentMessage);
+    assertThat(queue.poll(0, TimeUnit.MICROSECONDS)).isEqualTo(futureMessage);
+    assertThat(queue.poll(0, TimeUnit.MICROSECONDS)).isEqualTo(unknownMessage);
+    assertThat(queue.poll(0, TimeUnit.MICROSECONDS)).isNull();
+  }
+
+  @Test
+  public void staleMessagesAreDroppedOnAdd() throws InterruptedException {
+    final Map<Message, ConsensusRoundIdentifier> rounds = new HashMap<>();
+    final BftEventQueue queue = createRoundAwareQueue(rounds);
+    queue.add(newChainHead(10));
+    queue.poll(0, TimeUnit.MICROSECONDS);
+
+    queue.add(messageEvent(rounds, 9, 0));
+    queue.add(messageEvent(rounds, 10, 3));
+    assertThat(queue.isEmpty()).isTrue();
+  }
+
+  @Test
+  public void newChainHeadDropsStaleAndPromotesQueuedMessages() throws InterruptedException {
+    final Map<Message, ConsensusRoundIdentifier> rounds = new HashMap<>();
+    final BftEventQueue queue = createRoundAwareQueue(rounds);
+    queue.add(newChainHead(10));
+    queue.poll(0, TimeUnit.MICROSECONDS);
+
+    final BftEvent staleMessage = messageEvent(rounds, 11, 0);
+    final BftEvent unknownMessage = new BftReceivedMessageEvent(mock(Message.class));
+    final BftEvent nextHeightMessage = messageEvent(rounds, 12, 0);
+    queue.add(staleMessage);
+    queue.add(unknownMessage);
+    queue.add(nextHeightMessage);
+
+    final NewChainHead newChainHead = newChainHead(11);
+    queue.add(newChainHead);
+
+    assertThat(queue.size()).isEqualTo(3);
+    assertThat(queue.poll(0, TimeUnit.MICROSECONDS)).isEqualTo(newChainHead);
+    assertThat(queue.poll(0, TimeUnit.MICROSECONDS)).isEqualTo(nextHeightMessage);
+    assertThat(queue.poll(0, TimeUnit.MICROSECONDS)).isEqualTo(unknownMessage);
+  }
+
+  @Test
+  public void controlEventsAreNotLimited() throws InterruptedException {
+    final BftEventQueue queue = new BftEventQueue(1);
+    queue.add(new DummyBftEvent());
+    queue.add(new DummyBftEvent());
+    queue.add(new DummyBftEvent());
+    final BlockTimerExpiry blockTimerExpiry =
+        new BlockTimerExpiry(new ConsensusRoundIdentifier(1, 0));
+    queue.add(blockTimerExpiry);
+
+    assertThat(queue.size()).isEqualTo(3);
+    assertThat(queue.poll(0, TimeUnit.MICROSECONDS)).isEqualTo(blockTimerExpiry);
+  }
+
+  private BftEventQueue createRoundAwareQueue(
+      final Map<Message, ConsensusRoundIdentifier> rounds) {
+    return new BftEventQueue(
+        MAX_QUEUE_SIZE,
+        message -> Optional.ofNullable(rounds.get(message)),
+        new NoOpMetricsSystem());
+  }
+
+  private BftEvent messageEvent(
+      final Map<Message, ConsensusRoundIdentifier> rounds, final long height, final int round) {
+    final Message message = mock(Message.class);
+    rounds.put(message, new ConsensusRoundIdentifier(height, round));
+    return new BftReceivedMessageEvent(message);
+  }
+
+  private NewChainHead newChainHead(final long height) {
+    final BlockHeader header = mock(BlockHeader.class);
+    when(header.getNumber()).thenReturn(height);
+    return new NewChainHead(header);
+  }
 }
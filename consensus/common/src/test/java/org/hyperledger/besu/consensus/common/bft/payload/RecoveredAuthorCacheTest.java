@@ -0,0 +1,129 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.consensus.common.bft.payload;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.hyperledger.besu.crypto.NodeKey;
+import org.hyperledger.besu.crypto.NodeKeyUtils;
+import org.hyperledger.besu.crypto.SECPSignature;
+import org.hyperledger.besu.datatypes.Address;
+import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.ethereum.core.Util;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.Test;
+
+public class RecoveredAuthorCacheTest {
+
+  private final NodeKey nodeKey = NodeKeyUtils.generate();
+  private final Address expectedAuthor = Util.publicKeyToAddress(nodeKey.getPublicKey());
+  private final RecoveredAuthorCache recoveredAuthorCache = new RecoveredAuthorCache(Runnable::run);
+
+  @Test
+  public void recoversAndCachesAuthor() {
+    final Hash hash = Hash.hash(Bytes.of(1));
+    final SECPSignature signature = nodeKey.sign(hash);
+
+    assertThat(recoveredAuthorCache.signatureToAddress(signature, hash)).isEqualTo(expectedAuthor);
+    assertThat(recoveredAuthorCache.size()).isEqualTo(1);
+
+    assertThat(recoveredAuthorCache.signatureToAddress(signature, hash)).isEqualTo(expectedAuthor);
+    assertThat(recoveredAuthorCache.size()).isEqualTo(1);
+  }
+
+  @Test
+  public void sameSignatureOverDifferentHashIsCachedSeparately() {
+    final Hash hash = Hash.hash(Bytes.of(1));
+    final Hash otherHash = Hash.hash(Bytes.of(2));
+    final SECPSignature signature = nodeKey.sign(hash);
+
+    assertThat(recoveredAuthorCache.signatureToAddress(signature, hash)).isEqualTo(expectedAuthor);
+    assertThat(recoveredAuthorCache.signatureToAddress(signature, otherHash))
+        .isNotEqualTo(expectedAuthor);
+    assertThat(recoveredAuthorCache.signatureToAddress(signature, hash)).isEqualTo(expectedAuthor);
+  }
+
+  @Test
+  public void recoveringAuthorsInBulkPopulatesCache() {
+    final SignedData<Payload> first = signedPayload(Hash.hash(Bytes.of(1)));
+    final SignedData<Payload> second = signedPayload(Hash.hash(Bytes.of(2)));
+    final SignedData<Payload> copyOfFirst = signedPayload(Hash.hash(Bytes.of(1)));
+
+    recoveredAuthorCache.recoverAuthors(List.of(first, second, copyOfFirst));
+
+    assertThat(recoveredAuthorCache.size()).isEqualTo(2);
+    assertThat(first.getAuthor()).isEqualTo(expectedAuthor);
+    assertThat(second.getAuthor()).isEqualTo(expectedAuthor);
+    assertThat(copyOfFirst.getAuthor()).isEqualTo(expectedAuthor);
+  }
+
+  @Test
+  public void authorsAreRecoveredInlineWhenExecutorRejectsRecovery() {
+    final Executor rejectingExecutor =
+        task -> {
+          throw new RejectedExecutionException();
+        };
+    final RecoveredAuthorCache cache = new RecoveredAuthorCache(rejectingExecutor);
+    final SignedData<Payload> signedData = signedPayload(Hash.hash(Bytes.of(1)));
+
+    cache.recoverAuthors(List.of(signedData));
+
+    assertThat(cache.size()).isEqualTo(1);
+    assertThat(signedData.getAuthor()).isEqualTo(expectedAuthor);
+  }
+
+  @Test
+  public void authorsAreRecoveredInlineWhenExecutorNeverRunsRecovery() {
+    final Executor droppingExecutor = task -> {};
+    final RecoveredAuthorCache cache =
+        new RecoveredAuthorCache(droppingExecutor, Duration.ofMillis(10));
+    final SignedData<Payload> signedData = signedPayload(Hash.hash(Bytes.of(1)));
+
+    cache.recoverAuthors(List.of(signedData));
+
+    assertThat(cache.size()).isEqualTo(1);
+    assertThat(signedData.getAuthor()).isEqualTo(expectedAuthor);
+  }
+
+  @Test
+  public void getAuthorRecoversThroughTheCache() {
+    final Hash hash = Hash.hash(Bytes.of(1));
+    final Payload payload = mock(Payload.class);
+    when(payload.hashForSignature()).thenReturn(hash);
+    final SECPSignature signature = nodeKey.sign(hash);
+
+    final SignedData<Payload> signedData =
+        SignedData.create(payload, signature, recoveredAuthorCache);
+    final SignedData<Payload> copy = SignedData.create(payload, signature, recoveredAuthorCache);
+
+    assertThat(signedData.getAuthor()).isEqualTo(expectedAuthor);
+    assertThat(copy.getAuthor()).isEqualTo(expectedAuthor);
+    assertThat(recoveredAuthorCache.size()).isEqualTo(1);
+  }
+
+  private SignedData<Payload> signedPayload(final Hash hash) {
+    final Payload payload = mock(Payload.class);
+    when(payload.hashForSignature()).thenReturn(hash);
+    return SignedData.create(payload, nodeKey.sign(hash));
+  }
+}
@@ -21,6 +21,7 @@ import static org.assertj.core.api.Fail.fail;
 import org.hyperledger.besu.consensus.common.bft.ConsensusRoundIdentifier;
 import org.hyperledger.besu.consensus.common.bft.messagewrappers.BftMessage;
 import org.hyperledger.besu.consensus.common.bft.payload.Payload;
+import org.hyperledger.besu.consensus.common.bft.payload.RecoveredAuthorCache;
 import org.hyperledger.besu.consensus.common.bft.payload.SignedData;
 import org.hyperledger.besu.consensus.ibft.messagedata.CommitMessageData;
 import org.hyperledger.besu.consensus.ibft.messagedata.IbftV2;
@@ -50,6 +51,7 @@ public class RoundSpecificPeers {
   private final ValidatorPeer proposer;
   private final Collection<ValidatorPeer> peers;
   private final List<ValidatorPeer> nonProposingPeers;
+  private final RecoveredAuthorCache recoveredAuthorCache = new RecoveredAuthorCache(Runnable::run);
 
   public RoundSpecificPeers(
       final ValidatorPeer proposer,
@@ -195,16 +197,20 @@ public class RoundSpecificPeers {
 
     switch (expectedMessage.getMessageType()) {
       case IbftV2.PROPOSAL:
-        actualSignedPayload = ProposalMessageData.fromMessageData(actual).decode();
+        actualSignedPayload =
+            ProposalMessageData.fromMessageData(actual).decode(recoveredAuthorCache);
         break;
       case IbftV2.PREPARE:
-        actualSignedPayload = PrepareMessageData.fromMessageData(actual).decode();
+        actualSignedPayload =
+            PrepareMessageData.fromMessageData(actual).decode(recoveredAuthorCache);
         break;
       case IbftV2.COMMIT:
-        actualSignedPayload = CommitMessageData.fromMessageData(actual).decode();
+        actualSignedPayload =
+            CommitMessageData.fromMessageData(actual).decode(recoveredAuthorCache);
         break;
       case IbftV2.ROUND_CHANGE:
-        actualSignedPayload = RoundChangeMessageData.fromMessageData(actual).decode();
+        actualSignedPayload =
+            RoundChangeMessageData.fromMessageData(actual).decode(recoveredAuthorCache);
         break;
       default:
         fail("Illegal IBFTV2 message type.");
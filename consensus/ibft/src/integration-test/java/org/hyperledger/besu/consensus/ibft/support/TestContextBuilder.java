@@ -46,6 +46,7 @@ import org.hyperledger.besu.consensus.common.bft.inttest.NodeParams;
 import org.hyperledger.besu.consensus.common.bft.inttest.StubValidatorMulticaster;
 import org.hyperledger.besu.consensus.common.bft.inttest.StubbedSynchronizerUpdater;
 import org.hyperledger.besu.consensus.common.bft.inttest.TestTransitions;
+import org.hyperledger.besu.consensus.common.bft.payload.RecoveredAuthorCache;
 import org.hyperledger.besu.consensus.common.bft.statemachine.BftEventHandler;
 import org.hyperledger.besu.consensus.common.bft.statemachine.BftFinalState;
 import org.hyperledger.besu.consensus.common.bft.statemachine.FutureMessageBuffer;
@@ -209,7 +210,10 @@ public class TestContextBuilder {
     final UniqueMessageMulticaster uniqueMulticaster =
         new UniqueMessageMulticaster(multicaster, GOSSIPED_HISTORY_LIMIT);
 
-    final Gossiper gossiper = useGossip ? new IbftGossip(uniqueMulticaster) : mock(Gossiper.class);
+    final Gossiper gossiper =
+        useGossip
+            ? new IbftGossip(uniqueMulticaster, new RecoveredAuthorCache(Runnable::run))
+            : mock(Gossiper.class);
 
     final StubbedSynchronizerUpdater synchronizerUpdater = new StubbedSynchronizerUpdater();
 
@@ -370,9 +374,16 @@ public class TestContextBuilder {
 
     final MessageFactory messageFactory = new MessageFactory(nodeKey);
 
+    final RecoveredAuthorCache recoveredAuthorCache =
+        new RecoveredAuthorCache(bftExecutors::executeSignatureRecovery);
+
     final MessageValidatorFactory messageValidatorFactory =
         new MessageValidatorFactory(
-            proposerSelector, protocolSchedule, protocolContext, IBFT_EXTRA_DATA_ENCODER);
+            proposerSelector,
+            protocolSchedule,
+            protocolContext,
+            IBFT_EXTRA_DATA_ENCODER,
+            recoveredAuthorCache);
 
     final Subscribers<MinedBlockObserver> minedBlockObservers = Subscribers.create();
 
@@ -402,7 +413,8 @@ public class TestContextBuilder {
             gossiper,
             duplicateMessageTracker,
             futureMessageBuffer,
-            synchronizerUpdater);
+            synchronizerUpdater,
+            recoveredAuthorCache);
 
     final EventMultiplexer eventMultiplexer = new EventMultiplexer(ibftController);
     //////////////////////////// END IBFT BesuController ////////////////////////////
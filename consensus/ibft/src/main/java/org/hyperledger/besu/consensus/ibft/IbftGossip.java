@@ -17,6 +17,7 @@ package org.hyperledger.besu.consensus.ibft;
 import org.hyperledger.besu.consensus.common.bft.Gossiper;
 import org.hyperledger.besu.consensus.common.bft.network.ValidatorMulticaster;
 import org.hyperledger.besu.consensus.common.bft.payload.Authored;
+import org.hyperledger.besu.consensus.common.bft.payload.RecoveredAuthorCache;
 import org.hyperledger.besu.consensus.ibft.messagedata.CommitMessageData;
 import org.hyperledger.besu.consensus.ibft.messagedata.IbftV2;
 import org.hyperledger.besu.consensus.ibft.messagedata.PrepareMessageData;
@@ -34,14 +35,18 @@ import com.google.common.collect.Lists;
 public class IbftGossip implements Gossiper {
 
   private final ValidatorMulticaster multicaster;
+  private final RecoveredAuthorCache recoveredAuthorCache;
 
   /**
    * Constructor that attaches gossip logic to a set of multicaster
    *
    * @param multicaster Network connections to the remote validators
+   * @param recoveredAuthorCache Cache through which the authors of decoded messages are recovered
    */
-  public IbftGossip(final ValidatorMulticaster multicaster) {
+  public IbftGossip(
+      final ValidatorMulticaster multicaster, final RecoveredAuthorCache recoveredAuthorCache) {
     this.multicaster = multicaster;
+    this.recoveredAuthorCache = recoveredAuthorCache;
   }
 
   /**
@@ -55,16 +60,20 @@ public class IbftGossip implements Gossiper {
     final Authored decodedMessage;
     switch (messageData.getCode()) {
       case IbftV2.PROPOSAL:
-        decodedMessage = ProposalMessageData.fromMessageData(messageData).decode();
+        decodedMessage =
+            ProposalMessageData.fromMessageData(messageData).decode(recoveredAuthorCache);
         break;
       case IbftV2.PREPARE:
-        decodedMessage = PrepareMessageData.fromMessageData(messageData).decode();
+        decodedMessage =
+            PrepareMessageData.fromMessageData(messageData).decode(recoveredAuthorCache);
         break;
       case IbftV2.COMMIT:
-        decodedMessage = CommitMessageData.fromMessageData(messageData).decode();
+        decodedMessage =
+            CommitMessageData.fromMessageData(messageData).decode(recoveredAuthorCache);
         break;
       case IbftV2.ROUND_CHANGE:
-        decodedMessage = RoundChangeMessageData.fromMessageData(messageData).decode();
+        decodedMessage =
+            RoundChangeMessageData.fromMessageData(messageData).decode(recoveredAuthorCache);
         break;
       default:
         throw new IllegalArgumentException(
@@ -15,6 +15,7 @@
 package org.hyperledger.besu.consensus.ibft.messagedata;
 
 import org.hyperledger.besu.consensus.common.bft.messagedata.AbstractBftMessageData;
+import org.hyperledger.besu.consensus.common.bft.payload.RecoveredAuthorCache;
 import org.hyperledger.besu.consensus.ibft.messagewrappers.Commit;
 import org.hyperledger.besu.ethereum.p2p.rlpx.wire.MessageData;
 
@@ -33,8 +34,8 @@ public class CommitMessageData extends AbstractBftMessageData {
         messageData, MESSAGE_CODE, CommitMessageData.class, CommitMessageData::new);
   }
 
-  public Commit decode() {
-    return Commit.decode(data);
+  public Commit decode(final RecoveredAuthorCache recoveredAuthorCache) {
+    return Commit.decode(data, recoveredAuthorCache);
   }
 
   public static CommitMessageData create(final Commit commit) {
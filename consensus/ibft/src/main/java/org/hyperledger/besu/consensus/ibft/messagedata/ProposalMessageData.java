@@ -15,6 +15,7 @@
 package org.hyperledger.besu.consensus.ibft.messagedata;
 
 import org.hyperledger.besu.consensus.common.bft.messagedata.AbstractBftMessageData;
+import org.hyperledger.besu.consensus.common.bft.payload.RecoveredAuthorCache;
 import org.hyperledger.besu.consensus.ibft.messagewrappers.Proposal;
 import org.hyperledger.besu.ethereum.p2p.rlpx.wire.MessageData;
 
@@ -33,8 +34,8 @@ public class ProposalMessageData extends AbstractBftMessageData {
         messageData, MESSAGE_CODE, ProposalMessageData.class, ProposalMessageData::new);
   }
 
-  public Proposal decode() {
-    return Proposal.decode(data);
+  public Proposal decode(final RecoveredAuthorCache recoveredAuthorCache) {
+    return Proposal.decode(data, recoveredAuthorCache);
   }
 
   public static ProposalMessageData create(final Proposal proposal) {
@@ -15,6 +15,7 @@
 package org.hyperledger.besu.consensus.ibft.messagedata;
 
 import org.hyperledger.besu.consensus.common.bft.messagedata.AbstractBftMessageData;
+import org.hyperledger.besu.consensus.common.bft.payload.RecoveredAuthorCache;
 import org.hyperledger.besu.consensus.ibft.messagewrappers.RoundChange;
 import org.hyperledger.besu.ethereum.p2p.rlpx.wire.MessageData;
 
@@ -33,8 +34,8 @@ public class RoundChangeMessageData extends AbstractBftMessageData {
         messageData, MESSAGE_CODE, RoundChangeMessageData.class, RoundChangeMessageData::new);
   }
 
-  public RoundChange decode() {
-    return RoundChange.decode(data);
+  public RoundChange decode(final RecoveredAuthorCache recoveredAuthorCache) {
+    return RoundChange.decode(data, recoveredAuthorCache);
   }
 
   public static RoundChangeMessageData create(final RoundChange signedPayload) {
@@ -15,6 +15,7 @@
 package org.hyperledger.besu.consensus.ibft.messagewrappers;
 
 import org.hyperledger.besu.consensus.common.bft.messagewrappers.BftMessage;
+import org.hyperledger.besu.consensus.common.bft.payload.RecoveredAuthorCache;
 import org.hyperledger.besu.consensus.common.bft.payload.SignedData;
 import org.hyperledger.besu.consensus.ibft.payload.CommitPayload;
 import org.hyperledger.besu.consensus.ibft.payload.PayloadDeserializers;
@@ -38,7 +39,8 @@ public class Commit extends BftMessage<CommitPayload> {
     return getPayload().getDigest();
   }
 
-  public static Commit decode(final Bytes data) {
-    return new Commit(PayloadDeserializers.readSignedCommitPayloadFrom(RLP.input(data)));
+  public static Commit decode(final Bytes data, final RecoveredAuthorCache recoveredAuthorCache) {
+    return new Commit(
+        PayloadDeserializers.readSignedCommitPayloadFrom(RLP.input(data), recoveredAuthorCache));
   }
 }
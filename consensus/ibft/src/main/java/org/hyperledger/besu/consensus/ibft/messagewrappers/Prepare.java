@@ -15,6 +15,7 @@
 package org.hyperledger.besu.consensus.ibft.messagewrappers;
 
 import org.hyperledger.besu.consensus.common.bft.messagewrappers.BftMessage;
+import org.hyperledger.besu.consensus.common.bft.payload.RecoveredAuthorCache;
 import org.hyperledger.besu.consensus.common.bft.payload.SignedData;
 import org.hyperledger.besu.consensus.ibft.payload.PayloadDeserializers;
 import org.hyperledger.besu.consensus.ibft.payload.PreparePayload;
@@ -33,7 +34,8 @@ public class Prepare extends BftMessage<PreparePayload> {
     return getPayload().getDigest();
   }
 
-  public static Prepare decode(final Bytes data) {
-    return new Prepare(PayloadDeserializers.readSignedPreparePayloadFrom(RLP.input(data)));
+  public static Prepare decode(final Bytes data, final RecoveredAuthorCache recoveredAuthorCache) {
+    return new Prepare(
+        PayloadDeserializers.readSignedPreparePayloadFrom(RLP.input(data), recoveredAuthorCache));
   }
 }
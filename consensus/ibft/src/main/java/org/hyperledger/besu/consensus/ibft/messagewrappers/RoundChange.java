@@ -17,6 +17,7 @@ package org.hyperledger.besu.consensus.ibft.messagewrappers;
 import org.hyperledger.besu.consensus.common.bft.BftBlockHeaderFunctions;
 import org.hyperledger.besu.consensus.common.bft.ConsensusRoundIdentifier;
 import org.hyperledger.besu.consensus.common.bft.messagewrappers.BftMessage;
+import org.hyperledger.besu.consensus.common.bft.payload.RecoveredAuthorCache;
 import org.hyperledger.besu.consensus.common.bft.payload.SignedData;
 import org.hyperledger.besu.consensus.ibft.IbftExtraDataCodec;
 import org.hyperledger.besu.consensus.ibft.payload.PayloadDeserializers;
@@ -69,12 +70,13 @@ public class RoundChange extends BftMessage<RoundChangePayload> {
     return rlpOut.encoded();
   }
 
-  public static RoundChange decode(final Bytes data) {
+  public static RoundChange decode(
+      final Bytes data, final RecoveredAuthorCache recoveredAuthorCache) {
 
     final RLPInput rlpIn = RLP.input(data);
     rlpIn.enterList();
     final SignedData<RoundChangePayload> payload =
-        PayloadDeserializers.readSignedRoundChangePayloadFrom(rlpIn);
+        PayloadDeserializers.readSignedRoundChangePayloadFrom(rlpIn, recoveredAuthorCache);
     Optional<Block> block = Optional.empty();
     if (!rlpIn.nextIsNull()) {
       block =
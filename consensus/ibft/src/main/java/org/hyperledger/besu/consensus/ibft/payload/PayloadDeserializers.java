@@ -15,6 +15,7 @@
 package org.hyperledger.besu.consensus.ibft.payload;
 
 import org.hyperledger.besu.consensus.common.bft.payload.Payload;
+import org.hyperledger.besu.consensus.common.bft.payload.RecoveredAuthorCache;
 import org.hyperledger.besu.consensus.common.bft.payload.SignedData;
 import org.hyperledger.besu.crypto.SECPSignature;
 import org.hyperledger.besu.crypto.SignatureAlgorithmFactory;
@@ -63,6 +64,50 @@ public class PayloadDeserializers {
     return from(unsignedMessageData, signature);
   }
 
+  public static SignedData<ProposalPayload> readSignedProposalPayloadFrom(
+      final RLPInput rlpInput, final RecoveredAuthorCache recoveredAuthorCache) {
+
+    rlpInput.enterList();
+    final ProposalPayload unsignedMessageData = ProposalPayload.readFrom(rlpInput);
+    final SECPSignature signature = readSignature(rlpInput);
+    rlpInput.leaveList();
+
+    return SignedData.create(unsignedMessageData, signature, recoveredAuthorCache);
+  }
+
+  public static SignedData<PreparePayload> readSignedPreparePayloadFrom(
+      final RLPInput rlpInput, final RecoveredAuthorCache recoveredAuthorCache) {
+
+    rlpInput.enterList();
+    final PreparePayload unsignedMessageData = PreparePayload.readFrom(rlpInput);
+    final SECPSignature signature = readSignature(rlpInput);
+    rlpInput.leaveList();
+
+    return SignedData.create(unsignedMessageData, signature, recoveredAuthorCache);
+  }
+
+  public static SignedData<CommitPayload> readSignedCommitPayloadFrom(
+      final RLPInput rlpInput, final RecoveredAuthorCache recoveredAuthorCache) {
+
+    rlpInput.enterList();
+    final CommitPayload unsignedMessageData = CommitPayload.readFrom(rlpInput);
+    final SECPSignature signature = readSignature(rlpInput);
+    rlpInput.leaveList();
+
+    return SignedData.create(unsignedMessageData, signature, recoveredAuthorCache);
+  }
+
+  public static SignedData<RoundChangePayload> readSignedRoundChangePayloadFrom(
+      final RLPInput rlpInput, final RecoveredAuthorCache recoveredAuthorCache) {
+
+    rlpInput.enterList();
+    final RoundChangePayload unsignedMessageData = RoundChangePayload.readFrom(rlpInput);
+    final SECPSignature signature = readSignature(rlpInput);
+    rlpInput.leaveList();
+
+    return SignedData.create(unsignedMessageData, signature, recoveredAuthorCache);
+  }
+
   protected static <M extends Payload> SignedData<M> from(
       final M unsignedMessageData, final SECPSignature signature) {
     return SignedData.create(unsignedMessageData, signature);
@@ -17,6 +17,7 @@ package org.hyperledger.besu.consensus.ibft.statemachine;
 import org.hyperledger.besu.consensus.common.bft.Gossiper;
 import org.hyperledger.besu.consensus.common.bft.MessageTracker;
 import org.hyperledger.besu.consensus.common.bft.SynchronizerUpdater;
+import org.hyperledger.besu.consensus.common.bft.payload.RecoveredAuthorCache;
 import org.hyperledger.besu.consensus.common.bft.statemachine.BaseBftController;
 import org.hyperledger.besu.consensus.common.bft.statemachine.BaseBlockHeightManager;
 import org.hyperledger.besu.consensus.common.bft.statemachine.BftFinalState;
@@ -35,6 +36,7 @@ public class IbftController extends BaseBftController {
 
   private BaseIbftBlockHeightManager currentHeightManager;
   private final IbftBlockHeightManagerFactory ibftBlockHeightManagerFactory;
+  private final RecoveredAuthorCache recoveredAuthorCache;
 
   public IbftController(
       final Blockchain blockchain,
@@ -43,7 +45,8 @@ public class IbftController extends BaseBftController {
       final Gossiper gossiper,
       final MessageTracker duplicateMessageTracker,
       final FutureMessageBuffer futureMessageBuffer,
-      final SynchronizerUpdater sychronizerUpdater) {
+      final SynchronizerUpdater sychronizerUpdater,
+      final RecoveredAuthorCache recoveredAuthorCache) {
 
     super(
         blockchain,
@@ -53,6 +56,7 @@ public class IbftController extends BaseBftController {
         futureMessageBuffer,
         sychronizerUpdater);
     this.ibftBlockHeightManagerFactory = ibftBlockHeightManagerFactory;
+    this.recoveredAuthorCache = recoveredAuthorCache;
   }
 
   @Override
@@ -63,28 +67,28 @@ public class IbftController extends BaseBftController {
       case IbftV2.PROPOSAL:
         consumeMessage(
             message,
-            ProposalMessageData.fromMessageData(messageData).decode(),
+            ProposalMessageData.fromMessageData(messageData).decode(recoveredAuthorCache),
             currentHeightManager::handleProposalPayload);
         break;
 
       case IbftV2.PREPARE:
         consumeMessage(
             message,
-            PrepareMessageData.fromMessageData(messageData).decode(),
+            PrepareMessageData.fromMessageData(messageData).decode(recoveredAuthorCache),
             currentHeightManager::handlePreparePayload);
         break;
 
       case IbftV2.COMMIT:
         consumeMessage(
             message,
-            CommitMessageData.fromMessageData(messageData).decode(),
+            CommitMessageData.fromMessageData(messageData).decode(recoveredAuthorCache),
             currentHeightManager::handleCommitPayload);
         break;
 
       case IbftV2.ROUND_CHANGE:
         consumeMessage(
             message,
-            RoundChangeMessageData.fromMessageData(messageData).decode(),
+            RoundChangeMessageData.fromMessageData(messageData).decode(recoveredAuthorCache),
             currentHeightManager::handleRoundChangePayload);
         break;
 
@@ -20,6 +20,7 @@ import org.hyperledger.besu.consensus.common.bft.BftExtraDataCodec;
 import org.hyperledger.besu.consensus.common.bft.BftHelpers;
 import org.hyperledger.besu.consensus.common.bft.ConsensusRoundIdentifier;
 import org.hyperledger.besu.consensus.common.bft.blockcreation.ProposerSelector;
+import org.hyperledger.besu.consensus.common.bft.payload.RecoveredAuthorCache;
 import org.hyperledger.besu.datatypes.Address;
 import org.hyperledger.besu.ethereum.BlockValidator;
 import org.hyperledger.besu.ethereum.ProtocolContext;
@@ -34,16 +35,19 @@ public class MessageValidatorFactory {
   private final ProtocolContext protocolContext;
   private final ProtocolSchedule protocolSchedule;
   private final BftExtraDataCodec bftExtraDataCodec;
+  private final RecoveredAuthorCache recoveredAuthorCache;
 
   public MessageValidatorFactory(
       final ProposerSelector proposerSelector,
       final ProtocolSchedule protocolSchedule,
       final ProtocolContext protocolContext,
-      final BftExtraDataCodec bftExtraDataCodec) {
+      final BftExtraDataCodec bftExtraDataCodec,
+      final RecoveredAuthorCache recoveredAuthorCache) {
     this.proposerSelector = proposerSelector;
     this.protocolSchedule = protocolSchedule;
     this.protocolContext = protocolContext;
     this.bftExtraDataCodec = bftExtraDataCodec;
+    this.recoveredAuthorCache = recoveredAuthorCache;
   }
 
   private Collection<Address> getValidatorsAfterBlock(final BlockHeader parentHeader) {
@@ -59,7 +63,8 @@ public class MessageValidatorFactory {
     return new SignedDataValidator(
         getValidatorsAfterBlock(parentHeader),
         proposerSelector.selectProposerForRound(roundIdentifier),
-        roundIdentifier);
+        roundIdentifier,
+        recoveredAuthorCache);
   }
 
   public MessageValidator createMessageValidator(
@@ -81,7 +86,8 @@ public class MessageValidatorFactory {
             (ri) -> createSignedDataValidator(ri, parentHeader),
             roundIdentifier.getSequenceNumber(),
             bftExtraDataCodec,
-            bftBlockInterface));
+            bftBlockInterface,
+            recoveredAuthorCache));
   }
 
   public RoundChangeMessageValidator createRoundChangeMessageValidator(
@@ -96,7 +102,8 @@ public class MessageValidatorFactory {
             validators,
             BftHelpers.prepareMessageCountForQuorum(
                 BftHelpers.calculateRequiredValidatorQuorum(validators.size())),
-            chainHeight),
+            chainHeight,
+            recoveredAuthorCache),
         new ProposalBlockConsistencyValidator(),
         bftBlockInterface);
   }
@@ -19,6 +19,7 @@ import org.hyperledger.besu.consensus.common.bft.BftBlockInterface;
 import org.hyperledger.besu.consensus.common.bft.BftExtraDataCodec;
 import org.hyperledger.besu.consensus.common.bft.BftHelpers;
 import org.hyperledger.besu.consensus.common.bft.ConsensusRoundIdentifier;
+import org.hyperledger.besu.consensus.common.bft.payload.RecoveredAuthorCache;
 import org.hyperledger.besu.consensus.common.bft.payload.SignedData;
 import org.hyperledger.besu.consensus.ibft.payload.PreparedCertificate;
 import org.hyperledger.besu.consensus.ibft.payload.RoundChangeCertificate;
@@ -41,6 +42,7 @@ public class RoundChangeCertificateValidator {
   private final MessageValidatorForHeightFactory messageValidatorFactory;
   private final BftExtraDataCodec bftExtraDataCodec;
   private final BftBlockInterface bftBlockInterface;
+  private final RecoveredAuthorCache recoveredAuthorCache;
   private final long quorum;
   private final long chainHeight;
 
@@ -49,13 +51,15 @@ public class RoundChangeCertificateValidator {
       final MessageValidatorForHeightFactory messageValidatorFactory,
       final long chainHeight,
       final BftExtraDataCodec bftExtraDataCodec,
-      final BftBlockInterface bftBlockInterface) {
+      final BftBlockInterface bftBlockInterface,
+      final RecoveredAuthorCache recoveredAuthorCache) {
     this.validators = validators;
     this.messageValidatorFactory = messageValidatorFactory;
     this.quorum = BftHelpers.calculateRequiredValidatorQuorum(validators.size());
     this.chainHeight = chainHeight;
     this.bftExtraDataCodec = bftExtraDataCodec;
     this.bftBlockInterface = bftBlockInterface;
+    this.recoveredAuthorCache = recoveredAuthorCache;
   }
 
   public boolean validateRoundChangeMessagesAndEnsureTargetRoundMatchesRoot(
@@ -86,7 +90,8 @@ public class RoundChangeCertificateValidator {
             messageValidatorFactory,
             validators,
             BftHelpers.prepareMessageCountForQuorum(quorum),
-            chainHeight);
+            chainHeight,
+            recoveredAuthorCache);
 
     if (!roundChangeCert.getRoundChangePayloads().stream()
         .allMatch(roundChangeValidator::validateRoundChange)) {
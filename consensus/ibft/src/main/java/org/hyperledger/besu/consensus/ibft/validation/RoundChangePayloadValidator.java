@@ -15,6 +15,7 @@
 package org.hyperledger.besu.consensus.ibft.validation;
 
 import org.hyperledger.besu.consensus.common.bft.ConsensusRoundIdentifier;
+import org.hyperledger.besu.consensus.common.bft.payload.RecoveredAuthorCache;
 import org.hyperledger.besu.consensus.common.bft.payload.SignedData;
 import org.hyperledger.besu.consensus.ibft.payload.PreparePayload;
 import org.hyperledger.besu.consensus.ibft.payload.PreparedCertificate;
@@ -35,16 +36,19 @@ public class RoundChangePayloadValidator {
   private final Collection<Address> validators;
   private final long minimumPrepareMessages;
   private final long chainHeight;
+  private final RecoveredAuthorCache recoveredAuthorCache;
 
   public RoundChangePayloadValidator(
       final MessageValidatorForHeightFactory messageValidatorFactory,
       final Collection<Address> validators,
       final long minimumPrepareMessages,
-      final long chainHeight) {
+      final long chainHeight,
+      final RecoveredAuthorCache recoveredAuthorCache) {
     this.messageValidatorFactory = messageValidatorFactory;
     this.validators = validators;
     this.minimumPrepareMessages = minimumPrepareMessages;
     this.chainHeight = chainHeight;
+    this.recoveredAuthorCache = recoveredAuthorCache;
   }
 
   public boolean validateRoundChange(final SignedData<RoundChangePayload> msg) {
@@ -91,6 +95,8 @@ public class RoundChangePayloadValidator {
   private boolean validateConsistencyOfPrepareCertificateMessages(
       final PreparedCertificate certificate, final SignedDataValidator signedDataValidator) {
 
+    recoveredAuthorCache.recoverAuthors(certificate.getPreparePayloads());
+
     if (!signedDataValidator.validateProposal(certificate.getProposalPayload())) {
       LOG.info("Invalid RoundChange message, embedded Proposal message failed validation.");
       return false;
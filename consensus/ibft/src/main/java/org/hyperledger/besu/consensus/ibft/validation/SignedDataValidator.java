@@ -16,13 +16,13 @@ package org.hyperledger.besu.consensus.ibft.validation;
 
 import org.hyperledger.besu.consensus.common.bft.ConsensusRoundIdentifier;
 import org.hyperledger.besu.consensus.common.bft.payload.Payload;
+import org.hyperledger.besu.consensus.common.bft.payload.RecoveredAuthorCache;
 import org.hyperledger.besu.consensus.common.bft.payload.SignedData;
 import org.hyperledger.besu.consensus.ibft.payload.CommitPayload;
 import org.hyperledger.besu.consensus.ibft.payload.PreparePayload;
 import org.hyperledger.besu.consensus.ibft.payload.ProposalPayload;
 import org.hyperledger.besu.datatypes.Address;
 import org.hyperledger.besu.datatypes.Hash;
-import org.hyperledger.besu.ethereum.core.Util;
 
 import java.util.Collection;
 import java.util.Optional;
@@ -37,16 +37,19 @@ public class SignedDataValidator {
   private final Collection<Address> validators;
   private final Address expectedProposer;
   private final ConsensusRoundIdentifier roundIdentifier;
+  private final RecoveredAuthorCache recoveredAuthorCache;
 
   private Optional<SignedData<ProposalPayload>> proposal = Optional.empty();
 
   public SignedDataValidator(
       final Collection<Address> validators,
       final Address expectedProposer,
-      final ConsensusRoundIdentifier roundIdentifier) {
+      final ConsensusRoundIdentifier roundIdentifier,
+      final RecoveredAuthorCache recoveredAuthorCache) {
     this.validators = validators;
     this.expectedProposer = expectedProposer;
     this.roundIdentifier = roundIdentifier;
+    this.recoveredAuthorCache = recoveredAuthorCache;
   }
 
   public boolean validateProposal(final SignedData<ProposalPayload> msg) {
@@ -122,7 +125,8 @@ public class SignedDataValidator {
 
     final Hash proposedBlockDigest = proposal.get().getPayload().getDigest();
     final Address commitSealCreator =
-        Util.signatureToAddress(msg.getPayload().getCommitSeal(), proposedBlockDigest);
+        recoveredAuthorCache.signatureToAddress(
+            msg.getPayload().getCommitSeal(), proposedBlockDigest);
 
     if (!commitSealCreator.equals(msg.getAuthor())) {
       LOG.info("Invalid Commit message. Seal was not created by the message transmitter.");
@@ -20,6 +20,7 @@ import static org.mockito.Mockito.verify;
 import org.hyperledger.besu.consensus.common.bft.messagewrappers.BftMessage;
 import org.hyperledger.besu.consensus.common.bft.network.MockPeerFactory;
 import org.hyperledger.besu.consensus.common.bft.network.ValidatorMulticaster;
+import org.hyperledger.besu.consensus.common.bft.payload.RecoveredAuthorCache;
 import org.hyperledger.besu.consensus.ibft.messagedata.ProposalMessageData;
 import org.hyperledger.besu.consensus.ibft.messagedata.RoundChangeMessageData;
 import org.hyperledger.besu.crypto.NodeKey;
@@ -48,7 +49,7 @@ public class IbftGossipTest {
 
   @Before
   public void setup() {
-    ibftGossip = new IbftGossip(validatorMulticaster);
+    ibftGossip = new IbftGossip(validatorMulticaster, new RecoveredAuthorCache(Runnable::run));
     peerConnection = MockPeerFactory.create(senderAddress);
   }
 
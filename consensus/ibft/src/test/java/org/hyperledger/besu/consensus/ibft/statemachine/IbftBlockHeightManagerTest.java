@@ -38,6 +38,7 @@ import org.hyperledger.besu.consensus.common.bft.RoundTimer;
 import org.hyperledger.besu.consensus.common.bft.blockcreation.BftBlockCreator;
 import org.hyperledger.besu.consensus.common.bft.events.RoundExpiry;
 import org.hyperledger.besu.consensus.common.bft.network.ValidatorMulticaster;
+import org.hyperledger.besu.consensus.common.bft.payload.RecoveredAuthorCache;
 import org.hyperledger.besu.consensus.common.bft.statemachine.BftFinalState;
 import org.hyperledger.besu.consensus.ibft.IbftExtraDataCodec;
 import org.hyperledger.besu.consensus.ibft.messagedata.RoundChangeMessageData;
@@ -373,7 +374,8 @@ public class IbftBlockHeightManagerTest {
     assertThat(capturedMessageData).isInstanceOf(RoundChangeMessageData.class);
     final RoundChangeMessageData roundChange = (RoundChangeMessageData) capturedMessageData;
 
-    Optional<PreparedCertificate> preparedCert = roundChange.decode().getPreparedCertificate();
+    Optional<PreparedCertificate> preparedCert =
+        roundChange.decode(new RecoveredAuthorCache(Runnable::run)).getPreparedCertificate();
     Assertions.assertThat(preparedCert).isNotEmpty();
 
     assertThat(preparedCert.get().getPreparePayloads())
@@ -33,6 +33,7 @@ import org.hyperledger.besu.consensus.common.bft.events.BftReceivedMessageEvent;
 import org.hyperledger.besu.consensus.common.bft.events.BlockTimerExpiry;
 import org.hyperledger.besu.consensus.common.bft.events.NewChainHead;
 import org.hyperledger.besu.consensus.common.bft.events.RoundExpiry;
+import org.hyperledger.besu.consensus.common.bft.payload.RecoveredAuthorCache;
 import org.hyperledger.besu.consensus.common.bft.statemachine.BftFinalState;
 import org.hyperledger.besu.consensus.common.bft.statemachine.FutureMessageBuffer;
 import org.hyperledger.besu.consensus.ibft.IbftGossip;
@@ -63,6 +64,8 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 @RunWith(MockitoJUnitRunner.class)
 public class IbftControllerTest {
+  private final RecoveredAuthorCache recoveredAuthorCache = new RecoveredAuthorCache(Runnable::run);
+
   @Mock private Blockchain blockChain;
   @Mock private BftFinalState bftFinalState;
   @Mock private IbftBlockHeightManagerFactory blockHeightManagerFactory;
@@ -124,7 +127,8 @@ public class IbftControllerTest {
             ibftGossip,
             messageTracker,
             futureMessageBuffer,
-            mock(EthSynchronizerUpdater.class));
+            mock(EthSynchronizerUpdater.class),
+            recoveredAuthorCache);
   }
 
   @Test
@@ -449,7 +453,7 @@ public class IbftControllerTest {
     when(proposal.getAuthor()).thenReturn(validator);
     when(proposal.getRoundIdentifier()).thenReturn(roundIdentifier);
     when(proposalMessageData.getCode()).thenReturn(IbftV2.PROPOSAL);
-    when(proposalMessageData.decode()).thenReturn(proposal);
+    when(proposalMessageData.decode(recoveredAuthorCache)).thenReturn(proposal);
     proposalMessage = new DefaultMessage(null, proposalMessageData);
   }
 
@@ -458,7 +462,7 @@ public class IbftControllerTest {
     when(prepare.getAuthor()).thenReturn(validator);
     when(prepare.getRoundIdentifier()).thenReturn(roundIdentifier);
     when(prepareMessageData.getCode()).thenReturn(IbftV2.PREPARE);
-    when(prepareMessageData.decode()).thenReturn(prepare);
+    when(prepareMessageData.decode(recoveredAuthorCache)).thenReturn(prepare);
     prepareMessage = new DefaultMessage(null, prepareMessageData);
   }
 
@@ -467,7 +471,7 @@ public class IbftControllerTest {
     when(commit.getAuthor()).thenReturn(validator);
     when(commit.getRoundIdentifier()).thenReturn(roundIdentifier);
     when(commitMessageData.getCode()).thenReturn(IbftV2.COMMIT);
-    when(commitMessageData.decode()).thenReturn(commit);
+    when(commitMessageData.decode(recoveredAuthorCache)).thenReturn(commit);
     commitMessage = new DefaultMessage(null, commitMessageData);
   }
 
@@ -476,7 +480,7 @@ public class IbftControllerTest {
     when(roundChange.getAuthor()).thenReturn(validator);
     when(roundChange.getRoundIdentifier()).thenReturn(roundIdentifier);
     when(roundChangeMessageData.getCode()).thenReturn(IbftV2.ROUND_CHANGE);
-    when(roundChangeMessageData.decode()).thenReturn(roundChange);
+    when(roundChangeMessageData.decode(recoveredAuthorCache)).thenReturn(roundChange);
     roundChangeMessage = new DefaultMessage(null, roundChangeMessageData);
   }
 }
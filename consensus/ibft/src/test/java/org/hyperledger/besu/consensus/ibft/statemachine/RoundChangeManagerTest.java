@@ -24,6 +24,7 @@ import org.hyperledger.besu.consensus.common.bft.BftHelpers;
 import org.hyperledger.besu.consensus.common.bft.ConsensusRoundHelpers;
 import org.hyperledger.besu.consensus.common.bft.ConsensusRoundIdentifier;
 import org.hyperledger.besu.consensus.common.bft.ProposedBlockHelpers;
+import org.hyperledger.besu.consensus.common.bft.payload.RecoveredAuthorCache;
 import org.hyperledger.besu.consensus.ibft.IbftExtraDataCodec;
 import org.hyperledger.besu.consensus.ibft.messagewrappers.Prepare;
 import org.hyperledger.besu.consensus.ibft.messagewrappers.Proposal;
@@ -65,6 +66,7 @@ public class RoundChangeManagerTest {
   private final ConsensusRoundIdentifier ri2 = new ConsensusRoundIdentifier(2, 2);
   private final ConsensusRoundIdentifier ri3 = new ConsensusRoundIdentifier(2, 3);
   private final List<Address> validators = Lists.newArrayList();
+  private final RecoveredAuthorCache recoveredAuthorCache = new RecoveredAuthorCache(Runnable::run);
   private final ProposalBlockConsistencyValidator proposalConsistencyValidator =
       mock(ProposalBlockConsistencyValidator.class);
   private final BftBlockInterface bftBlockInterface =
@@ -88,17 +90,26 @@ public class RoundChangeManagerTest {
         .thenAnswer(
             invocation ->
                 new SignedDataValidator(
-                    validators, Util.publicKeyToAddress(proposerKey.getPublicKey()), ri1));
+                    validators,
+                    Util.publicKeyToAddress(proposerKey.getPublicKey()),
+                    ri1,
+                    recoveredAuthorCache));
     when(messageValidatorFactory.createAt(ri2))
         .thenAnswer(
             invocation ->
                 new SignedDataValidator(
-                    validators, Util.publicKeyToAddress(validator1Key.getPublicKey()), ri2));
+                    validators,
+                    Util.publicKeyToAddress(validator1Key.getPublicKey()),
+                    ri2,
+                    recoveredAuthorCache));
     when(messageValidatorFactory.createAt(ri3))
         .thenAnswer(
             invocation ->
                 new SignedDataValidator(
-                    validators, Util.publicKeyToAddress(validator2Key.getPublicKey()), ri3));
+                    validators,
+                    Util.publicKeyToAddress(validator2Key.getPublicKey()),
+                    ri3,
+                    recoveredAuthorCache));
 
     final RoundChangeMessageValidator roundChangeMessageValidator =
         new RoundChangeMessageValidator(
@@ -107,7 +118,8 @@ public class RoundChangeManagerTest {
                 validators,
                 BftHelpers.calculateRequiredValidatorQuorum(
                     BftHelpers.calculateRequiredValidatorQuorum(validators.size())),
-                2),
+                2,
+                recoveredAuthorCache),
             proposalConsistencyValidator,
             bftBlockInterface);
     manager = new RoundChangeManager(2, roundChangeMessageValidator);
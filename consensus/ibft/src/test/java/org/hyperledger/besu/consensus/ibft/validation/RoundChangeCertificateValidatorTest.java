@@ -25,6 +25,7 @@ import org.hyperledger.besu.consensus.common.bft.BftBlockInterface;
 import org.hyperledger.besu.consensus.common.bft.ConsensusRoundHelpers;
 import org.hyperledger.besu.consensus.common.bft.ConsensusRoundIdentifier;
 import org.hyperledger.besu.consensus.common.bft.ProposedBlockHelpers;
+import org.hyperledger.besu.consensus.common.bft.payload.RecoveredAuthorCache;
 import org.hyperledger.besu.consensus.ibft.IbftExtraDataCodec;
 import org.hyperledger.besu.consensus.ibft.messagewrappers.Proposal;
 import org.hyperledger.besu.consensus.ibft.payload.MessageFactory;
@@ -79,7 +80,12 @@ public class RoundChangeCertificateValidatorTest {
 
     validator =
         new RoundChangeCertificateValidator(
-            validators, validatorFactory, 5, bftExtraDataEncoder, bftBlockInterface);
+            validators,
+            validatorFactory,
+            5,
+            bftExtraDataEncoder,
+            bftBlockInterface,
+            new RecoveredAuthorCache(Runnable::run));
   }
 
   @Test
@@ -23,6 +23,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import org.hyperledger.besu.consensus.common.bft.ConsensusRoundIdentifier;
+import org.hyperledger.besu.consensus.common.bft.payload.RecoveredAuthorCache;
 import org.hyperledger.besu.consensus.ibft.messagewrappers.Prepare;
 import org.hyperledger.besu.consensus.ibft.messagewrappers.RoundChange;
 import org.hyperledger.besu.consensus.ibft.payload.MessageFactory;
@@ -65,8 +66,10 @@ public class RoundChangeSignedDataValidatorTest {
 
   private final MessageValidatorForHeightFactory validatorFactory =
       mock(MessageValidatorForHeightFactory.class);
+  private final RecoveredAuthorCache recoveredAuthorCache = new RecoveredAuthorCache(Runnable::run);
   private final RoundChangePayloadValidator validator =
-      new RoundChangePayloadValidator(validatorFactory, validators, 1, chainHeight);
+      new RoundChangePayloadValidator(
+          validatorFactory, validators, 1, chainHeight, recoveredAuthorCache);
 
   @Before
   public void setup() {
@@ -211,7 +214,8 @@ public class RoundChangeSignedDataValidatorTest {
   @Test
   public void roundChangeWithDuplicatedPreparesFails() {
     final RoundChangePayloadValidator validatorRequiringTwoPrepares =
-        new RoundChangePayloadValidator(validatorFactory, validators, 2, chainHeight);
+        new RoundChangePayloadValidator(
+            validatorFactory, validators, 2, chainHeight, recoveredAuthorCache);
 
     final Prepare prepareMsg = validatorMessageFactory.createPrepare(currentRound, block.getHash());
     final PreparedRoundArtifacts preparedRoundArtifacts =
@@ -21,6 +21,7 @@ import static org.mockito.Mockito.when;
 
 import org.hyperledger.besu.consensus.common.bft.ConsensusRoundIdentifier;
 import org.hyperledger.besu.consensus.common.bft.ProposedBlockHelpers;
+import org.hyperledger.besu.consensus.common.bft.payload.RecoveredAuthorCache;
 import org.hyperledger.besu.consensus.ibft.messagewrappers.Commit;
 import org.hyperledger.besu.consensus.ibft.messagewrappers.Prepare;
 import org.hyperledger.besu.consensus.ibft.messagewrappers.Proposal;
@@ -65,7 +66,10 @@ public class SignedDataValidatorTest {
 
     validator =
         new SignedDataValidator(
-            validators, Util.publicKeyToAddress(proposerKey.getPublicKey()), roundIdentifier);
+            validators,
+            Util.publicKeyToAddress(proposerKey.getPublicKey()),
+            roundIdentifier,
+            new RecoveredAuthorCache(Runnable::run));
 
     when(block.getHash()).thenReturn(Hash.fromHexStringLenient("1"));
   }
@@ -22,6 +22,7 @@ import org.hyperledger.besu.consensus.common.bft.BftExtraDataCodec;
 import org.hyperledger.besu.consensus.common.bft.ConsensusRoundIdentifier;
 import org.hyperledger.besu.consensus.common.bft.messagewrappers.BftMessage;
 import org.hyperledger.besu.consensus.common.bft.payload.Payload;
+import org.hyperledger.besu.consensus.common.bft.payload.RecoveredAuthorCache;
 import org.hyperledger.besu.consensus.common.bft.payload.SignedData;
 import org.hyperledger.besu.consensus.qbft.messagedata.CommitMessageData;
 import org.hyperledger.besu.consensus.qbft.messagedata.PrepareMessageData;
@@ -53,6 +54,7 @@ public class RoundSpecificPeers {
   private final Collection<ValidatorPeer> peers;
   private final List<ValidatorPeer> nonProposingPeers;
   private final BftExtraDataCodec bftExtraDataCodec;
+  private final RecoveredAuthorCache recoveredAuthorCache = new RecoveredAuthorCache(Runnable::run);
 
   public RoundSpecificPeers(
       final ValidatorPeer proposer,
@@ -200,17 +202,22 @@ public class RoundSpecificPeers {
 
     switch (expectedMessage.getMessageType()) {
       case QbftV1.PROPOSAL:
-        actualSignedPayload = ProposalMessageData.fromMessageData(actual).decode(bftExtraDataCodec);
+        actualSignedPayload =
+            ProposalMessageData.fromMessageData(actual)
+                .decode(bftExtraDataCodec, recoveredAuthorCache);
         break;
       case QbftV1.PREPARE:
-        actualSignedPayload = PrepareMessageData.fromMessageData(actual).decode();
+        actualSignedPayload =
+            PrepareMessageData.fromMessageData(actual).decode(recoveredAuthorCache);
         break;
       case QbftV1.COMMIT:
-        actualSignedPayload = CommitMessageData.fromMessageData(actual).decode();
+        actualSignedPayload =
+            CommitMessageData.fromMessageData(actual).decode(recoveredAuthorCache);
         break;
       case QbftV1.ROUND_CHANGE:
         actualSignedPayload =
-            RoundChangeMessageData.fromMessageData(actual).decode(bftExtraDataCodec);
+            RoundChangeMessageData.fromMessageData(actual)
+                .decode(bftExtraDataCodec, recoveredAuthorCache);
         break;
       default:
         fail("Illegal QBFTV1 message type.");
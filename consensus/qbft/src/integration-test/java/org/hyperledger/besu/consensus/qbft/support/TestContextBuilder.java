@@ -51,6 +51,7 @@ import org.hyperledger.besu.consensus.common.bft.inttest.NodeParams;
 import org.hyperledger.besu.consensus.common.bft.inttest.StubValidatorMulticaster;
 import org.hyperledger.besu.consensus.common.bft.inttest.StubbedSynchronizerUpdater;
 import org.hyperledger.besu.consensus.common.bft.inttest.TestTransitions;
+import org.hyperledger.besu.consensus.common.bft.payload.RecoveredAuthorCache;
 import org.hyperledger.besu.consensus.common.bft.statemachine.BftEventHandler;
 import org.hyperledger.besu.consensus.common.bft.statemachine.BftFinalState;
 import org.hyperledger.besu.consensus.common.bft.statemachine.FutureMessageBuffer;
@@ -285,7 +286,8 @@ public class TestContextBuilder {
 
     final Gossiper gossiper =
         useGossip
-            ? new QbftGossip(uniqueMulticaster, BFT_EXTRA_DATA_ENCODER)
+            ? new QbftGossip(
+                uniqueMulticaster, BFT_EXTRA_DATA_ENCODER, new RecoveredAuthorCache(Runnable::run))
             : mock(Gossiper.class);
 
     final StubbedSynchronizerUpdater synchronizerUpdater = new StubbedSynchronizerUpdater();
@@ -476,9 +478,16 @@ public class TestContextBuilder {
 
     final MessageFactory messageFactory = new MessageFactory(nodeKey);
 
+    final RecoveredAuthorCache recoveredAuthorCache =
+        new RecoveredAuthorCache(bftExecutors::executeSignatureRecovery);
+
     final MessageValidatorFactory messageValidatorFactory =
         new MessageValidatorFactory(
-            proposerSelector, protocolSchedule, protocolContext, BFT_EXTRA_DATA_ENCODER);
+            proposerSelector,
+            protocolSchedule,
+            protocolContext,
+            BFT_EXTRA_DATA_ENCODER,
+            recoveredAuthorCache);
 
     final Subscribers<MinedBlockObserver> minedBlockObservers = Subscribers.create();
 
@@ -510,7 +519,8 @@ public class TestContextBuilder {
             duplicateMessageTracker,
             futureMessageBuffer,
             synchronizerUpdater,
-            BFT_EXTRA_DATA_ENCODER);
+            BFT_EXTRA_DATA_ENCODER,
+            recoveredAuthorCache);
 
     final EventMultiplexer eventMultiplexer = new EventMultiplexer(qbftController);
     //////////////////////////// END QBFT BesuController ////////////////////////////
@@ -18,6 +18,7 @@ import org.hyperledger.besu.consensus.common.bft.BftExtraDataCodec;
 import org.hyperledger.besu.consensus.common.bft.Gossiper;
 import org.hyperledger.besu.consensus.common.bft.network.ValidatorMulticaster;
 import org.hyperledger.besu.consensus.common.bft.payload.Authored;
+import org.hyperledger.besu.consensus.common.bft.payload.RecoveredAuthorCache;
 import org.hyperledger.besu.consensus.qbft.messagedata.CommitMessageData;
 import org.hyperledger.besu.consensus.qbft.messagedata.PrepareMessageData;
 import org.hyperledger.besu.consensus.qbft.messagedata.ProposalMessageData;
@@ -36,17 +37,22 @@ public class QbftGossip implements Gossiper {
 
   private final ValidatorMulticaster multicaster;
   private final BftExtraDataCodec bftExtraDataCodec;
+  private final RecoveredAuthorCache recoveredAuthorCache;
 
   /**
    * Constructor that attaches gossip logic to a set of multicaster
    *
    * @param multicaster Network connections to the remote validators
    * @param bftExtraDataCodec Codec used when decoding MessageData
+   * @param recoveredAuthorCache Cache through which the authors of decoded messages are recovered
    */
   public QbftGossip(
-      final ValidatorMulticaster multicaster, final BftExtraDataCodec bftExtraDataCodec) {
+      final ValidatorMulticaster multicaster,
+      final BftExtraDataCodec bftExtraDataCodec,
+      final RecoveredAuthorCache recoveredAuthorCache) {
     this.multicaster = multicaster;
     this.bftExtraDataCodec = bftExtraDataCodec;
+    this.recoveredAuthorCache = recoveredAuthorCache;
   }
 
   /**
@@ -60,17 +66,22 @@ public class QbftGossip implements Gossiper {
     final Authored decodedMessage;
     switch (messageData.getCode()) {
       case QbftV1.PROPOSAL:
-        decodedMessage = ProposalMessageData.fromMessageData(messageData).decode(bftExtraDataCodec);
+        decodedMessage =
+            ProposalMessageData.fromMessageData(messageData)
+                .decode(bftExtraDataCodec, recoveredAuthorCache);
         break;
       case QbftV1.PREPARE:
-        decodedMessage = PrepareMessageData.fromMessageData(messageData).decode();
+        decodedMessage =
+            PrepareMessageData.fromMessageData(messageData).decode(recoveredAuthorCache);
         break;
       case QbftV1.COMMIT:
-        decodedMessage = CommitMessageData.fromMessageData(messageData).decode();
+        decodedMessage =
+            CommitMessageData.fromMessageData(messageData).decode(recoveredAuthorCache);
         break;
       case QbftV1.ROUND_CHANGE:
         decodedMessage =
-            RoundChangeMessageData.fromMessageData(messageData).decode(bftExtraDataCodec);
+            RoundChangeMessageData.fromMessageData(messageData)
+                .decode(bftExtraDataCodec, recoveredAuthorCache);
         break;
       default:
         throw new IllegalArgumentException(
@@ -15,6 +15,7 @@
 package org.hyperledger.besu.consensus.qbft.messagedata;
 
 import org.hyperledger.besu.consensus.common.bft.messagedata.AbstractBftMessageData;
+import org.hyperledger.besu.consensus.common.bft.payload.RecoveredAuthorCache;
 import org.hyperledger.besu.consensus.qbft.messagewrappers.Prepare;
 import org.hyperledger.besu.ethereum.p2p.rlpx.wire.MessageData;
 
@@ -33,8 +34,8 @@ public class PrepareMessageData extends AbstractBftMessageData {
         messageData, MESSAGE_CODE, PrepareMessageData.class, PrepareMessageData::new);
   }
 
-  public Prepare decode() {
-    return Prepare.decode(data);
+  public Prepare decode(final RecoveredAuthorCache recoveredAuthorCache) {
+    return Prepare.decode(data, recoveredAuthorCache);
   }
 
   public static PrepareMessageData create(final Prepare preapare) {
@@ -16,6 +16,7 @@ package org.hyperledger.besu.consensus.qbft.messagedata;
 
 import org.hyperledger.besu.consensus.common.bft.BftExtraDataCodec;
 import org.hyperledger.besu.consensus.common.bft.messagedata.AbstractBftMessageData;
+import org.hyperledger.besu.consensus.common.bft.payload.RecoveredAuthorCache;
 import org.hyperledger.besu.consensus.qbft.messagewrappers.Proposal;
 import org.hyperledger.besu.ethereum.p2p.rlpx.wire.MessageData;
 
@@ -34,8 +35,10 @@ public class ProposalMessageData extends AbstractBftMessageData {
         messageData, MESSAGE_CODE, ProposalMessageData.class, ProposalMessageData::new);
   }
 
-  public Proposal decode(final BftExtraDataCodec bftExtraDataCodec) {
-    return Proposal.decode(data, bftExtraDataCodec);
+  public Proposal decode(
+      final BftExtraDataCodec bftExtraDataCodec,
+      final RecoveredAuthorCache recoveredAuthorCache) {
+    return Proposal.decode(data, bftExtraDataCodec, recoveredAuthorCache);
   }
 
   public static ProposalMessageData create(final Proposal proposal) {
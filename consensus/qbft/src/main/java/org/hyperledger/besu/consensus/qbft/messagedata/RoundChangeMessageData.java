@@ -16,6 +16,7 @@ package org.hyperledger.besu.consensus.qbft.messagedata;
 
 import org.hyperledger.besu.consensus.common.bft.BftExtraDataCodec;
 import org.hyperledger.besu.consensus.common.bft.messagedata.AbstractBftMessageData;
+import org.hyperledger.besu.consensus.common.bft.payload.RecoveredAuthorCache;
 import org.hyperledger.besu.consensus.qbft.messagewrappers.RoundChange;
 import org.hyperledger.besu.ethereum.p2p.rlpx.wire.MessageData;
 
@@ -34,8 +35,10 @@ public class RoundChangeMessageData extends AbstractBftMessageData {
         messageData, MESSAGE_CODE, RoundChangeMessageData.class, RoundChangeMessageData::new);
   }
 
-  public RoundChange decode(final BftExtraDataCodec bftExtraDataCodec) {
-    return RoundChange.decode(data, bftExtraDataCodec);
+  public RoundChange decode(
+      final BftExtraDataCodec bftExtraDataCodec,
+      final RecoveredAuthorCache recoveredAuthorCache) {
+    return RoundChange.decode(data, bftExtraDataCodec, recoveredAuthorCache);
   }
 
   public static RoundChangeMessageData create(final RoundChange signedPayload) {
@@ -15,6 +15,7 @@
 package org.hyperledger.besu.consensus.qbft.messagewrappers;
 
 import org.hyperledger.besu.consensus.common.bft.messagewrappers.BftMessage;
+import org.hyperledger.besu.consensus.common.bft.payload.RecoveredAuthorCache;
 import org.hyperledger.besu.consensus.common.bft.payload.SignedData;
 import org.hyperledger.besu.consensus.qbft.payload.CommitPayload;
 import org.hyperledger.besu.crypto.SECPSignature;
@@ -38,9 +39,9 @@ public class Commit extends BftMessage<CommitPayload> {
     return getPayload().getDigest();
   }
 
-  public static Commit decode(final Bytes data) {
+  public static Commit decode(final Bytes data, final RecoveredAuthorCache recoveredAuthorCache) {
     final RLPInput rlpIn = RLP.input(data);
 
-    return new Commit(readPayload(rlpIn, CommitPayload::readFrom));
+    return new Commit(readPayload(rlpIn, CommitPayload::readFrom, recoveredAuthorCache));
   }
 }
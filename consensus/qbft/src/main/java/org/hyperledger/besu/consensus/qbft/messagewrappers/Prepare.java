@@ -15,6 +15,7 @@
 package org.hyperledger.besu.consensus.qbft.messagewrappers;
 
 import org.hyperledger.besu.consensus.common.bft.messagewrappers.BftMessage;
+import org.hyperledger.besu.consensus.common.bft.payload.RecoveredAuthorCache;
 import org.hyperledger.besu.consensus.common.bft.payload.SignedData;
 import org.hyperledger.besu.consensus.qbft.payload.PreparePayload;
 import org.hyperledger.besu.datatypes.Hash;
@@ -33,8 +34,8 @@ public class Prepare extends BftMessage<PreparePayload> {
     return getPayload().getDigest();
   }
 
-  public static Prepare decode(final Bytes data) {
+  public static Prepare decode(final Bytes data, final RecoveredAuthorCache recoveredAuthorCache) {
     final RLPInput rlpIn = RLP.input(data);
-    return new Prepare(readPayload(rlpIn, PreparePayload::readFrom));
+    return new Prepare(readPayload(rlpIn, PreparePayload::readFrom, recoveredAuthorCache));
   }
 }
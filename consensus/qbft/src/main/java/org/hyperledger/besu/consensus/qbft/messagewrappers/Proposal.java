@@ -16,6 +16,7 @@ package org.hyperledger.besu.consensus.qbft.messagewrappers;
 
 import org.hyperledger.besu.consensus.common.bft.BftExtraDataCodec;
 import org.hyperledger.besu.consensus.common.bft.messagewrappers.BftMessage;
+import org.hyperledger.besu.consensus.common.bft.payload.RecoveredAuthorCache;
 import org.hyperledger.besu.consensus.common.bft.payload.SignedData;
 import org.hyperledger.besu.consensus.qbft.payload.PreparePayload;
 import org.hyperledger.besu.consensus.qbft.payload.ProposalPayload;
@@ -70,17 +71,23 @@ public class Proposal extends BftMessage<ProposalPayload> {
     return rlpOut.encoded();
   }
 
-  public static Proposal decode(final Bytes data, final BftExtraDataCodec bftExtraDataCodec) {
+  public static Proposal decode(
+      final Bytes data,
+      final BftExtraDataCodec bftExtraDataCodec,
+      final RecoveredAuthorCache recoveredAuthorCache) {
     final RLPInput rlpIn = RLP.input(data);
     rlpIn.enterList();
     final SignedData<ProposalPayload> payload =
-        readPayload(rlpIn, rlpInput -> ProposalPayload.readFrom(rlpInput, bftExtraDataCodec));
+        readPayload(
+            rlpIn,
+            rlpInput -> ProposalPayload.readFrom(rlpInput, bftExtraDataCodec),
+            recoveredAuthorCache);
 
     rlpIn.enterList();
     final List<SignedData<RoundChangePayload>> roundChanges =
-        rlpIn.readList(r -> readPayload(r, RoundChangePayload::readFrom));
+        rlpIn.readList(r -> readPayload(r, RoundChangePayload::readFrom, recoveredAuthorCache));
     final List<SignedData<PreparePayload>> prepares =
-        rlpIn.readList(r -> readPayload(r, PreparePayload::readFrom));
+        rlpIn.readList(r -> readPayload(r, PreparePayload::readFrom, recoveredAuthorCache));
     rlpIn.leaveList();
 
     rlpIn.leaveList();
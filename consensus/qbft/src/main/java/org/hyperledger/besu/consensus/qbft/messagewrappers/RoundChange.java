@@ -17,6 +17,7 @@ package org.hyperledger.besu.consensus.qbft.messagewrappers;
 import org.hyperledger.besu.consensus.common.bft.BftBlockHeaderFunctions;
 import org.hyperledger.besu.consensus.common.bft.BftExtraDataCodec;
 import org.hyperledger.besu.consensus.common.bft.messagewrappers.BftMessage;
+import org.hyperledger.besu.consensus.common.bft.payload.RecoveredAuthorCache;
 import org.hyperledger.besu.consensus.common.bft.payload.SignedData;
 import org.hyperledger.besu.consensus.qbft.payload.PreparePayload;
 import org.hyperledger.besu.consensus.qbft.payload.PreparedRoundMetadata;
@@ -72,11 +73,15 @@ public class RoundChange extends BftMessage<RoundChangePayload> {
     return rlpOut.encoded();
   }
 
-  public static RoundChange decode(final Bytes data, final BftExtraDataCodec bftExtraDataCodec) {
+  public static RoundChange decode(
+      final Bytes data,
+      final BftExtraDataCodec bftExtraDataCodec,
+      final RecoveredAuthorCache recoveredAuthorCache) {
 
     final RLPInput rlpIn = RLP.input(data);
     rlpIn.enterList();
-    final SignedData<RoundChangePayload> payload = readPayload(rlpIn, RoundChangePayload::readFrom);
+    final SignedData<RoundChangePayload> payload =
+        readPayload(rlpIn, RoundChangePayload::readFrom, recoveredAuthorCache);
 
     final Optional<Block> block;
     if (rlpIn.nextIsList() && rlpIn.nextSize() == 0) {
@@ -89,7 +94,7 @@ public class RoundChange extends BftMessage<RoundChangePayload> {
     }
 
     final List<SignedData<PreparePayload>> prepares =
-        rlpIn.readList(r -> readPayload(r, PreparePayload::readFrom));
+        rlpIn.readList(r -> readPayload(r, PreparePayload::readFrom, recoveredAuthorCache));
     rlpIn.leaveList();
 
     return new RoundChange(payload, block, prepares);
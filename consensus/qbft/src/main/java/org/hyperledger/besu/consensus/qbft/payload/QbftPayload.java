@@ -28,7 +28,7 @@ public abstract class QbftPayload implements Payload {
     out.writeIntScalar(getRoundIdentifier().getRoundNumber());
   }
 
-  protected static ConsensusRoundIdentifier readConsensusRound(final RLPInput in) {
+  public static ConsensusRoundIdentifier readConsensusRound(final RLPInput in) {
     return new ConsensusRoundIdentifier(in.readLongScalar(), in.readIntScalar());
   }
 
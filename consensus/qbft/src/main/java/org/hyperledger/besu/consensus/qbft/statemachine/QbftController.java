@@ -18,6 +18,7 @@ import org.hyperledger.besu.consensus.common.bft.BftExtraDataCodec;
 import org.hyperledger.besu.consensus.common.bft.Gossiper;
 import org.hyperledger.besu.consensus.common.bft.MessageTracker;
 import org.hyperledger.besu.consensus.common.bft.SynchronizerUpdater;
+import org.hyperledger.besu.consensus.common.bft.payload.RecoveredAuthorCache;
 import org.hyperledger.besu.consensus.common.bft.statemachine.BaseBftController;
 import org.hyperledger.besu.consensus.common.bft.statemachine.BaseBlockHeightManager;
 import org.hyperledger.besu.consensus.common.bft.statemachine.BftFinalState;
@@ -37,6 +38,7 @@ public class QbftController extends BaseBftController {
   private BaseQbftBlockHeightManager currentHeightManager;
   private final QbftBlockHeightManagerFactory qbftBlockHeightManagerFactory;
   private final BftExtraDataCodec bftExtraDataCodec;
+  private final RecoveredAuthorCache recoveredAuthorCache;
 
   public QbftController(
       final Blockchain blockchain,
@@ -46,7 +48,8 @@ public class QbftController extends BaseBftController {
       final MessageTracker duplicateMessageTracker,
       final FutureMessageBuffer futureMessageBuffer,
       final SynchronizerUpdater sychronizerUpdater,
-      final BftExtraDataCodec bftExtraDataCodec) {
+      final BftExtraDataCodec bftExtraDataCodec,
+      final RecoveredAuthorCache recoveredAuthorCache) {
 
     super(
         blockchain,
@@ -57,6 +60,7 @@ public class QbftController extends BaseBftController {
         sychronizerUpdater);
     this.qbftBlockHeightManagerFactory = qbftBlockHeightManagerFactory;
     this.bftExtraDataCodec = bftExtraDataCodec;
+    this.recoveredAuthorCache = recoveredAuthorCache;
   }
 
   @Override
@@ -67,28 +71,30 @@ public class QbftController extends BaseBftController {
       case QbftV1.PROPOSAL:
         consumeMessage(
             message,
-            ProposalMessageData.fromMessageData(messageData).decode(bftExtraDataCodec),
+            ProposalMessageData.fromMessageData(messageData)
+                .decode(bftExtraDataCodec, recoveredAuthorCache),
             currentHeightManager::handleProposalPayload);
         break;
 
       case QbftV1.PREPARE:
         consumeMessage(
             message,
-            PrepareMessageData.fromMessageData(messageData).decode(),
+            PrepareMessageData.fromMessageData(messageData).decode(recoveredAuthorCache),
             currentHeightManager::handlePreparePayload);
         break;
 
       case QbftV1.COMMIT:
         consumeMessage(
             message,
-            CommitMessageData.fromMessageData(messageData).decode(),
+            CommitMessageData.fromMessageData(messageData).decode(recoveredAuthorCache),
             currentHeightManager::handleCommitPayload);
         break;
 
       case QbftV1.ROUND_CHANGE:
         consumeMessage(
             message,
-            RoundChangeMessageData.fromMessageData(messageData).decode(bftExtraDataCodec),
+            RoundChangeMessageData.fromMessageData(messageData)
+                .decode(bftExtraDataCodec, recoveredAuthorCache),
             currentHeightManager::handleRoundChangePayload);
         break;
 
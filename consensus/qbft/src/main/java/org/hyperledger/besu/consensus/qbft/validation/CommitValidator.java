@@ -15,12 +15,12 @@
 package org.hyperledger.besu.consensus.qbft.validation;
 
 import org.hyperledger.besu.consensus.common.bft.ConsensusRoundIdentifier;
+import org.hyperledger.besu.consensus.common.bft.payload.RecoveredAuthorCache;
 import org.hyperledger.besu.consensus.common.bft.payload.SignedData;
 import org.hyperledger.besu.consensus.qbft.messagewrappers.Commit;
 import org.hyperledger.besu.consensus.qbft.payload.CommitPayload;
 import org.hyperledger.besu.datatypes.Address;
 import org.hyperledger.besu.datatypes.Hash;
-import org.hyperledger.besu.ethereum.core.Util;
 
 import java.util.Collection;
 
@@ -37,16 +37,19 @@ public class CommitValidator {
   private final ConsensusRoundIdentifier targetRound;
   private final Hash expectedDigest;
   private final Hash expectedCommitDigest;
+  private final RecoveredAuthorCache recoveredAuthorCache;
 
   public CommitValidator(
       final Collection<Address> validators,
       final ConsensusRoundIdentifier targetRound,
       final Hash expectedDigest,
-      final Hash expectedCommitDigest) {
+      final Hash expectedCommitDigest,
+      final RecoveredAuthorCache recoveredAuthorCache) {
     this.validators = validators;
     this.targetRound = targetRound;
     this.expectedDigest = expectedDigest;
     this.expectedCommitDigest = expectedCommitDigest;
+    this.recoveredAuthorCache = recoveredAuthorCache;
   }
 
   public boolean validate(final Commit msg) {
@@ -80,7 +83,7 @@ public class CommitValidator {
     }
 
     final Address commitSealCreator =
-        Util.signatureToAddress(payload.getCommitSeal(), expectedCommitDigest);
+        recoveredAuthorCache.signatureToAddress(payload.getCommitSeal(), expectedCommitDigest);
 
     if (!commitSealCreator.equals(signedPayload.getAuthor())) {
       LOG.info(
@@ -18,6 +18,7 @@ import org.hyperledger.besu.consensus.common.bft.BftBlockHeaderFunctions;
 import org.hyperledger.besu.consensus.common.bft.BftBlockInterface;
 import org.hyperledger.besu.consensus.common.bft.BftExtraDataCodec;
 import org.hyperledger.besu.consensus.common.bft.ConsensusRoundIdentifier;
+import org.hyperledger.besu.consensus.common.bft.payload.RecoveredAuthorCache;
 import org.hyperledger.besu.consensus.qbft.messagewrappers.Commit;
 import org.hyperledger.besu.consensus.qbft.messagewrappers.Prepare;
 import org.hyperledger.besu.consensus.qbft.messagewrappers.Proposal;
@@ -44,7 +45,8 @@ public class MessageValidator {
         final ConsensusRoundIdentifier targetRound,
         final Block proposalBlock,
         final BftBlockInterface blockInterface,
-        final BftExtraDataCodec bftExtraDataCodec) {
+        final BftExtraDataCodec bftExtraDataCodec,
+        final RecoveredAuthorCache recoveredAuthorCache) {
       final Block commitBlock =
           blockInterface.replaceRoundInBlock(
               proposalBlock,
@@ -53,7 +55,11 @@ public class MessageValidator {
       prepareValidator = new PrepareValidator(validators, targetRound, proposalBlock.getHash());
       commitValidator =
           new CommitValidator(
-              validators, targetRound, proposalBlock.getHash(), commitBlock.getHash());
+              validators,
+              targetRound,
+              proposalBlock.getHash(),
+              commitBlock.getHash(),
+              recoveredAuthorCache);
     }
 
     public boolean validate(final Prepare msg) {
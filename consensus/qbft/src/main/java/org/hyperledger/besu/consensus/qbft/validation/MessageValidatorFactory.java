@@ -20,6 +20,7 @@ import org.hyperledger.besu.consensus.common.bft.BftExtraDataCodec;
 import org.hyperledger.besu.consensus.common.bft.BftHelpers;
 import org.hyperledger.besu.consensus.common.bft.ConsensusRoundIdentifier;
 import org.hyperledger.besu.consensus.common.bft.blockcreation.ProposerSelector;
+import org.hyperledger.besu.consensus.common.bft.payload.RecoveredAuthorCache;
 import org.hyperledger.besu.consensus.qbft.validation.MessageValidator.SubsequentMessageValidator;
 import org.hyperledger.besu.datatypes.Address;
 import org.hyperledger.besu.ethereum.BlockValidator;
@@ -35,16 +36,19 @@ public class MessageValidatorFactory {
   private final ProtocolSchedule protocolSchedule;
   private final ProtocolContext protocolContext;
   private final BftExtraDataCodec bftExtraDataCodec;
+  private final RecoveredAuthorCache recoveredAuthorCache;
 
   public MessageValidatorFactory(
       final ProposerSelector proposerSelector,
       final ProtocolSchedule protocolSchedule,
       final ProtocolContext protocolContext,
-      final BftExtraDataCodec bftExtraDataCodec) {
+      final BftExtraDataCodec bftExtraDataCodec,
+      final RecoveredAuthorCache recoveredAuthorCache) {
     this.proposerSelector = proposerSelector;
     this.protocolSchedule = protocolSchedule;
     this.protocolContext = protocolContext;
     this.bftExtraDataCodec = bftExtraDataCodec;
+    this.recoveredAuthorCache = recoveredAuthorCache;
   }
 
   private Collection<Address> getValidatorsAfterBlock(final BlockHeader parentHeader) {
@@ -71,7 +75,8 @@ public class MessageValidatorFactory {
         chainHeight,
         validatorsForHeight,
         blockValidator,
-        protocolContext);
+        protocolContext,
+        recoveredAuthorCache);
   }
 
   public MessageValidator createMessageValidator(
@@ -96,7 +101,12 @@ public class MessageValidatorFactory {
     return new MessageValidator(
         block ->
             new SubsequentMessageValidator(
-                validatorsForHeight, roundIdentifier, block, blockInterface, bftExtraDataCodec),
+                validatorsForHeight,
+                roundIdentifier,
+                block,
+                blockInterface,
+                bftExtraDataCodec,
+                recoveredAuthorCache),
         proposalValidator);
   }
 
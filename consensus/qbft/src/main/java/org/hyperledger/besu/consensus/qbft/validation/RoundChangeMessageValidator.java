@@ -18,6 +18,7 @@ import static org.hyperledger.besu.consensus.common.bft.validation.ValidationHel
 import static org.hyperledger.besu.consensus.common.bft.validation.ValidationHelpers.hasSufficientEntries;
 
 import org.hyperledger.besu.consensus.common.bft.ConsensusRoundIdentifier;
+import org.hyperledger.besu.consensus.common.bft.payload.RecoveredAuthorCache;
 import org.hyperledger.besu.consensus.common.bft.payload.SignedData;
 import org.hyperledger.besu.consensus.qbft.messagewrappers.RoundChange;
 import org.hyperledger.besu.consensus.qbft.payload.PreparePayload;
@@ -46,6 +47,7 @@ public class RoundChangeMessageValidator {
   private final Collection<Address> validators;
   private final BlockValidator blockValidator;
   private final ProtocolContext protocolContext;
+  private final RecoveredAuthorCache recoveredAuthorCache;
 
   public RoundChangeMessageValidator(
       final RoundChangePayloadValidator roundChangePayloadValidator,
@@ -53,13 +55,15 @@ public class RoundChangeMessageValidator {
       final long chainHeight,
       final Collection<Address> validators,
       final BlockValidator blockValidator,
-      final ProtocolContext protocolContext) {
+      final ProtocolContext protocolContext,
+      final RecoveredAuthorCache recoveredAuthorCache) {
     this.roundChangePayloadValidator = roundChangePayloadValidator;
     this.quorumMessageCount = quorumMessageCount;
     this.chainHeight = chainHeight;
     this.validators = validators;
     this.blockValidator = blockValidator;
     this.protocolContext = protocolContext;
+    this.recoveredAuthorCache = recoveredAuthorCache;
   }
 
   public boolean validate(final RoundChange msg) {
@@ -123,6 +127,8 @@ public class RoundChangeMessageValidator {
     final PrepareValidator validator =
         new PrepareValidator(validators, preparedRoundIdentifier, metaData.getPreparedBlockHash());
 
+    recoveredAuthorCache.recoverAuthors(prepares);
+
     if (hasDuplicateAuthors(prepares)) {
       LOG.info("{}: multiple prepares from the same author.", ERROR_PREFIX);
       return false;
@@ -16,6 +16,7 @@ package org.hyperledger.besu.consensus.qbt.support;
 
 import org.hyperledger.besu.consensus.common.bft.ConsensusRoundIdentifier;
 import org.hyperledger.besu.consensus.common.bft.messagewrappers.BftMessage;
+import org.hyperledger.besu.consensus.common.bft.payload.RecoveredAuthorCache;
 import org.hyperledger.besu.consensus.common.bft.payload.SignedData;
 import org.hyperledger.besu.consensus.qbft.messagewrappers.Commit;
 import org.hyperledger.besu.consensus.qbft.payload.CommitPayload;
@@ -45,7 +46,7 @@ public class CommitMessage implements RlpTestCaseMessage {
 
   @Override
   public BftMessage<CommitPayload> fromRlp(final Bytes rlp) {
-    return Commit.decode(rlp);
+    return Commit.decode(rlp, new RecoveredAuthorCache(Runnable::run));
   }
 
   @Override
@@ -16,6 +16,7 @@ package org.hyperledger.besu.consensus.qbt.support;
 
 import org.hyperledger.besu.consensus.common.bft.ConsensusRoundIdentifier;
 import org.hyperledger.besu.consensus.common.bft.messagewrappers.BftMessage;
+import org.hyperledger.besu.consensus.common.bft.payload.RecoveredAuthorCache;
 import org.hyperledger.besu.consensus.common.bft.payload.SignedData;
 import org.hyperledger.besu.consensus.qbft.messagewrappers.Prepare;
 import org.hyperledger.besu.consensus.qbft.payload.PreparePayload;
@@ -40,7 +41,7 @@ public class PrepareMessage implements RlpTestCaseMessage {
 
   @Override
   public BftMessage<PreparePayload> fromRlp(final Bytes rlp) {
-    return Prepare.decode(rlp);
+    return Prepare.decode(rlp, new RecoveredAuthorCache(Runnable::run));
   }
 
   @Override
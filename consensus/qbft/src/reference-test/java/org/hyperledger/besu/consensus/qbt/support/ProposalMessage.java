@@ -18,6 +18,7 @@ import org.hyperledger.besu.consensus.common.bft.BftBlockHeaderFunctions;
 import org.hyperledger.besu.consensus.common.bft.BftExtraDataCodec;
 import org.hyperledger.besu.consensus.common.bft.ConsensusRoundIdentifier;
 import org.hyperledger.besu.consensus.common.bft.messagewrappers.BftMessage;
+import org.hyperledger.besu.consensus.common.bft.payload.RecoveredAuthorCache;
 import org.hyperledger.besu.consensus.common.bft.payload.SignedData;
 import org.hyperledger.besu.consensus.qbft.QbftExtraDataCodec;
 import org.hyperledger.besu.consensus.qbft.messagewrappers.Proposal;
@@ -57,7 +58,7 @@ public class ProposalMessage implements RlpTestCaseMessage {
 
   @Override
   public BftMessage<ProposalPayload> fromRlp(final Bytes rlp) {
-    return Proposal.decode(rlp, bftExtraDataCodec);
+    return Proposal.decode(rlp, bftExtraDataCodec, new RecoveredAuthorCache(Runnable::run));
   }
 
   @Override
@@ -19,6 +19,7 @@ import static org.hyperledger.besu.consensus.common.bft.BftBlockHeaderFunctions.
 import org.hyperledger.besu.consensus.common.bft.BftExtraDataCodec;
 import org.hyperledger.besu.consensus.common.bft.ConsensusRoundIdentifier;
 import org.hyperledger.besu.consensus.common.bft.messagewrappers.BftMessage;
+import org.hyperledger.besu.consensus.common.bft.payload.RecoveredAuthorCache;
 import org.hyperledger.besu.consensus.common.bft.payload.SignedData;
 import org.hyperledger.besu.consensus.qbft.QbftExtraDataCodec;
 import org.hyperledger.besu.consensus.qbft.messagewrappers.RoundChange;
@@ -60,7 +61,7 @@ public class RoundChangeMessage implements RlpTestCaseMessage {
 
   @Override
   public BftMessage<RoundChangePayload> fromRlp(final Bytes rlp) {
-    return RoundChange.decode(rlp, bftExtraDataCodec);
+    return RoundChange.decode(rlp, bftExtraDataCodec, new RecoveredAuthorCache(Runnable::run));
   }
 
   @Override
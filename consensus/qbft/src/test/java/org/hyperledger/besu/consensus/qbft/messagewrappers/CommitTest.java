@@ -17,6 +17,7 @@ package org.hyperledger.besu.consensus.qbft.messagewrappers;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import org.hyperledger.besu.consensus.common.bft.ConsensusRoundIdentifier;
+import org.hyperledger.besu.consensus.common.bft.payload.RecoveredAuthorCache;
 import org.hyperledger.besu.consensus.common.bft.payload.SignedData;
 import org.hyperledger.besu.consensus.qbft.messagedata.QbftV1;
 import org.hyperledger.besu.consensus.qbft.payload.CommitPayload;
@@ -50,11 +51,11 @@ public class CommitTest {
 
     final Commit commitMsg = new Commit(signedCommitPayload);
 
-    final Commit decodedPrepare = Commit.decode(commitMsg.encode());
+    final Commit decodedPrepare =
+        Commit.decode(commitMsg.encode(), new RecoveredAuthorCache(Runnable::run));
 
     assertThat(decodedPrepare.getMessageType()).isEqualTo(QbftV1.COMMIT);
     assertThat(decodedPrepare.getAuthor()).isEqualTo(addr);
-    assertThat(decodedPrepare.getSignedPayload())
-        .isEqualToComparingFieldByField(signedCommitPayload);
+    assertThat(decodedPrepare.getSignedPayload()).isEqualTo(signedCommitPayload);
   }
 }
@@ -17,6 +17,7 @@ package org.hyperledger.besu.consensus.qbft.messagewrappers;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import org.hyperledger.besu.consensus.common.bft.ConsensusRoundIdentifier;
+import org.hyperledger.besu.consensus.common.bft.payload.RecoveredAuthorCache;
 import org.hyperledger.besu.consensus.common.bft.payload.SignedData;
 import org.hyperledger.besu.consensus.qbft.messagedata.QbftV1;
 import org.hyperledger.besu.consensus.qbft.payload.PreparePayload;
@@ -43,11 +44,11 @@ public class PrepareTest {
 
     final Prepare prepareMsg = new Prepare(signedPreparePayload);
 
-    final Prepare decodedPrepare = Prepare.decode(prepareMsg.encode());
+    final Prepare decodedPrepare =
+        Prepare.decode(prepareMsg.encode(), new RecoveredAuthorCache(Runnable::run));
 
     assertThat(decodedPrepare.getMessageType()).isEqualTo(QbftV1.PREPARE);
     assertThat(decodedPrepare.getAuthor()).isEqualTo(addr);
-    assertThat(decodedPrepare.getSignedPayload())
-        .isEqualToComparingFieldByField(signedPreparePayload);
+    assertThat(decodedPrepare.getSignedPayload()).isEqualTo(signedPreparePayload);
   }
 }
@@ -19,6 +19,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import org.hyperledger.besu.consensus.common.bft.BftExtraData;
 import org.hyperledger.besu.consensus.common.bft.BftExtraDataCodec;
 import org.hyperledger.besu.consensus.common.bft.ConsensusRoundIdentifier;
+import org.hyperledger.besu.consensus.common.bft.payload.RecoveredAuthorCache;
 import org.hyperledger.besu.consensus.common.bft.payload.SignedData;
 import org.hyperledger.besu.consensus.qbft.QbftExtraDataCodec;
 import org.hyperledger.besu.consensus.qbft.messagedata.QbftV1;
@@ -78,15 +79,16 @@ public class ProposalTest {
 
     final Proposal proposal = new Proposal(signedPayload, List.of(roundChange), List.of(prepare));
 
-    final Proposal decodedProposal = Proposal.decode(proposal.encode(), bftExtraDataCodec);
+    final Proposal decodedProposal =
+        Proposal.decode(
+            proposal.encode(), bftExtraDataCodec, new RecoveredAuthorCache(Runnable::run));
 
     assertThat(decodedProposal.getAuthor()).isEqualTo(addr);
     assertThat(decodedProposal.getMessageType()).isEqualTo(QbftV1.PROPOSAL);
     assertThat(decodedProposal.getPrepares()).hasSize(1);
-    assertThat(decodedProposal.getPrepares().get(0)).isEqualToComparingFieldByField(prepare);
+    assertThat(decodedProposal.getPrepares().get(0)).isEqualTo(prepare);
     assertThat(decodedProposal.getRoundChanges()).hasSize(1);
-    assertThat(decodedProposal.getRoundChanges().get(0))
-        .isEqualToComparingFieldByField(roundChange);
+    assertThat(decodedProposal.getRoundChanges().get(0)).isEqualTo(roundChange);
     assertThat(decodedProposal.getSignedPayload().getPayload().getProposedBlock()).isEqualTo(BLOCK);
     assertThat(decodedProposal.getSignedPayload().getPayload().getRoundIdentifier())
         .isEqualTo(payload.getRoundIdentifier());
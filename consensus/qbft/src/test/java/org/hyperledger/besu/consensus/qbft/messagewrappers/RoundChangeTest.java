@@ -19,6 +19,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import org.hyperledger.besu.consensus.common.bft.BftExtraData;
 import org.hyperledger.besu.consensus.common.bft.BftExtraDataCodec;
 import org.hyperledger.besu.consensus.common.bft.ConsensusRoundIdentifier;
+import org.hyperledger.besu.consensus.common.bft.payload.RecoveredAuthorCache;
 import org.hyperledger.besu.consensus.common.bft.payload.SignedData;
 import org.hyperledger.besu.consensus.qbft.QbftExtraDataCodec;
 import org.hyperledger.besu.consensus.qbft.messagedata.QbftV1;
@@ -76,17 +77,16 @@ public class RoundChangeTest {
             signedRoundChangePayload, Optional.of(BLOCK), List.of(signedPreparePayload));
 
     final RoundChange decodedRoundChange =
-        RoundChange.decode(roundChange.encode(), bftExtraDataCodec);
+        RoundChange.decode(
+            roundChange.encode(), bftExtraDataCodec, new RecoveredAuthorCache(Runnable::run));
 
     assertThat(decodedRoundChange.getMessageType()).isEqualTo(QbftV1.ROUND_CHANGE);
     assertThat(decodedRoundChange.getAuthor()).isEqualTo(addr);
-    assertThat(decodedRoundChange.getSignedPayload())
-        .isEqualToComparingFieldByField(signedRoundChangePayload);
+    assertThat(decodedRoundChange.getSignedPayload()).isEqualTo(signedRoundChangePayload);
     assertThat(decodedRoundChange.getProposedBlock()).isNotEmpty();
     assertThat(decodedRoundChange.getProposedBlock().get()).isEqualToComparingFieldByField(BLOCK);
     assertThat(decodedRoundChange.getPrepares()).hasSize(1);
-    assertThat(decodedRoundChange.getPrepares().get(0))
-        .isEqualToComparingFieldByField(signedPreparePayload);
+    assertThat(decodedRoundChange.getPrepares().get(0)).isEqualTo(signedPreparePayload);
   }
 
   @Test
@@ -104,12 +104,12 @@ public class RoundChangeTest {
         new RoundChange(signedRoundChangePayload, Optional.empty(), Collections.emptyList());
 
     final RoundChange decodedRoundChange =
-        RoundChange.decode(roundChange.encode(), bftExtraDataCodec);
+        RoundChange.decode(
+            roundChange.encode(), bftExtraDataCodec, new RecoveredAuthorCache(Runnable::run));
 
     assertThat(decodedRoundChange.getMessageType()).isEqualTo(QbftV1.ROUND_CHANGE);
     assertThat(decodedRoundChange.getAuthor()).isEqualTo(addr);
-    assertThat(decodedRoundChange.getSignedPayload())
-        .isEqualToComparingFieldByField(signedRoundChangePayload);
+    assertThat(decodedRoundChange.getSignedPayload()).isEqualTo(signedRoundChangePayload);
     assertThat(decodedRoundChange.getProposedBlock()).isEmpty();
     assertThat(decodedRoundChange.getPrepares()).isEmpty();
   }
@@ -34,6 +34,7 @@ import org.hyperledger.besu.consensus.common.bft.events.BftReceivedMessageEvent;
 import org.hyperledger.besu.consensus.common.bft.events.BlockTimerExpiry;
 import org.hyperledger.besu.consensus.common.bft.events.NewChainHead;
 import org.hyperledger.besu.consensus.common.bft.events.RoundExpiry;
+import org.hyperledger.besu.consensus.common.bft.payload.RecoveredAuthorCache;
 import org.hyperledger.besu.consensus.common.bft.statemachine.BftFinalState;
 import org.hyperledger.besu.consensus.common.bft.statemachine.FutureMessageBuffer;
 import org.hyperledger.besu.consensus.qbft.QbftExtraDataCodec;
@@ -66,6 +67,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 @RunWith(MockitoJUnitRunner.class)
 public class QbftControllerTest {
   private static final BftExtraDataCodec bftExtraDataCodec = new QbftExtraDataCodec();
+  private final RecoveredAuthorCache recoveredAuthorCache = new RecoveredAuthorCache(Runnable::run);
 
   @Mock private Blockchain blockChain;
   @Mock private BftFinalState bftFinalState;
@@ -129,7 +131,8 @@ public class QbftControllerTest {
             messageTracker,
             futureMessageBuffer,
             mock(EthSynchronizerUpdater.class),
-            bftExtraDataCodec);
+            bftExtraDataCodec,
+            recoveredAuthorCache);
   }
 
   @Test
@@ -454,7 +457,7 @@ public class QbftControllerTest {
     when(proposal.getAuthor()).thenReturn(validator);
     when(proposal.getRoundIdentifier()).thenReturn(roundIdentifier);
     when(proposalMessageData.getCode()).thenReturn(QbftV1.PROPOSAL);
-    when(proposalMessageData.decode(bftExtraDataCodec)).thenReturn(proposal);
+    when(proposalMessageData.decode(bftExtraDataCodec, recoveredAuthorCache)).thenReturn(proposal);
     proposalMessage = new DefaultMessage(null, proposalMessageData);
   }
 
@@ -463,7 +466,7 @@ public class QbftControllerTest {
     when(prepare.getAuthor()).thenReturn(validator);
     when(prepare.getRoundIdentifier()).thenReturn(roundIdentifier);
     when(prepareMessageData.getCode()).thenReturn(QbftV1.PREPARE);
-    when(prepareMessageData.decode()).thenReturn(prepare);
+    when(prepareMessageData.decode(recoveredAuthorCache)).thenReturn(prepare);
     prepareMessage = new DefaultMessage(null, prepareMessageData);
   }
 
@@ -472,7 +475,7 @@ public class QbftControllerTest {
     when(commit.getAuthor()).thenReturn(validator);
     when(commit.getRoundIdentifier()).thenReturn(roundIdentifier);
     when(commitMessageData.getCode()).thenReturn(QbftV1.COMMIT);
-    when(commitMessageData.decode()).thenReturn(commit);
+    when(commitMessageData.decode(recoveredAuthorCache)).thenReturn(commit);
     commitMessage = new DefaultMessage(null, commitMessageData);
   }
 
@@ -481,7 +484,8 @@ public class QbftControllerTest {
     when(roundChange.getAuthor()).thenReturn(validator);
     when(roundChange.getRoundIdentifier()).thenReturn(roundIdentifier);
     when(roundChangeMessageData.getCode()).thenReturn(QbftV1.ROUND_CHANGE);
-    when(roundChangeMessageData.decode(bftExtraDataCodec)).thenReturn(roundChange);
+    when(roundChangeMessageData.decode(bftExtraDataCodec, recoveredAuthorCache))
+        .thenReturn(roundChange);
     roundChangeMessage = new DefaultMessage(null, roundChangeMessageData);
   }
 }
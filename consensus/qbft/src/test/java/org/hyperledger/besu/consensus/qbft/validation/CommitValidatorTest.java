@@ -18,6 +18,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import org.hyperledger.besu.consensus.common.bft.ConsensusRoundHelpers;
 import org.hyperledger.besu.consensus.common.bft.ConsensusRoundIdentifier;
+import org.hyperledger.besu.consensus.common.bft.payload.RecoveredAuthorCache;
 import org.hyperledger.besu.consensus.qbft.messagewrappers.Commit;
 import org.hyperledger.besu.crypto.SECPSignature;
 import org.hyperledger.besu.datatypes.Hash;
@@ -33,7 +34,12 @@ public class CommitValidatorTest {
   final Hash expectedHash = Hash.fromHexStringLenient("0x1");
   final Hash expectedCommitHash = Hash.fromHexStringLenient("0x1");
   final CommitValidator validator =
-      new CommitValidator(validators.getNodeAddresses(), round, expectedHash, expectedCommitHash);
+      new CommitValidator(
+          validators.getNodeAddresses(),
+          round,
+          expectedHash,
+          expectedCommitHash,
+          new RecoveredAuthorCache(Runnable::run));
 
   @Test
   public void commitIsValidIfItMatchesExpectedValues() {
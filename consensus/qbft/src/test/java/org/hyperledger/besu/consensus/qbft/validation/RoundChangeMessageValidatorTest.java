@@ -28,6 +28,7 @@ import org.hyperledger.besu.consensus.common.bft.BftHelpers;
 import org.hyperledger.besu.consensus.common.bft.ConsensusRoundHelpers;
 import org.hyperledger.besu.consensus.common.bft.ConsensusRoundIdentifier;
 import org.hyperledger.besu.consensus.common.bft.ProposedBlockHelpers;
+import org.hyperledger.besu.consensus.common.bft.payload.RecoveredAuthorCache;
 import org.hyperledger.besu.consensus.common.bft.payload.SignedData;
 import org.hyperledger.besu.consensus.qbft.QbftContext;
 import org.hyperledger.besu.consensus.qbft.QbftExtraDataCodec;
@@ -74,6 +75,7 @@ public class RoundChangeMessageValidatorTest {
   private final ConsensusRoundIdentifier roundIdentifier =
       ConsensusRoundHelpers.createFrom(targetRound, 0, -1);
   private final QbftExtraDataCodec bftExtraDataEncoder = new QbftExtraDataCodec();
+  private final RecoveredAuthorCache recoveredAuthorCache = new RecoveredAuthorCache(Runnable::run);
 
   @Before
   public void setup() {
@@ -95,7 +97,8 @@ public class RoundChangeMessageValidatorTest {
             CHAIN_HEIGHT,
             validators.getNodeAddresses(),
             blockValidator,
-            protocolContext);
+            protocolContext,
+            recoveredAuthorCache);
 
     for (int i = 0; i < VALIDATOR_COUNT; i++) {
       final RoundChange message =
@@ -117,7 +120,8 @@ public class RoundChangeMessageValidatorTest {
             CHAIN_HEIGHT,
             validators.getNodeAddresses(),
             blockValidator,
-            protocolContext);
+            protocolContext,
+            recoveredAuthorCache);
 
     final Block block =
         ProposedBlockHelpers.createProposalBlock(
@@ -144,7 +148,8 @@ public class RoundChangeMessageValidatorTest {
             CHAIN_HEIGHT,
             validators.getNodeAddresses(),
             blockValidator,
-            protocolContext);
+            protocolContext,
+            recoveredAuthorCache);
 
     final Block block =
         ProposedBlockHelpers.createProposalBlock(
@@ -173,7 +178,8 @@ public class RoundChangeMessageValidatorTest {
             CHAIN_HEIGHT,
             validators.getNodeAddresses(),
             blockValidator,
-            protocolContext);
+            protocolContext,
+            recoveredAuthorCache);
 
     final Block block =
         ProposedBlockHelpers.createProposalBlock(Collections.emptyList(), roundIdentifier);
@@ -196,7 +202,8 @@ public class RoundChangeMessageValidatorTest {
             CHAIN_HEIGHT,
             validators.getNodeAddresses(),
             blockValidator,
-            protocolContext);
+            protocolContext,
+            recoveredAuthorCache);
 
     final RoundChange message =
         validators.getMessageFactory(0).createRoundChange(targetRound, Optional.empty());
@@ -216,7 +223,8 @@ public class RoundChangeMessageValidatorTest {
             CHAIN_HEIGHT,
             validators.getNodeAddresses(),
             blockValidator,
-            protocolContext);
+            protocolContext,
+            recoveredAuthorCache);
 
     final Block block =
         ProposedBlockHelpers.createProposalBlock(
@@ -243,7 +251,8 @@ public class RoundChangeMessageValidatorTest {
             CHAIN_HEIGHT,
             validators.getNodeAddresses(),
             blockValidator,
-            protocolContext);
+            protocolContext,
+            recoveredAuthorCache);
 
     final QbftNode nonValidator = QbftNode.create();
 
@@ -272,7 +281,8 @@ public class RoundChangeMessageValidatorTest {
             CHAIN_HEIGHT,
             validators.getNodeAddresses(),
             blockValidator,
-            protocolContext);
+            protocolContext,
+            recoveredAuthorCache);
 
     final Block block =
         ProposedBlockHelpers.createProposalBlock(
@@ -307,7 +317,8 @@ public class RoundChangeMessageValidatorTest {
             CHAIN_HEIGHT,
             validators.getNodeAddresses(),
             blockValidator,
-            protocolContext);
+            protocolContext,
+            recoveredAuthorCache);
 
     final Block block =
         ProposedBlockHelpers.createProposalBlock(
@@ -344,7 +355,8 @@ public class RoundChangeMessageValidatorTest {
             CHAIN_HEIGHT,
             validators.getNodeAddresses(),
             blockValidator,
-            protocolContext);
+            protocolContext,
+            recoveredAuthorCache);
 
     final Block block =
         ProposedBlockHelpers.createProposalBlock(
@@ -381,7 +393,8 @@ public class RoundChangeMessageValidatorTest {
             CHAIN_HEIGHT,
             validators.getNodeAddresses(),
             blockValidator,
-            protocolContext);
+            protocolContext,
+            recoveredAuthorCache);
 
     final Block block =
         ProposedBlockHelpers.createProposalBlock(
@@ -413,7 +426,8 @@ public class RoundChangeMessageValidatorTest {
             CHAIN_HEIGHT,
             validators.getNodeAddresses(),
             blockValidator,
-            protocolContext);
+            protocolContext,
+            recoveredAuthorCache);
 
     final Block block =
         ProposedBlockHelpers.createProposalBlock(Collections.emptyList(), roundIdentifier);
@@ -441,7 +455,8 @@ public class RoundChangeMessageValidatorTest {
             CHAIN_HEIGHT,
             validators.getNodeAddresses(),
             blockValidator,
-            protocolContext);
+            protocolContext,
+            recoveredAuthorCache);
 
     final Block block =
         ProposedBlockHelpers.createProposalBlock(Collections.emptyList(), roundIdentifier);
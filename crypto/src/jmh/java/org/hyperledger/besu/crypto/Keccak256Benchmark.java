@@ -0,0 +1,66 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+package org.hyperledger.besu.crypto;
+
+import java.security.MessageDigest;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.bouncycastle.jcajce.provider.digest.Keccak;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class Keccak256Benchmark {
+
+  /** 32 for slot and address keys, 100 to 600 for typical trie nodes. */
+  @Param({"32", "136", "532"})
+  public int inputSize;
+
+  private final MessageDigest bouncyCastlePrototype = new Keccak.Digest256();
+  private Bytes input;
+
+  @Setup
+  public void setUp() {
+    final Random random = new Random(1);
+    final byte[] data = new byte[inputSize];
+    random.nextBytes(data);
+    input = Bytes.wrap(data);
+  }
+
+  @Benchmark
+  public Bytes32 bouncyCastle() throws CloneNotSupportedException {
+    // What Hash.keccak256 used to do: clone a prototype digest for every call
+    final MessageDigest digest = (MessageDigest) bouncyCastlePrototype.clone();
+    input.update(digest);
+    return Bytes32.wrap(digest.digest());
+  }
+
+  @Benchmark
+  public Bytes32 keccak256() {
+    return Hash.keccak256(input);
+  }
+}
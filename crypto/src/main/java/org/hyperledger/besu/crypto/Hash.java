@@ -31,8 +31,7 @@ public abstract class Hash {
   private static final String RIPEMD160_ALG = "RIPEMD160";
   private static final String BLAKE2BF_ALG = "BLAKE2BF";
 
-  private static final Supplier<MessageDigest> KECCAK256_SUPPLIER =
-      Suppliers.memoize(() -> messageDigest(KECCAK256_ALG));
+  private static final ThreadLocal<Keccak256> KECCAK256 = ThreadLocal.withInitial(Keccak256::new);
   private static final Supplier<MessageDigest> SHA256_SUPPLIER =
       Suppliers.memoize(() -> messageDigest(SHA256_ALG));
   private static final Supplier<MessageDigest> RIPEMD160_SUPPLIER =
@@ -83,7 +82,7 @@ public abstract class Hash {
    * @return A digest.
    */
   public static Bytes32 keccak256(final Bytes input) {
-    return Bytes32.wrap(digestUsingAlgorithm(input, KECCAK256_SUPPLIER));
+    return Bytes32.wrap(KECCAK256.get().digest(input));
   }
 
   /**
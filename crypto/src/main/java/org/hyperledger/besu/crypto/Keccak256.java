@@ -0,0 +1,293 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.crypto;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.security.MessageDigest;
+import java.util.Arrays;
+
+import org.apache.tuweni.bytes.Bytes;
+
+/**
+ * A Keccak-256 implementation with a reusable state.
+ *
+ * <p>Unlike a {@link MessageDigest}, an instance is reset at the start of every digest instead of
+ * being cloned. Input is absorbed straight from the array backing the {@link Bytes}, including
+ * slices, through {@link Bytes#update(MessageDigest)}. Instances are not thread safe, {@link Hash}
+ * keeps one per thread.
+ */
+final class Keccak256 {
+
+  static final int DIGEST_LENGTH = 32;
+
+  private static final int ROUNDS = 24;
+  private static final int RATE = 136;
+  private static final int RATE_LANES = RATE / Long.BYTES;
+
+  private static final VarHandle LONG_LE =
+      MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+  private static final long[] ROUND_CONSTANTS = {
+    0x0000000000000001L, 0x0000000000008082L, 0x800000000000808aL, 0x8000000080008000L,
+    0x000000000000808bL, 0x0000000080000001L, 0x8000000080008081L, 0x8000000000008009L,
+    0x000000000000008aL, 0x0000000000000088L, 0x0000000080008009L, 0x000000008000000aL,
+    0x000000008000808bL, 0x800000000000008bL, 0x8000000000008089L, 0x8000000000008003L,
+    0x8000000000008002L, 0x8000000000000080L, 0x000000000000800aL, 0x800000008000000aL,
+    0x8000000080008081L, 0x8000000000008080L, 0x0000000080000001L, 0x8000000080008008L
+  };
+
+  private final long[] state = new long[25];
+  // Input that doesn't fill a whole block yet
+  private final byte[] buffer = new byte[RATE];
+  private int bufferLength;
+  private final MessageDigest input = new Input();
+
+  /**
+   * Computes the Keccak-256 digest of some bytes.
+   *
+   * @param bytes the data to hash
+   * @return the 32 byte digest
+   */
+  byte[] digest(final Bytes bytes) {
+    reset();
+    bytes.update(input);
+    return finish();
+  }
+
+  private void reset() {
+    Arrays.fill(state, 0L);
+    bufferLength = 0;
+  }
+
+  private void absorbInput(final byte[] data, final int offset, final int length) {
+    int position = offset;
+    int remaining = length;
+    if (bufferLength > 0) {
+      final int copied = Math.min(remaining, RATE - bufferLength);
+      System.arraycopy(data, position, buffer, bufferLength, copied);
+      bufferLength += copied;
+      position += copied;
+      remaining -= copied;
+      if (bufferLength < RATE) {
+        return;
+      }
+      absorb(buffer, 0);
+      bufferLength = 0;
+    }
+    while (remaining >= RATE) {
+      absorb(data, position);
+      position += RATE;
+      remaining -= RATE;
+    }
+    System.arraycopy(data, position, buffer, 0, remaining);
+    bufferLength = remaining;
+  }
+
+  private byte[] finish() {
+    // Keccak padding: a single 0x01 after the data and 0x80 in the last byte of the block
+    Arrays.fill(buffer, bufferLength, RATE, (byte) 0);
+    buffer[bufferLength] ^= 0x01;
+    buffer[RATE - 1] ^= (byte) 0x80;
+    absorb(buffer, 0);
+
+    final byte[] output = new byte[DIGEST_LENGTH];
+    for (int i = 0; i < DIGEST_LENGTH / Long.BYTES; i++) {
+      LONG_LE.set(output, i * Long.BYTES, state[i]);
+    }
+    return output;
+  }
+
+  private void absorb(final byte[] block, final int offset) {
+    for (int i = 0; i < RATE_LANES; i++) {
+      state[i] ^= (long) LONG_LE.get(block, offset + i * Long.BYTES);
+    }
+    permute();
+  }
+
+  private void permute() {
+    long a0 = state[0];
+    long a1 = state[1];
+    long a2 = state[2];
+    long a3 = state[3];
+    long a4 = state[4];
+    long a5 = state[5];
+    long a6 = state[6];
+    long a7 = state[7];
+    long a8 = state[8];
+    long a9 = state[9];
+    long a10 = state[10];
+    long a11 = state[11];
+    long a12 = state[12];
+    long a13 = state[13];
+    long a14 = state[14];
+    long a15 = state[15];
+    long a16 = state[16];
+    long a17 = state[17];
+    long a18 = state[18];
+    long a19 = state[19];
+    long a20 = state[20];
+    long a21 = state[21];
+    long a22 = state[22];
+    long a23 = state[23];
+    long a24 = state[24];
+    for (int round = 0; round < ROUNDS; round++) {
+      // theta
+      final long c0 = a0 ^ a5 ^ a10 ^ a15 ^ a20;
+      final long c1 = a1 ^ a6 ^ a11 ^ a16 ^ a21;
+      final long c2 = a2 ^ a7 ^ a12 ^ a17 ^ a22;
+      final long c3 = a3 ^ a8 ^ a13 ^ a18 ^ a23;
+      final long c4 = a4 ^ a9 ^ a14 ^ a19 ^ a24;
+      final long d0 = c4 ^ Long.rotateLeft(c1, 1);
+      final long d1 = c0 ^ Long.rotateLeft(c2, 1);
+      final long d2 = c1 ^ Long.rotateLeft(c3, 1);
+      final long d3 = c2 ^ Long.rotateLeft(c4, 1);
+      final long d4 = c3 ^ Long.rotateLeft(c0, 1);
+      a0 ^= d0;
+      a1 ^= d1;
+      a2 ^= d2;
+      a3 ^= d3;
+      a4 ^= d4;
+      a5 ^= d0;
+      a6 ^= d1;
+      a7 ^= d2;
+      a8 ^= d3;
+      a9 ^= d4;
+      a10 ^= d0;
+      a11 ^= d1;
+      a12 ^= d2;
+      a13 ^= d3;
+      a14 ^= d4;
+      a15 ^= d0;
+      a16 ^= d1;
+      a17 ^= d2;
+      a18 ^= d3;
+      a19 ^= d4;
+      a20 ^= d0;
+      a21 ^= d1;
+      a22 ^= d2;
+      a23 ^= d3;
+      a24 ^= d4;
+      // rho and pi
+      final long b0 = a0;
+      final long b1 = Long.rotateLeft(a6, 44);
+      final long b2 = Long.rotateLeft(a12, 43);
+      final long b3 = Long.rotateLeft(a18, 21);
+      final long b4 = Long.rotateLeft(a24, 14);
+      final long b5 = Long.rotateLeft(a3, 28);
+      final long b6 = Long.rotateLeft(a9, 20);
+      final long b7 = Long.rotateLeft(a10, 3);
+      final long b8 = Long.rotateLeft(a16, 45);
+      final long b9 = Long.rotateLeft(a22, 61);
+      final long b10 = Long.rotateLeft(a1, 1);
+      final long b11 = Long.rotateLeft(a7, 6);
+      final long b12 = Long.rotateLeft(a13, 25);
+      final long b13 = Long.rotateLeft(a19, 8);
+      final long b14 = Long.rotateLeft(a20, 18);
+      final long b15 = Long.rotateLeft(a4, 27);
+      final long b16 = Long.rotateLeft(a5, 36);
+      final long b17 = Long.rotateLeft(a11, 10);
+      final long b18 = Long.rotateLeft(a17, 15);
+      final long b19 = Long.rotateLeft(a23, 56);
+      final long b20 = Long.rotateLeft(a2, 62);
+      final long b21 = Long.rotateLeft(a8, 55);
+      final long b22 = Long.rotateLeft(a14, 39);
+      final long b23 = Long.rotateLeft(a15, 41);
+      final long b24 = Long.rotateLeft(a21, 2);
+      // chi
+      a0 = b0 ^ (~b1 & b2);
+      a1 = b1 ^ (~b2 & b3);
+      a2 = b2 ^ (~b3 & b4);
+      a3 = b3 ^ (~b4 & b0);
+      a4 = b4 ^ (~b0 & b1);
+      a5 = b5 ^ (~b6 & b7);
+      a6 = b6 ^ (~b7 & b8);
+      a7 = b7 ^ (~b8 & b9);
+      a8 = b8 ^ (~b9 & b5);
+      a9 = b9 ^ (~b5 & b6);
+      a10 = b10 ^ (~b11 & b12);
+      a11 = b11 ^ (~b12 & b13);
+      a12 = b12 ^ (~b13 & b14);
+      a13 = b13 ^ (~b14 & b10);
+      a14 = b14 ^ (~b10 & b11);
+      a15 = b15 ^ (~b16 & b17);
+      a16 = b16 ^ (~b17 & b18);
+      a17 = b17 ^ (~b18 & b19);
+      a18 = b18 ^ (~b19 & b15);
+      a19 = b19 ^ (~b15 & b16);
+      a20 = b20 ^ (~b21 & b22);
+      a21 = b21 ^ (~b22 & b23);
+      a22 = b22 ^ (~b23 & b24);
+      a23 = b23 ^ (~b24 & b20);
+      a24 = b24 ^ (~b20 & b21);
+      // iota
+      a0 ^= ROUND_CONSTANTS[round];
+    }
+    state[0] = a0;
+    state[1] = a1;
+    state[2] = a2;
+    state[3] = a3;
+    state[4] = a4;
+    state[5] = a5;
+    state[6] = a6;
+    state[7] = a7;
+    state[8] = a8;
+    state[9] = a9;
+    state[10] = a10;
+    state[11] = a11;
+    state[12] = a12;
+    state[13] = a13;
+    state[14] = a14;
+    state[15] = a15;
+    state[16] = a16;
+    state[17] = a17;
+    state[18] = a18;
+    state[19] = a19;
+    state[20] = a20;
+    state[21] = a21;
+    state[22] = a22;
+    state[23] = a23;
+    state[24] = a24;
+  }
+
+  /**
+   * Receives the input from {@link Bytes#update(MessageDigest)}, which is the only way to read a
+   * slice of a {@link Bytes} without copying it.
+   */
+  private class Input extends MessageDigest {
+    private Input() {
+      super(Hash.KECCAK256_ALG);
+    }
+
+    @Override
+    protected void engineUpdate(final byte input) {
+      absorbInput(new byte[] {input}, 0, 1);
+    }
+
+    @Override
+    protected void engineUpdate(final byte[] input, final int offset, final int length) {
+      absorbInput(input, offset, length);
+    }
+
+    @Override
+    protected byte[] engineDigest() {
+      throw new UnsupportedOperationException("Use Keccak256.digest");
+    }
+
+    @Override
+    protected void engineReset() {}
+  }
+}
@@ -17,7 +17,11 @@ package org.hyperledger.besu.crypto;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.security.MessageDigest;
+import java.util.Random;
+
 import org.apache.tuweni.bytes.Bytes;
+import org.bouncycastle.jcajce.provider.digest.Keccak;
 import org.bouncycastle.util.encoders.Hex;
 import org.junit.Test;
 
@@ -52,6 +56,36 @@ public class HashTest {
     assertThat(resultCow).isEqualTo(Bytes.fromHexString(cowKeccak256));
   }
 
+  /** Validate keccak256 hash against BouncyCastle for inputs spanning several blocks. */
+  @Test
+  public void keccak256MatchesBouncyCastle() {
+    final Random random = new Random(1);
+    for (int length = 0; length < 600; length++) {
+      final byte[] input = new byte[length + 2];
+      random.nextBytes(input);
+      final Bytes slice = Bytes.wrap(input, 1, length);
+
+      final MessageDigest digest = new Keccak.Digest256();
+      digest.update(input, 1, length);
+      assertThat(Hash.keccak256(slice)).isEqualTo(Bytes.wrap(digest.digest()));
+    }
+  }
+
+  /** Validate keccak256 hash of inputs made of several parts that don't align with blocks. */
+  @Test
+  public void keccak256MatchesBouncyCastleForConcatenatedInput() {
+    final Random random = new Random(2);
+    for (int length = 0; length < 600; length += 7) {
+      final Bytes first = Bytes.random(length, random);
+      final Bytes second = Bytes.random(length / 3 + 1, random);
+      final Bytes input = Bytes.concatenate(first, Bytes.of(1), second);
+
+      final MessageDigest digest = new Keccak.Digest256();
+      digest.update(input.toArrayUnsafe());
+      assertThat(Hash.keccak256(input)).isEqualTo(Bytes.wrap(digest.digest()));
+    }
+  }
+
   /** Validate sha256 hash. */
   @Test
   public void sha256Hash() {
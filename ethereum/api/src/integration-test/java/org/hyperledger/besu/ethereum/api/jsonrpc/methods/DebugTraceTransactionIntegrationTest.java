@@ -25,11 +25,12 @@ import org.hyperledger.besu.ethereum.api.jsonrpc.internal.methods.JsonRpcMethod;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcResponse;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcResponseType;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcSuccessResponse;
-import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.DebugTraceTransactionResult;
 import org.hyperledger.besu.testutil.BlockTestUtil;
 
 import java.util.Map;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.Charsets;
 import com.google.common.io.Resources;
 import org.junit.Before;
@@ -58,7 +59,7 @@ public class DebugTraceTransactionIntegrationTest {
   }
 
   @Test
-  public void debugTraceTransactionSuccessTest() {
+  public void debugTraceTransactionSuccessTest() throws Exception {
     final Map<String, Boolean> map = Map.of("disableStorage", true);
     final Object[] params =
         new Object[] {
@@ -70,12 +71,14 @@ public class DebugTraceTransactionIntegrationTest {
 
     final JsonRpcResponse response = method.response(request);
     assertThat(response.getType()).isEqualTo(JsonRpcResponseType.SUCCESS);
-    DebugTraceTransactionResult debugTraceTransactionResult =
-        (DebugTraceTransactionResult) ((JsonRpcSuccessResponse) response).getResult();
-    assertThat(debugTraceTransactionResult.getGas()).isEqualTo(23705L);
-    assertThat(debugTraceTransactionResult.getReturnValue()).isEmpty();
-    assertThat(debugTraceTransactionResult.failed()).isFalse();
-    assertThat(debugTraceTransactionResult.getStructLogs()).hasSize(106);
+    final ObjectMapper mapper = new ObjectMapper();
+    final JsonNode debugTraceTransactionResult =
+        mapper.readTree(
+            mapper.writeValueAsString(((JsonRpcSuccessResponse) response).getResult()));
+    assertThat(debugTraceTransactionResult.get("gas").asLong()).isEqualTo(23705L);
+    assertThat(debugTraceTransactionResult.get("returnValue").asText()).isEmpty();
+    assertThat(debugTraceTransactionResult.get("failed").asBoolean()).isFalse();
+    assertThat(debugTraceTransactionResult.get("structLogs")).hasSize(106);
   }
 
   @Test
@@ -46,4 +46,24 @@ public abstract class ApiConfiguration {
   public double getGasPriceFraction() {
     return getGasPricePercentile() / 100.0;
   }
+
+  @Value.Default
+  public boolean isLogIndexEnabled() {
+    return false;
+  }
+
+  @Value.Default
+  public int getLogsQueryParallelism() {
+    return 1;
+  }
+
+  @Value.Default
+  public int getTraceFilterParallelism() {
+    return 1;
+  }
+
+  @Value.Default
+  public long getCallResultCacheSize() {
+    return 0L;
+  }
 }
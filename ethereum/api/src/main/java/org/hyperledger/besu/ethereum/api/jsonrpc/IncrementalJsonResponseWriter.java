@@ -0,0 +1,252 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.jsonrpc;
+
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcSuccessResponse;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.LogsResult;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.StreamedResult;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.google.common.collect.Iterators;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.net.SocketAddress;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes a JSON-RPC response to an HTTP response one piece at a time: a batch one response at a
+ * time, and a result that is a list one element at a time. Once more than the write queue limit is
+ * waiting to be sent, writing stops and the thread is released; it resumes on a worker thread when
+ * the client has drained the queue, or the connection is dropped if the client does not read the
+ * response within the drain timeout.
+ *
+ * <p>Only the encoding is incremental: by the time it is written, a result has been built in full
+ * by its method, so this bounds the encoded bytes held for a slow client but not the memory of the
+ * result. Results are split into pieces when they are a {@link Collection}, an {@link ArrayNode}
+ * (such as the traces of trace_filter) or a {@link LogsResult}; anything else is encoded as one
+ * piece.
+ *
+ * <p>A {@link StreamedResult} is the exception, produced while it is encoded, as the struct logs of
+ * the debug_trace methods are. It is written by its producer in one go and cannot stop between
+ * pieces, so while it is written the thread blocks whenever the write queue is full instead.
+ */
+class IncrementalJsonResponseWriter {
+
+  private static final Logger LOG = LoggerFactory.getLogger(IncrementalJsonResponseWriter.class);
+
+  @FunctionalInterface
+  private interface JsonWrite {
+    void writeTo(JsonGenerator generator) throws IOException;
+  }
+
+  private final Vertx vertx;
+  private final HttpServerResponse response;
+  private final SocketAddress remoteAddress;
+  private final ObjectWriter objectWriter;
+  private final int maxBufferedBytes;
+  private final long drainTimeoutMillis;
+  private final AtomicBoolean paused = new AtomicBoolean(false);
+  private volatile long drainTimerId;
+  private JsonResponseStreamer streamer;
+  private JsonGenerator generator;
+  private Iterator<JsonWrite> writes;
+
+  /**
+   * Creates a writer for a single response.
+   *
+   * @param vertx the vertx instance running the response handlers
+   * @param response the response to write to
+   * @param remoteAddress the remote address, for logging
+   * @param objectWriter the writer whose settings are used to encode the response
+   * @param maxBufferedBytes the write queue size above which writing pauses, 0 for no limit
+   * @param drainTimeout how long to wait for the client to drain the write queue
+   */
+  IncrementalJsonResponseWriter(
+      final Vertx vertx,
+      final HttpServerResponse response,
+      final SocketAddress remoteAddress,
+      final ObjectWriter objectWriter,
+      final int maxBufferedBytes,
+      final Duration drainTimeout) {
+    this.vertx = vertx;
+    this.response = response;
+    this.remoteAddress = remoteAddress;
+    this.objectWriter = objectWriter;
+    this.maxBufferedBytes = maxBufferedBytes;
+    this.drainTimeoutMillis = Math.max(1, drainTimeout.toMillis());
+  }
+
+  /**
+   * Starts writing the value. The first pieces are encoded on the calling thread, which should be a
+   * worker thread.
+   *
+   * @param value the response or batch of responses to write
+   */
+  void write(final Object value) {
+    if (maxBufferedBytes > 0) {
+      response.setWriteQueueMaxSize(maxBufferedBytes);
+    }
+    try {
+      // underlying output stream lifecycle is managed by the generator
+      streamer = new JsonResponseStreamer(response, remoteAddress);
+      generator = objectWriter.createGenerator(streamer);
+    } catch (final IOException e) {
+      LOG.error("Error streaming JSON-RPC response", e);
+      response.close();
+      return;
+    }
+    writes = writesOf(value);
+    writeUntilPaused();
+  }
+
+  private void writeUntilPaused() {
+    try {
+      while (writes.hasNext()) {
+        if (response.closed()) {
+          return;
+        }
+        writes.next().writeTo(generator);
+        // hand what has been encoded so far to the response
+        generator.flush();
+        if (maxBufferedBytes > 0 && response.writeQueueFull() && pause()) {
+          return;
+        }
+      }
+      generator.close();
+    } catch (final IOException | RuntimeException e) {
+      LOG.error("Error streaming JSON-RPC response", e);
+      // the status is already sent, dropping the connection tells the client the body is incomplete
+      response.close();
+    }
+  }
+
+  /**
+   * Waits for the client to drain the write queue without holding the thread.
+   *
+   * @return true if writing is paused, false if the queue drained in the meantime
+   */
+  private boolean pause() {
+    paused.set(true);
+    drainTimerId =
+        vertx.setTimer(
+            drainTimeoutMillis,
+            __ -> {
+              if (paused.compareAndSet(true, false)) {
+                LOG.debug("Timed out waiting for {} to read the response", remoteAddress);
+                response.close();
+              }
+            });
+    response.drainHandler(__ -> resume());
+    // the queue may have drained before the handler was registered
+    if (!response.writeQueueFull() && paused.compareAndSet(true, false)) {
+      vertx.cancelTimer(drainTimerId);
+      response.drainHandler(null);
+      return false;
+    }
+    return true;
+  }
+
+  private void resume() {
+    if (paused.compareAndSet(true, false)) {
+      vertx.cancelTimer(drainTimerId);
+      response.drainHandler(null);
+      vertx.executeBlocking(
+          future -> {
+            writeUntilPaused();
+            future.complete();
+          },
+          false);
+    }
+  }
+
+  private Iterator<JsonWrite> writesOf(final Object value) {
+    if (value instanceof Object[]) {
+      return arrayWrites(
+          Iterators.concat(
+              Iterators.transform(Arrays.asList((Object[]) value).iterator(), this::writesOf)));
+    }
+    if (value instanceof JsonRpcSuccessResponse) {
+      final JsonRpcSuccessResponse successResponse = (JsonRpcSuccessResponse) value;
+      if (successResponse.getResult() instanceof StreamedResult) {
+        return Iterators.singletonIterator(blockingWrite(successResponse));
+      }
+      final Iterator<?> elements = elements(successResponse.getResult());
+      if (elements != null) {
+        return Iterators.concat(
+            Iterators.<JsonWrite>singletonIterator(
+                jsonGenerator -> {
+                  jsonGenerator.writeStartObject();
+                  jsonGenerator.writeStringField("jsonrpc", successResponse.getVersion());
+                  jsonGenerator.writeFieldName("id");
+                  jsonGenerator.writeObject(successResponse.getId());
+                  jsonGenerator.writeFieldName("result");
+                }),
+            arrayWrites(Iterators.transform(elements, IncrementalJsonResponseWriter::objectWrite)),
+            Iterators.<JsonWrite>singletonIterator(JsonGenerator::writeEndObject));
+      }
+    }
+    return Iterators.singletonIterator(objectWrite(value));
+  }
+
+  private static JsonWrite objectWrite(final Object value) {
+    return jsonGenerator -> jsonGenerator.writeObject(value);
+  }
+
+  private JsonWrite blockingWrite(final Object value) {
+    if (maxBufferedBytes == 0) {
+      return objectWrite(value);
+    }
+    return jsonGenerator -> {
+      streamer.blockWhileWriteQueueFull(drainTimeoutMillis);
+      try {
+        jsonGenerator.writeObject(value);
+        jsonGenerator.flush();
+      } finally {
+        streamer.blockWhileWriteQueueFull(0);
+      }
+    };
+  }
+
+  /** Returns the elements of a result that is serialized as a JSON array, or null otherwise. */
+  private static Iterator<?> elements(final Object result) {
+    if (result instanceof Collection) {
+      return ((Collection<?>) result).iterator();
+    }
+    if (result instanceof ArrayNode) {
+      return ((ArrayNode) result).elements();
+    }
+    if (result instanceof LogsResult) {
+      return ((LogsResult) result).getResults().iterator();
+    }
+    return null;
+  }
+
+  private static Iterator<JsonWrite> arrayWrites(final Iterator<JsonWrite> elementWrites) {
+    return Iterators.concat(
+        Iterators.<JsonWrite>singletonIterator(JsonGenerator::writeStartArray),
+        elementWrites,
+        Iterators.<JsonWrite>singletonIterator(JsonGenerator::writeEndArray));
+  }
+}
@@ -15,7 +15,10 @@
 package org.hyperledger.besu.ethereum.api.jsonrpc;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
 import io.vertx.core.buffer.Buffer;
@@ -33,6 +36,7 @@ class JsonResponseStreamer extends OutputStream {
   private final byte[] singleByteBuf = new byte[1];
   private boolean chunked = false;
   private boolean closed = false;
+  private long drainTimeoutMillis = 0;
   private final AtomicReference<Throwable> failure = new AtomicReference<>();
 
   public JsonResponseStreamer(
@@ -64,6 +68,36 @@ class JsonResponseStreamer extends OutputStream {
     Buffer buf = Buffer.buffer(len);
     buf.appendBytes(bbuf, off, len);
     response.write(buf).onFailure(this::handleFailure);
+    if (drainTimeoutMillis > 0 && response.writeQueueFull()) {
+      awaitDrain();
+    }
+  }
+
+  /**
+   * Makes writes block while the response's write queue is full, for output whose producer cannot
+   * be paused. A write fails if the client does not drain the queue within the timeout.
+   *
+   * @param drainTimeoutMillis how long to wait for the client to drain the queue, 0 to not block
+   */
+  void blockWhileWriteQueueFull(final long drainTimeoutMillis) {
+    this.drainTimeoutMillis = drainTimeoutMillis;
+  }
+
+  private void awaitDrain() throws IOException {
+    final CountDownLatch drained = new CountDownLatch(1);
+    response.drainHandler(__ -> drained.countDown());
+    try {
+      // the queue may have drained before the handler was registered
+      if (response.writeQueueFull()
+          && !drained.await(drainTimeoutMillis, TimeUnit.MILLISECONDS)) {
+        throw new IOException("Timed out waiting for " + remoteAddress + " to read the response");
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted waiting for the response to drain");
+    } finally {
+      response.drainHandler(null);
+    }
   }
 
   @Override
@@ -36,6 +36,9 @@ public class JsonRpcConfiguration {
   public static final int DEFAULT_JSON_RPC_PORT = 8545;
   public static final int DEFAULT_ENGINE_JSON_RPC_PORT = 8550;
   public static final int DEFAULT_MAX_ACTIVE_CONNECTIONS = 80;
+  public static final int DEFAULT_MAX_RESPONSE_BUFFER_BYTES = 1024 * 1024;
+  public static final int DEFAULT_MAX_BATCH_SIZE = -1;
+  public static final int DEFAULT_MAX_BATCH_PARALLELISM = 4;
 
   private boolean enabled;
   private int port;
@@ -51,6 +54,10 @@ public class JsonRpcConfiguration {
   private Optional<TlsConfiguration> tlsConfiguration = Optional.empty();
   private long httpTimeoutSec = TimeoutOptions.defaultOptions().getTimeoutSeconds();
   private int maxActiveConnections;
+  private int maxResponseBufferBytes = DEFAULT_MAX_RESPONSE_BUFFER_BYTES;
+  private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+  private int maxBatchParallelism = DEFAULT_MAX_BATCH_PARALLELISM;
+  private long maxBatchCpuTimeMillis = 0;
 
   public static JsonRpcConfiguration createDefault() {
     final JsonRpcConfiguration config = new JsonRpcConfiguration();
@@ -201,6 +208,10 @@ public class JsonRpcConfiguration {
         .add("tlsConfiguration", tlsConfiguration)
         .add("httpTimeoutSec", httpTimeoutSec)
         .add("maxActiveConnections", maxActiveConnections)
+        .add("maxResponseBufferBytes", maxResponseBufferBytes)
+        .add("maxBatchSize", maxBatchSize)
+        .add("maxBatchParallelism", maxBatchParallelism)
+        .add("maxBatchCpuTimeMillis", maxBatchCpuTimeMillis)
         .toString();
   }
 
@@ -245,4 +256,42 @@ public class JsonRpcConfiguration {
   public void setMaxActiveConnections(final int maxActiveConnections) {
     this.maxActiveConnections = maxActiveConnections;
   }
+
+  public int getMaxResponseBufferBytes() {
+    return maxResponseBufferBytes;
+  }
+
+  public void setMaxResponseBufferBytes(final int maxResponseBufferBytes) {
+    this.maxResponseBufferBytes = maxResponseBufferBytes;
+  }
+
+  public int getMaxBatchSize() {
+    return maxBatchSize;
+  }
+
+  public void setMaxBatchSize(final int maxBatchSize) {
+    this.maxBatchSize = maxBatchSize;
+  }
+
+  public int getMaxBatchParallelism() {
+    return maxBatchParallelism;
+  }
+
+  public void setMaxBatchParallelism(final int maxBatchParallelism) {
+    this.maxBatchParallelism = maxBatchParallelism;
+  }
+
+  /**
+   * The CPU time a batch request may spend on worker threads before its remaining requests are
+   * answered with a timeout error.
+   *
+   * @return the budget in milliseconds, 0 for no limit
+   */
+  public long getMaxBatchCpuTimeMillis() {
+    return maxBatchCpuTimeMillis;
+  }
+
+  public void setMaxBatchCpuTimeMillis(final long maxBatchCpuTimeMillis) {
+    this.maxBatchCpuTimeMillis = maxBatchCpuTimeMillis;
+  }
 }
@@ -16,7 +16,6 @@ package org.hyperledger.besu.ethereum.api.jsonrpc;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.collect.Streams.stream;
-import static java.util.stream.Collectors.toList;
 import static org.apache.tuweni.net.tls.VertxTrustOptions.allowlistClients;
 import static org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcError.INVALID_REQUEST;
 
@@ -52,15 +51,21 @@ import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
 import org.hyperledger.besu.util.ExceptionUtils;
 import org.hyperledger.besu.util.NetworkUtility;
 
-import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.net.InetSocketAddress;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.StringJoiner;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import javax.annotation.Nullable;
 
 import com.fasterxml.jackson.core.JsonGenerator.Feature;
@@ -124,6 +129,7 @@ public class JsonRpcHttpService {
           .without(Feature.FLUSH_PASSED_TO_STREAM)
           .with(Feature.AUTO_CLOSE_TARGET);
   private static final String EMPTY_RESPONSE = "";
+  private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
 
   private static final TextMapPropagator traceFormats =
       TextMapPropagator.composite(
@@ -154,6 +160,7 @@ public class JsonRpcHttpService {
   private final NatService natService;
   private final Path dataDir;
   private final LabelledMetric<OperationTimer> requestTimer;
+  private final OperationTimer batchRequestTimer;
   private Tracer tracer;
   private final int maxActiveConnections;
   private final AtomicInteger activeConnectionsCount = new AtomicInteger();
@@ -214,6 +221,11 @@ public class JsonRpcHttpService {
             "request_time",
             "Time taken to process a JSON-RPC request",
             "methodName");
+    batchRequestTimer =
+        metricsSystem.createTimer(
+            BesuMetricCategory.RPC,
+            "batch_request_time",
+            "Time taken to process a JSON-RPC batch request");
     validateConfig(config);
     this.config = config;
     this.vertx = vertx;
@@ -608,18 +620,7 @@ public class JsonRpcHttpService {
     vertx.executeBlocking(
         future -> {
           final JsonRpcResponse jsonRpcResponse = process(routingContext, request, user);
-          future.complete(jsonRpcResponse);
-        },
-        false,
-        (res) -> {
           if (!response.closed() && !response.headWritten()) {
-            if (res.failed()) {
-              response.setStatusCode(HttpResponseStatus.INTERNAL_SERVER_ERROR.code()).end();
-              return;
-            }
-
-            final JsonRpcResponse jsonRpcResponse = (JsonRpcResponse) res.result();
-
             response
                 .setStatusCode(status(jsonRpcResponse).code())
                 .putHeader("Content-Type", APPLICATION_JSON);
@@ -627,19 +628,37 @@ public class JsonRpcHttpService {
             if (jsonRpcResponse.getType() == JsonRpcResponseType.NONE) {
               response.end(EMPTY_RESPONSE);
             } else {
-              try {
-                // underlying output stream lifecycle is managed by the json object writer
-                JSON_OBJECT_WRITER.writeValue(
-                    new JsonResponseStreamer(response, routingContext.request().remoteAddress()),
-                    jsonRpcResponse);
-              } catch (IOException ex) {
-                LOG.error("Error streaming JSON-RPC response", ex);
-              }
+              streamResponse(routingContext, jsonRpcResponse);
             }
           }
+          future.complete();
+        },
+        false,
+        (res) -> {
+          if (res.failed() && !response.closed() && !response.headWritten()) {
+            response.setStatusCode(HttpResponseStatus.INTERNAL_SERVER_ERROR.code()).end();
+          }
         });
   }
 
+  /**
+   * Writes a response with chunked encoding, encoding it piece by piece so that no more than {@link
+   * JsonRpcConfiguration#getMaxResponseBufferBytes()} of encoded JSON is buffered for a slow
+   * client. This is called from a worker thread, which is released while the client catches up.
+   * The result itself has already been built by the method, unless it is a {@link
+   * org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.StreamedResult}.
+   */
+  private void streamResponse(final RoutingContext routingContext, final Object value) {
+    new IncrementalJsonResponseWriter(
+            vertx,
+            routingContext.response(),
+            routingContext.request().remoteAddress(),
+            JSON_OBJECT_WRITER,
+            config.getMaxResponseBufferBytes(),
+            Duration.ofSeconds(config.getHttpTimeoutSec()))
+        .write(value);
+  }
+
   private HttpResponseStatus status(final JsonRpcResponse response) {
     switch (response.getType()) {
       case UNAUTHORIZED:
@@ -664,27 +683,46 @@ public class JsonRpcHttpService {
     }
   }
 
+  /**
+   * Executes the requests of a batch on up to {@link JsonRpcConfiguration#getMaxBatchParallelism()}
+   * worker threads. Request {@code i} runs on lane {@code i % lanes} and its response is stored at
+   * index {@code i}, so the responses keep the order of the requests.
+   */
   @SuppressWarnings("rawtypes")
   private void handleJsonBatchRequest(
       final RoutingContext routingContext, final JsonArray jsonArray, final Optional<User> user) {
-    // Interpret json as rpc request
-    final List<Future> responses =
-        jsonArray.stream()
-            .map(
-                obj -> {
-                  if (!(obj instanceof JsonObject)) {
-                    return Future.succeededFuture(errorResponse(null, INVALID_REQUEST));
-                  }
-
-                  final JsonObject req = (JsonObject) obj;
-                  return vertx.executeBlocking(
-                      future -> future.complete(process(routingContext, req, user)));
-                })
-            .collect(toList());
-
-    CompositeFuture.all(responses)
+    if (config.getMaxBatchSize() > 0 && jsonArray.size() > config.getMaxBatchSize()) {
+      handleJsonRpcError(routingContext, null, JsonRpcError.EXCEEDS_RPC_MAX_BATCH_SIZE);
+      return;
+    }
+    final OperationTimer.TimingContext batchTimingContext = batchRequestTimer.startTimer();
+    final JsonRpcResponse[] responses = new JsonRpcResponse[jsonArray.size()];
+    final AtomicLong remainingCpuTimeNanos =
+        new AtomicLong(
+            config.getMaxBatchCpuTimeMillis() > 0
+                ? TimeUnit.MILLISECONDS.toNanos(config.getMaxBatchCpuTimeMillis())
+                : Long.MAX_VALUE);
+    final int lanes = Math.max(1, Math.min(config.getMaxBatchParallelism(), responses.length));
+    final List<Future> laneFutures = new ArrayList<>(lanes);
+    for (int lane = 0; lane < lanes; lane++) {
+      final int firstRequest = lane;
+      laneFutures.add(
+          vertx.executeBlocking(
+              future -> {
+                for (int i = firstRequest; i < responses.length; i += lanes) {
+                  responses[i] =
+                      processBatchRequest(
+                          routingContext, jsonArray.getValue(i), user, remainingCpuTimeNanos);
+                }
+                future.complete();
+              },
+              false));
+    }
+
+    CompositeFuture.all(laneFutures)
         .onComplete(
             (res) -> {
+              batchTimingContext.stopTimer();
               final HttpServerResponse response = routingContext.response();
               if (response.closed() || response.headWritten()) {
                 return;
@@ -694,22 +732,51 @@ public class JsonRpcHttpService {
                 return;
               }
               final JsonRpcResponse[] completed =
-                  res.result().list().stream()
-                      .map(JsonRpcResponse.class::cast)
+                  Arrays.stream(responses)
                       .filter(this::isNonEmptyResponses)
                       .toArray(JsonRpcResponse[]::new);
 
-              try {
-                // underlying output stream lifecycle is managed by the json object writer
-                JSON_OBJECT_WRITER.writeValue(
-                    new JsonResponseStreamer(response, routingContext.request().remoteAddress()),
-                    completed);
-              } catch (IOException ex) {
-                LOG.error("Error streaming JSON-RPC response", ex);
-              }
+              vertx.executeBlocking(
+                  future -> {
+                    streamResponse(routingContext, completed);
+                    future.complete();
+                  },
+                  false);
             });
   }
 
+  private JsonRpcResponse processBatchRequest(
+      final RoutingContext routingContext,
+      final Object request,
+      final Optional<User> user,
+      final AtomicLong remainingCpuTimeNanos) {
+    if (!(request instanceof JsonObject)) {
+      return errorResponse(null, INVALID_REQUEST);
+    }
+    final JsonObject requestJson = (JsonObject) request;
+    if (remainingCpuTimeNanos.get() <= 0) {
+      Object id = null;
+      try {
+        id = new JsonRpcRequestId(requestJson.getValue("id")).getValue();
+      } catch (final IllegalArgumentException e) {
+        // answer with a null id like any other invalid request
+      }
+      return errorResponse(id, JsonRpcError.TIMEOUT_ERROR);
+    }
+    final long start = currentThreadCpuTimeNanos();
+    try {
+      return process(routingContext, requestJson, user);
+    } finally {
+      remainingCpuTimeNanos.addAndGet(start - currentThreadCpuTimeNanos());
+    }
+  }
+
+  private static long currentThreadCpuTimeNanos() {
+    return THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported()
+        ? THREAD_MX_BEAN.getCurrentThreadCpuTime()
+        : System.nanoTime();
+  }
+
   private boolean isNonEmptyResponses(final JsonRpcResponse result) {
     return result.getType() != JsonRpcResponseType.NONE;
   }
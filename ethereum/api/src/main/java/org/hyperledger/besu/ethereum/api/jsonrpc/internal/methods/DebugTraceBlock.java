@@ -17,22 +17,19 @@ package org.hyperledger.besu.ethereum.api.jsonrpc.internal.methods;
 import org.hyperledger.besu.ethereum.api.jsonrpc.RpcMethod;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequestContext;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.parameters.TransactionTraceParams;
-import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.BlockTrace;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.BlockTracer;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcError;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcErrorResponse;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcResponse;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcSuccessResponse;
-import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.DebugTraceTransactionResult;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.StreamingDebugTraceResult;
 import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
 import org.hyperledger.besu.ethereum.core.Block;
 import org.hyperledger.besu.ethereum.core.BlockHeaderFunctions;
 import org.hyperledger.besu.ethereum.debug.TraceOptions;
 import org.hyperledger.besu.ethereum.rlp.RLP;
 import org.hyperledger.besu.ethereum.rlp.RLPException;
-import org.hyperledger.besu.ethereum.vm.DebugOperationTracer;
 
-import java.util.Collection;
 import java.util.function.Supplier;
 
 import org.apache.tuweni.bytes.Bytes;
@@ -78,14 +75,11 @@ public class DebugTraceBlock implements JsonRpcMethod {
             .orElse(TraceOptions.DEFAULT);
 
     if (this.blockchain.blockByHash(block.getHeader().getParentHash()).isPresent()) {
-      final Collection<DebugTraceTransactionResult> results =
-          blockTracerSupplier
-              .get()
-              .trace(block, new DebugOperationTracer(traceOptions))
-              .map(BlockTrace::getTransactionTraces)
-              .map(DebugTraceTransactionResult::of)
-              .orElse(null);
-      return new JsonRpcSuccessResponse(requestContext.getRequest().getId(), results);
+      return new JsonRpcSuccessResponse(
+          requestContext.getRequest().getId(),
+          StreamingDebugTraceResult.ofBlock(
+              listener -> blockTracerSupplier.get().stream(block, traceOptions, listener),
+              requestContext::isAlive));
     } else {
       return new JsonRpcErrorResponse(
           requestContext.getRequest().getId(), JsonRpcError.PARENT_BLOCK_NOT_FOUND);
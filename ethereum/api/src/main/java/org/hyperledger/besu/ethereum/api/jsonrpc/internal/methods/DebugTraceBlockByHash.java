@@ -18,15 +18,12 @@ import org.hyperledger.besu.datatypes.Hash;
 import org.hyperledger.besu.ethereum.api.jsonrpc.RpcMethod;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequestContext;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.parameters.TransactionTraceParams;
-import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.BlockTrace;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.BlockTracer;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcResponse;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcSuccessResponse;
-import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.DebugTraceTransactionResult;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.StreamingDebugTraceResult;
 import org.hyperledger.besu.ethereum.debug.TraceOptions;
-import org.hyperledger.besu.ethereum.vm.DebugOperationTracer;
 
-import java.util.Collection;
 import java.util.function.Supplier;
 
 public class DebugTraceBlockByHash implements JsonRpcMethod {
@@ -51,13 +48,10 @@ public class DebugTraceBlockByHash implements JsonRpcMethod {
             .map(TransactionTraceParams::traceOptions)
             .orElse(TraceOptions.DEFAULT);
 
-    final Collection<DebugTraceTransactionResult> results =
-        blockTracerSupplier
-            .get()
-            .trace(blockHash, new DebugOperationTracer(traceOptions))
-            .map(BlockTrace::getTransactionTraces)
-            .map(DebugTraceTransactionResult::of)
-            .orElse(null);
-    return new JsonRpcSuccessResponse(requestContext.getRequest().getId(), results);
+    return new JsonRpcSuccessResponse(
+        requestContext.getRequest().getId(),
+        StreamingDebugTraceResult.ofBlock(
+            listener -> blockTracerSupplier.get().stream(blockHash, traceOptions, listener),
+            requestContext::isAlive));
   }
 }
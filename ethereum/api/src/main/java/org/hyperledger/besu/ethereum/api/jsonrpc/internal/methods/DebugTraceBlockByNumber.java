@@ -19,12 +19,10 @@ import org.hyperledger.besu.ethereum.api.jsonrpc.RpcMethod;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequestContext;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.parameters.BlockParameter;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.parameters.TransactionTraceParams;
-import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.BlockTrace;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.BlockTracer;
-import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.DebugTraceTransactionResult;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.StreamingDebugTraceResult;
 import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
 import org.hyperledger.besu.ethereum.debug.TraceOptions;
-import org.hyperledger.besu.ethereum.vm.DebugOperationTracer;
 
 import java.util.Optional;
 import java.util.function.Supplier;
@@ -60,13 +58,11 @@ public class DebugTraceBlockByNumber extends AbstractBlockParameterMethod {
             .orElse(TraceOptions.DEFAULT);
 
     return blockHash
-        .flatMap(
+        .map(
             hash ->
-                blockTracerSupplier
-                    .get()
-                    .trace(hash, new DebugOperationTracer(traceOptions))
-                    .map(BlockTrace::getTransactionTraces)
-                    .map(DebugTraceTransactionResult::of))
+                StreamingDebugTraceResult.ofBlock(
+                    listener -> blockTracerSupplier.get().stream(hash, traceOptions, listener),
+                    request::isAlive))
         .orElse(null);
   }
 }
@@ -21,11 +21,10 @@ import org.hyperledger.besu.ethereum.api.jsonrpc.internal.parameters.Transaction
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.TransactionTracer;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcResponse;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcSuccessResponse;
-import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.DebugTraceTransactionResult;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.StreamingDebugTraceResult;
 import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
 import org.hyperledger.besu.ethereum.api.query.TransactionWithMetadata;
 import org.hyperledger.besu.ethereum.debug.TraceOptions;
-import org.hyperledger.besu.ethereum.vm.DebugOperationTracer;
 
 import java.util.Optional;
 
@@ -56,27 +55,16 @@ public class DebugTraceTransaction implements JsonRpcMethod {
               .getOptionalParameter(1, TransactionTraceParams.class)
               .map(TransactionTraceParams::traceOptions)
               .orElse(TraceOptions.DEFAULT);
-      final DebugTraceTransactionResult debugTraceTransactionResult =
-          debugTraceTransactionResult(hash, transactionWithMetadata.get(), traceOptions);
+      final Hash blockHash = transactionWithMetadata.get().getBlockHash().get();
 
       return new JsonRpcSuccessResponse(
-          requestContext.getRequest().getId(), debugTraceTransactionResult);
+          requestContext.getRequest().getId(),
+          StreamingDebugTraceResult.ofTransaction(
+              listener ->
+                  transactionTracer.streamTransaction(blockHash, hash, traceOptions, listener),
+              requestContext::isAlive));
     } else {
       return new JsonRpcSuccessResponse(requestContext.getRequest().getId(), null);
     }
   }
-
-  private DebugTraceTransactionResult debugTraceTransactionResult(
-      final Hash hash,
-      final TransactionWithMetadata transactionWithMetadata,
-      final TraceOptions traceOptions) {
-    final Hash blockHash = transactionWithMetadata.getBlockHash().get();
-
-    final DebugOperationTracer execTracer = new DebugOperationTracer(traceOptions);
-
-    return transactionTracer
-        .traceTransaction(blockHash, hash, execTracer)
-        .map(DebugTraceTransactionResult::new)
-        .orElse(null);
-  }
 }
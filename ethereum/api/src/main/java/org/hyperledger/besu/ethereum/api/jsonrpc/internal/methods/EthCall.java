@@ -29,6 +29,7 @@ import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcErrorR
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcResponse;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcSuccessResponse;
 import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
+import org.hyperledger.besu.ethereum.api.query.cache.CallResultCache;
 import org.hyperledger.besu.ethereum.core.BlockHeader;
 import org.hyperledger.besu.ethereum.mainnet.ImmutableTransactionValidationParams;
 import org.hyperledger.besu.ethereum.mainnet.TransactionValidationParams;
@@ -39,13 +40,25 @@ import org.hyperledger.besu.ethereum.transaction.TransactionSimulator;
 import org.hyperledger.besu.ethereum.transaction.TransactionSimulatorResult;
 import org.hyperledger.besu.evm.tracing.OperationTracer;
 
+import java.util.Optional;
+import java.util.function.Supplier;
+
 public class EthCall extends AbstractBlockParameterOrBlockHashMethod {
   private final TransactionSimulator transactionSimulator;
+  private final Optional<CallResultCache<TransactionSimulatorResult>> resultCache;
 
   public EthCall(
       final BlockchainQueries blockchainQueries, final TransactionSimulator transactionSimulator) {
+    this(blockchainQueries, transactionSimulator, Optional.empty());
+  }
+
+  public EthCall(
+      final BlockchainQueries blockchainQueries,
+      final TransactionSimulator transactionSimulator,
+      final Optional<CallResultCache<TransactionSimulatorResult>> resultCache) {
     super(blockchainQueries);
     this.transactionSimulator = transactionSimulator;
+    this.resultCache = resultCache;
   }
 
   @Override
@@ -68,12 +81,16 @@ public class EthCall extends AbstractBlockParameterOrBlockHashMethod {
       return errorResponse(request, BLOCK_NOT_FOUND);
     }
 
-    return transactionSimulator
-        .process(
-            callParams,
-            buildTransactionValidationParams(header, callParams),
-            OperationTracer.NO_TRACING,
-            header)
+    final TransactionValidationParams validationParams =
+        buildTransactionValidationParams(header, callParams);
+    final Supplier<Optional<TransactionSimulatorResult>> simulation =
+        () ->
+            transactionSimulator.process(
+                callParams, validationParams, OperationTracer.NO_TRACING, header);
+
+    return resultCache
+        .map(cache -> cache.getOrCompute(blockHash, callParams, validationParams, simulation))
+        .orElseGet(simulation)
         .map(
             result ->
                 result
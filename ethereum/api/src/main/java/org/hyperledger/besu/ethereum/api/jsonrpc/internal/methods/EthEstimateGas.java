@@ -26,6 +26,7 @@ import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcRespon
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcSuccessResponse;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.Quantity;
 import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
+import org.hyperledger.besu.ethereum.api.query.cache.CallResultCache;
 import org.hyperledger.besu.ethereum.core.BlockHeader;
 import org.hyperledger.besu.ethereum.mainnet.ImmutableTransactionValidationParams;
 import org.hyperledger.besu.ethereum.mainnet.TransactionValidationParams;
@@ -34,23 +35,34 @@ import org.hyperledger.besu.ethereum.processing.TransactionProcessingResult;
 import org.hyperledger.besu.ethereum.transaction.CallParameter;
 import org.hyperledger.besu.ethereum.transaction.TransactionInvalidReason;
 import org.hyperledger.besu.ethereum.transaction.TransactionSimulator;
+import org.hyperledger.besu.ethereum.transaction.TransactionSimulator.PreparedWorldState;
 import org.hyperledger.besu.ethereum.transaction.TransactionSimulatorResult;
 import org.hyperledger.besu.evm.tracing.EstimateGasOperationTracer;
+import org.hyperledger.besu.evm.tracing.OperationTracer;
 
 import java.util.Optional;
-import java.util.function.Function;
 
 public class EthEstimateGas implements JsonRpcMethod {
 
   private static final double SUB_CALL_REMAINING_GAS_RATIO = 65D / 64D;
+  private static final long SEARCH_TOLERANCE_DIVISOR = 64L;
 
   private final BlockchainQueries blockchainQueries;
   private final TransactionSimulator transactionSimulator;
+  private final Optional<CallResultCache<Long>> resultCache;
 
   public EthEstimateGas(
       final BlockchainQueries blockchainQueries, final TransactionSimulator transactionSimulator) {
+    this(blockchainQueries, transactionSimulator, Optional.empty());
+  }
+
+  public EthEstimateGas(
+      final BlockchainQueries blockchainQueries,
+      final TransactionSimulator transactionSimulator,
+      final Optional<CallResultCache<Long>> resultCache) {
     this.blockchainQueries = blockchainQueries;
     this.transactionSimulator = transactionSimulator;
+    this.resultCache = resultCache;
   }
 
   @Override
@@ -72,22 +84,100 @@ public class EthEstimateGas implements JsonRpcMethod {
       return errorResponse(requestContext, JsonRpcError.WORLD_STATE_UNAVAILABLE);
     }
 
-    final CallParameter modifiedCallParams =
-        overrideGasLimitAndPrice(callParams, blockHeader.getGasLimit());
+    final TransactionValidationParams validationParams =
+        ImmutableTransactionValidationParams.builder()
+            .from(TransactionValidationParams.transactionSimulator())
+            .isAllowExceedingBalance(!callParams.isMaybeStrict().orElse(Boolean.FALSE))
+            .build();
+    final Optional<Long> cachedEstimate =
+        resultCache.flatMap(
+            cache -> cache.get(blockHeader.getHash(), callParams, validationParams));
+    if (cachedEstimate.isPresent()) {
+      return new JsonRpcSuccessResponse(
+          requestContext.getRequest().getId(), Quantity.create(cachedEstimate.get()));
+    }
+
+    final Optional<PreparedWorldState> maybeWorldState = transactionSimulator.prepare(blockHeader);
+    if (maybeWorldState.isEmpty()) {
+      return errorResponse(requestContext, JsonRpcError.INTERNAL_ERROR);
+    }
+    final PreparedWorldState worldState = maybeWorldState.get();
+
+    final long blockGasLimit = blockHeader.getGasLimit();
 
     final EstimateGasOperationTracer operationTracer = new EstimateGasOperationTracer();
+    final Optional<TransactionSimulatorResult> maybeResult =
+        worldState.process(
+            overrideGasLimitAndPrice(callParams, blockGasLimit), validationParams, operationTracer);
+    if (maybeResult.isEmpty()) {
+      return errorResponse(requestContext, JsonRpcError.INTERNAL_ERROR);
+    }
+    final TransactionSimulatorResult result = maybeResult.get();
+    if (!result.isSuccessful()) {
+      return errorResponse(requestContext, result);
+    }
 
-    return transactionSimulator
+    final long estimate = processEstimateGas(result, operationTracer);
+    final long gasLimit =
+        isExecutionGasDependent(operationTracer)
+            ? searchGasLimit(worldState, callParams, validationParams, estimate, blockGasLimit)
+            : estimate;
+    resultCache.ifPresent(
+        cache -> cache.put(blockHeader.getHash(), callParams, validationParams, gasLimit));
+    return new JsonRpcSuccessResponse(
+        requestContext.getRequest().getId(), Quantity.create(gasLimit));
+  }
+
+  /**
+   * Without sub calls or reads of the remaining gas the execution follows the same path under any
+   * sufficient gas limit, so the estimate derived from the tracer does not need to be verified.
+   */
+  private boolean isExecutionGasDependent(final EstimateGasOperationTracer operationTracer) {
+    return operationTracer.getMaxDepth() > 0 || operationTracer.isRemainingGasObserved();
+  }
+
+  /**
+   * Verifies the estimate against the prepared world state and, if the call does not succeed with
+   * it, binary searches the lowest gas limit it succeeds with up to the block gas limit, which is
+   * known to be sufficient. The search stops once the gap is within a 64th of the gas limit and
+   * always returns a gas limit the call succeeded with.
+   */
+  private long searchGasLimit(
+      final PreparedWorldState worldState,
+      final JsonCallParameter callParams,
+      final TransactionValidationParams validationParams,
+      final long estimate,
+      final long blockGasLimit) {
+    if (estimate >= blockGasLimit
+        || succeedsWith(worldState, callParams, validationParams, estimate)) {
+      return estimate;
+    }
+    long lowerBound = estimate;
+    long upperBound = blockGasLimit;
+    while (upperBound - lowerBound > Math.max(1L, upperBound / SEARCH_TOLERANCE_DIVISOR)) {
+      final long gasLimit = lowerBound + (upperBound - lowerBound) / 2;
+      if (succeedsWith(worldState, callParams, validationParams, gasLimit)) {
+        upperBound = gasLimit;
+      } else {
+        lowerBound = gasLimit;
+      }
+    }
+    return upperBound;
+  }
+
+  private boolean succeedsWith(
+      final PreparedWorldState worldState,
+      final JsonCallParameter callParams,
+      final TransactionValidationParams validationParams,
+      final long gasLimit) {
+    // gas limits below the intrinsic gas are rejected by validation before any execution
+    return worldState
         .process(
-            modifiedCallParams,
-            ImmutableTransactionValidationParams.builder()
-                .from(TransactionValidationParams.transactionSimulator())
-                .isAllowExceedingBalance(!callParams.isMaybeStrict().orElse(Boolean.FALSE))
-                .build(),
-            operationTracer,
-            blockHeader.getNumber())
-        .map(gasEstimateResponse(requestContext, operationTracer))
-        .orElse(errorResponse(requestContext, JsonRpcError.INTERNAL_ERROR));
+            overrideGasLimitAndPrice(callParams, gasLimit),
+            validationParams,
+            OperationTracer.NO_TRACING)
+        .map(TransactionSimulatorResult::isSuccessful)
+        .orElse(false);
   }
 
   private BlockHeader blockHeader() {
@@ -108,16 +198,6 @@ public class EthEstimateGas implements JsonRpcMethod {
         callParams.getPayload());
   }
 
-  private Function<TransactionSimulatorResult, JsonRpcResponse> gasEstimateResponse(
-      final JsonRpcRequestContext request, final EstimateGasOperationTracer operationTracer) {
-    return result ->
-        result.isSuccessful()
-            ? new JsonRpcSuccessResponse(
-                request.getRequest().getId(),
-                Quantity.create(processEstimateGas(result, operationTracer)))
-            : errorResponse(request, result);
-  }
-
   /**
    * Estimate gas by adding minimum gas remaining for some operation and the necessary gas for sub
    * calls
@@ -27,7 +27,9 @@ import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.tracing.flat.F
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.tracing.flat.FlatTraceGenerator;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.tracing.flat.RewardTraceGenerator;
 import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
+import org.hyperledger.besu.ethereum.api.query.OrderedFanOut;
 import org.hyperledger.besu.ethereum.api.util.ArrayNodeWrapper;
+import org.hyperledger.besu.ethereum.chain.Blockchain;
 import org.hyperledger.besu.ethereum.core.Block;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
 
@@ -68,18 +70,57 @@ public class TraceFilter extends TraceBlock {
     final ArrayNodeWrapper resultArrayNode =
         new ArrayNodeWrapper(
             mapper.createArrayNode(), filterParameter.getAfter(), filterParameter.getCount());
-    long currentBlockNumber = fromBlock;
-    while (currentBlockNumber <= toBlock && !resultArrayNode.isFull()) {
-      Optional<Block> blockByNumber =
-          blockchainQueries.get().getBlockchain().getBlockByNumber(currentBlockNumber);
-      blockByNumber.ifPresent(
-          block -> resultArrayNode.addAll(traceBlock(block, Optional.of(filterParameter))));
-      currentBlockNumber++;
+    final Optional<OrderedFanOut> fanOut = blockchainQueries.get().getTraceFilterFanOut();
+    if (fanOut.isPresent() && toBlock > fromBlock) {
+      traceBlocksInParallel(fromBlock, toBlock, filterParameter, resultArrayNode, fanOut.get());
+    } else {
+      long currentBlockNumber = fromBlock;
+      while (currentBlockNumber <= toBlock && !resultArrayNode.isFull()) {
+        Optional<Block> blockByNumber =
+            blockchainQueries.get().getBlockchain().getBlockByNumber(currentBlockNumber);
+        blockByNumber.ifPresent(
+            block -> resultArrayNode.addAll(traceBlock(block, Optional.of(filterParameter))));
+        currentBlockNumber++;
+      }
     }
     return new JsonRpcSuccessResponse(
         requestContext.getRequest().getId(), resultArrayNode.getArrayNode());
   }
 
+  /**
+   * Replays the blocks of the range on the trace_filter fan-out. Blocks only depend on the world
+   * state of their parent, which the archive provides, so they can be replayed independently.
+   * Traces are added in block order, so the {@code after} and {@code count} limits apply exactly as
+   * when replaying sequentially. Once {@code count} traces have been collected no further blocks
+   * are replayed and pending ones are skipped.
+   */
+  private void traceBlocksInParallel(
+      final long fromBlock,
+      final long toBlock,
+      final FilterParameter filterParameter,
+      final ArrayNodeWrapper resultArrayNode,
+      final OrderedFanOut fanOut) {
+    final Blockchain blockchain = blockchainQueries.get().getBlockchain();
+    try {
+      fanOut.forEachInOrder(
+          fromBlock,
+          toBlock,
+          (blockNumber, isAlive) ->
+              blockchain
+                  .getBlockByNumber(blockNumber)
+                  .map(block -> traceBlock(block, Optional.of(filterParameter))),
+          traces -> {
+            traces.ifPresent(resultArrayNode::addAll);
+            return !resultArrayNode.isFull();
+          },
+          () -> true);
+    } catch (final RuntimeException e) {
+      throw e;
+    } catch (final Exception e) {
+      throw new IllegalStateException("Error replaying blocks", e);
+    }
+  }
+
   @Override
   protected void generateTracesFromTransactionTraceAndBlock(
       final Optional<FilterParameter> maybeFilterParameter,
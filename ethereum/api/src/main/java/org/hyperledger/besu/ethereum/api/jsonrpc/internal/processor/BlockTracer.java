@@ -15,11 +15,18 @@
 package org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor;
 
 import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.ethereum.chain.Blockchain;
 import org.hyperledger.besu.ethereum.core.Block;
+import org.hyperledger.besu.ethereum.core.BlockHeader;
+import org.hyperledger.besu.ethereum.core.MutableWorldState;
+import org.hyperledger.besu.ethereum.core.Transaction;
 import org.hyperledger.besu.ethereum.debug.TraceFrame;
+import org.hyperledger.besu.ethereum.debug.TraceOptions;
+import org.hyperledger.besu.ethereum.mainnet.MainnetTransactionProcessor;
 import org.hyperledger.besu.ethereum.processing.TransactionProcessingResult;
 import org.hyperledger.besu.ethereum.vm.BlockHashLookup;
 import org.hyperledger.besu.ethereum.vm.DebugOperationTracer;
+import org.hyperledger.besu.evm.tracing.OperationTracer;
 import org.hyperledger.besu.evm.worldstate.StackedUpdater;
 import org.hyperledger.besu.evm.worldstate.WorldUpdater;
 
@@ -45,30 +52,87 @@ public class BlockTracer {
     return blockReplay.block(block, prepareReplayAction(tracer));
   }
 
+  /**
+   * Replays a block, handing the trace frames of each transaction to the listener as they are
+   * produced instead of collecting them.
+   *
+   * @param blockHash the hash of the block to trace
+   * @param traceOptions the trace options
+   * @param listener receives the trace of each transaction in turn
+   * @return true if the block was replayed, false if it or its parent world state is unavailable
+   */
+  public boolean stream(
+      final Hash blockHash,
+      final TraceOptions traceOptions,
+      final TransactionTraceListener listener) {
+    return blockReplay
+        .block(blockHash, prepareStreamingReplayAction(traceOptions, listener))
+        .isPresent();
+  }
+
+  public boolean stream(
+      final Block block, final TraceOptions traceOptions, final TransactionTraceListener listener) {
+    return blockReplay
+        .block(block, prepareStreamingReplayAction(traceOptions, listener))
+        .isPresent();
+  }
+
   private BlockReplay.TransactionAction<TransactionTrace> prepareReplayAction(
       final DebugOperationTracer tracer) {
     return (transaction, header, blockchain, mutableWorldState, transactionProcessor) -> {
-      // if we have no prior updater, it must be the first TX, so use the block's initial state
-      if (chainedUpdater == null) {
-        chainedUpdater = mutableWorldState.updater();
-      } else if (chainedUpdater instanceof StackedUpdater) {
-        ((StackedUpdater) chainedUpdater).markTransactionBoundary();
-      }
-      // create an updater for just this tx
-      chainedUpdater = chainedUpdater.updater();
+      chainUpdater(mutableWorldState);
       final TransactionProcessingResult result =
-          transactionProcessor.processTransaction(
-              blockchain,
-              chainedUpdater,
-              header,
-              transaction,
-              header.getCoinbase(),
-              tracer,
-              new BlockHashLookup(header, blockchain),
-              false);
+          processTransaction(
+              header, blockchain, chainedUpdater, transaction, transactionProcessor, tracer);
       final List<TraceFrame> traceFrames = tracer.copyTraceFrames();
       tracer.reset();
       return new TransactionTrace(transaction, result, traceFrames);
     };
   }
+
+  private BlockReplay.TransactionAction<TransactionTrace> prepareStreamingReplayAction(
+      final TraceOptions traceOptions, final TransactionTraceListener listener) {
+    final DebugOperationTracer tracer =
+        new DebugOperationTracer(traceOptions, listener::traceFrame);
+    return (transaction, header, blockchain, mutableWorldState, transactionProcessor) -> {
+      chainUpdater(mutableWorldState);
+      final TransactionProcessingResult result =
+          processTransaction(
+              header, blockchain, chainedUpdater, transaction, transactionProcessor, tracer);
+      tracer.flush();
+      final TransactionTrace transactionTrace =
+          new TransactionTrace(transaction, result, List.of());
+      listener.transactionCompleted(transactionTrace);
+      return transactionTrace;
+    };
+  }
+
+  private void chainUpdater(final MutableWorldState mutableWorldState) {
+    // if we have no prior updater, it must be the first TX, so use the block's initial state
+    if (chainedUpdater == null) {
+      chainedUpdater = mutableWorldState.updater();
+    } else if (chainedUpdater instanceof StackedUpdater) {
+      ((StackedUpdater) chainedUpdater).markTransactionBoundary();
+    }
+    // create an updater for just this tx
+    chainedUpdater = chainedUpdater.updater();
+  }
+
+  private TransactionProcessingResult processTransaction(
+      final BlockHeader header,
+      final Blockchain blockchain,
+      final WorldUpdater worldUpdater,
+      final Transaction transaction,
+      final MainnetTransactionProcessor transactionProcessor,
+      final OperationTracer tracer) {
+    return transactionProcessor.processTransaction(
+        blockchain,
+        worldUpdater,
+        header,
+        transaction,
+        header.getCoinbase(),
+        tracer,
+        new BlockHashLookup(header, blockchain),
+        false);
+  }
 }
@@ -0,0 +1,38 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor;
+
+import org.hyperledger.besu.ethereum.debug.TraceFrame;
+
+/**
+ * Receives debug traces as transactions are replayed, so traces never have to be held in memory as
+ * a whole.
+ */
+public interface TransactionTraceListener {
+
+  /**
+   * Called for every trace frame of the current transaction, in execution order.
+   *
+   * @param traceFrame the trace frame
+   */
+  void traceFrame(TraceFrame traceFrame);
+
+  /**
+   * Called after the last trace frame of the current transaction.
+   *
+   * @param transactionTrace the transaction and the result of processing it, without trace frames
+   */
+  void transactionCompleted(TransactionTrace transactionTrace);
+}
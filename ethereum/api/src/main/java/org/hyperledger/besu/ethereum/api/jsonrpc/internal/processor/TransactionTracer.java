@@ -32,6 +32,7 @@ import org.hyperledger.besu.evm.tracing.StandardJsonTracer;
 import org.hyperledger.besu.evm.worldstate.StackedUpdater;
 import org.hyperledger.besu.evm.worldstate.WorldUpdater;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
@@ -78,6 +79,43 @@ public class TransactionTracer {
         });
   }
 
+  /**
+   * Replays a transaction, handing its trace frames to the listener as they are produced instead of
+   * collecting them.
+   *
+   * @param blockHash the hash of the block containing the transaction
+   * @param transactionHash the hash of the transaction
+   * @param traceOptions the trace options
+   * @param listener receives the trace
+   * @return true if the transaction was replayed, false if its block or world state is unavailable
+   */
+  public boolean streamTransaction(
+      final Hash blockHash,
+      final Hash transactionHash,
+      final TraceOptions traceOptions,
+      final TransactionTraceListener listener) {
+    return blockReplay
+        .beforeTransactionInBlock(
+            blockHash,
+            transactionHash,
+            (transaction, header, blockchain, worldState, transactionProcessor) -> {
+              final DebugOperationTracer tracer =
+                  new DebugOperationTracer(traceOptions, listener::traceFrame);
+              final TransactionProcessingResult result =
+                  processTransaction(
+                      header,
+                      blockchain,
+                      worldState.updater(),
+                      transaction,
+                      transactionProcessor,
+                      tracer);
+              tracer.flush();
+              listener.transactionCompleted(new TransactionTrace(transaction, result, List.of()));
+              return transaction;
+            })
+        .isPresent();
+  }
+
   public List<String> traceTransactionToFile(
       final Hash blockHash,
       final Optional<TransactionTraceParams> transactionTraceParams,
@@ -110,7 +148,8 @@ public class TransactionTracer {
                 if (selectedHash.isEmpty()
                     || selectedHash.filter(isEqual(transaction.getHash())).isPresent()) {
                   final File traceFile = generateTraceFile(traceDir, blockHash, i, transaction);
-                  try (PrintStream out = new PrintStream(new FileOutputStream(traceFile))) {
+                  try (PrintStream out =
+                      new PrintStream(new BufferedOutputStream(new FileOutputStream(traceFile)))) {
                     final Stopwatch timer = Stopwatch.createStarted();
                     final TransactionProcessingResult result =
                         processTransaction(
@@ -32,6 +32,7 @@ public enum JsonRpcError {
   TIMEOUT_ERROR(-32603, "Timeout expired"),
 
   METHOD_NOT_ENABLED(-32604, "Method not enabled"),
+  EXCEEDS_RPC_MAX_BATCH_SIZE(-32005, "Number of requests exceeds max batch size"),
 
   // eth_sendTransaction specific error message
   ETH_SEND_TX_NOT_AVAILABLE(
@@ -0,0 +1,168 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.jsonrpc.internal.results;
+
+import org.hyperledger.besu.ethereum.api.handlers.RpcMethodTimeoutException;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.TransactionTrace;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.TransactionTraceListener;
+import org.hyperledger.besu.ethereum.debug.TraceFrame;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+/**
+ * Debug trace result that replays its transactions when it is serialized, writing each struct log
+ * to the response's JSON generator as soon as the EVM produces it. Neither the trace frames nor
+ * the encoded struct logs are ever held in memory as a whole.
+ *
+ * <p>Each transaction is executed once, so gas, failed and returnValue are only known after the
+ * struct logs and are written after them. Replay stops once the request is no longer alive. As
+ * the response is already under way by then, the failure is thrown out of serialization and the
+ * connection is dropped.
+ */
+public class StreamingDebugTraceResult implements StreamedResult {
+
+  @FunctionalInterface
+  public interface Replay {
+    /**
+     * Replays the traced transactions.
+     *
+     * @param listener receives the trace of each transaction
+     * @return true if the transactions were replayed, false if they could not be found
+     */
+    boolean replay(TransactionTraceListener listener);
+  }
+
+  private final Replay replay;
+  private final boolean singleTransaction;
+  private final Supplier<Boolean> isAlive;
+
+  private StreamingDebugTraceResult(
+      final Replay replay, final boolean singleTransaction, final Supplier<Boolean> isAlive) {
+    this.replay = replay;
+    this.singleTransaction = singleTransaction;
+    this.isAlive = isAlive;
+  }
+
+  /** Serializes as a single transaction trace, or null if the transaction cannot be replayed. */
+  public static StreamingDebugTraceResult ofTransaction(
+      final Replay replay, final Supplier<Boolean> isAlive) {
+    return new StreamingDebugTraceResult(replay, true, isAlive);
+  }
+
+  /** Serializes as an array of transaction traces, or null if the block cannot be replayed. */
+  public static StreamingDebugTraceResult ofBlock(
+      final Replay replay, final Supplier<Boolean> isAlive) {
+    return new StreamingDebugTraceResult(replay, false, isAlive);
+  }
+
+  @Override
+  public void serialize(final JsonGenerator generator, final SerializerProvider serializers)
+      throws IOException {
+    final StructLogWriter writer = new StructLogWriter(generator, serializers);
+    final boolean replayed;
+    try {
+      replayed = replay.replay(writer);
+    } catch (final UncheckedIOException e) {
+      throw e.getCause();
+    }
+    writer.finish(replayed);
+  }
+
+  /**
+   * Writes the struct logs as they arrive. Exceptions thrown while a transaction is executing are
+   * swallowed by the transaction processor, so after a failure frames are dropped and the failure
+   * is thrown once the transaction completes.
+   */
+  private class StructLogWriter implements TransactionTraceListener {
+
+    private final JsonGenerator generator;
+    private final SerializerProvider serializers;
+    private boolean arrayStarted = false;
+    private boolean transactionStarted = false;
+    private RuntimeException failure;
+
+    private StructLogWriter(final JsonGenerator generator, final SerializerProvider serializers) {
+      this.generator = generator;
+      this.serializers = serializers;
+    }
+
+    @Override
+    public void traceFrame(final TraceFrame traceFrame) {
+      if (failure != null) {
+        return;
+      }
+      if (!isAlive.get()) {
+        failure = new RpcMethodTimeoutException();
+        return;
+      }
+      try {
+        startTransaction();
+        serializers.defaultSerializeValue(
+            DebugTraceTransactionResult.createStructLog(traceFrame), generator);
+      } catch (final IOException e) {
+        failure = new UncheckedIOException(e);
+      }
+    }
+
+    @Override
+    public void transactionCompleted(final TransactionTrace transactionTrace) {
+      if (failure != null) {
+        throw failure;
+      }
+      try {
+        startTransaction();
+        generator.writeEndArray();
+        generator.writeNumberField("gas", transactionTrace.getGas());
+        generator.writeBooleanField("failed", !transactionTrace.getResult().isSuccessful());
+        generator.writeStringField(
+            "returnValue", transactionTrace.getResult().getOutput().toUnprefixedHexString());
+        generator.writeEndObject();
+        transactionStarted = false;
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    private void startTransaction() throws IOException {
+      if (transactionStarted) {
+        return;
+      }
+      if (!singleTransaction && !arrayStarted) {
+        generator.writeStartArray();
+        arrayStarted = true;
+      }
+      generator.writeStartObject();
+      generator.writeArrayFieldStart("structLogs");
+      transactionStarted = true;
+    }
+
+    private void finish(final boolean replayed) throws IOException {
+      if (arrayStarted) {
+        generator.writeEndArray();
+      } else if (!replayed) {
+        generator.writeNull();
+      } else if (!singleTransaction) {
+        // a block without transactions
+        generator.writeStartArray();
+        generator.writeEndArray();
+      }
+    }
+  }
+}
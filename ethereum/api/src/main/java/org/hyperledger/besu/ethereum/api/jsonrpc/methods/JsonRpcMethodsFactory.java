@@ -23,6 +23,7 @@ import org.hyperledger.besu.ethereum.api.jsonrpc.internal.methods.JsonRpcMethod;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.methods.RpcModules;
 import org.hyperledger.besu.ethereum.api.jsonrpc.websocket.WebSocketConfiguration;
 import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
+import org.hyperledger.besu.ethereum.api.query.cache.CallResultCaches;
 import org.hyperledger.besu.ethereum.blockcreation.MiningCoordinator;
 import org.hyperledger.besu.ethereum.core.PrivacyParameters;
 import org.hyperledger.besu.ethereum.core.Synchronizer;
@@ -49,6 +50,16 @@ import java.util.Set;
 
 public class JsonRpcMethodsFactory {
 
+  private final CallResultCaches callResultCaches;
+
+  public JsonRpcMethodsFactory() {
+    this(CallResultCaches.disabled());
+  }
+
+  public JsonRpcMethodsFactory(final CallResultCaches callResultCaches) {
+    this.callResultCaches = callResultCaches;
+  }
+
   public Map<String, JsonRpcMethod> methods(
       final String clientVersion,
       final BigInteger networkId,
@@ -105,7 +116,8 @@ public class JsonRpcMethodsFactory {
                   transactionPool,
                   miningCoordinator,
                   supportedCapabilities,
-                  privacyParameters),
+                  privacyParameters,
+                  callResultCaches),
               new NetJsonRpcMethods(
                   p2pNetwork,
                   networkId,
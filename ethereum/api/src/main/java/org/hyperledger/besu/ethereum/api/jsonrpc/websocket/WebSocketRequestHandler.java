@@ -28,11 +28,14 @@ import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcError;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcErrorResponse;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcResponse;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcResponseType;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcSuccessResponse;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcUnauthorizedResponse;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.StreamedResult;
 import org.hyperledger.besu.ethereum.api.jsonrpc.websocket.methods.WebSocketRpcRequest;
 import org.hyperledger.besu.ethereum.eth.manager.EthScheduler;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -241,12 +244,39 @@ public class WebSocketRequestHandler {
   }
 
   private void replyToClient(final ServerWebSocket websocket, final Object result) {
+    if (!isStreamed(result)) {
+      writeToClient(websocket, result);
+      return;
+    }
+    // a streamed result is produced while it is written, which must not happen on the event loop
+    vertx.executeBlocking(
+        future -> {
+          if (!writeToClient(websocket, result)) {
+            // the message is incomplete, and may already have been partly sent
+            websocket.close();
+          }
+          future.complete();
+        },
+        false);
+  }
+
+  private boolean writeToClient(final ServerWebSocket websocket, final Object result) {
     try {
       // underlying output stream lifecycle is managed by the json object writer
       JSON_OBJECT_WRITER.writeValue(new JsonResponseStreamer(websocket), result);
+      return true;
     } catch (IOException ex) {
       LOG.error("Error streaming JSON-RPC response", ex);
+      return false;
+    }
+  }
+
+  private static boolean isStreamed(final Object response) {
+    if (response instanceof Object[]) {
+      return Arrays.stream((Object[]) response).anyMatch(WebSocketRequestHandler::isStreamed);
     }
+    return response instanceof JsonRpcSuccessResponse
+        && ((JsonRpcSuccessResponse) response).getResult() instanceof StreamedResult;
   }
 
   private JsonRpcResponse errorResponse(final Object id, final JsonRpcError error) {
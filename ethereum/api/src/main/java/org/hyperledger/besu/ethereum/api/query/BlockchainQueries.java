@@ -22,7 +22,9 @@ import org.hyperledger.besu.datatypes.Hash;
 import org.hyperledger.besu.datatypes.Wei;
 import org.hyperledger.besu.ethereum.api.ApiConfiguration;
 import org.hyperledger.besu.ethereum.api.ImmutableApiConfiguration;
+import org.hyperledger.besu.ethereum.api.query.cache.TransactionLogBloomBits;
 import org.hyperledger.besu.ethereum.api.query.cache.TransactionLogBloomCacher;
+import org.hyperledger.besu.ethereum.api.query.cache.TransactionLogIndex;
 import org.hyperledger.besu.ethereum.chain.Blockchain;
 import org.hyperledger.besu.ethereum.chain.TransactionLocation;
 import org.hyperledger.besu.ethereum.core.Block;
@@ -36,6 +38,7 @@ import org.hyperledger.besu.ethereum.worldstate.WorldStateArchive;
 import org.hyperledger.besu.evm.account.Account;
 import org.hyperledger.besu.evm.log.LogsBloomFilter;
 import org.hyperledger.besu.evm.worldstate.WorldState;
+import org.hyperledger.besu.plugin.services.storage.KeyValueStorage;
 
 import java.io.EOFException;
 import java.io.IOException;
@@ -43,6 +46,7 @@ import java.io.RandomAccessFile;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -53,6 +57,7 @@ import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.LongStream;
 
+import com.google.common.annotations.VisibleForTesting;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.units.bigints.UInt256;
 import org.slf4j.Logger;
@@ -64,8 +69,12 @@ public class BlockchainQueries {
   private final WorldStateArchive worldStateArchive;
   private final Blockchain blockchain;
   private final Optional<Path> cachePath;
+  private final Optional<EthScheduler> scheduler;
   private final Optional<TransactionLogBloomCacher> transactionLogBloomCacher;
+  private final Optional<TransactionLogIndex> transactionLogIndex;
   private final ApiConfiguration apiConfig;
+  private final Optional<OrderedFanOut> logsFanOut;
+  private final Optional<OrderedFanOut> traceFilterFanOut;
 
   public BlockchainQueries(final Blockchain blockchain, final WorldStateArchive worldStateArchive) {
     this(blockchain, worldStateArchive, Optional.empty(), Optional.empty());
@@ -97,15 +106,40 @@ public class BlockchainQueries {
       final Optional<Path> cachePath,
       final Optional<EthScheduler> scheduler,
       final ApiConfiguration apiConfig) {
+    this(blockchain, worldStateArchive, cachePath, scheduler, apiConfig, Optional.empty());
+  }
+
+  public BlockchainQueries(
+      final Blockchain blockchain,
+      final WorldStateArchive worldStateArchive,
+      final Optional<Path> cachePath,
+      final Optional<EthScheduler> scheduler,
+      final ApiConfiguration apiConfig,
+      final Optional<KeyValueStorage> logIndexStorage) {
     this.blockchain = blockchain;
     this.worldStateArchive = worldStateArchive;
     this.cachePath = cachePath;
+    this.scheduler = scheduler;
     this.transactionLogBloomCacher =
         (cachePath.isPresent() && scheduler.isPresent())
             ? Optional.of(
                 new TransactionLogBloomCacher(blockchain, cachePath.get(), scheduler.get()))
             : Optional.empty();
+    this.transactionLogIndex =
+        (logIndexStorage.isPresent() && scheduler.isPresent())
+            ? Optional.of(
+                new TransactionLogIndex(blockchain, logIndexStorage.get(), scheduler.get()))
+            : Optional.empty();
     this.apiConfig = apiConfig;
+    this.logsFanOut = createFanOut("rpc-logs-query", apiConfig.getLogsQueryParallelism());
+    this.traceFilterFanOut =
+        createFanOut("rpc-trace-filter", apiConfig.getTraceFilterParallelism());
+  }
+
+  private static Optional<OrderedFanOut> createFanOut(final String name, final int parallelism) {
+    return parallelism > 1
+        ? Optional.of(OrderedFanOut.create(name, parallelism))
+        : Optional.empty();
   }
 
   public Blockchain getBlockchain() {
@@ -120,6 +154,32 @@ public class BlockchainQueries {
     return transactionLogBloomCacher;
   }
 
+  public Optional<EthScheduler> getEthScheduler() {
+    return scheduler;
+  }
+
+  public ApiConfiguration getApiConfig() {
+    return apiConfig;
+  }
+
+  public Optional<TransactionLogIndex> getTransactionLogIndex() {
+    return transactionLogIndex;
+  }
+
+  /**
+   * The fan-out shared by trace_filter requests to replay blocks in parallel.
+   *
+   * @return the fan-out, or empty if trace_filter replays blocks sequentially.
+   */
+  public Optional<OrderedFanOut> getTraceFilterFanOut() {
+    return traceFilterFanOut;
+  }
+
+  @VisibleForTesting
+  Optional<OrderedFanOut> getLogsFanOut() {
+    return logsFanOut;
+  }
+
   /**
    * Retrieves the header hash of the block at the given height in the canonical chain.
    *
@@ -230,12 +290,7 @@ public class BlockchainQueries {
       return Optional.empty();
     }
     return Optional.of(
-        blockchain
-            .getBlockHashByNumber(blockNumber)
-            .flatMap(this::blockByHashWithTxHashes)
-            .map(BlockWithMetadata::getTransactions)
-            .map(List::size)
-            .orElse(-1));
+        blockchain.getBlockHashByNumber(blockNumber).map(this::getTransactionCount).orElse(-1));
   }
 
   /**
@@ -440,10 +495,7 @@ public class BlockchainQueries {
                                 .getTotalDifficultyByHash(blockHeaderHash)
                                 .map(
                                     td -> {
-                                      final List<Hash> txs =
-                                          body.getTransactions().stream()
-                                              .map(Transaction::getHash)
-                                              .collect(Collectors.toList());
+                                      final List<Hash> txs = body.getTransactionHashes();
                                       final List<Hash> ommers =
                                           body.getOmmers().stream()
                                               .map(BlockHeader::getHash)
@@ -633,39 +685,54 @@ public class BlockchainQueries {
       final Supplier<Boolean> isQueryAlive) {
     try {
       final List<LogWithMetadata> result = new ArrayList<>();
-      final long startSegment = fromBlockNumber / BLOCKS_PER_BLOOM_CACHE;
+      long fromUnindexedBlockNumber = fromBlockNumber;
+      if (transactionLogIndex.isPresent()) {
+        final long indexedTo = Math.min(toBlockNumber, transactionLogIndex.get().getIndexedHead());
+        if (indexedTo >= fromBlockNumber) {
+          final Optional<List<LogWithMetadata>> indexedLogs =
+              transactionLogIndex
+                  .get()
+                  .matchingLogs(fromBlockNumber, indexedTo, query, isQueryAlive);
+          if (indexedLogs.isPresent()) {
+            result.addAll(indexedLogs.get());
+            fromUnindexedBlockNumber = indexedTo + 1;
+          }
+        }
+      }
+      if (fromUnindexedBlockNumber > toBlockNumber) {
+        return result;
+      }
+      final long startSegment = fromUnindexedBlockNumber / BLOCKS_PER_BLOOM_CACHE;
       final long endSegment = toBlockNumber / BLOCKS_PER_BLOOM_CACHE;
-      long currentStep = fromBlockNumber;
+      if (logsFanOut.isPresent() && endSegment > startSegment) {
+        final long fromSegmentBlockNumber = fromUnindexedBlockNumber;
+        // segments are scanned on the fan-out pool and their logs collected in block order
+        logsFanOut
+            .get()
+            .forEachInOrder(
+                startSegment,
+                endSegment,
+                (segment, isSegmentAlive) ->
+                    matchingLogsInSegment(
+                        segment,
+                        Math.max(fromSegmentBlockNumber, segment * BLOCKS_PER_BLOOM_CACHE),
+                        Math.min(toBlockNumber, (segment + 1) * BLOCKS_PER_BLOOM_CACHE - 1),
+                        query,
+                        isSegmentAlive),
+                logs -> {
+                  result.addAll(logs);
+                  return true;
+                },
+                isQueryAlive);
+        return result;
+      }
+      long currentStep = fromUnindexedBlockNumber;
       for (long segment = startSegment; segment <= endSegment; segment++) {
-        final long thisSegment = segment;
-        final long thisStep = currentStep;
         final long nextStep = (segment + 1) * BLOCKS_PER_BLOOM_CACHE;
         BackendQuery.stopIfExpired(isQueryAlive);
         result.addAll(
-            cachePath
-                .map(path -> path.resolve("logBloom-" + thisSegment + ".cache"))
-                .filter(Files::isRegularFile)
-                .map(
-                    cacheFile -> {
-                      try {
-                        return matchingLogsCached(
-                            thisSegment * BLOCKS_PER_BLOOM_CACHE,
-                            thisStep % BLOCKS_PER_BLOOM_CACHE,
-                            Math.min(toBlockNumber, nextStep - 1) % BLOCKS_PER_BLOOM_CACHE,
-                            query,
-                            cacheFile,
-                            isQueryAlive);
-                      } catch (final Exception e) {
-                        throw new RuntimeException(e);
-                      }
-                    })
-                .orElseGet(
-                    () ->
-                        matchingLogsUncached(
-                            thisStep,
-                            Math.min(toBlockNumber, Math.min(toBlockNumber, nextStep - 1)),
-                            query,
-                            isQueryAlive)));
+            matchingLogsInSegment(
+                segment, currentStep, Math.min(toBlockNumber, nextStep - 1), query, isQueryAlive));
         currentStep = nextStep;
       }
       return result;
@@ -674,6 +741,35 @@ public class BlockchainQueries {
     }
   }
 
+  private List<LogWithMetadata> matchingLogsInSegment(
+      final long segment,
+      final long fromBlockNumber,
+      final long toBlockNumber,
+      final LogsQuery query,
+      final Supplier<Boolean> isQueryAlive) {
+    final long segmentStart = segment * BLOCKS_PER_BLOOM_CACHE;
+    final long offset = fromBlockNumber % BLOCKS_PER_BLOOM_CACHE;
+    final long endOffset = toBlockNumber % BLOCKS_PER_BLOOM_CACHE;
+    try {
+      if (cachePath.isPresent()) {
+        final Path bloomBitsFile =
+            TransactionLogBloomBits.calculateBloomBitsFileName(segment, cachePath.get()).toPath();
+        if (Files.isRegularFile(bloomBitsFile)) {
+          return matchingLogsBloomBits(
+              segmentStart, offset, endOffset, query, bloomBitsFile, isQueryAlive);
+        }
+        final Path cacheFile = cachePath.get().resolve("logBloom-" + segment + ".cache");
+        if (Files.isRegularFile(cacheFile)) {
+          return matchingLogsCached(
+              segmentStart, offset, endOffset, query, cacheFile, isQueryAlive);
+        }
+      }
+    } catch (final Exception e) {
+      throw new RuntimeException(e);
+    }
+    return matchingLogsUncached(fromBlockNumber, toBlockNumber, query, isQueryAlive);
+  }
+
   private List<LogWithMetadata> matchingLogsUncached(
       final long fromBlockNumber,
       final long toBlockNumber,
@@ -692,6 +788,29 @@ public class BlockchainQueries {
         .collect(Collectors.toList());
   }
 
+  private List<LogWithMetadata> matchingLogsBloomBits(
+      final long segmentStart,
+      final long offset,
+      final long endOffset,
+      final LogsQuery query,
+      final Path bloomBitsFile,
+      final Supplier<Boolean> isQueryAlive)
+      throws Exception {
+    final List<LogWithMetadata> results = new ArrayList<>();
+    final BitSet candidates = TransactionLogBloomBits.candidateBlocks(bloomBitsFile, query);
+    for (int pos = candidates.nextSetBit((int) offset);
+        pos >= 0 && pos <= endOffset;
+        pos = candidates.nextSetBit(pos + 1)) {
+      BackendQuery.stopIfExpired(isQueryAlive);
+      results.addAll(
+          matchingLogs(
+              blockchain.getBlockHashByNumber(segmentStart + pos).orElseThrow(),
+              query,
+              isQueryAlive));
+    }
+    return results;
+  }
+
   private List<LogWithMetadata> matchingLogsCached(
       final long segmentStart,
       final long offset,
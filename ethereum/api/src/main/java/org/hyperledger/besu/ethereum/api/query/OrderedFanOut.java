@@ -0,0 +1,189 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+package org.hyperledger.besu.ethereum.api.query;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * Splits an RPC query over a range into parts that run on a dedicated, bounded pool of threads and
+ * hands their results back in range order.
+ *
+ * <p>All queries sharing an instance also share its {@code parallelism} permits, so together they
+ * never occupy more than that many pool threads. When no permit is free and none of a query's parts
+ * are in flight, the next part runs on the calling thread instead, so a query always progresses.
+ */
+public class OrderedFanOut {
+
+  private static final long IDLE_THREAD_KEEP_ALIVE_SECONDS = 60;
+
+  private final Executor executor;
+  private final int parallelism;
+  private final Semaphore permits;
+
+  @VisibleForTesting
+  OrderedFanOut(final Executor executor, final int parallelism) {
+    checkArgument(parallelism > 0, "Parallelism must be greater than 0");
+    this.executor = executor;
+    this.parallelism = parallelism;
+    this.permits = new Semaphore(parallelism);
+  }
+
+  /**
+   * Creates a fan-out backed by its own pool of daemon threads. Threads are only started when parts
+   * are scheduled and stop after a minute without work.
+   *
+   * @param name the prefix of the pool thread names
+   * @param parallelism the maximum number of parts running on the pool at any time
+   * @return the fan-out
+   */
+  public static OrderedFanOut create(final String name, final int parallelism) {
+    final ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(
+            parallelism,
+            parallelism,
+            IDLE_THREAD_KEEP_ALIVE_SECONDS,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            new ThreadFactoryBuilder().setNameFormat(name + "-%d").setDaemon(true).build());
+    executor.allowCoreThreadTimeOut(true);
+    return new OrderedFanOut(executor, parallelism);
+  }
+
+  /** Computes the result of one part of a range. */
+  @FunctionalInterface
+  public interface Part<T> {
+    /**
+     * Computes the result of a part.
+     *
+     * @param index the index of the part within the range
+     * @param isAlive whether the part is still wanted, false once the query stopped or expired
+     * @return the result of the part
+     * @throws Exception if the part cannot be computed
+     */
+    T compute(long index, Supplier<Boolean> isAlive) throws Exception;
+  }
+
+  /**
+   * Computes the parts {@code from} to {@code to} inclusive, up to {@code parallelism} at a time,
+   * and passes their results to {@code consumer} in index order. Parts still pending when the query
+   * stops are skipped.
+   *
+   * @param from the index of the first part
+   * @param to the index of the last part
+   * @param part computes the result of a part
+   * @param consumer receives each result in order and returns false once no more are needed
+   * @param isAlive whether the query is still alive, checked before each part is awaited
+   * @param <T> the type of the part results
+   * @throws Exception the failure of a part, or {@link
+   *     org.hyperledger.besu.ethereum.api.handlers.RpcMethodTimeoutException} if the query expired
+   */
+  public <T> void forEachInOrder(
+      final long from,
+      final long to,
+      final Part<T> part,
+      final Predicate<? super T> consumer,
+      final Supplier<Boolean> isAlive)
+      throws Exception {
+    final Deque<CompletableFuture<T>> inFlight = new ArrayDeque<>();
+    // a part that already started is not interrupted, so it checks this instead
+    final AtomicBoolean cancelled = new AtomicBoolean(false);
+    final Supplier<Boolean> isPartAlive = () -> !cancelled.get() && isAlive.get();
+    long next = from;
+    try {
+      while (next <= to || !inFlight.isEmpty()) {
+        BackendQuery.stopIfExpired(isAlive);
+        while (next <= to && inFlight.size() < parallelism && permits.tryAcquire()) {
+          inFlight.add(schedule(next++, part, isPartAlive, cancelled));
+        }
+        final T result;
+        if (inFlight.isEmpty()) {
+          result = part.compute(next++, isAlive);
+        } else {
+          try {
+            result = inFlight.removeFirst().get();
+          } catch (final ExecutionException e) {
+            if (e.getCause() instanceof Exception) {
+              throw (Exception) e.getCause();
+            }
+            throw e;
+          }
+        }
+        if (!consumer.test(result)) {
+          return;
+        }
+      }
+    } finally {
+      // only has an effect when the query stopped early with parts still pending
+      cancelled.set(true);
+    }
+  }
+
+  /**
+   * Schedules a part holding an acquired permit. The part releases the permit itself rather than on
+   * completion of the future, so it stays held until the pool thread is free again.
+   */
+  private <T> CompletableFuture<T> schedule(
+      final long index,
+      final Part<T> part,
+      final Supplier<Boolean> isPartAlive,
+      final AtomicBoolean cancelled) {
+    final CompletableFuture<T> result = new CompletableFuture<>();
+    try {
+      executor.execute(
+          () -> {
+            T value = null;
+            Throwable failure = null;
+            try {
+              value = cancelled.get() ? null : part.compute(index, isPartAlive);
+            } catch (final Throwable t) {
+              failure = t;
+            } finally {
+              permits.release();
+            }
+            if (failure != null) {
+              result.completeExceptionally(failure);
+            } else {
+              result.complete(value);
+            }
+          });
+    } catch (final RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+    return result;
+  }
+
+  @VisibleForTesting
+  Semaphore getPermits() {
+    return permits;
+  }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+package org.hyperledger.besu.ethereum.api.query.cache;
+
+import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.ethereum.mainnet.TransactionValidationParams;
+import org.hyperledger.besu.ethereum.transaction.CallParameter;
+import org.hyperledger.besu.metrics.BesuMetricCategory;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Bounded cache of simulated call results, used by eth_call and eth_estimateGas.
+ *
+ * <p>Entries are keyed by the hash of the block the call was simulated on, so a result never
+ * outlives the state it was computed from: once the chain moves on, requests resolve to the new
+ * head hash and the entries of older blocks are simply evicted as the cache fills up.
+ *
+ * @param <V> the type of the cached results
+ */
+public class CallResultCache<V> {
+
+  private final Cache<Key, V> cache;
+  private final Counter hitCounter;
+  private final Counter missCounter;
+
+  public CallResultCache(
+      final String methodName, final long maximumSize, final MetricsSystem metricsSystem) {
+    this.cache = CacheBuilder.newBuilder().maximumSize(maximumSize).build();
+    final LabelledMetric<Counter> lookupCounter =
+        metricsSystem.createLabelledCounter(
+            BesuMetricCategory.RPC,
+            "call_result_cache_lookups_total",
+            "Total number of call result cache lookups",
+            "method",
+            "result");
+    this.hitCounter = lookupCounter.labels(methodName, "hit");
+    this.missCounter = lookupCounter.labels(methodName, "miss");
+  }
+
+  /**
+   * Returns the cached result of a call.
+   *
+   * @param blockHash the hash of the block the call was simulated on
+   * @param callParams the call parameters
+   * @param validationParams the transaction validation parameters of the simulation
+   * @return the cached result, or empty if the call is not cached
+   */
+  public Optional<V> get(
+      final Hash blockHash,
+      final CallParameter callParams,
+      final TransactionValidationParams validationParams) {
+    final V cached = cache.getIfPresent(new Key(blockHash, callParams, validationParams));
+    if (cached == null) {
+      missCounter.inc();
+      return Optional.empty();
+    }
+    hitCounter.inc();
+    return Optional.of(cached);
+  }
+
+  public void put(
+      final Hash blockHash,
+      final CallParameter callParams,
+      final TransactionValidationParams validationParams,
+      final V result) {
+    cache.put(new Key(blockHash, callParams, validationParams), result);
+  }
+
+  /**
+   * Returns the cached result of a call, simulating and caching it on a miss. Empty results are not
+   * cached.
+   *
+   * @param blockHash the hash of the block the call is simulated on
+   * @param callParams the call parameters
+   * @param validationParams the transaction validation parameters of the simulation
+   * @param simulation simulates the call
+   * @return the result of the call
+   */
+  public Optional<V> getOrCompute(
+      final Hash blockHash,
+      final CallParameter callParams,
+      final TransactionValidationParams validationParams,
+      final Supplier<Optional<V>> simulation) {
+    final Optional<V> cached = get(blockHash, callParams, validationParams);
+    if (cached.isPresent()) {
+      return cached;
+    }
+    final Optional<V> result = simulation.get();
+    result.ifPresent(value -> put(blockHash, callParams, validationParams, value));
+    return result;
+  }
+
+  private static class Key {
+    private final Hash blockHash;
+    private final CallParameter callParams;
+    private final TransactionValidationParams validationParams;
+
+    private Key(
+        final Hash blockHash,
+        final CallParameter callParams,
+        final TransactionValidationParams validationParams) {
+      this.blockHash = blockHash;
+      this.callParams = callParams;
+      this.validationParams = validationParams;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      final Key that = (Key) o;
+      return blockHash.equals(that.blockHash)
+          && callParams.equals(that.callParams)
+          && validationParams.equals(that.validationParams);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(blockHash, callParams, validationParams);
+    }
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+package org.hyperledger.besu.ethereum.api.query.cache;
+
+import org.hyperledger.besu.ethereum.api.jsonrpc.RpcMethod;
+import org.hyperledger.besu.ethereum.transaction.TransactionSimulatorResult;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+
+import java.util.Optional;
+
+/**
+ * The eth_call and eth_estimateGas result caches of a node. They are created once and shared by
+ * all the JSON-RPC services (HTTP, WebSocket, IPC and engine), so that a call cached through one
+ * of them is a hit on the others and the cache metrics are only registered once.
+ */
+public class CallResultCaches {
+
+  private static final CallResultCaches DISABLED =
+      new CallResultCaches(Optional.empty(), Optional.empty());
+
+  private final Optional<CallResultCache<TransactionSimulatorResult>> ethCallCache;
+  private final Optional<CallResultCache<Long>> ethEstimateGasCache;
+
+  private CallResultCaches(
+      final Optional<CallResultCache<TransactionSimulatorResult>> ethCallCache,
+      final Optional<CallResultCache<Long>> ethEstimateGasCache) {
+    this.ethCallCache = ethCallCache;
+    this.ethEstimateGasCache = ethEstimateGasCache;
+  }
+
+  /**
+   * Creates the caches.
+   *
+   * @param maximumSize the maximum number of results cached per method, 0 to disable the caches
+   * @param metricsSystem the metrics system to report cache lookups to
+   * @return the caches
+   */
+  public static CallResultCaches create(final long maximumSize, final MetricsSystem metricsSystem) {
+    if (maximumSize <= 0) {
+      return DISABLED;
+    }
+    return new CallResultCaches(
+        Optional.of(
+            new CallResultCache<>(RpcMethod.ETH_CALL.getMethodName(), maximumSize, metricsSystem)),
+        Optional.of(
+            new CallResultCache<>(
+                RpcMethod.ETH_ESTIMATE_GAS.getMethodName(), maximumSize, metricsSystem)));
+  }
+
+  public static CallResultCaches disabled() {
+    return DISABLED;
+  }
+
+  public Optional<CallResultCache<TransactionSimulatorResult>> getEthCallCache() {
+    return ethCallCache;
+  }
+
+  public Optional<CallResultCache<Long>> getEthEstimateGasCache() {
+    return ethEstimateGasCache;
+  }
+}
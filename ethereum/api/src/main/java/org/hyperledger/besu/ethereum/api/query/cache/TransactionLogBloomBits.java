@@ -0,0 +1,200 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+package org.hyperledger.besu.ethereum.api.query.cache;
+
+import static org.hyperledger.besu.ethereum.api.query.cache.TransactionLogBloomCacher.BLOCKS_PER_BLOOM_CACHE;
+import static org.hyperledger.besu.ethereum.api.query.cache.TransactionLogBloomCacher.BLOOM_BITS_LENGTH;
+
+import org.hyperledger.besu.ethereum.api.query.LogsQuery;
+import org.hyperledger.besu.evm.log.LogsBloomFilter;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Bit-transposed view of a complete log bloom cache segment.
+ *
+ * <p>A {@code logBloom-N.cache} file holds one 256 byte bloom per block. The matching {@code
+ * logBloomBits-N.cache} file holds the same information rotated by 90 degrees: one bitset per bloom
+ * bit, each bitset having one bit per block of the segment. Checking whether an address or topic
+ * could be present in any block of the segment then only requires reading the three bitsets
+ * selected by its hash and AND-ing them together, a long word at a time.
+ */
+public class TransactionLogBloomBits {
+
+  public static final int BLOOM_BIT_COUNT = BLOOM_BITS_LENGTH * Byte.SIZE;
+  public static final int WORDS_PER_SECTION = (BLOCKS_PER_BLOOM_CACHE + Long.SIZE - 1) / Long.SIZE;
+  public static final long EXPECTED_BLOOM_BITS_FILE_SIZE =
+      (long) BLOOM_BIT_COUNT * WORDS_PER_SECTION * Long.BYTES;
+
+  private TransactionLogBloomBits() {}
+
+  public static File calculateBloomBitsFileName(final long segmentNumber, final Path cacheDir) {
+    return cacheDir.resolve("logBloomBits-" + segmentNumber + ".cache").toFile();
+  }
+
+  /**
+   * Transposes a complete log bloom cache file into its bloom bits file. The file is written under
+   * a temporary name and atomically moved in place so readers never observe a partial file.
+   *
+   * @param bloomFile the complete {@code logBloom-N.cache} file
+   * @param bloomBitsFile the {@code logBloomBits-N.cache} file to write
+   * @throws IOException if the files cannot be read or written
+   */
+  public static void generate(final File bloomFile, final File bloomBitsFile) throws IOException {
+    final long[][] sections = new long[BLOOM_BIT_COUNT][WORDS_PER_SECTION];
+    try (final FileChannel in = FileChannel.open(bloomFile.toPath(), StandardOpenOption.READ)) {
+      final MappedByteBuffer blooms = in.map(FileChannel.MapMode.READ_ONLY, 0, in.size());
+      final int blockCount = (int) Math.min(BLOCKS_PER_BLOOM_CACHE, in.size() / BLOOM_BITS_LENGTH);
+      for (int block = 0; block < blockCount; block++) {
+        final int base = block * BLOOM_BITS_LENGTH;
+        final long blockMask = 1L << (block & (Long.SIZE - 1));
+        final int word = block >>> 6;
+        for (int byteIndex = 0; byteIndex < BLOOM_BITS_LENGTH; byteIndex++) {
+          int value = blooms.get(base + byteIndex) & 0xFF;
+          while (value != 0) {
+            final int bit = Integer.numberOfTrailingZeros(value);
+            value &= value - 1;
+            sections[bloomBitIndex(byteIndex, bit)][word] |= blockMask;
+          }
+        }
+      }
+    }
+
+    final Path target = bloomBitsFile.toPath();
+    final Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+    try (final FileChannel out =
+        FileChannel.open(
+            temp,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+      final ByteBuffer buffer = ByteBuffer.allocate(WORDS_PER_SECTION * Long.BYTES);
+      for (final long[] section : sections) {
+        buffer.clear();
+        buffer.asLongBuffer().put(section);
+        while (buffer.hasRemaining()) {
+          out.write(buffer);
+        }
+      }
+    }
+    Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  /**
+   * Computes the blocks of a segment whose blooms could match the query.
+   *
+   * @param bloomBitsFile the memory-mapped {@code logBloomBits-N.cache} file
+   * @param query the logs query
+   * @return a bitset with one bit per block of the segment, indexed by offset within the segment
+   * @throws IOException if the file cannot be mapped
+   */
+  public static BitSet candidateBlocks(final Path bloomBitsFile, final LogsQuery query)
+      throws IOException {
+    try (final FileChannel channel = FileChannel.open(bloomBitsFile, StandardOpenOption.READ)) {
+      if (channel.size() != EXPECTED_BLOOM_BITS_FILE_SIZE) {
+        throw new IOException("Unexpected bloom bits file size for " + bloomBitsFile);
+      }
+      final LongBuffer sections =
+          channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).asLongBuffer();
+
+      long[] candidates = null;
+      if (!query.getAddressBlooms().isEmpty()) {
+        candidates = and(candidates, matchAny(sections, query.getAddressBlooms()));
+      }
+      for (final List<LogsBloomFilter> topicBlooms : query.getTopicsBlooms()) {
+        if (!topicBlooms.isEmpty()) {
+          candidates = and(candidates, matchAny(sections, topicBlooms));
+        }
+      }
+      if (candidates == null) {
+        // no address or topic constraints, every block is a candidate
+        final BitSet all = new BitSet(BLOCKS_PER_BLOOM_CACHE);
+        all.set(0, BLOCKS_PER_BLOOM_CACHE);
+        return all;
+      }
+      return BitSet.valueOf(candidates);
+    }
+  }
+
+  private static long[] matchAny(final LongBuffer sections, final List<LogsBloomFilter> blooms) {
+    final long[] result = new long[WORDS_PER_SECTION];
+    for (final LogsBloomFilter bloom : blooms) {
+      final long[] match = matchAll(sections, bloom);
+      for (int i = 0; i < WORDS_PER_SECTION; i++) {
+        result[i] |= match[i];
+      }
+    }
+    return result;
+  }
+
+  private static long[] matchAll(final LongBuffer sections, final LogsBloomFilter bloom) {
+    final long[] result = new long[WORDS_PER_SECTION];
+    boolean first = true;
+    for (int byteIndex = 0; byteIndex < BLOOM_BITS_LENGTH; byteIndex++) {
+      int value = bloom.get(byteIndex) & 0xFF;
+      while (value != 0) {
+        final int bit = Integer.numberOfTrailingZeros(value);
+        value &= value - 1;
+        final int offset = bloomBitIndex(byteIndex, bit) * WORDS_PER_SECTION;
+        if (first) {
+          for (int i = 0; i < WORDS_PER_SECTION; i++) {
+            result[i] = sections.get(offset + i);
+          }
+          first = false;
+        } else {
+          for (int i = 0; i < WORDS_PER_SECTION; i++) {
+            result[i] &= sections.get(offset + i);
+          }
+        }
+      }
+    }
+    if (first) {
+      // an empty bloom is contained by every bloom
+      Arrays.fill(result, -1L);
+    }
+    return result;
+  }
+
+  private static long[] and(final long[] accumulator, final long[] other) {
+    if (accumulator == null) {
+      return other;
+    }
+    for (int i = 0; i < WORDS_PER_SECTION; i++) {
+      accumulator[i] &= other[i];
+    }
+    return accumulator;
+  }
+
+  /**
+   * Maps a bit of the serialized bloom to its bloom bit index, matching the layout used by {@link
+   * LogsBloomFilter.Builder} where bit 0 lives in the least significant bit of the last byte.
+   */
+  private static int bloomBitIndex(final int byteIndex, final int bit) {
+    return (BLOOM_BITS_LENGTH - 1 - byteIndex) * Byte.SIZE + bit;
+  }
+}
@@ -116,6 +116,7 @@ public class TransactionLogBloomCacher {
                       cacheLogsBloomForBlockHeader(
                           blockHeader, Optional.empty(), Optional.of(cacheFile)));
           fillCacheFile(blockNum, blockNum + BLOCKS_PER_BLOOM_CACHE, cacheFile);
+          refreshBloomBits(blockNum / BLOCKS_PER_BLOOM_CACHE, cacheFile);
         }
       } catch (final Exception e) {
         LOG.error("Unhandled caching exception", e);
@@ -178,6 +179,7 @@ public class TransactionLogBloomCacher {
             }
           }
           cacheSingleBlock(blockHeader, cacheFile);
+          refreshBloomBits(blockNumber / BLOCKS_PER_BLOOM_CACHE, cacheFile);
         } catch (final InvalidCacheException e) {
           populateLatestSegment(blockNumber);
         }
@@ -231,11 +233,13 @@ public class TransactionLogBloomCacher {
         cacheSingleBlock(blockchain.getBlockHeader(blockNumber).orElseThrow(), currentFile);
         blockNumber++;
       }
+      final File cacheFile = calculateCacheFileName(blockNumber, cacheDir);
       Files.move(
           currentFile.toPath(),
-          calculateCacheFileName(blockNumber, cacheDir).toPath(),
+          cacheFile.toPath(),
           StandardCopyOption.REPLACE_EXISTING,
           StandardCopyOption.ATOMIC_MOVE);
+      refreshBloomBits(blockNumber / BLOCKS_PER_BLOOM_CACHE, cacheFile);
       return true;
     } catch (final IOException | InvalidCacheException e) {
       LOG.error("Unhandled caching exception.", e);
@@ -258,6 +262,8 @@ public class TransactionLogBloomCacher {
           final long fromBlock = segmentNumber * BLOCKS_PER_BLOOM_CACHE;
           final File cacheFile = calculateCacheFileName(fromBlock, cacheDir);
           cachedSegments.remove(segmentNumber);
+          Files.deleteIfExists(
+              TransactionLogBloomBits.calculateBloomBitsFileName(segmentNumber, cacheDir).toPath());
           if (Files.deleteIfExists(cacheFile.toPath())) {
             LOG.info(
                 "Deleted transaction log bloom cache file: {}/{}", cacheDir, cacheFile.getName());
@@ -290,13 +296,22 @@ public class TransactionLogBloomCacher {
                 if (overrideCacheCheck || !cachedSegments.getOrDefault(currentSegment, false)) {
                   final long startBlock = currentSegment * BLOCKS_PER_BLOOM_CACHE;
                   final File cacheFile = calculateCacheFileName(startBlock, cacheDir);
+                  final File bloomBitsFile =
+                      TransactionLogBloomBits.calculateBloomBitsFileName(currentSegment, cacheDir);
                   if (overrideCacheCheck
                       || !cacheFile.isFile()
                       || cacheFile.length() != EXPECTED_BLOOM_FILE_SIZE) {
                     generateLogBloomCache(startBlock, startBlock + BLOCKS_PER_BLOOM_CACHE);
+                  } else if (!bloomBitsFile.isFile()) {
+                    refreshBloomBits(currentSegment, cacheFile);
                   }
                   cachedSegments.put(currentSegment, true);
                 }
+              } catch (final IOException e) {
+                LOG.error(
+                    String.format(
+                        "Unhandled exception generating bloom bits for segment %d", currentSegment),
+                    e);
               } finally {
                 currentSegment--;
               }
@@ -306,6 +321,22 @@ public class TransactionLogBloomCacher {
     }
   }
 
+  /**
+   * Keeps the bit-transposed copy of a segment in sync with its bloom cache file. Only complete
+   * segments are transposed; a partial or truncated segment loses its bloom bits file so that
+   * queries fall back to the per-block blooms.
+   */
+  private void refreshBloomBits(final long segmentNumber, final File cacheFile) throws IOException {
+    final File bloomBitsFile =
+        TransactionLogBloomBits.calculateBloomBitsFileName(segmentNumber, cacheDir);
+    if (cacheFile.length() == EXPECTED_BLOOM_FILE_SIZE) {
+      LOG.debug("Generating bloom bits for segment {}", segmentNumber);
+      TransactionLogBloomBits.generate(cacheFile, bloomBitsFile);
+    } else {
+      Files.deleteIfExists(bloomBitsFile.toPath());
+    }
+  }
+
   private void fillCacheFileWithBlock(final BlockHeader blockHeader, final OutputStream fos)
       throws IOException {
     fos.write(ensureBloomBitsAreCorrectLength(blockHeader.getLogsBloom(true).toArray()));
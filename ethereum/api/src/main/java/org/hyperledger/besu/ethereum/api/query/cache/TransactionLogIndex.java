@@ -0,0 +1,597 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+package org.hyperledger.besu.ethereum.api.query.cache;
+
+import org.hyperledger.besu.datatypes.Address;
+import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.ethereum.api.query.BackendQuery;
+import org.hyperledger.besu.ethereum.api.query.LogsQuery;
+import org.hyperledger.besu.ethereum.chain.Blockchain;
+import org.hyperledger.besu.ethereum.core.LogWithMetadata;
+import org.hyperledger.besu.ethereum.core.Transaction;
+import org.hyperledger.besu.ethereum.core.TransactionReceipt;
+import org.hyperledger.besu.ethereum.eth.manager.EthScheduler;
+import org.hyperledger.besu.evm.log.Log;
+import org.hyperledger.besu.evm.log.LogTopic;
+import org.hyperledger.besu.plugin.services.storage.KeyValueStorage;
+import org.hyperledger.besu.plugin.services.storage.KeyValueStorageTransaction;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Optional persistent inverted index over transaction logs.
+ *
+ * <p>Every log of the canonical chain is posted under its address, under its (address, topic0) pair
+ * and under each of its topics together with the topic position. Posting lists are split in buckets
+ * of {@link #BLOCKS_PER_BUCKET} blocks and store one varint-packed (block offset, transaction
+ * index, log index) triple per log, so queries only load the receipts of blocks that really contain
+ * a matching log and only build {@link LogWithMetadata} for those logs.
+ *
+ * <p>The index follows the canonical chain: blocks are appended as the chain head advances and
+ * removed again, newest first, when they are no longer canonical after a reorg.
+ */
+public class TransactionLogIndex {
+
+  private static final Logger LOG = LoggerFactory.getLogger(TransactionLogIndex.class);
+
+  static final int BUCKET_BITS = 10;
+  public static final int BLOCKS_PER_BUCKET = 1 << BUCKET_BITS;
+
+  private static final byte INDEXED_HEAD_PREFIX = 0;
+  private static final byte ADDRESS_PREFIX = 1;
+  private static final byte ADDRESS_TOPIC0_PREFIX = 2;
+  private static final byte TOPIC_PREFIX = 3;
+  private static final byte BLOCK_HASH_PREFIX = 4;
+  private static final byte[] INDEXED_HEAD_KEY = new byte[] {INDEXED_HEAD_PREFIX};
+
+  private final Blockchain blockchain;
+  private final KeyValueStorage storage;
+  private final EthScheduler scheduler;
+
+  private final Lock indexingLock = new ReentrantLock();
+  private final AtomicBoolean indexingRequested = new AtomicBoolean(false);
+  private volatile boolean stopped = false;
+  // guarded by indexingLock
+  private boolean catchingUp = false;
+  private OptionalLong blockAddedSubscriptionId = OptionalLong.empty();
+
+  public TransactionLogIndex(
+      final Blockchain blockchain, final KeyValueStorage storage, final EthScheduler scheduler) {
+    this.blockchain = blockchain;
+    this.storage = storage;
+    this.scheduler = scheduler;
+  }
+
+  public void start() {
+    LOG.info("Starting transaction log indexing service.");
+    stopped = false;
+    blockAddedSubscriptionId =
+        OptionalLong.of(
+            blockchain.observeBlockAdded(
+                event -> {
+                  if (event.isNewCanonicalHead()) {
+                    requestIndexing();
+                  }
+                }));
+    requestIndexing();
+  }
+
+  public void stop() {
+    LOG.info("Shutting down transaction log indexing service.");
+    stopped = true;
+    blockAddedSubscriptionId.ifPresent(blockchain::removeObserver);
+  }
+
+  private void requestIndexing() {
+    scheduler.scheduleComputationTask(
+        () -> {
+          synchronize();
+          return null;
+        });
+  }
+
+  /**
+   * Returns the number of the last block covered by the index.
+   *
+   * @return the last indexed block number, or -1 if nothing is indexed yet
+   */
+  public long getIndexedHead() {
+    return storage.get(INDEXED_HEAD_KEY).map(value -> Bytes.wrap(value).toLong()).orElse(-1L);
+  }
+
+  /**
+   * Brings the index in line with the canonical chain. Blocks that are no longer canonical are
+   * removed first, then at most one bucket of blocks towards the chain head is indexed; if the
+   * index is still behind, another run is scheduled so a long catch-up does not hold a computation
+   * thread. Concurrent callers coalesce into the run that is already in progress.
+   */
+  public void synchronize() {
+    indexingRequested.set(true);
+    boolean behind = false;
+    while (indexingRequested.get() && indexingLock.tryLock()) {
+      try {
+        indexingRequested.set(false);
+        behind = catchUp();
+      } catch (final RuntimeException e) {
+        LOG.error("Unhandled log indexing exception.", e);
+      } finally {
+        indexingLock.unlock();
+      }
+    }
+    if (behind && !stopped) {
+      requestIndexing();
+    }
+  }
+
+  /**
+   * Indexes the next bucket of blocks.
+   *
+   * @return true if the index is still behind the chain head
+   */
+  private boolean catchUp() {
+    long indexedHead = getIndexedHead();
+    while (indexedHead >= 0 && !isCanonical(indexedHead)) {
+      unindexBlock(indexedHead);
+      indexedHead--;
+    }
+    final long chainHead = blockchain.getChainHeadBlockNumber();
+    if (indexedHead >= chainHead || stopped) {
+      catchingUp = false;
+      return false;
+    }
+    if (!catchingUp && chainHead - indexedHead > BLOCKS_PER_BUCKET) {
+      LOG.info("Indexing transaction logs from block {} to block {}", indexedHead + 1, chainHead);
+    }
+    final long from = indexedHead + 1;
+    final long to = Math.min(chainHead, bucketStart(bucket(from)) + BLOCKS_PER_BUCKET - 1);
+    // when the chain moved under us the next head event picks it up
+    catchingUp = indexBlocks(from, to) == to && to < chainHead;
+    return catchingUp;
+  }
+
+  private boolean isCanonical(final long blockNumber) {
+    final Optional<byte[]> indexedHash = storage.get(blockHashKey(blockNumber));
+    return indexedHash.isPresent()
+        && blockchain
+            .getBlockHashByNumber(blockNumber)
+            .map(hash -> hash.equals(Bytes.wrap(indexedHash.get())))
+            .orElse(false);
+  }
+
+  /**
+   * Indexes a range of blocks that all belong to the same bucket with a single write per posting
+   * list.
+   */
+  private long indexBlocks(final long from, final long to) {
+    final Map<Bytes, ByteArrayOutputStream> postings = new HashMap<>();
+    final KeyValueStorageTransaction transaction = storage.startTransaction();
+    long indexed = from - 1;
+    for (long number = from; number <= to; number++) {
+      final Optional<Hash> blockHash = blockchain.getBlockHashByNumber(number);
+      if (blockHash.isEmpty()) {
+        break;
+      }
+      final Optional<List<TransactionReceipt>> receipts = blockchain.getTxReceipts(blockHash.get());
+      if (receipts.isEmpty()) {
+        break;
+      }
+      final int blockOffset = (int) (number & (BLOCKS_PER_BUCKET - 1));
+      forEachTerm(
+          receipts.get(),
+          (term, txIndex, logIndex) ->
+              writePosting(
+                  postings.computeIfAbsent(term, __ -> new ByteArrayOutputStream()),
+                  blockOffset,
+                  txIndex,
+                  logIndex));
+      transaction.put(blockHashKey(number), blockHash.get().toArrayUnsafe());
+      indexed = number;
+    }
+    if (indexed < from) {
+      transaction.rollback();
+      return indexed;
+    }
+
+    final Bytes bucket = Bytes.ofUnsignedLong(bucket(from));
+    postings.forEach(
+        (term, newPostings) -> {
+          final byte[] key = Bytes.concatenate(term, bucket).toArrayUnsafe();
+          final byte[] existing = storage.get(key).orElse(new byte[0]);
+          final byte[] added = newPostings.toByteArray();
+          final byte[] value = new byte[existing.length + added.length];
+          System.arraycopy(existing, 0, value, 0, existing.length);
+          System.arraycopy(added, 0, value, existing.length, added.length);
+          transaction.put(key, value);
+        });
+    transaction.put(INDEXED_HEAD_KEY, Bytes.ofUnsignedLong(indexed).toArrayUnsafe());
+    transaction.commit();
+    return indexed;
+  }
+
+  private void unindexBlock(final long number) {
+    LOG.debug("Removing block {} from the transaction log index", number);
+    final KeyValueStorageTransaction transaction = storage.startTransaction();
+    final Optional<List<TransactionReceipt>> receipts =
+        storage
+            .get(blockHashKey(number))
+            .flatMap(hash -> blockchain.getTxReceipts(Hash.wrap(Bytes32.wrap(hash))));
+    if (receipts.isPresent()) {
+      final int blockOffset = (int) (number & (BLOCKS_PER_BUCKET - 1));
+      final Bytes bucket = Bytes.ofUnsignedLong(bucket(number));
+      final Map<Bytes, Boolean> terms = new HashMap<>();
+      forEachTerm(receipts.get(), (term, txIndex, logIndex) -> terms.put(term, Boolean.TRUE));
+      for (final Bytes term : terms.keySet()) {
+        final byte[] key = Bytes.concatenate(term, bucket).toArrayUnsafe();
+        storage
+            .get(key)
+            .ifPresent(
+                existing -> {
+                  final byte[] retained = removeBlock(existing, blockOffset);
+                  if (retained.length == 0) {
+                    transaction.remove(key);
+                  } else {
+                    transaction.put(key, retained);
+                  }
+                });
+      }
+    }
+    // postings left behind by a block whose receipts are gone are harmless, every posting is
+    // checked against the canonical block when queried
+    transaction.remove(blockHashKey(number));
+    transaction.put(INDEXED_HEAD_KEY, Bytes.ofUnsignedLong(number - 1).toArrayUnsafe());
+    transaction.commit();
+  }
+
+  /**
+   * Retrieves the logs matching the query in a range of indexed blocks.
+   *
+   * @param fromBlockNumber the first block of the range (inclusive)
+   * @param toBlockNumber the last block of the range (inclusive), at most {@link #getIndexedHead()}
+   * @param query the logs query
+   * @param isQueryAlive whether the backend query should stay alive
+   * @return the matching logs, or empty if the query has no address or topic constraint the index
+   *     could narrow the search with
+   */
+  public Optional<List<LogWithMetadata>> matchingLogs(
+      final long fromBlockNumber,
+      final long toBlockNumber,
+      final LogsQuery query,
+      final Supplier<Boolean> isQueryAlive) {
+    final List<List<Bytes>> termGroups = termGroups(query);
+    if (termGroups.isEmpty()) {
+      return Optional.empty();
+    }
+    try {
+      final List<LogWithMetadata> result = new ArrayList<>();
+      for (long bucket = bucket(fromBlockNumber); bucket <= bucket(toBlockNumber); bucket++) {
+        BackendQuery.stopIfExpired(isQueryAlive);
+        final TreeSet<Posting> candidates =
+            candidates(termGroups, bucket, fromBlockNumber, toBlockNumber);
+        final List<Posting> blockPostings = new ArrayList<>();
+        for (final Posting posting : candidates) {
+          if (!blockPostings.isEmpty() && blockPostings.get(0).blockNumber != posting.blockNumber) {
+            result.addAll(logsForBlock(blockPostings, query, isQueryAlive));
+            blockPostings.clear();
+          }
+          blockPostings.add(posting);
+        }
+        if (!blockPostings.isEmpty()) {
+          result.addAll(logsForBlock(blockPostings, query, isQueryAlive));
+        }
+      }
+      return Optional.of(result);
+    } catch (final Exception e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * Builds the groups of terms whose posting lists are intersected to answer a query. Within a
+   * group the posting lists are merged since any of the terms may match.
+   */
+  private static List<List<Bytes>> termGroups(final LogsQuery query) {
+    final List<List<Bytes>> groups = new ArrayList<>();
+    final List<Address> addresses = query.getAddresses();
+    final List<List<LogTopic>> topics = query.getTopics();
+    final boolean topic0Constrained = !topics.isEmpty() && isConstrained(topics.get(0));
+
+    if (!addresses.isEmpty() && topic0Constrained) {
+      final List<Bytes> group = new ArrayList<>();
+      for (final Address address : addresses) {
+        for (final LogTopic topic : topics.get(0)) {
+          if (address != null) {
+            group.add(addressTopic0Term(address, topic));
+          }
+        }
+      }
+      groups.add(group);
+    } else if (!addresses.isEmpty()) {
+      final List<Bytes> group = new ArrayList<>();
+      addresses.stream()
+          .filter(Objects::nonNull)
+          .forEach(address -> group.add(addressTerm(address)));
+      groups.add(group);
+    } else if (topic0Constrained) {
+      groups.add(topicGroup(0, topics.get(0)));
+    }
+    for (int position = 1; position < topics.size(); position++) {
+      if (isConstrained(topics.get(position))) {
+        groups.add(topicGroup(position, topics.get(position)));
+      }
+    }
+    return groups;
+  }
+
+  private static boolean isConstrained(final List<LogTopic> topics) {
+    return !topics.isEmpty() && !topics.contains(null);
+  }
+
+  private static List<Bytes> topicGroup(final int position, final List<LogTopic> topics) {
+    final List<Bytes> group = new ArrayList<>();
+    topics.forEach(topic -> group.add(topicTerm(position, topic)));
+    return group;
+  }
+
+  private TreeSet<Posting> candidates(
+      final List<List<Bytes>> termGroups,
+      final long bucket,
+      final long fromBlockNumber,
+      final long toBlockNumber) {
+    final Bytes bucketKey = Bytes.ofUnsignedLong(bucket);
+    TreeSet<Posting> candidates = null;
+    for (final List<Bytes> group : termGroups) {
+      final TreeSet<Posting> groupPostings = new TreeSet<>();
+      for (final Bytes term : group) {
+        storage
+            .get(Bytes.concatenate(term, bucketKey).toArrayUnsafe())
+            .ifPresent(
+                value ->
+                    readPostings(value, bucket, fromBlockNumber, toBlockNumber, groupPostings));
+      }
+      if (candidates == null) {
+        candidates = groupPostings;
+      } else {
+        candidates.retainAll(groupPostings);
+      }
+      if (candidates.isEmpty()) {
+        break;
+      }
+    }
+    return candidates;
+  }
+
+  private List<LogWithMetadata> logsForBlock(
+      final List<Posting> postings, final LogsQuery query, final Supplier<Boolean> isQueryAlive)
+      throws Exception {
+    final long number = postings.get(0).blockNumber;
+    final Optional<Hash> maybeBlockHash =
+        BackendQuery.runIfAlive(
+            "matchingLogs - getBlockHashByNumber",
+            () -> blockchain.getBlockHashByNumber(number),
+            isQueryAlive);
+    if (maybeBlockHash.isEmpty()) {
+      return List.of();
+    }
+    final Hash blockHash = maybeBlockHash.get();
+    final List<TransactionReceipt> receipts =
+        BackendQuery.runIfAlive(
+            "matchingLogs - getTxReceipts",
+            () -> blockchain.getTxReceipts(blockHash).orElseThrow(),
+            isQueryAlive);
+    final List<Transaction> transactions =
+        BackendQuery.runIfAlive(
+            "matchingLogs - getBlockBody",
+            () -> blockchain.getBlockBody(blockHash).orElseThrow().getTransactions(),
+            isQueryAlive);
+
+    final List<LogWithMetadata> logs = new ArrayList<>();
+    for (final Posting posting : postings) {
+      if (posting.transactionIndex >= receipts.size()) {
+        continue;
+      }
+      final List<Log> receiptLogs = receipts.get(posting.transactionIndex).getLogsList();
+      if (posting.logIndex >= receiptLogs.size()) {
+        continue;
+      }
+      final Log log = receiptLogs.get(posting.logIndex);
+      final LogWithMetadata logWithMetadata =
+          new LogWithMetadata(
+              posting.logIndex,
+              number,
+              blockHash,
+              transactions.get(posting.transactionIndex).getHash(),
+              posting.transactionIndex,
+              log.getLogger(),
+              log.getData(),
+              log.getTopics(),
+              false);
+      if (query.matches(logWithMetadata)) {
+        logs.add(logWithMetadata);
+      }
+    }
+    return logs;
+  }
+
+  private static void forEachTerm(
+      final List<TransactionReceipt> receipts, final TermConsumer consumer) {
+    for (int txIndex = 0; txIndex < receipts.size(); txIndex++) {
+      final List<Log> logs = receipts.get(txIndex).getLogsList();
+      for (int logIndex = 0; logIndex < logs.size(); logIndex++) {
+        final Log log = logs.get(logIndex);
+        final List<LogTopic> topics = log.getTopics();
+        consumer.accept(addressTerm(log.getLogger()), txIndex, logIndex);
+        if (!topics.isEmpty()) {
+          consumer.accept(addressTopic0Term(log.getLogger(), topics.get(0)), txIndex, logIndex);
+        }
+        for (int position = 0; position < topics.size(); position++) {
+          consumer.accept(topicTerm(position, topics.get(position)), txIndex, logIndex);
+        }
+      }
+    }
+  }
+
+  private static Bytes addressTerm(final Address address) {
+    return Bytes.concatenate(Bytes.of(ADDRESS_PREFIX), address);
+  }
+
+  private static Bytes addressTopic0Term(final Address address, final LogTopic topic) {
+    return Bytes.concatenate(Bytes.of(ADDRESS_TOPIC0_PREFIX), address, topic);
+  }
+
+  private static Bytes topicTerm(final int position, final LogTopic topic) {
+    return Bytes.concatenate(Bytes.of(TOPIC_PREFIX, (byte) position), topic);
+  }
+
+  private static byte[] blockHashKey(final long blockNumber) {
+    return Bytes.concatenate(Bytes.of(BLOCK_HASH_PREFIX), Bytes.ofUnsignedLong(blockNumber))
+        .toArrayUnsafe();
+  }
+
+  private static long bucket(final long blockNumber) {
+    return blockNumber >>> BUCKET_BITS;
+  }
+
+  private static long bucketStart(final long bucket) {
+    return bucket << BUCKET_BITS;
+  }
+
+  private static void writePosting(
+      final ByteArrayOutputStream out,
+      final int blockOffset,
+      final int transactionIndex,
+      final int logIndex) {
+    writeVarInt(out, blockOffset);
+    writeVarInt(out, transactionIndex);
+    writeVarInt(out, logIndex);
+  }
+
+  private static void readPostings(
+      final byte[] value,
+      final long bucket,
+      final long fromBlockNumber,
+      final long toBlockNumber,
+      final Collection<Posting> postings) {
+    final int[] position = new int[1];
+    while (position[0] < value.length) {
+      final long blockNumber = bucketStart(bucket) + readVarInt(value, position);
+      final int transactionIndex = readVarInt(value, position);
+      final int logIndex = readVarInt(value, position);
+      if (blockNumber >= fromBlockNumber && blockNumber <= toBlockNumber) {
+        postings.add(new Posting(blockNumber, transactionIndex, logIndex));
+      }
+    }
+  }
+
+  private static byte[] removeBlock(final byte[] value, final int blockOffset) {
+    final ByteArrayOutputStream retained = new ByteArrayOutputStream(value.length);
+    final int[] position = new int[1];
+    while (position[0] < value.length) {
+      final int offset = readVarInt(value, position);
+      final int transactionIndex = readVarInt(value, position);
+      final int logIndex = readVarInt(value, position);
+      if (offset != blockOffset) {
+        writePosting(retained, offset, transactionIndex, logIndex);
+      }
+    }
+    return retained.toByteArray();
+  }
+
+  private static void writeVarInt(final ByteArrayOutputStream out, final int value) {
+    int remaining = value;
+    while ((remaining & ~0x7F) != 0) {
+      out.write((remaining & 0x7F) | 0x80);
+      remaining >>>= 7;
+    }
+    out.write(remaining);
+  }
+
+  private static int readVarInt(final byte[] value, final int[] position) {
+    int result = 0;
+    int shift = 0;
+    byte current;
+    do {
+      current = value[position[0]++];
+      result |= (current & 0x7F) << shift;
+      shift += 7;
+    } while ((current & 0x80) != 0);
+    return result;
+  }
+
+  @FunctionalInterface
+  private interface TermConsumer {
+    void accept(Bytes term, int transactionIndex, int logIndex);
+  }
+
+  private static final class Posting implements Comparable<Posting> {
+    private final long blockNumber;
+    private final int transactionIndex;
+    private final int logIndex;
+
+    private Posting(final long blockNumber, final int transactionIndex, final int logIndex) {
+      this.blockNumber = blockNumber;
+      this.transactionIndex = transactionIndex;
+      this.logIndex = logIndex;
+    }
+
+    @Override
+    public int compareTo(final Posting other) {
+      if (blockNumber != other.blockNumber) {
+        return Long.compare(blockNumber, other.blockNumber);
+      }
+      if (transactionIndex != other.transactionIndex) {
+        return Integer.compare(transactionIndex, other.transactionIndex);
+      }
+      return Integer.compare(logIndex, other.logIndex);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Posting)) {
+        return false;
+      }
+      final Posting other = (Posting) o;
+      return blockNumber == other.blockNumber
+          && transactionIndex == other.transactionIndex
+          && logIndex == other.logIndex;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(blockNumber, transactionIndex, logIndex);
+    }
+  }
+}
@@ -143,9 +143,7 @@ public abstract class AbstractJsonRpcHttpServiceTest {
     when(transactionPoolMock.getPendingTransactions()).thenReturn(pendingTransactionsMock);
     final PrivacyParameters privacyParameters = mock(PrivacyParameters.class);
 
-    final BlockchainQueries blockchainQueries =
-        new BlockchainQueries(
-            blockchainSetupUtil.getBlockchain(), blockchainSetupUtil.getWorldArchive());
+    final BlockchainQueries blockchainQueries = createBlockchainQueries(blockchainSetupUtil);
     final FilterIdGenerator filterIdGenerator = mock(FilterIdGenerator.class);
     final FilterRepository filterRepository = new FilterRepository();
     when(filterIdGenerator.nextId()).thenReturn("0x1");
@@ -191,6 +189,12 @@ public abstract class AbstractJsonRpcHttpServiceTest {
             mock(EthPeers.class));
   }
 
+  protected BlockchainQueries createBlockchainQueries(
+      final BlockchainSetupUtil blockchainSetupUtil) {
+    return new BlockchainQueries(
+        blockchainSetupUtil.getBlockchain(), blockchainSetupUtil.getWorldArchive());
+  }
+
   protected void startService() throws Exception {
     startService(blockchainSetupUtil);
   }
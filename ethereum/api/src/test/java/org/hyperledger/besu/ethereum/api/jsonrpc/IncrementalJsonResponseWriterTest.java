@@ -0,0 +1,171 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.jsonrpc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcError;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcErrorResponse;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcResponse;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcSuccessResponse;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.StreamedResult;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonGenerator.Feature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.impl.future.SucceededFuture;
+import io.vertx.core.net.SocketAddress;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class IncrementalJsonResponseWriterTest {
+  private static final ObjectWriter JSON_OBJECT_WRITER =
+      new ObjectMapper()
+          .registerModule(new Jdk8Module())
+          .writerWithDefaultPrettyPrinter()
+          .without(Feature.FLUSH_PASSED_TO_STREAM)
+          .with(Feature.AUTO_CLOSE_TARGET);
+
+  private final SocketAddress testAddress = SocketAddress.domainSocketAddress("test");
+
+  @Mock private Vertx vertx;
+  @Mock private HttpServerResponse httpResponse;
+
+  private final ArgumentCaptor<Buffer> written = ArgumentCaptor.forClass(Buffer.class);
+
+  @Before
+  public void before() {
+    when(httpResponse.write(written.capture())).thenReturn(new SucceededFuture<>(null, null));
+  }
+
+  @Test
+  public void writesTheSameJsonAsTheObjectWriter() throws Exception {
+    final JsonRpcResponse[] batch =
+        new JsonRpcResponse[] {
+          new JsonRpcSuccessResponse(1, List.of("a", "b", "c")),
+          new JsonRpcSuccessResponse(2, "d"),
+          new JsonRpcErrorResponse(3, JsonRpcError.INVALID_PARAMS)
+        };
+
+    writer(0).write(batch);
+
+    assertThat(writtenJson()).isEqualTo(JSON_OBJECT_WRITER.writeValueAsString(batch));
+    verify(httpResponse).end();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void pausesUntilTheClientDrainsTheWriteQueue() throws Exception {
+    final ArgumentCaptor<Handler<Void>> drainHandler = ArgumentCaptor.forClass(Handler.class);
+    when(httpResponse.writeQueueFull()).thenReturn(true);
+    when(httpResponse.drainHandler(drainHandler.capture())).thenReturn(httpResponse);
+    when(vertx.setTimer(anyLong(), any())).thenReturn(1L);
+    final JsonRpcSuccessResponse response = new JsonRpcSuccessResponse(1, List.of("a", "b"));
+
+    writer(16).write(response);
+
+    verify(httpResponse).setWriteQueueMaxSize(16);
+    verify(httpResponse, never()).end();
+
+    when(httpResponse.writeQueueFull()).thenReturn(false);
+    when(vertx.executeBlocking(any(), anyBoolean()))
+        .thenAnswer(
+            invocation -> {
+              invocation.<Handler<Promise<Void>>>getArgument(0).handle(Promise.promise());
+              return null;
+            });
+    drainHandler.getValue().handle(null);
+
+    assertThat(writtenJson()).isEqualTo(JSON_OBJECT_WRITER.writeValueAsString(response));
+    verify(vertx).cancelTimer(1L);
+    verify(httpResponse).end();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void dropsTheConnectionWhenTheClientDoesNotRead() {
+    final ArgumentCaptor<Handler<Long>> timeoutHandler = ArgumentCaptor.forClass(Handler.class);
+    when(httpResponse.writeQueueFull()).thenReturn(true);
+    when(vertx.setTimer(anyLong(), timeoutHandler.capture())).thenReturn(1L);
+
+    writer(16).write(new JsonRpcSuccessResponse(1, List.of("a", "b")));
+    timeoutHandler.getValue().handle(1L);
+
+    verify(httpResponse).close();
+    verify(httpResponse, never()).end();
+  }
+
+  @Test
+  public void dropsTheConnectionWhenTheClientDoesNotReadAStreamedResult() {
+    when(httpResponse.writeQueueFull()).thenReturn(true);
+
+    writer(16, Duration.ofMillis(10))
+        .write(new JsonRpcSuccessResponse(1, new TestStreamedResult()));
+
+    verify(httpResponse).close();
+    verify(httpResponse, never()).end();
+    verify(vertx, never()).setTimer(anyLong(), any());
+  }
+
+  private IncrementalJsonResponseWriter writer(final int maxBufferedBytes) {
+    return writer(maxBufferedBytes, Duration.ofMinutes(1));
+  }
+
+  private IncrementalJsonResponseWriter writer(
+      final int maxBufferedBytes, final Duration drainTimeout) {
+    return new IncrementalJsonResponseWriter(
+        vertx, httpResponse, testAddress, JSON_OBJECT_WRITER, maxBufferedBytes, drainTimeout);
+  }
+
+  private String writtenJson() {
+    return written.getAllValues().stream().map(Buffer::toString).collect(Collectors.joining());
+  }
+
+  private static class TestStreamedResult implements StreamedResult {
+    @Override
+    public void serialize(final JsonGenerator generator, final SerializerProvider serializers)
+        throws IOException {
+      generator.writeStartArray();
+      for (int i = 0; i < 100; i++) {
+        generator.writeString("value" + i);
+      }
+      generator.writeEndArray();
+    }
+  }
+}
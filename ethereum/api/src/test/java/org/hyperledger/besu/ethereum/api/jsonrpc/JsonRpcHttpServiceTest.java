@@ -26,8 +26,10 @@ import static org.mockito.Mockito.when;
 import org.hyperledger.besu.datatypes.Address;
 import org.hyperledger.besu.datatypes.Hash;
 import org.hyperledger.besu.datatypes.Wei;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequestContext;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.methods.JsonRpcMethod;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcError;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcSuccessResponse;
 import org.hyperledger.besu.ethereum.api.query.BlockWithMetadata;
 import org.hyperledger.besu.ethereum.api.query.TransactionWithMetadata;
 import org.hyperledger.besu.ethereum.api.util.TestJsonRpcMethodsUtil;
@@ -48,6 +50,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import io.vertx.core.json.Json;
@@ -1604,6 +1608,94 @@ public class JsonRpcHttpServiceTest extends JsonRpcHttpServiceTestBase {
     }
   }
 
+  @Test
+  public void batchRequestResponsesKeepRequestOrder() throws Exception {
+    final int requestCount = 3 * JsonRpcConfiguration.DEFAULT_MAX_BATCH_PARALLELISM + 1;
+    final StringJoiner requests = new StringJoiner(",", "[", "]");
+    for (int i = 0; i < requestCount; i++) {
+      requests.add("{\"jsonrpc\":\"2.0\",\"id\":" + i + ",\"method\":\"net_version\"}");
+    }
+    final RequestBody body = RequestBody.create(JSON, requests.toString());
+
+    try (final Response resp = client.newCall(buildPostRequest(body)).execute()) {
+      assertThat(resp.code()).isEqualTo(200);
+      final JsonArray json = new JsonArray(resp.body().string());
+      assertThat(json.size()).isEqualTo(requestCount);
+      for (int i = 0; i < requestCount; i++) {
+        testHelper.assertValidJsonRpcResult(json.getJsonObject(i), i);
+      }
+    }
+  }
+
+  @Test
+  public void batchRequestExceedingMaxBatchSize() throws Exception {
+    final JsonRpcConfiguration config = createJsonRpcConfig();
+    config.setMaxBatchSize(2);
+    final JsonRpcHttpService limitedService = createJsonRpcHttpService(config);
+    limitedService.start().join();
+
+    final StringJoiner requests = new StringJoiner(",", "[", "]");
+    for (int i = 0; i <= config.getMaxBatchSize(); i++) {
+      requests.add("{\"jsonrpc\":\"2.0\",\"id\":" + i + ",\"method\":\"net_version\"}");
+    }
+    final RequestBody body = RequestBody.create(JSON, requests.toString());
+    final Request request = new Request.Builder().post(body).url(limitedService.url()).build();
+
+    try (final Response resp = client.newCall(request).execute()) {
+      final JsonObject json = new JsonObject(resp.body().string());
+      final JsonRpcError expectedError = JsonRpcError.EXCEEDS_RPC_MAX_BATCH_SIZE;
+      testHelper.assertValidJsonRpcError(
+          json, null, expectedError.getCode(), expectedError.getMessage());
+    } finally {
+      limitedService.stop().join();
+    }
+  }
+
+  @Test
+  public void batchRequestExceedingMaxBatchCpuTime() throws Exception {
+    final JsonRpcConfiguration config = createJsonRpcConfig();
+    config.setMaxBatchParallelism(1);
+    config.setMaxBatchCpuTimeMillis(5);
+    final JsonRpcHttpService limitedService = createJsonRpcHttpService(config);
+    limitedService.start().join();
+
+    final JsonRpcMethod cpuBoundMethod = mock(JsonRpcMethod.class);
+    when(cpuBoundMethod.getName()).thenReturn("net_version");
+    when(cpuBoundMethod.response(any()))
+        .thenAnswer(
+            invocation -> {
+              final long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(50);
+              while (System.nanoTime() < end) {
+                // spin so the request uses more than the batch's CPU time
+              }
+              final JsonRpcRequestContext context = invocation.getArgument(0);
+              return new JsonRpcSuccessResponse(context.getRequest().getId(), "done");
+            });
+    final JsonRpcMethod netVersion = rpcMethods.put("net_version", cpuBoundMethod);
+
+    final StringJoiner requests = new StringJoiner(",", "[", "]");
+    for (int i = 0; i < 3; i++) {
+      requests.add("{\"jsonrpc\":\"2.0\",\"id\":" + i + ",\"method\":\"net_version\"}");
+    }
+    final RequestBody body = RequestBody.create(JSON, requests.toString());
+    final Request request = new Request.Builder().post(body).url(limitedService.url()).build();
+
+    try (final Response resp = client.newCall(request).execute()) {
+      assertThat(resp.code()).isEqualTo(200);
+      final JsonArray json = new JsonArray(resp.body().string());
+      assertThat(json.size()).isEqualTo(3);
+      testHelper.assertValidJsonRpcResult(json.getJsonObject(0), 0);
+      final JsonRpcError expectedError = JsonRpcError.TIMEOUT_ERROR;
+      for (int i = 1; i < 3; i++) {
+        testHelper.assertValidJsonRpcError(
+            json.getJsonObject(i), i, expectedError.getCode(), expectedError.getMessage());
+      }
+    } finally {
+      rpcMethods.put("net_version", netVersion);
+      limitedService.stop().join();
+    }
+  }
+
   /**
    * Tests that empty batch requests are treated as invalid requests as per
    * http://www.jsonrpc.org/specification#batch.
@@ -0,0 +1,75 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.jsonrpc.forest;
+
+import org.hyperledger.besu.ethereum.api.ImmutableApiConfiguration;
+import org.hyperledger.besu.ethereum.api.jsonrpc.AbstractJsonRpcHttpBySpecTest;
+import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
+import org.hyperledger.besu.ethereum.core.BlockchainSetupUtil;
+import org.hyperledger.besu.ethereum.eth.manager.EthScheduler;
+import org.hyperledger.besu.ethereum.worldstate.DataStorageFormat;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+
+import java.net.URL;
+import java.util.Optional;
+
+import org.junit.After;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+@RunWith(Parameterized.class)
+public class TraceFilterParallelJsonRpcHttpBySpecTest extends AbstractJsonRpcHttpBySpecTest {
+
+  private final EthScheduler scheduler = new EthScheduler(1, 1, 4, new NoOpMetricsSystem());
+
+  public TraceFilterParallelJsonRpcHttpBySpecTest(final String specName, final URL specURL) {
+    super(specName, specURL);
+  }
+
+  @Override
+  public void setup() throws Exception {
+    setupBlockchain();
+    startService();
+  }
+
+  @After
+  public void stopScheduler() throws InterruptedException {
+    scheduler.stop();
+    scheduler.awaitStop();
+  }
+
+  @Override
+  protected BlockchainSetupUtil getBlockchainSetupUtil(final DataStorageFormat storageFormat) {
+    return createBlockchainSetupUtil(
+        "trace/chain-data/genesis.json", "trace/chain-data/blocks.bin", storageFormat);
+  }
+
+  @Override
+  protected BlockchainQueries createBlockchainQueries(
+      final BlockchainSetupUtil blockchainSetupUtil) {
+    return new BlockchainQueries(
+        blockchainSetupUtil.getBlockchain(),
+        blockchainSetupUtil.getWorldArchive(),
+        Optional.empty(),
+        Optional.of(scheduler),
+        ImmutableApiConfiguration.builder().traceFilterParallelism(4).build());
+  }
+
+  @Parameters(name = "{index}: {0}")
+  public static Object[][] specs() {
+    return AbstractJsonRpcHttpBySpecTest.findSpecFiles(new String[] {"trace/specs/trace-filter"});
+  }
+}
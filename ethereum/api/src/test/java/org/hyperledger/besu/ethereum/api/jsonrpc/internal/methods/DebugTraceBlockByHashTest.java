@@ -27,20 +27,26 @@ import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequestContext;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.BlockTrace;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.BlockTracer;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.TransactionTrace;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.TransactionTraceListener;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcSuccessResponse;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.DebugTraceTransactionResult;
 import org.hyperledger.besu.ethereum.debug.TraceFrame;
+import org.hyperledger.besu.ethereum.debug.TraceOptions;
 import org.hyperledger.besu.ethereum.processing.TransactionProcessingResult;
 import org.hyperledger.besu.evm.Gas;
 
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.Optional;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.tuweni.bytes.Bytes;
 import org.junit.Test;
 
 public class DebugTraceBlockByHashTest {
 
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
   private final BlockTracer blockTracer = mock(BlockTracer.class);
   private final DebugTraceBlockByHash debugTraceBlockByHash =
       new DebugTraceBlockByHash(() -> blockTracer);
@@ -54,7 +60,7 @@ public class DebugTraceBlockByHashTest {
   }
 
   @Test
-  public void shouldReturnCorrectResponse() {
+  public void shouldReturnCorrectResponse() throws Exception {
     final Object[] params = new Object[] {blockHash};
     final JsonRpcRequestContext request =
         new JsonRpcRequestContext(new JsonRpcRequest("2.0", "debug_traceBlockByHash", params));
@@ -99,11 +105,36 @@ public class DebugTraceBlockByHashTest {
     when(transaction2Trace.getResult()).thenReturn(transaction2Result);
     when(transaction1Result.getOutput()).thenReturn(Bytes.fromHexString("1234"));
     when(transaction2Result.getOutput()).thenReturn(Bytes.fromHexString("1234"));
-    when(blockTracer.trace(eq(blockHash), any())).thenReturn(Optional.of(blockTrace));
+    when(blockTracer.stream(eq(blockHash), any(TraceOptions.class), any()))
+        .thenAnswer(
+            invocation -> {
+              final TransactionTraceListener listener = invocation.getArgument(2);
+              for (final TransactionTrace transactionTrace : blockTrace.getTransactionTraces()) {
+                transactionTrace.getTraceFrames().forEach(listener::traceFrame);
+                listener.transactionCompleted(transactionTrace);
+              }
+              return true;
+            });
 
     final JsonRpcSuccessResponse response =
         (JsonRpcSuccessResponse) debugTraceBlockByHash.response(request);
-    final Collection<?> result = (Collection<?>) response.getResult();
+    final JsonNode result = MAPPER.readTree(MAPPER.writeValueAsString(response.getResult()));
     assertThat(result).hasSize(2);
+    assertThat(result)
+        .isEqualTo(
+            MAPPER.valueToTree(DebugTraceTransactionResult.of(blockTrace.getTransactionTraces())));
+  }
+
+  @Test
+  public void shouldReturnNullWhenBlockCannotBeReplayed() throws Exception {
+    final Object[] params = new Object[] {blockHash};
+    final JsonRpcRequestContext request =
+        new JsonRpcRequestContext(new JsonRpcRequest("2.0", "debug_traceBlockByHash", params));
+    when(blockTracer.stream(eq(blockHash), any(TraceOptions.class), any())).thenReturn(false);
+
+    final JsonRpcSuccessResponse response =
+        (JsonRpcSuccessResponse) debugTraceBlockByHash.response(request);
+
+    assertThat(MAPPER.writeValueAsString(response.getResult())).isEqualTo("null");
   }
 }
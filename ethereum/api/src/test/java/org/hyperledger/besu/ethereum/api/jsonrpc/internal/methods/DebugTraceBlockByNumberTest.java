@@ -29,21 +29,25 @@ import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequestContext;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.BlockTrace;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.BlockTracer;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.TransactionTrace;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.TransactionTraceListener;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcSuccessResponse;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.DebugTraceTransactionResult;
 import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
 import org.hyperledger.besu.ethereum.debug.TraceFrame;
+import org.hyperledger.besu.ethereum.debug.TraceOptions;
 import org.hyperledger.besu.ethereum.processing.TransactionProcessingResult;
 import org.hyperledger.besu.evm.Gas;
 
-import java.util.Collection;
 import java.util.Optional;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.tuweni.bytes.Bytes;
 import org.junit.Test;
 
 public class DebugTraceBlockByNumberTest {
 
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
   private final BlockchainQueries blockchain = mock(BlockchainQueries.class);
   private final BlockTracer blockTracer = mock(BlockTracer.class);
   private final DebugTraceBlockByNumber debugTraceBlockByNumber =
@@ -58,7 +62,7 @@ public class DebugTraceBlockByNumberTest {
   }
 
   @Test
-  public void shouldReturnCorrectResponse() {
+  public void shouldReturnCorrectResponse() throws Exception {
     final long blockNumber = 1L;
     final Object[] params = new Object[] {Long.toHexString(blockNumber)};
     final JsonRpcRequestContext request =
@@ -105,18 +109,21 @@ public class DebugTraceBlockByNumberTest {
     when(transaction1Result.getOutput()).thenReturn(Bytes.fromHexString("1234"));
     when(transaction2Result.getOutput()).thenReturn(Bytes.fromHexString("1234"));
     when(blockchain.getBlockHashByNumber(blockNumber)).thenReturn(Optional.of(blockHash));
-    when(blockTracer.trace(eq(blockHash), any())).thenReturn(Optional.of(blockTrace));
+    when(blockTracer.stream(eq(blockHash), any(TraceOptions.class), any()))
+        .thenAnswer(
+            invocation -> {
+              final TransactionTraceListener listener = invocation.getArgument(2);
+              for (final TransactionTrace transactionTrace : blockTrace.getTransactionTraces()) {
+                transactionTrace.getTraceFrames().forEach(listener::traceFrame);
+                listener.transactionCompleted(transactionTrace);
+              }
+              return true;
+            });
 
     final JsonRpcSuccessResponse response =
         (JsonRpcSuccessResponse) debugTraceBlockByNumber.response(request);
-    final Collection<DebugTraceTransactionResult> result = getResult(response);
-    assertThat(result)
-        .usingFieldByFieldElementComparator()
-        .isEqualTo(DebugTraceTransactionResult.of(blockTrace.getTransactionTraces()));
-  }
-
-  @SuppressWarnings("unchecked")
-  private Collection<DebugTraceTransactionResult> getResult(final JsonRpcSuccessResponse response) {
-    return (Collection<DebugTraceTransactionResult>) response.getResult();
+    assertThat(MAPPER.readTree(MAPPER.writeValueAsString(response.getResult())))
+        .isEqualTo(
+            MAPPER.valueToTree(DebugTraceTransactionResult.of(blockTrace.getTransactionTraces())));
   }
 }
@@ -27,6 +27,7 @@ import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequestContext;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.BlockTrace;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.BlockTracer;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.TransactionTrace;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.TransactionTraceListener;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcError;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcErrorResponse;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcSuccessResponse;
@@ -35,20 +36,23 @@ import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
 import org.hyperledger.besu.ethereum.core.Block;
 import org.hyperledger.besu.ethereum.core.BlockDataGenerator;
 import org.hyperledger.besu.ethereum.debug.TraceFrame;
+import org.hyperledger.besu.ethereum.debug.TraceOptions;
 import org.hyperledger.besu.ethereum.mainnet.MainnetBlockHeaderFunctions;
 import org.hyperledger.besu.ethereum.processing.TransactionProcessingResult;
 import org.hyperledger.besu.evm.Gas;
 
-import java.util.Collection;
 import java.util.Collections;
 import java.util.Optional;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.tuweni.bytes.Bytes;
 import org.junit.Test;
 import org.mockito.Mockito;
 
 public class DebugTraceBlockTest {
 
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
   private final BlockTracer blockTracer = mock(BlockTracer.class);
   private final BlockchainQueries blockchainQueries = mock(BlockchainQueries.class);
   private final DebugTraceBlock debugTraceBlock =
@@ -60,7 +64,7 @@ public class DebugTraceBlockTest {
   }
 
   @Test
-  public void shouldReturnCorrectResponse() {
+  public void shouldReturnCorrectResponse() throws Exception {
     final Block parentBlock =
         new BlockDataGenerator()
             .block(
@@ -117,7 +121,16 @@ public class DebugTraceBlockTest {
     when(transaction2Trace.getResult()).thenReturn(transaction2Result);
     when(transaction1Result.getOutput()).thenReturn(Bytes.fromHexString("1234"));
     when(transaction2Result.getOutput()).thenReturn(Bytes.fromHexString("1234"));
-    when(blockTracer.trace(Mockito.eq(block), any())).thenReturn(Optional.of(blockTrace));
+    when(blockTracer.stream(Mockito.eq(block), any(TraceOptions.class), any()))
+        .thenAnswer(
+            invocation -> {
+              final TransactionTraceListener listener = invocation.getArgument(2);
+              for (final TransactionTrace transactionTrace : blockTrace.getTransactionTraces()) {
+                transactionTrace.getTraceFrames().forEach(listener::traceFrame);
+                listener.transactionCompleted(transactionTrace);
+              }
+              return true;
+            });
 
     when(blockchainQueries.blockByHash(parentBlock.getHash()))
         .thenReturn(
@@ -131,8 +144,7 @@ public class DebugTraceBlockTest {
 
     final JsonRpcSuccessResponse response =
         (JsonRpcSuccessResponse) debugTraceBlock.response(request);
-    final Collection<?> result = (Collection<?>) response.getResult();
-    assertThat(result).hasSize(2);
+    assertThat(MAPPER.readTree(MAPPER.writeValueAsString(response.getResult()))).hasSize(2);
   }
 
   @Test
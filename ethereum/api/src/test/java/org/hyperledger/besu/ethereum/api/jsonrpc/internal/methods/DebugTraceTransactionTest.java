@@ -15,6 +15,7 @@
 package org.hyperledger.besu.ethereum.api.jsonrpc.internal.methods;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -22,18 +23,20 @@ import static org.mockito.Mockito.when;
 
 import org.hyperledger.besu.datatypes.Hash;
 import org.hyperledger.besu.datatypes.Wei;
+import org.hyperledger.besu.ethereum.api.handlers.RpcMethodTimeoutException;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequest;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequestContext;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.TransactionTrace;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.TransactionTraceListener;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.TransactionTracer;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcSuccessResponse;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.DebugTraceTransactionResult;
-import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.StructLog;
 import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
 import org.hyperledger.besu.ethereum.api.query.TransactionWithMetadata;
 import org.hyperledger.besu.ethereum.core.BlockHeader;
 import org.hyperledger.besu.ethereum.core.Transaction;
 import org.hyperledger.besu.ethereum.debug.TraceFrame;
+import org.hyperledger.besu.ethereum.debug.TraceOptions;
 import org.hyperledger.besu.ethereum.processing.TransactionProcessingResult;
 import org.hyperledger.besu.ethereum.vm.DebugOperationTracer;
 import org.hyperledger.besu.evm.Gas;
@@ -44,12 +47,16 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.junit.Test;
 
 public class DebugTraceTransactionTest {
 
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
   private final BlockchainQueries blockchain = mock(BlockchainQueries.class);
   private final TransactionTracer transactionTracer = mock(TransactionTracer.class);
   private final DebugTraceTransaction debugTraceTransaction =
@@ -68,7 +75,7 @@ public class DebugTraceTransactionTest {
   }
 
   @Test
-  public void shouldTraceTheTransactionUsingTheTransactionTracer() {
+  public void shouldTraceTheTransactionUsingTheTransactionTracer() throws Exception {
     final TransactionWithMetadata transactionWithMetadata =
         new TransactionWithMetadata(transaction, 12L, Optional.empty(), blockHash, 2);
     final Map<String, Boolean> map = new HashMap<>();
@@ -122,25 +129,48 @@ public class DebugTraceTransactionTest {
     when(blockchain.headBlockNumber()).thenReturn(12L);
     when(blockchain.transactionByHash(transactionHash))
         .thenReturn(Optional.of(transactionWithMetadata));
-    when(transactionTracer.traceTransaction(
-            eq(blockHash), eq(transactionHash), any(DebugOperationTracer.class)))
-        .thenReturn(Optional.of(transactionTrace));
+    when(transactionTracer.streamTransaction(
+            eq(blockHash), eq(transactionHash), any(TraceOptions.class), any()))
+        .thenAnswer(
+            invocation -> {
+              final TransactionTraceListener listener = invocation.getArgument(3);
+              traceFrames.forEach(listener::traceFrame);
+              listener.transactionCompleted(
+                  new TransactionTrace(transaction, result, Collections.emptyList()));
+              return true;
+            });
     final JsonRpcSuccessResponse response =
         (JsonRpcSuccessResponse) debugTraceTransaction.response(request);
-    final DebugTraceTransactionResult transactionResult =
-        (DebugTraceTransactionResult) response.getResult();
-
-    assertThat(transactionResult.getGas()).isEqualTo(73);
-    assertThat(transactionResult.getReturnValue()).isEqualTo("1234");
-    final List<StructLog> expectedStructLogs = Collections.singletonList(new StructLog(traceFrame));
-    assertThat(transactionResult.getStructLogs()).isEqualTo(expectedStructLogs);
-    assertThat(transactionResult.getStructLogs().size()).isEqualTo(1);
-    assertThat(transactionResult.getStructLogs().get(0).stack().length).isEqualTo(1);
-    assertThat(transactionResult.getStructLogs().get(0).stack()[0])
+
+    final JsonNode actual = MAPPER.readTree(MAPPER.writeValueAsString(response.getResult()));
+    assertThat(actual.get("gas").asLong()).isEqualTo(73);
+    assertThat(actual.get("returnValue").asText()).isEqualTo("1234");
+    assertThat(actual.get("structLogs")).hasSize(1);
+    assertThat(actual.get("structLogs").get(0).get("stack").get(0).asText())
         .isEqualTo(stackBytes[0].toUnprefixedHexString());
-    assertThat(transactionResult.getStructLogs().get(0).memory().length).isEqualTo(1);
-    assertThat(transactionResult.getStructLogs().get(0).memory()[0])
+    assertThat(actual.get("structLogs").get(0).get("memory").get(0).asText())
         .isEqualTo(memoryBytes[0].toUnprefixedHexString());
+    assertThat(actual)
+        .isEqualTo(MAPPER.valueToTree(new DebugTraceTransactionResult(transactionTrace)));
+  }
+
+  @Test
+  public void shouldReturnNullIfTheTransactionCannotBeReplayed() throws Exception {
+    final TransactionWithMetadata transactionWithMetadata =
+        new TransactionWithMetadata(transaction, 12L, Optional.empty(), blockHash, 2);
+    final Object[] params = new Object[] {transactionHash};
+    final JsonRpcRequestContext request =
+        new JsonRpcRequestContext(new JsonRpcRequest("2.0", "debug_traceTransaction", params));
+    when(blockchain.transactionByHash(transactionHash))
+        .thenReturn(Optional.of(transactionWithMetadata));
+    when(transactionTracer.streamTransaction(
+            eq(blockHash), eq(transactionHash), any(TraceOptions.class), any()))
+        .thenReturn(false);
+
+    final JsonRpcSuccessResponse response =
+        (JsonRpcSuccessResponse) debugTraceTransaction.response(request);
+
+    assertThat(MAPPER.writeValueAsString(response.getResult())).isEqualTo("null");
   }
 
   @Test
@@ -194,4 +224,65 @@ public class DebugTraceTransactionTest {
 
     assertThat(response.getResult()).isNull();
   }
+
+  @Test
+  public void shouldStopReplayingOnceTheRequestIsNoLongerAlive() throws Exception {
+    final JsonRpcRequestContext request =
+        new JsonRpcRequestContext(
+            new JsonRpcRequest("2.0", "debug_traceTransaction", new Object[] {transactionHash}),
+            () -> false);
+    stubReplay(List.of(simpleTraceFrame()));
+
+    final JsonRpcSuccessResponse response =
+        (JsonRpcSuccessResponse) debugTraceTransaction.response(request);
+
+    assertThatThrownBy(() -> MAPPER.writeValueAsString(response.getResult()))
+        .hasRootCauseInstanceOf(RpcMethodTimeoutException.class);
+  }
+
+  private void stubReplay(final List<TraceFrame> traceFrames) {
+    final TransactionProcessingResult result = mock(TransactionProcessingResult.class);
+    when(result.getOutput()).thenReturn(Bytes.EMPTY);
+    when(blockchain.transactionByHash(transactionHash))
+        .thenReturn(
+            Optional.of(
+                new TransactionWithMetadata(transaction, 12L, Optional.empty(), blockHash, 2)));
+    when(transactionTracer.streamTransaction(
+            eq(blockHash), eq(transactionHash), any(TraceOptions.class), any()))
+        .thenAnswer(
+            invocation -> {
+              final TransactionTraceListener listener = invocation.getArgument(3);
+              traceFrames.forEach(listener::traceFrame);
+              listener.transactionCompleted(
+                  new TransactionTrace(transaction, result, Collections.emptyList()));
+              return true;
+            });
+  }
+
+  private TraceFrame simpleTraceFrame() {
+    return new TraceFrame(
+        12,
+        Optional.of("NONE"),
+        Gas.of(45),
+        Optional.of(Gas.of(56)),
+        Gas.ZERO,
+        2,
+        Optional.empty(),
+        null,
+        Wei.ZERO,
+        Bytes.EMPTY,
+        Bytes.EMPTY,
+        Optional.empty(),
+        Optional.empty(),
+        Optional.empty(),
+        null,
+        Optional.empty(),
+        Optional.empty(),
+        Optional.empty(),
+        0,
+        Optional.empty(),
+        false,
+        Optional.empty(),
+        Optional.empty());
+  }
 }
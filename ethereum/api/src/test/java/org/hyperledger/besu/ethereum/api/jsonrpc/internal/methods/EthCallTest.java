@@ -35,6 +35,7 @@ import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcRespon
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcSuccessResponse;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.Quantity;
 import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
+import org.hyperledger.besu.ethereum.api.query.cache.CallResultCache;
 import org.hyperledger.besu.ethereum.chain.Blockchain;
 import org.hyperledger.besu.ethereum.chain.ChainHead;
 import org.hyperledger.besu.ethereum.core.BlockHeader;
@@ -45,6 +46,7 @@ import org.hyperledger.besu.ethereum.transaction.CallParameter;
 import org.hyperledger.besu.ethereum.transaction.TransactionSimulator;
 import org.hyperledger.besu.ethereum.transaction.TransactionSimulatorResult;
 import org.hyperledger.besu.evm.Gas;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 
 import java.util.Optional;
 
@@ -132,6 +134,31 @@ public class EthCallTest {
     verify(transactionSimulator).process(eq(callParameter()), any(), any(), any());
   }
 
+  @Test
+  public void shouldServeRepeatedCallFromResultCache() {
+    method =
+        new EthCall(
+            blockchainQueries,
+            transactionSimulator,
+            Optional.of(new CallResultCache<>("eth_call", 16, new NoOpMetricsSystem())));
+    final JsonRpcResponse expectedResponse =
+        new JsonRpcSuccessResponse(null, Bytes.of(1).toString());
+    mockTransactionProcessorSuccessResult(Bytes.of(1));
+    when(blockchainQueries.getBlockchain()).thenReturn(blockchain);
+    when(blockchainQueries.getBlockchain().getChainHead()).thenReturn(chainHead);
+    when(blockchainQueries.getBlockchain().getChainHead().getHash()).thenReturn(Hash.ZERO);
+    when(blockchainQueries.getBlockHeaderByHash(Hash.ZERO))
+        .thenReturn(Optional.of(mock(BlockHeader.class)));
+
+    assertThat(method.response(ethCallRequest(callParameter(), "latest")))
+        .usingRecursiveComparison()
+        .isEqualTo(expectedResponse);
+    assertThat(method.response(ethCallRequest(callParameter(), "latest")))
+        .usingRecursiveComparison()
+        .isEqualTo(expectedResponse);
+    verify(transactionSimulator).process(eq(callParameter()), any(), any(), any());
+  }
+
   @Test
   public void shouldUseCorrectBlockNumberWhenLatest() {
     final JsonRpcRequestContext request = ethCallRequest(callParameter(), "latest");
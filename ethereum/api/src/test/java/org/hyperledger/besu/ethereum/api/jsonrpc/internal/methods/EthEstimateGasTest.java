@@ -17,7 +17,9 @@ package org.hyperledger.besu.ethereum.api.jsonrpc.internal.methods;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -42,9 +44,12 @@ import org.hyperledger.besu.ethereum.processing.TransactionProcessingResult;
 import org.hyperledger.besu.ethereum.transaction.CallParameter;
 import org.hyperledger.besu.ethereum.transaction.TransactionInvalidReason;
 import org.hyperledger.besu.ethereum.transaction.TransactionSimulator;
+import org.hyperledger.besu.ethereum.transaction.TransactionSimulator.PreparedWorldState;
 import org.hyperledger.besu.ethereum.transaction.TransactionSimulatorResult;
 import org.hyperledger.besu.ethereum.worldstate.WorldStateArchive;
 import org.hyperledger.besu.evm.Gas;
+import org.hyperledger.besu.evm.frame.MessageFrame;
+import org.hyperledger.besu.evm.operation.GasOperation;
 import org.hyperledger.besu.evm.tracing.OperationTracer;
 
 import java.util.Optional;
@@ -66,6 +71,7 @@ public class EthEstimateGasTest {
   @Mock private Blockchain blockchain;
   @Mock private BlockchainQueries blockchainQueries;
   @Mock private TransactionSimulator transactionSimulator;
+  @Mock private PreparedWorldState preparedWorldState;
   @Mock private WorldStateArchive worldStateArchive;
 
   @Before
@@ -75,8 +81,8 @@ public class EthEstimateGasTest {
     when(blockchainQueries.getWorldStateArchive()).thenReturn(worldStateArchive);
     when(blockchain.getBlockHeader(eq(1L))).thenReturn(Optional.of(blockHeader));
     when(blockHeader.getGasLimit()).thenReturn(Long.MAX_VALUE);
-    when(blockHeader.getNumber()).thenReturn(1L);
     when(worldStateArchive.isWorldStateAvailable(any(), any())).thenReturn(true);
+    when(transactionSimulator.prepare(blockHeader)).thenReturn(Optional.of(preparedWorldState));
 
     method = new EthEstimateGas(blockchainQueries, transactionSimulator);
   }
@@ -90,11 +96,10 @@ public class EthEstimateGasTest {
   public void shouldReturnErrorWhenTransientLegacyTransactionProcessorReturnsEmpty() {
     final JsonRpcRequestContext request =
         ethEstimateGasRequest(defaultLegacyTransactionCallParameter(Wei.ZERO));
-    when(transactionSimulator.process(
+    when(preparedWorldState.process(
             eq(modifiedLegacyTransactionCallParameter(Wei.ZERO)),
             any(TransactionValidationParams.class),
-            any(OperationTracer.class),
-            eq(1L)))
+            any(OperationTracer.class)))
         .thenReturn(Optional.empty());
 
     final JsonRpcResponse expectedResponse =
@@ -108,11 +113,10 @@ public class EthEstimateGasTest {
   @Test
   public void shouldReturnErrorWhenTransientEip1559TransactionProcessorReturnsEmpty() {
     final JsonRpcRequestContext request = ethEstimateGasRequest(eip1559TransactionCallParameter());
-    when(transactionSimulator.process(
+    when(preparedWorldState.process(
             eq(modifiedEip1559TransactionCallParameter()),
             any(TransactionValidationParams.class),
-            any(OperationTracer.class),
-            eq(1L)))
+            any(OperationTracer.class)))
         .thenReturn(Optional.empty());
 
     final JsonRpcResponse expectedResponse =
@@ -267,7 +271,7 @@ public class EthEstimateGasTest {
 
     method.response(request);
 
-    verify(transactionSimulator)
+    verify(preparedWorldState)
         .process(
             eq(modifiedLegacyTransactionCallParameter(Wei.ZERO)),
             eq(
@@ -275,8 +279,7 @@ public class EthEstimateGasTest {
                     .from(TransactionValidationParams.transactionSimulator())
                     .isAllowExceedingBalance(true)
                     .build()),
-            any(OperationTracer.class),
-            eq(1L));
+            any(OperationTracer.class));
   }
 
   @Test
@@ -287,7 +290,7 @@ public class EthEstimateGasTest {
 
     method.response(request);
 
-    verify(transactionSimulator)
+    verify(preparedWorldState)
         .process(
             eq(modifiedLegacyTransactionCallParameter(Wei.ZERO)),
             eq(
@@ -295,8 +298,71 @@ public class EthEstimateGasTest {
                     .from(TransactionValidationParams.transactionSimulator())
                     .isAllowExceedingBalance(false)
                     .build()),
-            any(OperationTracer.class),
-            eq(1L));
+            any(OperationTracer.class));
+  }
+
+  @Test
+  public void shouldVerifyEstimateWhenExecutionReadsRemainingGas() {
+    final JsonRpcRequestContext request =
+        ethEstimateGasRequest(defaultLegacyTransactionCallParameter(Wei.ZERO));
+    when(blockHeader.getGasLimit()).thenReturn(1_000_000L);
+    mockGasDependentExecution(21_000L, 0L);
+
+    final JsonRpcResponse expectedResponse =
+        new JsonRpcSuccessResponse(null, Quantity.create(21_000L));
+
+    Assertions.assertThat(method.response(request))
+        .usingRecursiveComparison()
+        .isEqualTo(expectedResponse);
+    verify(transactionSimulator).prepare(blockHeader);
+    verify(preparedWorldState, times(2))
+        .process(
+            any(CallParameter.class),
+            any(TransactionValidationParams.class),
+            any(OperationTracer.class));
+  }
+
+  @Test
+  public void shouldSearchGasLimitWhenEstimateIsInsufficient() {
+    final JsonRpcRequestContext request =
+        ethEstimateGasRequest(defaultLegacyTransactionCallParameter(Wei.ZERO));
+    when(blockHeader.getGasLimit()).thenReturn(1_000_000L);
+    mockGasDependentExecution(21_000L, 50_000L);
+
+    final JsonRpcResponse response = method.response(request);
+
+    assertThat(response).isInstanceOf(JsonRpcSuccessResponse.class);
+    final long gasLimit = Long.decode((String) ((JsonRpcSuccessResponse) response).getResult());
+    assertThat(gasLimit).isBetween(50_000L, 50_000L * 64 / 63);
+    verify(transactionSimulator).prepare(blockHeader);
+  }
+
+  private void mockGasDependentExecution(final long gasUsed, final long gasLimitNeeded) {
+    final TransactionSimulatorResult success = transactionSimulatorResult(true, gasUsed);
+    final TransactionSimulatorResult failure = transactionSimulatorResult(false, gasUsed);
+    final MessageFrame frame = mock(MessageFrame.class);
+    when(frame.getCurrentOperation()).thenReturn(mock(GasOperation.class));
+    when(preparedWorldState.process(
+            any(CallParameter.class),
+            any(TransactionValidationParams.class),
+            any(OperationTracer.class)))
+        .thenAnswer(
+            invocation -> {
+              final CallParameter callParams = invocation.getArgument(0);
+              final OperationTracer operationTracer = invocation.getArgument(2);
+              operationTracer.traceExecution(frame, () -> null);
+              return Optional.of(callParams.getGasLimit() >= gasLimitNeeded ? success : failure);
+            });
+  }
+
+  private TransactionSimulatorResult transactionSimulatorResult(
+      final boolean isSuccessful, final long estimateGas) {
+    final TransactionSimulatorResult mockTxSimResult = mock(TransactionSimulatorResult.class);
+    final TransactionProcessingResult mockResult = mock(TransactionProcessingResult.class);
+    lenient().when(mockResult.getEstimateGasUsedByTransaction()).thenReturn(estimateGas);
+    lenient().when(mockTxSimResult.getResult()).thenReturn(mockResult);
+    lenient().when(mockTxSimResult.isSuccessful()).thenReturn(isSuccessful);
+    return mockTxSimResult;
   }
 
   private void mockTransientProcessorResultTxInvalidReason(final TransactionInvalidReason reason) {
@@ -324,17 +390,15 @@ public class EthEstimateGasTest {
       final long estimateGas,
       final Wei gasPrice) {
     final TransactionSimulatorResult mockTxSimResult = mock(TransactionSimulatorResult.class);
-    when(transactionSimulator.process(
+    when(preparedWorldState.process(
             eq(modifiedLegacyTransactionCallParameter(gasPrice)),
             any(TransactionValidationParams.class),
-            any(OperationTracer.class),
-            eq(1L)))
+            any(OperationTracer.class)))
         .thenReturn(Optional.of(mockTxSimResult));
-    when(transactionSimulator.process(
+    when(preparedWorldState.process(
             eq(modifiedEip1559TransactionCallParameter()),
             any(TransactionValidationParams.class),
-            any(OperationTracer.class),
-            eq(1L)))
+            any(OperationTracer.class)))
         .thenReturn(Optional.of(mockTxSimResult));
     final TransactionProcessingResult mockResult = mock(TransactionProcessingResult.class);
     when(mockResult.getEstimateGasUsedByTransaction()).thenReturn(estimateGas);
@@ -16,6 +16,8 @@
 
 package org.hyperledger.besu.ethereum.api.query;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.hyperledger.besu.ethereum.api.query.cache.TransactionLogBloomCacher.BLOCKS_PER_BLOOM_CACHE;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -26,6 +28,8 @@ import static org.mockito.Mockito.when;
 
 import org.hyperledger.besu.datatypes.Address;
 import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.ethereum.api.ImmutableApiConfiguration;
+import org.hyperledger.besu.ethereum.api.handlers.RpcMethodTimeoutException;
 import org.hyperledger.besu.ethereum.chain.MutableBlockchain;
 import org.hyperledger.besu.ethereum.core.BlockBody;
 import org.hyperledger.besu.ethereum.core.BlockHeader;
@@ -196,4 +200,80 @@ public class BlockchainQueriesLogCacheTest {
 
     verifyNoMoreInteractions(blockchain);
   }
+
+  /**
+   * Tests fours sets of a three block range where the seam (where the segment changes) is in all
+   * possible positions in the range.
+   *
+   * <p>For this test the segments are scanned on the logs fan-out, the low side is cached and the
+   * high side is uncached.
+   */
+  @Test
+  public void parallelCachedUncachedSeamTest() {
+    final BlockchainQueries parallelBlockchainQueries =
+        new BlockchainQueries(
+            blockchain,
+            worldStateArchive,
+            Optional.of(cacheDir.getRoot().toPath()),
+            Optional.of(scheduler),
+            ImmutableApiConfiguration.builder().logsQueryParallelism(2).build());
+
+    for (long i = (2 * BLOCKS_PER_BLOOM_CACHE) - 3; i <= 2 * BLOCKS_PER_BLOOM_CACHE; i++) {
+      parallelBlockchainQueries.matchingLogs(i, i + 2, logsQuery, () -> true);
+    }
+
+    // segments are scanned on the fan-out pool rather than the computation executor
+    verifyNoMoreInteractions(scheduler);
+    verify(blockchain, times(6)).getBlockHashByNumber(anyLong());
+    verify(blockchain, times(6)).getBlockHeader(anyLong());
+    verify(blockchain, times(12)).getBlockHeader(testHash);
+    verify(blockchain, times(12)).getTxReceipts(testHash);
+    verify(blockchain, times(12)).getBlockBody(testHash);
+    verify(blockchain, times(12)).blockIsOnCanonicalChain(testHash);
+
+    verifyNoMoreInteractions(blockchain);
+    assertThat(parallelBlockchainQueries.getLogsFanOut().get().getPermits().availablePermits())
+        .isEqualTo(2);
+  }
+
+  @Test
+  public void parallelScanRunsInlineWhenNoPermitIsFree() {
+    final BlockchainQueries parallelBlockchainQueries =
+        new BlockchainQueries(
+            blockchain,
+            worldStateArchive,
+            Optional.of(cacheDir.getRoot().toPath()),
+            Optional.of(scheduler),
+            ImmutableApiConfiguration.builder().logsQueryParallelism(2).build());
+    // other queries hold every permit
+    parallelBlockchainQueries.getLogsFanOut().get().getPermits().acquireUninterruptibly(2);
+
+    for (long i = (2 * BLOCKS_PER_BLOOM_CACHE) - 3; i <= 2 * BLOCKS_PER_BLOOM_CACHE; i++) {
+      parallelBlockchainQueries.matchingLogs(i, i + 2, logsQuery, () -> true);
+    }
+
+    verifyNoMoreInteractions(scheduler);
+    verify(blockchain, times(12)).getBlockHeader(testHash);
+    verify(blockchain, times(12)).getTxReceipts(testHash);
+  }
+
+  @Test
+  public void parallelScanStopsWhenQueryIsNotAlive() {
+    final BlockchainQueries parallelBlockchainQueries =
+        new BlockchainQueries(
+            blockchain,
+            worldStateArchive,
+            Optional.of(cacheDir.getRoot().toPath()),
+            Optional.of(scheduler),
+            ImmutableApiConfiguration.builder().logsQueryParallelism(2).build());
+
+    assertThatThrownBy(
+            () ->
+                parallelBlockchainQueries.matchingLogs(
+                    0, 3 * BLOCKS_PER_BLOOM_CACHE, logsQuery, () -> false))
+        .isInstanceOf(IllegalStateException.class)
+        .hasCauseInstanceOf(RpcMethodTimeoutException.class);
+
+    verifyNoMoreInteractions(scheduler);
+  }
 }
@@ -0,0 +1,132 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+package org.hyperledger.besu.ethereum.api.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.hyperledger.besu.ethereum.api.handlers.RpcMethodTimeoutException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class OrderedFanOutTest {
+
+  private final ExecutorService executorService = Executors.newCachedThreadPool();
+  private final AtomicInteger scheduled = new AtomicInteger();
+
+  @After
+  public void tearDown() {
+    executorService.shutdownNow();
+  }
+
+  @Test
+  public void shouldReturnResultsInOrderWhenPartsFinishOutOfOrder() throws Exception {
+    final OrderedFanOut fanOut = new OrderedFanOut(this::countAndExecute, 4);
+    final List<Long> results = new ArrayList<>();
+
+    fanOut.forEachInOrder(
+        0,
+        9,
+        (index, isAlive) -> {
+          // earlier parts take longer so they complete after later ones
+          Thread.sleep((10 - index) * 5);
+          return index;
+        },
+        results::add,
+        () -> true);
+
+    assertThat(results).containsExactly(0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L);
+    assertThat(scheduled.get()).isPositive();
+    assertThat(fanOut.getPermits().availablePermits()).isEqualTo(4);
+  }
+
+  @Test
+  public void shouldRunPartsInlineWhenNoPermitIsFree() throws Exception {
+    final OrderedFanOut fanOut = new OrderedFanOut(this::countAndExecute, 2);
+    // other queries hold every permit
+    fanOut.getPermits().acquireUninterruptibly(2);
+    final List<Long> results = new ArrayList<>();
+
+    fanOut.forEachInOrder(3, 5, (index, isAlive) -> index, results::add, () -> true);
+
+    assertThat(results).containsExactly(3L, 4L, 5L);
+    assertThat(scheduled.get()).isZero();
+  }
+
+  @Test
+  public void shouldStopOnceConsumerHasEnoughResults() throws Exception {
+    final OrderedFanOut fanOut = new OrderedFanOut(this::countAndExecute, 2);
+    final List<Long> results = new ArrayList<>();
+
+    fanOut.forEachInOrder(
+        0,
+        100,
+        (index, isAlive) -> index,
+        index -> {
+          results.add(index);
+          return results.size() < 3;
+        },
+        () -> true);
+
+    assertThat(results).containsExactly(0L, 1L, 2L);
+    assertThat(scheduled.get()).isLessThan(10);
+  }
+
+  @Test
+  public void shouldRethrowFailureOfPart() {
+    final OrderedFanOut fanOut = new OrderedFanOut(this::countAndExecute, 2);
+    final IllegalStateException failure = new IllegalStateException("part failed");
+
+    assertThatThrownBy(
+            () ->
+                fanOut.forEachInOrder(
+                    0,
+                    5,
+                    (index, isAlive) -> {
+                      if (index == 2) {
+                        throw failure;
+                      }
+                      return index;
+                    },
+                    index -> true,
+                    () -> true))
+        .isSameAs(failure);
+  }
+
+  @Test
+  public void shouldNotScheduleAnythingWhenQueryIsNotAlive() {
+    final OrderedFanOut fanOut = new OrderedFanOut(this::countAndExecute, 2);
+
+    assertThatThrownBy(
+            () ->
+                fanOut.forEachInOrder(
+                    0, 5, (index, isAlive) -> index, index -> true, () -> false))
+        .isInstanceOf(RpcMethodTimeoutException.class);
+    assertThat(scheduled.get()).isZero();
+  }
+
+  private void countAndExecute(final Runnable command) {
+    scheduled.incrementAndGet();
+    executorService.execute(command);
+  }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+package org.hyperledger.besu.ethereum.api.query.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hyperledger.besu.datatypes.Address;
+import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.datatypes.Wei;
+import org.hyperledger.besu.ethereum.mainnet.ImmutableTransactionValidationParams;
+import org.hyperledger.besu.ethereum.mainnet.TransactionValidationParams;
+import org.hyperledger.besu.ethereum.transaction.CallParameter;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.Test;
+
+public class CallResultCacheTest {
+
+  private static final Hash BLOCK_HASH = Hash.hash(Bytes.of(1));
+  private static final TransactionValidationParams VALIDATION_PARAMS =
+      TransactionValidationParams.transactionSimulator();
+
+  private final CallResultCache<String> cache =
+      new CallResultCache<>("eth_call", 2, new NoOpMetricsSystem());
+  private final AtomicInteger simulations = new AtomicInteger();
+
+  @Test
+  public void shouldSimulateIdenticalCallOnce() {
+    assertThat(getOrCompute(BLOCK_HASH, callParameter(Bytes.of(1)), VALIDATION_PARAMS))
+        .contains("result");
+    assertThat(getOrCompute(BLOCK_HASH, callParameter(Bytes.of(1)), VALIDATION_PARAMS))
+        .contains("result");
+
+    assertThat(simulations).hasValue(1);
+  }
+
+  @Test
+  public void shouldSimulateCallOnNewBlock() {
+    getOrCompute(BLOCK_HASH, callParameter(Bytes.of(1)), VALIDATION_PARAMS);
+    getOrCompute(Hash.hash(Bytes.of(2)), callParameter(Bytes.of(1)), VALIDATION_PARAMS);
+
+    assertThat(simulations).hasValue(2);
+  }
+
+  @Test
+  public void shouldDistinguishCallAndValidationParameters() {
+    getOrCompute(BLOCK_HASH, callParameter(Bytes.of(1)), VALIDATION_PARAMS);
+    getOrCompute(BLOCK_HASH, callParameter(Bytes.of(2)), VALIDATION_PARAMS);
+    getOrCompute(
+        BLOCK_HASH,
+        callParameter(Bytes.of(1)),
+        ImmutableTransactionValidationParams.builder()
+            .from(VALIDATION_PARAMS)
+            .isAllowExceedingBalance(true)
+            .build());
+
+    assertThat(simulations).hasValue(3);
+  }
+
+  @Test
+  public void shouldDistinguishGasLimitAndValue() {
+    getOrCompute(BLOCK_HASH, callParameter(Bytes.of(1), -1, Wei.ZERO), VALIDATION_PARAMS);
+    getOrCompute(BLOCK_HASH, callParameter(Bytes.of(1), 21_000, Wei.ZERO), VALIDATION_PARAMS);
+    getOrCompute(BLOCK_HASH, callParameter(Bytes.of(1), -1, Wei.ONE), VALIDATION_PARAMS);
+    getOrCompute(BLOCK_HASH, callParameter(Bytes.of(1), 21_000, Wei.ZERO), VALIDATION_PARAMS);
+
+    assertThat(simulations).hasValue(3);
+  }
+
+  @Test
+  public void shouldNotCacheEmptyResults() {
+    cache.getOrCompute(BLOCK_HASH, callParameter(Bytes.of(1)), VALIDATION_PARAMS, Optional::empty);
+
+    assertThat(cache.get(BLOCK_HASH, callParameter(Bytes.of(1)), VALIDATION_PARAMS)).isEmpty();
+  }
+
+  @Test
+  public void shouldEvictBeyondMaximumSize() {
+    getOrCompute(BLOCK_HASH, callParameter(Bytes.of(1)), VALIDATION_PARAMS);
+    getOrCompute(BLOCK_HASH, callParameter(Bytes.of(2)), VALIDATION_PARAMS);
+    getOrCompute(BLOCK_HASH, callParameter(Bytes.of(3)), VALIDATION_PARAMS);
+
+    assertThat(cache.get(BLOCK_HASH, callParameter(Bytes.of(1)), VALIDATION_PARAMS)).isEmpty();
+  }
+
+  private Optional<String> getOrCompute(
+      final Hash blockHash,
+      final CallParameter callParams,
+      final TransactionValidationParams validationParams) {
+    return cache.getOrCompute(
+        blockHash,
+        callParams,
+        validationParams,
+        () -> {
+          simulations.incrementAndGet();
+          return Optional.of("result");
+        });
+  }
+
+  private static CallParameter callParameter(final Bytes payload) {
+    return callParameter(payload, -1, Wei.ZERO);
+  }
+
+  private static CallParameter callParameter(
+      final Bytes payload, final long gasLimit, final Wei value) {
+    return new CallParameter(
+        Address.fromHexString("0x0"),
+        Address.fromHexString("0x1"),
+        gasLimit,
+        Wei.ZERO,
+        value,
+        payload);
+  }
+}
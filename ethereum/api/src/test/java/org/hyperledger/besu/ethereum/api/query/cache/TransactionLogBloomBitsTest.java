@@ -0,0 +1,117 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+package org.hyperledger.besu.ethereum.api.query.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hyperledger.besu.ethereum.api.query.cache.TransactionLogBloomCacher.BLOCKS_PER_BLOOM_CACHE;
+import static org.hyperledger.besu.ethereum.api.query.cache.TransactionLogBloomCacher.BLOOM_BITS_LENGTH;
+
+import org.hyperledger.besu.datatypes.Address;
+import org.hyperledger.besu.ethereum.api.query.LogsQuery;
+import org.hyperledger.besu.evm.log.Log;
+import org.hyperledger.besu.evm.log.LogTopic;
+import org.hyperledger.besu.evm.log.LogsBloomFilter;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.BitSet;
+import java.util.List;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class TransactionLogBloomBitsTest {
+
+  private static final Address ADDRESS_A = Address.fromHexString("0x123456");
+  private static final Address ADDRESS_B = Address.fromHexString("0x654321");
+  private static final LogTopic TOPIC =
+      LogTopic.fromHexString("0x1111111111111111111111111111111111111111111111111111111111111111");
+
+  @Rule public TemporaryFolder cacheDir = new TemporaryFolder();
+
+  private File bloomBitsFile;
+
+  @Before
+  public void setup() throws IOException {
+    final File bloomFile = cacheDir.newFile("logBloom-0.cache");
+    try (final RandomAccessFile file = new RandomAccessFile(bloomFile, "rw")) {
+      file.setLength((long) BLOCKS_PER_BLOOM_CACHE * BLOOM_BITS_LENGTH);
+      writeBloom(file, 0, bloomFor(ADDRESS_A, List.of()));
+      writeBloom(file, 63, bloomFor(ADDRESS_B, List.of(TOPIC)));
+      writeBloom(file, 64, bloomFor(ADDRESS_A, List.of(TOPIC)));
+      writeBloom(file, BLOCKS_PER_BLOOM_CACHE - 1, bloomFor(ADDRESS_B, List.of()));
+    }
+    bloomBitsFile =
+        TransactionLogBloomBits.calculateBloomBitsFileName(0, cacheDir.getRoot().toPath());
+    TransactionLogBloomBits.generate(bloomFile, bloomBitsFile);
+  }
+
+  @Test
+  public void shouldWriteOneBitsetPerBloomBit() {
+    assertThat(bloomBitsFile.length())
+        .isEqualTo(TransactionLogBloomBits.EXPECTED_BLOOM_BITS_FILE_SIZE);
+  }
+
+  @Test
+  public void shouldMatchBlocksContainingAddress() throws IOException {
+    final LogsQuery query = new LogsQuery.Builder().address(ADDRESS_A).build();
+
+    assertThat(candidates(query)).containsExactly(0, 64);
+  }
+
+  @Test
+  public void shouldMatchAnyOfSeveralAddresses() throws IOException {
+    final LogsQuery query = new LogsQuery.Builder().addresses(ADDRESS_A, ADDRESS_B).build();
+
+    assertThat(candidates(query)).containsExactly(0, 63, 64, BLOCKS_PER_BLOOM_CACHE - 1);
+  }
+
+  @Test
+  public void shouldRequireAddressAndTopicToMatch() throws IOException {
+    final LogsQuery query =
+        new LogsQuery.Builder().address(ADDRESS_B).topics(List.of(List.of(TOPIC))).build();
+
+    assertThat(candidates(query)).containsExactly(63);
+  }
+
+  @Test
+  public void shouldMatchEveryBlockWhenQueryIsUnconstrained() throws IOException {
+    final LogsQuery query = new LogsQuery.Builder().build();
+
+    assertThat(TransactionLogBloomBits.candidateBlocks(bloomBitsFile.toPath(), query).cardinality())
+        .isEqualTo(BLOCKS_PER_BLOOM_CACHE);
+  }
+
+  private int[] candidates(final LogsQuery query) throws IOException {
+    final BitSet bitSet = TransactionLogBloomBits.candidateBlocks(bloomBitsFile.toPath(), query);
+    return bitSet.stream().toArray();
+  }
+
+  private static LogsBloomFilter bloomFor(final Address address, final List<LogTopic> topics) {
+    return LogsBloomFilter.builder().insertLog(new Log(address, Bytes.EMPTY, topics)).build();
+  }
+
+  private static void writeBloom(
+      final RandomAccessFile file, final long blockIndex, final LogsBloomFilter bloom)
+      throws IOException {
+    file.seek(blockIndex * BLOOM_BITS_LENGTH);
+    file.write(bloom.toArray());
+  }
+}
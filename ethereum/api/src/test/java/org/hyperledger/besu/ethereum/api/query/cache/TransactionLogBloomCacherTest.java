@@ -34,6 +34,7 @@ import org.hyperledger.besu.evm.log.Log;
 import org.hyperledger.besu.evm.log.LogsBloomFilter;
 
 import java.io.File;
+import java.io.FilenameFilter;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.time.Duration;
@@ -55,6 +56,11 @@ import org.mockito.junit.MockitoJUnitRunner;
 @RunWith(MockitoJUnitRunner.class)
 public class TransactionLogBloomCacherTest {
 
+  private static final FilenameFilter LOG_BLOOM_FILES =
+      (dir, name) -> name.matches("logBloom-\\d+\\.cache");
+  private static final FilenameFilter LOG_BLOOM_BITS_FILES =
+      (dir, name) -> name.matches("logBloomBits-\\d+\\.cache");
+
   @Rule public TemporaryFolder cacheDir = new TemporaryFolder();
 
   private Hash testHash;
@@ -119,7 +125,8 @@ public class TransactionLogBloomCacherTest {
     when(blockchain.getChainHeadBlockNumber()).thenReturn(200003L);
     assertThat(cacheDir.getRoot().list().length).isEqualTo(0);
     transactionLogBloomCacher.cacheAll();
-    assertThat(cacheDir.getRoot().list().length).isEqualTo(2);
+    assertThat(cacheDir.getRoot().list(LOG_BLOOM_FILES).length).isEqualTo(2);
+    assertThat(cacheDir.getRoot().list(LOG_BLOOM_BITS_FILES).length).isEqualTo(2);
   }
 
   @Test
@@ -179,7 +186,9 @@ public class TransactionLogBloomCacherTest {
     assertThat(logBloom.length()).isEqualTo(BLOOM_BITS_LENGTH * BLOCKS_PER_BLOOM_CACHE);
     assertThat(logBloom1.length()).isEqualTo(0);
 
-    assertThat(cacheDir.getRoot().list().length).isEqualTo(2);
+    assertThat(cacheDir.getRoot().list(LOG_BLOOM_FILES).length).isEqualTo(2);
+    assertThat(cacheDir.getRoot().list(LOG_BLOOM_BITS_FILES))
+        .containsExactly("logBloomBits-0.cache");
   }
 
   @Test
@@ -0,0 +1,192 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+package org.hyperledger.besu.ethereum.api.query.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import org.hyperledger.besu.datatypes.Address;
+import org.hyperledger.besu.ethereum.api.query.LogsQuery;
+import org.hyperledger.besu.ethereum.chain.MutableBlockchain;
+import org.hyperledger.besu.ethereum.core.Block;
+import org.hyperledger.besu.ethereum.core.BlockDataGenerator;
+import org.hyperledger.besu.ethereum.core.BlockDataGenerator.BlockOptions;
+import org.hyperledger.besu.ethereum.core.InMemoryKeyValueStorageProvider;
+import org.hyperledger.besu.ethereum.core.LogWithMetadata;
+import org.hyperledger.besu.ethereum.core.TransactionReceipt;
+import org.hyperledger.besu.ethereum.eth.manager.EthScheduler;
+import org.hyperledger.besu.evm.log.Log;
+import org.hyperledger.besu.evm.log.LogTopic;
+import org.hyperledger.besu.services.kvstore.InMemoryKeyValueStorage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TransactionLogIndexTest {
+
+  private static final Address ADDRESS_A = Address.fromHexString("0x123456");
+  private static final Address ADDRESS_B = Address.fromHexString("0x654321");
+  private static final LogTopic TOPIC_1 =
+      LogTopic.fromHexString("0x1111111111111111111111111111111111111111111111111111111111111111");
+  private static final LogTopic TOPIC_2 =
+      LogTopic.fromHexString("0x2222222222222222222222222222222222222222222222222222222222222222");
+
+  private final BlockDataGenerator gen = new BlockDataGenerator(1);
+  private final MutableBlockchain blockchain =
+      InMemoryKeyValueStorageProvider.createInMemoryBlockchain(gen.genesisBlock());
+
+  private final EthScheduler scheduler = mock(EthScheduler.class);
+
+  private TransactionLogIndex logIndex;
+
+  @Before
+  public void setup() {
+    logIndex = new TransactionLogIndex(blockchain, new InMemoryKeyValueStorage(), scheduler);
+  }
+
+  @Test
+  public void shouldIndexUpToChainHead() {
+    appendBlock(List.of(new Log(ADDRESS_A, Bytes.EMPTY, List.of(TOPIC_1))));
+    appendBlock(List.of());
+
+    assertThat(logIndex.getIndexedHead()).isEqualTo(-1L);
+    logIndex.synchronize();
+
+    assertThat(logIndex.getIndexedHead()).isEqualTo(2L);
+  }
+
+  @Test
+  public void shouldReturnOnlyMatchingLogs() {
+    appendBlock(
+        List.of(
+            new Log(ADDRESS_A, Bytes.EMPTY, List.of(TOPIC_1)),
+            new Log(ADDRESS_B, Bytes.EMPTY, List.of(TOPIC_1))),
+        List.of(new Log(ADDRESS_A, Bytes.EMPTY, List.of(TOPIC_2))));
+    appendBlock(List.of(new Log(ADDRESS_B, Bytes.EMPTY, List.of(TOPIC_2, TOPIC_1))));
+    logIndex.synchronize();
+
+    final List<LogWithMetadata> byAddress =
+        matchingLogs(new LogsQuery.Builder().address(ADDRESS_A).build());
+    assertThat(byAddress).hasSize(2);
+    assertThat(byAddress.get(0).getTransactionIndex()).isEqualTo(0);
+    assertThat(byAddress.get(0).getLogIndex()).isEqualTo(0);
+    assertThat(byAddress.get(1).getTransactionIndex()).isEqualTo(1);
+    assertThat(byAddress.get(1).getLogIndex()).isEqualTo(0);
+
+    final List<LogWithMetadata> byAddressAndTopic =
+        matchingLogs(
+            new LogsQuery.Builder().address(ADDRESS_B).topics(List.of(List.of(TOPIC_1))).build());
+    assertThat(byAddressAndTopic).hasSize(1);
+    assertThat(byAddressAndTopic.get(0).getBlockNumber()).isEqualTo(1L);
+    assertThat(byAddressAndTopic.get(0).getLogIndex()).isEqualTo(1);
+
+    final List<LogWithMetadata> bySecondTopic =
+        matchingLogs(
+            new LogsQuery.Builder().topics(List.of(List.of(TOPIC_2), List.of(TOPIC_1))).build());
+    assertThat(bySecondTopic).hasSize(1);
+    assertThat(bySecondTopic.get(0).getBlockNumber()).isEqualTo(2L);
+    assertThat(bySecondTopic.get(0).getLogger()).isEqualTo(ADDRESS_B);
+  }
+
+  @Test
+  public void shouldNotServeUnconstrainedQueries() {
+    appendBlock(List.of(new Log(ADDRESS_A, Bytes.EMPTY, List.of(TOPIC_1))));
+    logIndex.synchronize();
+
+    assertThat(logIndex.matchingLogs(0, 1, new LogsQuery.Builder().build(), () -> true)).isEmpty();
+  }
+
+  @Test
+  public void shouldRemoveBlocksNoLongerCanonical() {
+    appendBlock(List.of(new Log(ADDRESS_A, Bytes.EMPTY, List.of(TOPIC_1))));
+    appendBlock(List.of(new Log(ADDRESS_A, Bytes.EMPTY, List.of(TOPIC_1))));
+    logIndex.synchronize();
+    assertThat(matchingLogs(new LogsQuery.Builder().address(ADDRESS_A).build())).hasSize(2);
+
+    blockchain.rewindToBlock(1);
+    appendBlock(List.of(new Log(ADDRESS_B, Bytes.EMPTY, List.of(TOPIC_1))));
+    logIndex.synchronize();
+
+    assertThat(logIndex.getIndexedHead()).isEqualTo(2L);
+    final List<LogWithMetadata> logsA =
+        matchingLogs(new LogsQuery.Builder().address(ADDRESS_A).build());
+    assertThat(logsA).hasSize(1);
+    assertThat(logsA.get(0).getBlockNumber()).isEqualTo(1L);
+    final List<LogWithMetadata> logsB =
+        matchingLogs(new LogsQuery.Builder().address(ADDRESS_B).build());
+    assertThat(logsB).hasSize(1);
+    assertThat(logsB.get(0).getBlockHash()).isEqualTo(blockchain.getChainHeadHash());
+  }
+
+  @Test
+  public void shouldSpanSeveralBuckets() {
+    final int blockCount = TransactionLogIndex.BLOCKS_PER_BUCKET + 2;
+    for (int i = 0; i < blockCount; i++) {
+      appendBlock(List.of(new Log(ADDRESS_A, Bytes.EMPTY, List.of())));
+    }
+    logIndex.synchronize();
+
+    // one bucket per run, the rest is left to a rescheduled run
+    assertThat(logIndex.getIndexedHead()).isEqualTo(TransactionLogIndex.BLOCKS_PER_BUCKET - 1);
+    verify(scheduler).scheduleComputationTask(any());
+    logIndex.synchronize();
+
+    assertThat(logIndex.getIndexedHead()).isEqualTo(blockCount);
+    final LogsQuery query = new LogsQuery.Builder().address(ADDRESS_A).build();
+    assertThat(logIndex.matchingLogs(1, blockCount, query, () -> true).orElseThrow())
+        .hasSize(blockCount);
+    assertThat(
+            logIndex
+                .matchingLogs(
+                    TransactionLogIndex.BLOCKS_PER_BUCKET - 1,
+                    TransactionLogIndex.BLOCKS_PER_BUCKET,
+                    query,
+                    () -> true)
+                .orElseThrow())
+        .extracting(LogWithMetadata::getBlockNumber)
+        .containsExactly(
+            (long) TransactionLogIndex.BLOCKS_PER_BUCKET - 1,
+            (long) TransactionLogIndex.BLOCKS_PER_BUCKET);
+  }
+
+  private List<LogWithMetadata> matchingLogs(final LogsQuery query) {
+    final Optional<List<LogWithMetadata>> logs =
+        logIndex.matchingLogs(0, blockchain.getChainHeadBlockNumber(), query, () -> true);
+    assertThat(logs).isPresent();
+    return logs.get();
+  }
+
+  @SafeVarargs
+  private void appendBlock(final List<Log>... logsPerTransaction) {
+    final List<TransactionReceipt> receipts = new ArrayList<>();
+    final BlockOptions blockOptions = BlockOptions.create();
+    for (final List<Log> logs : logsPerTransaction) {
+      blockOptions.addTransaction(gen.transaction());
+      receipts.add(gen.receipt(logs));
+    }
+    blockOptions.setParentHash(blockchain.getChainHeadHash());
+    blockOptions.setBlockNumber(blockchain.getChainHeadBlockNumber() + 1L);
+    final Block block = gen.block(blockOptions);
+    blockchain.appendBlock(block, receipts);
+  }
+}
@@ -22,12 +22,15 @@ import org.hyperledger.besu.ethereum.core.Difficulty;
 import org.hyperledger.besu.ethereum.core.LogWithMetadata;
 import org.hyperledger.besu.ethereum.core.Transaction;
 import org.hyperledger.besu.ethereum.core.TransactionReceipt;
+import org.hyperledger.besu.ethereum.rlp.RLP;
 
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Consumer;
 
+import org.apache.tuweni.bytes.Bytes;
+
 /** An interface for reading data from the blockchain. */
 public interface Blockchain {
   /**
@@ -146,6 +149,40 @@ public interface Blockchain {
    */
   Optional<BlockBody> getBlockBody(Hash blockHeaderHash);
 
+  /**
+   * Returns the RLP encoding of the block header corresponding to the given block hash, as it
+   * would be sent over the wire. Associated block is not necessarily on the canonical chain.
+   *
+   * @param blockHeaderHash The hash of the block whose header we want to retrieve.
+   * @return The RLP encoded block header corresponding to this block hash.
+   */
+  default Optional<Bytes> getBlockHeaderRlp(final Hash blockHeaderHash) {
+    return getBlockHeader(blockHeaderHash).map(header -> RLP.encode(header::writeTo));
+  }
+
+  /**
+   * Returns the RLP encoding of the block header corresponding to the given block number on the
+   * canonical chain, as it would be sent over the wire.
+   *
+   * @param blockNumber The reference block number whose header we want to retrieve.
+   * @return The RLP encoded block header corresponding to this block number.
+   */
+  default Optional<Bytes> getBlockHeaderRlp(final long blockNumber) {
+    return getBlockHashByNumber(blockNumber).flatMap(this::getBlockHeaderRlp);
+  }
+
+  /**
+   * Returns the RLP encoding of the block body corresponding to the given block header hash, as it
+   * would be sent over the wire. Associated block is not necessarily on the canonical chain.
+   *
+   * @param blockHeaderHash The block header hash identifying the block whose body should be
+   *     returned.
+   * @return The RLP encoded block body corresponding to the target block.
+   */
+  default Optional<Bytes> getBlockBodyRlp(final Hash blockHeaderHash) {
+    return getBlockBody(blockHeaderHash).map(body -> RLP.encode(body::writeTo));
+  }
+
   /**
    * Given a block's hash, returns the list of transaction receipts associated with this block's
    * transactions. Associated block is not necessarily on the canonical chain.
@@ -19,11 +19,14 @@ import org.hyperledger.besu.ethereum.core.BlockBody;
 import org.hyperledger.besu.ethereum.core.BlockHeader;
 import org.hyperledger.besu.ethereum.core.Difficulty;
 import org.hyperledger.besu.ethereum.core.TransactionReceipt;
+import org.hyperledger.besu.ethereum.rlp.RLP;
 
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.apache.tuweni.bytes.Bytes;
+
 public interface BlockchainStorage {
 
   Optional<Hash> getChainHead();
@@ -38,6 +41,14 @@ public interface BlockchainStorage {
 
   Optional<List<TransactionReceipt>> getTransactionReceipts(Hash blockHash);
 
+  default Optional<Bytes> getBlockHeaderRlp(final Hash blockHash) {
+    return getBlockHeader(blockHash).map(header -> RLP.encode(header::writeTo));
+  }
+
+  default Optional<Bytes> getBlockBodyRlp(final Hash blockHash) {
+    return getBlockBody(blockHash).map(body -> RLP.encode(body::writeTo));
+  }
+
   Optional<Hash> getBlockHash(long blockNumber);
 
   Optional<Difficulty> getTotalDifficulty(Hash blockHash);
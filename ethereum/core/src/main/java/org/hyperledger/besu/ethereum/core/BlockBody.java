@@ -14,12 +14,17 @@
  */
 package org.hyperledger.besu.ethereum.core;
 
+import org.hyperledger.besu.datatypes.Hash;
 import org.hyperledger.besu.ethereum.rlp.RLPInput;
 import org.hyperledger.besu.ethereum.rlp.RLPOutput;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+
+import org.apache.tuweni.bytes.Bytes;
 
 public class BlockBody implements org.hyperledger.besu.plugin.data.BlockBody {
 
@@ -28,10 +33,20 @@ public class BlockBody implements org.hyperledger.besu.plugin.data.BlockBody {
 
   private final List<Transaction> transactions;
   private final List<BlockHeader> ommers;
+  // The RLP the body was lazily read from, if any
+  private final Optional<Bytes> rlp;
 
   public BlockBody(final List<Transaction> transactions, final List<BlockHeader> ommers) {
+    this(transactions, ommers, Optional.empty());
+  }
+
+  private BlockBody(
+      final List<Transaction> transactions,
+      final List<BlockHeader> ommers,
+      final Optional<Bytes> rlp) {
     this.transactions = transactions;
     this.ommers = ommers;
+    this.rlp = rlp;
   }
 
   public static BlockBody empty() {
@@ -44,6 +59,34 @@ public class BlockBody implements org.hyperledger.besu.plugin.data.BlockBody {
     return transactions;
   }
 
+  /**
+   * Returns the hash of the transaction at the given index. For a lazily read body this doesn't
+   * require decoding the transaction.
+   *
+   * @param index the index of the transaction
+   * @return the transaction hash
+   */
+  public Hash getTransactionHash(final int index) {
+    if (transactions instanceof LazyTransactionList) {
+      return ((LazyTransactionList) transactions).getHash(index);
+    }
+    return transactions.get(index).getHash();
+  }
+
+  /**
+   * Returns the hashes of all transactions. For a lazily read body this doesn't require decoding
+   * the transactions.
+   *
+   * @return the transaction hashes
+   */
+  public List<Hash> getTransactionHashes() {
+    final List<Hash> hashes = new ArrayList<>(transactions.size());
+    for (int i = 0; i < transactions.size(); i++) {
+      hashes.add(getTransactionHash(i));
+    }
+    return hashes;
+  }
+
   /** @return The list of ommers of the block. */
   @Override
   public List<BlockHeader> getOmmers() {
@@ -56,6 +99,10 @@ public class BlockBody implements org.hyperledger.besu.plugin.data.BlockBody {
    * @param output Output to write to
    */
   public void writeTo(final RLPOutput output) {
+    if (rlp.isPresent()) {
+      output.writeRaw(rlp.get());
+      return;
+    }
     output.startList();
 
     output.writeList(getTransactions(), Transaction::writeTo);
@@ -76,6 +123,27 @@ public class BlockBody implements org.hyperledger.besu.plugin.data.BlockBody {
     return body;
   }
 
+  /**
+   * Reads a block body without decoding its transactions. The transactions are indexed and only
+   * decoded when they are accessed, and the body is written back out using the original RLP.
+   * Transactions are not validated while reading, so this must only be used for bodies that were
+   * validated before, e.g. when they were stored.
+   *
+   * @param input the RLP input, positioned at the block body
+   * @param blockHeaderFunctions the block header functions for the ommers
+   * @return the block body
+   */
+  public static BlockBody readLazilyFrom(
+      final RLPInput input, final BlockHeaderFunctions blockHeaderFunctions) {
+    final RLPInput bodyInput = input.readAsRlp();
+    bodyInput.enterList();
+    final List<Transaction> transactions = LazyTransactionList.readFrom(bodyInput);
+    final List<BlockHeader> ommers =
+        bodyInput.readList(rlp -> BlockHeader.readFrom(rlp, blockHeaderFunctions));
+    bodyInput.leaveList();
+    return new BlockBody(transactions, ommers, Optional.of(bodyInput.raw()));
+  }
+
   @Override
   public boolean equals(final Object obj) {
     if (obj == this) {
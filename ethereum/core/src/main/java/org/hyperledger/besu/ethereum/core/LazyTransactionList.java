@@ -0,0 +1,99 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.core;
+
+import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.ethereum.rlp.RLP;
+import org.hyperledger.besu.ethereum.rlp.RLPInput;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.apache.tuweni.bytes.Bytes;
+
+/**
+ * An immutable list of transactions that keeps the RLP of each transaction and only decodes a
+ * transaction when it is first accessed. The transaction hashes can be computed from the RLP
+ * without decoding the transactions at all.
+ */
+final class LazyTransactionList extends AbstractList<Transaction> implements RandomAccess {
+
+  private final List<Bytes> encodedTransactions;
+  private final AtomicReferenceArray<Transaction> transactions;
+  private final AtomicReferenceArray<Hash> hashes;
+
+  private LazyTransactionList(final List<Bytes> encodedTransactions) {
+    this.encodedTransactions = encodedTransactions;
+    this.transactions = new AtomicReferenceArray<>(encodedTransactions.size());
+    this.hashes = new AtomicReferenceArray<>(encodedTransactions.size());
+  }
+
+  /**
+   * Reads a list of transactions, only indexing where each transaction starts. The individual
+   * transactions are not validated, so this must only be used for transactions that were validated
+   * before, e.g. when they were stored.
+   *
+   * @param input the RLP input, positioned at the list of transactions
+   * @return the transactions
+   */
+  static LazyTransactionList readFrom(final RLPInput input) {
+    final List<Bytes> encodedTransactions = new ArrayList<>();
+    input.enterList();
+    while (!input.isEndOfCurrentList()) {
+      encodedTransactions.add(input.readAsRlp().raw());
+    }
+    input.leaveList();
+    return new LazyTransactionList(encodedTransactions);
+  }
+
+  @Override
+  public Transaction get(final int index) {
+    final Transaction cached = transactions.get(index);
+    if (cached != null) {
+      return cached;
+    }
+    final Transaction transaction = Transaction.readFrom(encodedTransactions.get(index));
+    transaction.hash = getHash(index);
+    transactions.compareAndSet(index, null, transaction);
+    return transactions.get(index);
+  }
+
+  @Override
+  public int size() {
+    return encodedTransactions.size();
+  }
+
+  /**
+   * Returns the hash of the transaction at the given index, without decoding the transaction.
+   *
+   * @param index the index of the transaction
+   * @return the transaction hash
+   */
+  Hash getHash(final int index) {
+    final Hash cached = hashes.get(index);
+    if (cached != null) {
+      return cached;
+    }
+    final Bytes encoded = encodedTransactions.get(index);
+    // Typed transactions are wrapped in an RLP string, but their hash is over the opaque bytes
+    final Hash hash =
+        Hash.hash(RLP.input(encoded).nextIsList() ? encoded : RLP.input(encoded).readBytes());
+    hashes.set(index, hash);
+    return hash;
+  }
+}
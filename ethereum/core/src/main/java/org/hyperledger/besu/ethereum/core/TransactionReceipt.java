@@ -29,9 +29,11 @@ import org.hyperledger.besu.plugin.data.TransactionType;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import com.google.common.base.MoreObjects;
+import com.google.common.base.Suppliers;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 
@@ -54,7 +56,7 @@ public class TransactionReceipt implements org.hyperledger.besu.plugin.data.Tran
   private final Hash stateRoot;
   private final long cumulativeGasUsed;
   private final List<Log> logs;
-  private final LogsBloomFilter bloomFilter;
+  private final Supplier<LogsBloomFilter> bloomFilter;
   private final int status;
   private final TransactionReceiptType transactionReceiptType;
   private final Optional<Bytes> revertReason;
@@ -78,24 +80,7 @@ public class TransactionReceipt implements org.hyperledger.besu.plugin.data.Tran
         NONEXISTENT,
         cumulativeGasUsed,
         logs,
-        LogsBloomFilter.builder().insertLogs(logs).build(),
-        revertReason);
-  }
-
-  private TransactionReceipt(
-      final TransactionType transactionType,
-      final Hash stateRoot,
-      final long cumulativeGasUsed,
-      final List<Log> logs,
-      final LogsBloomFilter bloomFilter,
-      final Optional<Bytes> revertReason) {
-    this(
-        transactionType,
-        stateRoot,
-        NONEXISTENT,
-        cumulativeGasUsed,
-        logs,
-        bloomFilter,
+        Optional.empty(),
         revertReason);
   }
 
@@ -118,7 +103,7 @@ public class TransactionReceipt implements org.hyperledger.besu.plugin.data.Tran
         status,
         cumulativeGasUsed,
         logs,
-        LogsBloomFilter.builder().insertLogs(logs).build(),
+        Optional.empty(),
         revertReason);
   }
 
@@ -129,7 +114,14 @@ public class TransactionReceipt implements org.hyperledger.besu.plugin.data.Tran
       final List<Log> logs,
       final LogsBloomFilter bloomFilter,
       final Optional<Bytes> revertReason) {
-    this(transactionType, null, status, cumulativeGasUsed, logs, bloomFilter, revertReason);
+    this(
+        transactionType,
+        null,
+        status,
+        cumulativeGasUsed,
+        logs,
+        Optional.ofNullable(bloomFilter),
+        revertReason);
   }
 
   public TransactionReceipt(
@@ -140,10 +132,11 @@ public class TransactionReceipt implements org.hyperledger.besu.plugin.data.Tran
       final Optional<Bytes> maybeRevertReason) {
     this(
         transactionType,
+        null,
         status,
         cumulativeGasUsed,
         logs,
-        LogsBloomFilter.builder().insertLogs(logs).build(),
+        Optional.empty(),
         maybeRevertReason);
   }
 
@@ -153,14 +146,18 @@ public class TransactionReceipt implements org.hyperledger.besu.plugin.data.Tran
       final int status,
       final long cumulativeGasUsed,
       final List<Log> logs,
-      final LogsBloomFilter bloomFilter,
+      final Optional<LogsBloomFilter> bloomFilter,
       final Optional<Bytes> revertReason) {
     this.transactionType = transactionType;
     this.stateRoot = stateRoot;
     this.cumulativeGasUsed = cumulativeGasUsed;
     this.status = status;
     this.logs = logs;
-    this.bloomFilter = bloomFilter;
+    // The bloom filter is fully derived from the logs, so only compute it when it is needed
+    this.bloomFilter =
+        bloomFilter.isPresent()
+            ? bloomFilter::get
+            : Suppliers.memoize(() -> LogsBloomFilter.builder().insertLogs(logs).build());
     this.transactionReceiptType =
         stateRoot == null ? TransactionReceiptType.STATUS : TransactionReceiptType.ROOT;
     this.revertReason = revertReason;
@@ -202,7 +199,7 @@ public class TransactionReceipt implements org.hyperledger.besu.plugin.data.Tran
       rlpOutput.writeLongScalar(status);
     }
     rlpOutput.writeLongScalar(cumulativeGasUsed);
-    rlpOutput.writeBytes(bloomFilter);
+    rlpOutput.writeBytes(getBloomFilter());
     rlpOutput.writeList(logs, Log::writeTo);
     if (withRevertReason && revertReason.isPresent()) {
       rlpOutput.writeBytes(revertReason.get());
@@ -262,12 +259,93 @@ public class TransactionReceipt implements org.hyperledger.besu.plugin.data.Tran
       final int status = firstElement.readIntScalar();
       input.leaveList();
       return new TransactionReceipt(
-          transactionType, status, cumulativeGas, logs, bloomFilter, revertReason);
+          transactionType,
+          null,
+          status,
+          cumulativeGas,
+          logs,
+          Optional.of(bloomFilter),
+          revertReason);
     } else {
       final Hash stateRoot = Hash.wrap(firstElement.readBytes32());
       input.leaveList();
       return new TransactionReceipt(
-          transactionType, stateRoot, cumulativeGas, logs, bloomFilter, revertReason);
+          transactionType,
+          stateRoot,
+          NONEXISTENT,
+          cumulativeGas,
+          logs,
+          Optional.of(bloomFilter),
+          revertReason);
+    }
+  }
+
+  /**
+   * Write a compact RLP representation for storage. The logs bloom filter is left out, as it can
+   * be recomputed from the logs, and the cumulative gas used is written relative to the previous
+   * receipt of the block.
+   *
+   * @param out The RLP output to write to
+   * @param previousCumulativeGasUsed the cumulative gas used of the previous receipt in the block,
+   *     or 0 for the first receipt
+   */
+  public void writeCompactTo(final RLPOutput out, final long previousCumulativeGasUsed) {
+    out.startList();
+    out.writeIntScalar(
+        transactionType.equals(TransactionType.FRONTIER)
+            ? 0
+            : Byte.toUnsignedInt(transactionType.getSerializedType()));
+    if (stateRoot != null) {
+      out.writeBytes(stateRoot);
+    } else {
+      out.writeLongScalar(status);
+    }
+    out.writeLongScalar(cumulativeGasUsed - previousCumulativeGasUsed);
+    out.writeList(logs, Log::writeTo);
+    revertReason.ifPresent(out::writeBytes);
+    out.endList();
+  }
+
+  /**
+   * Creates a transaction receipt from the compact RLP representation written by {@link
+   * #writeCompactTo(RLPOutput, long)}.
+   *
+   * @param input the compact RLP-encoded transaction receipt
+   * @param previousCumulativeGasUsed the cumulative gas used of the previous receipt in the block,
+   *     or 0 for the first receipt
+   * @return the transaction receipt
+   */
+  public static TransactionReceipt readCompactFrom(
+      final RLPInput input, final long previousCumulativeGasUsed) {
+    input.enterList();
+    final int type = input.readIntScalar();
+    final TransactionType transactionType =
+        type == 0 ? TransactionType.FRONTIER : TransactionType.of(type);
+    final RLPInput firstElement = input.readAsRlp();
+    final long cumulativeGas = previousCumulativeGasUsed + input.readLongScalar();
+    final List<Log> logs = input.readList(Log::readFrom);
+    final Optional<Bytes> revertReason =
+        input.isEndOfCurrentList() ? Optional.empty() : Optional.of(input.readBytes());
+    input.leaveList();
+
+    if (firstElement.raw().size() == 1) {
+      return new TransactionReceipt(
+          transactionType,
+          null,
+          firstElement.readIntScalar(),
+          cumulativeGas,
+          logs,
+          Optional.empty(),
+          revertReason);
+    } else {
+      return new TransactionReceipt(
+          transactionType,
+          Hash.wrap(firstElement.readBytes32()),
+          NONEXISTENT,
+          cumulativeGas,
+          logs,
+          Optional.empty(),
+          revertReason);
     }
   }
 
@@ -316,7 +394,7 @@ public class TransactionReceipt implements org.hyperledger.besu.plugin.data.Tran
    */
   @Override
   public LogsBloomFilter getBloomFilter() {
-    return bloomFilter;
+    return bloomFilter.get();
   }
 
   /**
@@ -364,7 +442,7 @@ public class TransactionReceipt implements org.hyperledger.besu.plugin.data.Tran
         .add("stateRoot", stateRoot)
         .add("cumulativeGasUsed", cumulativeGasUsed)
         .add("logs", logs)
-        .add("bloomFilter", bloomFilter)
+        .add("bloomFilter", getBloomFilter())
         .add("status", status)
         .add("transactionReceiptType", transactionReceiptType)
         .toString();
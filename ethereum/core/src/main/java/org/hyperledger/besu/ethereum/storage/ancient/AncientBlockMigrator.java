@@ -0,0 +1,117 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.storage.ancient;
+
+import org.hyperledger.besu.ethereum.chain.BlockAddedEvent;
+import org.hyperledger.besu.ethereum.chain.BlockAddedObserver;
+import org.hyperledger.besu.ethereum.storage.keyvalue.KeyValueStoragePrefixedKeyBlockchainStorage;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Moves canonical blocks that are more than the finality depth behind the chain head into the
+ * {@link AncientBlockStore}. Blocks are moved in the background once enough of them have piled up.
+ */
+public class AncientBlockMigrator implements BlockAddedObserver, Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(AncientBlockMigrator.class);
+  private static final long MIN_BLOCKS_TO_MOVE = 1000;
+  // Bounds how long a shutdown may have to wait for blocks being moved
+  private static final long MAX_BLOCKS_TO_MOVE = 10_000;
+
+  private final KeyValueStoragePrefixedKeyBlockchainStorage blockchainStorage;
+  private final AncientBlockStore ancientBlockStore;
+  private final long finalityDepth;
+  private final ExecutorService executorService;
+  private final AtomicBoolean moving = new AtomicBoolean(false);
+
+  public AncientBlockMigrator(
+      final KeyValueStoragePrefixedKeyBlockchainStorage blockchainStorage,
+      final AncientBlockStore ancientBlockStore,
+      final long finalityDepth) {
+    this(
+        blockchainStorage,
+        ancientBlockStore,
+        finalityDepth,
+        Executors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setPriority(Thread.MIN_PRIORITY)
+                .setNameFormat("AncientBlockMigrator-%d")
+                .build()));
+  }
+
+  AncientBlockMigrator(
+      final KeyValueStoragePrefixedKeyBlockchainStorage blockchainStorage,
+      final AncientBlockStore ancientBlockStore,
+      final long finalityDepth,
+      final ExecutorService executorService) {
+    this.blockchainStorage = blockchainStorage;
+    this.ancientBlockStore = ancientBlockStore;
+    this.finalityDepth = finalityDepth;
+    this.executorService = executorService;
+  }
+
+  @Override
+  public void onBlockAdded(final BlockAddedEvent event) {
+    if (!event.isNewCanonicalHead()) {
+      return;
+    }
+    final long lastFinalBlock = event.getBlock().getHeader().getNumber() - finalityDepth;
+    if (lastFinalBlock - ancientBlockStore.getBlockCount() + 1 < MIN_BLOCKS_TO_MOVE) {
+      return;
+    }
+    if (moving.compareAndSet(false, true)) {
+      final long lastBlockToMove =
+          Math.min(lastFinalBlock, ancientBlockStore.getBlockCount() + MAX_BLOCKS_TO_MOVE - 1);
+      executorService.execute(() -> moveBlocks(lastBlockToMove));
+    }
+  }
+
+  private void moveBlocks(final long lastBlockToMove) {
+    try {
+      final long moved = blockchainStorage.moveToAncientBlockStore(lastBlockToMove);
+      LOG.debug(
+          "Moved {} blocks to the ancient block store, which now holds {} blocks",
+          moved,
+          ancientBlockStore.getBlockCount());
+    } catch (final RuntimeException e) {
+      LOG.error("Failed to move blocks to the ancient block store", e);
+    } finally {
+      moving.set(false);
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    executorService.shutdown();
+    try {
+      if (!executorService.awaitTermination(1, TimeUnit.MINUTES)) {
+        LOG.error("Failed to shutdown ancient block migrator executor service.");
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    ancientBlockStore.close();
+  }
+}
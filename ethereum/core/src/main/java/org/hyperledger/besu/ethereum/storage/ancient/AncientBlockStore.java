@@ -0,0 +1,152 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.storage.ancient;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import org.hyperledger.besu.datatypes.Hash;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import com.google.common.annotations.VisibleForTesting;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+
+/**
+ * Append-only storage for the canonical blocks that are old enough to never be reorganised, indexed
+ * by block number.
+ *
+ * <p>Headers, bodies and receipts are kept in their RLP encoding, each in their own {@link
+ * AncientTable}, together with the canonical block hashes. The hashes are synced last, so a block
+ * is only part of the store once its hash is.
+ */
+public class AncientBlockStore implements Closeable {
+
+  public enum Table {
+    HASHES,
+    HEADERS,
+    BODIES,
+    RECEIPTS
+  }
+
+  private static final int DEFAULT_MAX_SEGMENT_SIZE = 1024 * 1024 * 1024; // 1Gb
+
+  private final Map<Table, AncientTable> tables = new EnumMap<>(Table.class);
+
+  public AncientBlockStore(final Path directory, final Set<Table> compressedTables) {
+    this(directory, compressedTables, DEFAULT_MAX_SEGMENT_SIZE);
+  }
+
+  @VisibleForTesting
+  AncientBlockStore(
+      final Path directory, final Set<Table> compressedTables, final int maxSegmentSize) {
+    for (final Table table : Table.values()) {
+      tables.put(
+          table,
+          new AncientTable(
+              directory,
+              table.name().toLowerCase(Locale.ROOT),
+              compressedTables.contains(table),
+              maxSegmentSize));
+    }
+    // A block may have been partially appended, or partially flushed, when the node stopped
+    final long blockCount =
+        tables.values().stream().mapToLong(AncientTable::size).min().orElse(0);
+    tables.values().forEach(table -> table.truncate(blockCount));
+  }
+
+  /**
+   * Returns the number of blocks in the store, which is also the number of the next block to be
+   * appended.
+   *
+   * @return the number of blocks
+   */
+  public long getBlockCount() {
+    return tables.get(Table.HASHES).size();
+  }
+
+  /**
+   * Appends a block to the store. Blocks have to be appended in order, starting with the genesis
+   * block, and are not guaranteed to be persisted until {@link #sync()} is called.
+   *
+   * @param blockNumber the number of the block, which has to follow the last appended block
+   * @param blockHash the hash of the block
+   * @param header the RLP encoded block header
+   * @param body the RLP encoded block body
+   * @param receipts the RLP encoded transaction receipts
+   */
+  public synchronized void appendBlock(
+      final long blockNumber,
+      final Hash blockHash,
+      final Bytes header,
+      final Bytes body,
+      final Bytes receipts) {
+    final long nextBlockNumber = tables.get(Table.HASHES).nextPosition();
+    checkArgument(
+        blockNumber == nextBlockNumber,
+        "Expected block %s but got block %s",
+        nextBlockNumber,
+        blockNumber);
+    tables.get(Table.HEADERS).append(header);
+    tables.get(Table.BODIES).append(body);
+    tables.get(Table.RECEIPTS).append(receipts);
+    tables.get(Table.HASHES).append(blockHash);
+  }
+
+  public Optional<Hash> getBlockHash(final long blockNumber) {
+    return tables.get(Table.HASHES).get(blockNumber).map(bytes -> Hash.wrap(Bytes32.wrap(bytes)));
+  }
+
+  public Optional<Bytes> getBlockHeader(final long blockNumber) {
+    return get(Table.HEADERS, blockNumber);
+  }
+
+  public Optional<Bytes> getBlockBody(final long blockNumber) {
+    return get(Table.BODIES, blockNumber);
+  }
+
+  public Optional<Bytes> getTransactionReceipts(final long blockNumber) {
+    return get(Table.RECEIPTS, blockNumber);
+  }
+
+  /** Flushes all appended blocks to disk and adds them to the store. */
+  public synchronized void sync() {
+    tables.get(Table.HEADERS).sync();
+    tables.get(Table.BODIES).sync();
+    tables.get(Table.RECEIPTS).sync();
+    tables.get(Table.HASHES).sync();
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    for (final AncientTable table : tables.values()) {
+      table.close();
+    }
+  }
+
+  private Optional<Bytes> get(final Table table, final long blockNumber) {
+    if (blockNumber >= getBlockCount()) {
+      return Optional.empty();
+    }
+    return tables.get(table).get(blockNumber);
+  }
+}
@@ -0,0 +1,408 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.storage.ancient;
+
+import org.hyperledger.besu.plugin.services.exception.StorageException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An append-only table of items indexed by their position, stored in flat files.
+ *
+ * <p>Items are appended to data segment files. The index file holds one entry per item with the
+ * segment number and the offset at which the item ends, preceded by an initial entry for the start
+ * of the first segment. Items never span segments, so an item starts where the previous one ended,
+ * or at the start of its segment if the previous item is in an earlier segment.
+ *
+ * <p>Appended items are only indexed, and become part of the table, when {@link #sync()} is called
+ * after their data is on disk. The index therefore never points at data that may be lost.
+ *
+ * <p>Full segments no longer change, so they are memory-mapped once and read without copying. The
+ * segment being appended to is read from its file instead of being remapped as it grows.
+ *
+ * <p>Items are optionally compressed, in which case they are prefixed with their uncompressed
+ * length and have to be copied when read. Whether a table is compressed is stored in its metadata
+ * file when it is created, and that setting is kept when it is opened again.
+ */
+class AncientTable implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(AncientTable.class);
+  private static final int INDEX_ENTRY_SIZE = Integer.BYTES * 2;
+  private static final byte UNCOMPRESSED = 0;
+  private static final byte COMPRESSED = 1;
+
+  private final Path directory;
+  private final String name;
+  private final boolean compressed;
+  private final int maxSegmentSize;
+  private final FileChannel indexChannel;
+  private final ConcurrentHashMap<Integer, MappedByteBuffer> mappedSegments =
+      new ConcurrentHashMap<>();
+  // Index entries of the items appended since the last sync
+  private final List<ByteBuffer> pendingIndexEntries = new ArrayList<>();
+
+  private FileChannel writeChannel;
+  private int writeSegment;
+  private int writeOffset;
+  private volatile long itemCount;
+
+  AncientTable(
+      final Path directory, final String name, final boolean compressed, final int maxSegmentSize) {
+    this.directory = directory;
+    this.name = name;
+    this.maxSegmentSize = maxSegmentSize;
+    try {
+      Files.createDirectories(directory);
+      this.compressed = readOrWriteCompressed(compressed);
+      indexChannel =
+          FileChannel.open(
+              directory.resolve(name + ".idx"),
+              StandardOpenOption.CREATE,
+              StandardOpenOption.READ,
+              StandardOpenOption.WRITE);
+      recover();
+    } catch (final IOException e) {
+      throw new StorageException("Failed to open ancient table " + name, e);
+    }
+  }
+
+  /**
+   * Returns the number of synced items in the table.
+   *
+   * @return the number of items
+   */
+  long size() {
+    return itemCount;
+  }
+
+  /**
+   * Returns the position of the next item to be appended, which is ahead of {@link #size()} by the
+   * number of items appended since the last sync.
+   *
+   * @return the position of the next item
+   */
+  synchronized long nextPosition() {
+    return itemCount + pendingIndexEntries.size();
+  }
+
+  synchronized void append(final Bytes item) {
+    final byte[] data = compressed ? compress(item) : item.toArrayUnsafe();
+    try {
+      if (writeOffset > 0 && (long) writeOffset + data.length > maxSegmentSize) {
+        openWriteSegment(writeSegment + 1);
+      }
+      writeFully(writeChannel, ByteBuffer.wrap(data), writeOffset);
+      writeOffset += data.length;
+      pendingIndexEntries.add(indexEntry(writeSegment, writeOffset));
+    } catch (final IOException e) {
+      throw new StorageException("Failed to append to ancient table " + name, e);
+    }
+  }
+
+  Optional<Bytes> get(final long position) {
+    if (position < 0 || position >= itemCount) {
+      return Optional.empty();
+    }
+    try {
+      final ByteBuffer entries = readIndexEntries(position);
+      final int startSegment = entries.getInt();
+      final int startOffset = entries.getInt();
+      final int endSegment = entries.getInt();
+      final int endOffset = entries.getInt();
+      final int start = startSegment == endSegment ? startOffset : 0;
+
+      final Bytes item = read(endSegment, start, endOffset);
+      return Optional.of(compressed ? decompress(item) : item);
+    } catch (final IOException e) {
+      throw new StorageException("Failed to read from ancient table " + name, e);
+    }
+  }
+
+  /** Flushes appended items to disk, then indexes them so they become part of the table. */
+  synchronized void sync() {
+    if (pendingIndexEntries.isEmpty()) {
+      return;
+    }
+    try {
+      // Earlier segments were flushed when they were closed
+      writeChannel.force(false);
+      long entry = itemCount + 1;
+      for (final ByteBuffer indexEntry : pendingIndexEntries) {
+        writeFully(indexChannel, indexEntry, entry++ * INDEX_ENTRY_SIZE);
+      }
+      indexChannel.force(false);
+      itemCount += pendingIndexEntries.size();
+      pendingIndexEntries.clear();
+    } catch (final IOException e) {
+      throw new StorageException("Failed to sync ancient table " + name, e);
+    }
+  }
+
+  /**
+   * Removes items from the end of the table, so it holds exactly the given number of items.
+   *
+   * @param items the number of items to keep
+   */
+  synchronized void truncate(final long items) {
+    if (items >= itemCount) {
+      return;
+    }
+    pendingIndexEntries.clear();
+    try {
+      final ByteBuffer entry = readIndexEntry(items);
+      final int segment = entry.getInt();
+      final int offset = entry.getInt();
+      indexChannel.truncate((items + 1) * INDEX_ENTRY_SIZE);
+      itemCount = items;
+      deleteSegmentsAfter(segment);
+      openWriteSegment(segment);
+      writeChannel.truncate(offset);
+      writeOffset = offset;
+      mappedSegments.remove(segment);
+    } catch (final IOException e) {
+      throw new StorageException("Failed to truncate ancient table " + name, e);
+    }
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    mappedSegments.clear();
+    writeChannel.close();
+    indexChannel.close();
+  }
+
+  /**
+   * Returns whether the table is compressed. This is the setting stored when the table was
+   * created, because existing items can't be read with a different one.
+   */
+  private boolean readOrWriteCompressed(final boolean requestedCompressed) throws IOException {
+    final Path metadataPath = directory.resolve(name + ".meta");
+    if (!Files.exists(metadataPath)) {
+      Files.write(metadataPath, new byte[] {requestedCompressed ? COMPRESSED : UNCOMPRESSED});
+      return requestedCompressed;
+    }
+    final byte[] metadata = Files.readAllBytes(metadataPath);
+    if (metadata.length != 1 || (metadata[0] != COMPRESSED && metadata[0] != UNCOMPRESSED)) {
+      throw new StorageException("Invalid metadata for ancient table " + name);
+    }
+    final boolean storedCompressed = metadata[0] == COMPRESSED;
+    if (storedCompressed != requestedCompressed) {
+      LOG.warn(
+          "Ancient table {} was created {}, ignoring the requested compression setting",
+          name,
+          storedCompressed ? "compressed" : "uncompressed");
+    }
+    return storedCompressed;
+  }
+
+  private void recover() throws IOException {
+    long entries = indexChannel.size() / INDEX_ENTRY_SIZE;
+    if (entries == 0) {
+      writeIndexEntry(0, 0, 0);
+      entries = 1;
+    }
+    // Drop index entries that point past the data that made it to disk
+    while (entries > 1) {
+      final ByteBuffer entry = readIndexEntry(entries - 1);
+      final int segment = entry.getInt();
+      final int offset = entry.getInt();
+      final Path segmentPath = segmentPath(segment);
+      if (Files.exists(segmentPath) && Files.size(segmentPath) >= offset) {
+        break;
+      }
+      entries--;
+    }
+    if (indexChannel.size() != entries * INDEX_ENTRY_SIZE) {
+      LOG.warn("Ancient table {} was not closed cleanly, recovered {} items", name, entries - 1);
+      indexChannel.truncate(entries * INDEX_ENTRY_SIZE);
+    }
+    itemCount = entries - 1;
+
+    // Drop data that was written after the last indexed item
+    final ByteBuffer last = readIndexEntry(itemCount);
+    final int segment = last.getInt();
+    final int offset = last.getInt();
+    deleteSegmentsAfter(segment);
+    openWriteSegment(segment);
+    writeChannel.truncate(offset);
+    writeOffset = offset;
+  }
+
+  private void openWriteSegment(final int segment) throws IOException {
+    if (writeChannel != null) {
+      writeChannel.force(false);
+      writeChannel.close();
+    }
+    writeChannel =
+        FileChannel.open(
+            segmentPath(segment),
+            StandardOpenOption.CREATE,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE);
+    writeSegment = segment;
+    writeOffset = (int) writeChannel.size();
+  }
+
+  private void deleteSegmentsAfter(final int segment) throws IOException {
+    for (int i = segment + 1; Files.exists(segmentPath(i)); i++) {
+      mappedSegments.remove(i);
+      Files.delete(segmentPath(i));
+    }
+  }
+
+  private Bytes read(final int segment, final int start, final int end) throws IOException {
+    synchronized (this) {
+      if (segment == writeSegment) {
+        final ByteBuffer buffer = ByteBuffer.allocate(end - start);
+        readFully(writeChannel, buffer, start);
+        return Bytes.wrap(buffer.array());
+      }
+    }
+    final ByteBuffer mapped = mappedSegment(segment).duplicate();
+    mapped.position(start).limit(end);
+    return Bytes.wrapByteBuffer(mapped.slice());
+  }
+
+  private MappedByteBuffer mappedSegment(final int segment) throws IOException {
+    final MappedByteBuffer mapped = mappedSegments.get(segment);
+    if (mapped != null) {
+      return mapped;
+    }
+    try (final FileChannel channel = FileChannel.open(segmentPath(segment))) {
+      return mappedSegments.computeIfAbsent(
+          segment,
+          __ -> {
+            try {
+              return channel.map(MapMode.READ_ONLY, 0, channel.size());
+            } catch (final IOException e) {
+              throw new UncheckedIOException(e);
+            }
+          });
+    } catch (final UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
+  private ByteBuffer readIndexEntry(final long entry) throws IOException {
+    final ByteBuffer buffer = ByteBuffer.allocate(INDEX_ENTRY_SIZE).order(ByteOrder.BIG_ENDIAN);
+    readFully(indexChannel, buffer, entry * INDEX_ENTRY_SIZE);
+    return buffer.flip();
+  }
+
+  private ByteBuffer readIndexEntries(final long position) throws IOException {
+    final ByteBuffer buffer = ByteBuffer.allocate(INDEX_ENTRY_SIZE * 2);
+    readFully(indexChannel, buffer, position * INDEX_ENTRY_SIZE);
+    return buffer.flip();
+  }
+
+  private void writeIndexEntry(final long entry, final int segment, final int offset)
+      throws IOException {
+    writeFully(indexChannel, indexEntry(segment, offset), entry * INDEX_ENTRY_SIZE);
+  }
+
+  private static ByteBuffer indexEntry(final int segment, final int offset) {
+    return ByteBuffer.allocate(INDEX_ENTRY_SIZE).putInt(segment).putInt(offset).flip();
+  }
+
+  private Path segmentPath(final int segment) {
+    return directory.resolve(String.format("%s.%04d.dat", name, segment));
+  }
+
+  private static void readFully(final FileChannel channel, final ByteBuffer buffer, long position)
+      throws IOException {
+    while (buffer.hasRemaining()) {
+      final int read = channel.read(buffer, position);
+      if (read < 0) {
+        throw new IOException("Unexpected end of file");
+      }
+      position += read;
+    }
+  }
+
+  private static void writeFully(final FileChannel channel, final ByteBuffer buffer, long position)
+      throws IOException {
+    while (buffer.hasRemaining()) {
+      position += channel.write(buffer, position);
+    }
+  }
+
+  private static byte[] compress(final Bytes item) {
+    final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    try {
+      deflater.setInput(item.toArrayUnsafe());
+      deflater.finish();
+      final ByteArrayOutputStream out = new ByteArrayOutputStream(item.size() / 2 + 16);
+      final byte[] length = ByteBuffer.allocate(Integer.BYTES).putInt(item.size()).array();
+      out.write(length, 0, length.length);
+      final byte[] buffer = new byte[8192];
+      while (!deflater.finished()) {
+        final int count = deflater.deflate(buffer);
+        out.write(buffer, 0, count);
+      }
+      return out.toByteArray();
+    } finally {
+      deflater.end();
+    }
+  }
+
+  private Bytes decompress(final Bytes item) {
+    final Inflater inflater = new Inflater();
+    try {
+      final int size = item.getInt(0);
+      if (size < 0) {
+        throw new StorageException("Corrupt item in ancient table " + name);
+      }
+      final byte[] result = new byte[size];
+      inflater.setInput(item.slice(Integer.BYTES).toArrayUnsafe());
+      int length = 0;
+      while (length < result.length && !inflater.finished()) {
+        final int inflated = inflater.inflate(result, length, result.length - length);
+        if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+          throw new StorageException("Truncated item in ancient table " + name);
+        }
+        length += inflated;
+      }
+      if (length != result.length) {
+        throw new StorageException("Truncated item in ancient table " + name);
+      }
+      return Bytes.wrap(result);
+    } catch (final DataFormatException e) {
+      throw new StorageException("Corrupt item in ancient table " + name, e);
+    } finally {
+      inflater.end();
+    }
+  }
+}
@@ -17,9 +17,11 @@ package org.hyperledger.besu.ethereum.storage.keyvalue;
 import org.hyperledger.besu.ethereum.chain.BlockchainStorage;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
 import org.hyperledger.besu.ethereum.mainnet.ScheduleBasedBlockHeaderFunctions;
+import org.hyperledger.besu.ethereum.storage.ancient.AncientBlockStore;
 import org.hyperledger.besu.plugin.services.storage.KeyValueStorage;
 import org.hyperledger.besu.plugin.services.storage.SegmentIdentifier;
 
+import java.util.Optional;
 import java.util.function.Function;
 
 public class GoQuorumKeyValueStorageProvider extends KeyValueStorageProvider {
@@ -49,4 +51,13 @@ public class GoQuorumKeyValueStorageProvider extends KeyValueStorageProvider {
         getStorageBySegmentIdentifier(KeyValueSegmentIdentifier.BLOCKCHAIN),
         ScheduleBasedBlockHeaderFunctions.create(protocolSchedule));
   }
+
+  @Override
+  public KeyValueStoragePrefixedKeyBlockchainStorage createBlockchainStorage(
+      final ProtocolSchedule protocolSchedule,
+      final Optional<AncientBlockStore> ancientBlockStore,
+      final boolean compactTransactionReceipts) {
+    throw new UnsupportedOperationException(
+        "Optional storage features are not supported in GoQuorum compatibility mode");
+  }
 }
@@ -22,21 +22,31 @@ import org.hyperledger.besu.ethereum.core.BlockHeader;
 import org.hyperledger.besu.ethereum.core.BlockHeaderFunctions;
 import org.hyperledger.besu.ethereum.core.Difficulty;
 import org.hyperledger.besu.ethereum.core.TransactionReceipt;
+import org.hyperledger.besu.ethereum.rlp.BytesValueRLPOutput;
 import org.hyperledger.besu.ethereum.rlp.RLP;
+import org.hyperledger.besu.ethereum.rlp.RLPInput;
+import org.hyperledger.besu.ethereum.storage.ancient.AncientBlockStore;
 import org.hyperledger.besu.plugin.services.storage.KeyValueStorage;
 import org.hyperledger.besu.plugin.services.storage.KeyValueStorageTransaction;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.BiFunction;
 
 import com.google.common.collect.Lists;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.apache.tuweni.units.bigints.UInt256;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class KeyValueStoragePrefixedKeyBlockchainStorage implements BlockchainStorage {
+  private static final Logger LOG =
+      LoggerFactory.getLogger(KeyValueStoragePrefixedKeyBlockchainStorage.class);
+  private static final int ANCIENT_BATCH_SIZE = 1000;
 
   private static final Bytes CHAIN_HEAD_KEY =
       Bytes.wrap("chainHeadHash".getBytes(StandardCharsets.UTF_8));
@@ -44,6 +54,8 @@ public class KeyValueStoragePrefixedKeyBlockchainStorage implements BlockchainSt
       Bytes.wrap("forkHeads".getBytes(StandardCharsets.UTF_8));
   private static final Bytes FINALIZED_BLOCK_HASH_KEY =
       Bytes.wrap("finalizedBlockHash".getBytes(StandardCharsets.UTF_8));
+  private static final Bytes ANCIENT_BLOCK_COUNT_KEY =
+      Bytes.wrap("ancientBlockCount".getBytes(StandardCharsets.UTF_8));
 
   private static final Bytes VARIABLES_PREFIX = Bytes.of(1);
   static final Bytes BLOCK_HEADER_PREFIX = Bytes.of(2);
@@ -52,14 +64,47 @@ public class KeyValueStoragePrefixedKeyBlockchainStorage implements BlockchainSt
   private static final Bytes BLOCK_HASH_PREFIX = Bytes.of(5);
   private static final Bytes TOTAL_DIFFICULTY_PREFIX = Bytes.of(6);
   private static final Bytes TRANSACTION_LOCATION_PREFIX = Bytes.of(7);
+  private static final Bytes ANCIENT_BLOCK_NUMBER_PREFIX = Bytes.of(9);
+
+  // Legacy receipts are stored as a plain RLP list, so they always start with a list prefix.
+  // Other formats are marked by a leading version byte, which can't be mistaken for one.
+  private static final byte COMPACT_RECEIPTS_VERSION = 0x01;
 
   final KeyValueStorage storage;
   final BlockHeaderFunctions blockHeaderFunctions;
+  private final Optional<AncientBlockStore> ancientBlockStore;
+  private final boolean compactTransactionReceipts;
 
   public KeyValueStoragePrefixedKeyBlockchainStorage(
       final KeyValueStorage storage, final BlockHeaderFunctions blockHeaderFunctions) {
+    this(storage, blockHeaderFunctions, Optional.empty(), false);
+  }
+
+  /**
+   * Creates a blockchain storage that keeps old canonical blocks in an ancient block store, see
+   * {@link #moveToAncientBlockStore(long)}. Reads fall back to the ancient block store for blocks
+   * that are no longer in the key value storage. Block hashes of blocks in the ancient block store
+   * that are removed by a reorg are kept as empty values, so they hide the ancient hashes.
+   *
+   * <p>Transaction receipts are always readable in both the legacy and the compact format. The
+   * compact format leaves out the logs blooms and delta encodes the cumulative gas used, and is
+   * only written when enabled, as older versions can't read it.
+   *
+   * @param storage the key value storage
+   * @param blockHeaderFunctions the block header functions
+   * @param ancientBlockStore the store for old blocks, if enabled
+   * @param compactTransactionReceipts whether to write transaction receipts in the compact format
+   */
+  public KeyValueStoragePrefixedKeyBlockchainStorage(
+      final KeyValueStorage storage,
+      final BlockHeaderFunctions blockHeaderFunctions,
+      final Optional<AncientBlockStore> ancientBlockStore,
+      final boolean compactTransactionReceipts) {
     this.storage = storage;
     this.blockHeaderFunctions = blockHeaderFunctions;
+    this.ancientBlockStore = ancientBlockStore;
+    this.compactTransactionReceipts = compactTransactionReceipts;
+    ancientBlockStore.ifPresent(this::reconcileAncientBlockStore);
   }
 
   @Override
@@ -81,24 +126,40 @@ public class KeyValueStoragePrefixedKeyBlockchainStorage implements BlockchainSt
 
   @Override
   public Optional<BlockHeader> getBlockHeader(final Hash blockHash) {
-    return get(BLOCK_HEADER_PREFIX, blockHash)
+    return getBlockHeaderRlp(blockHash)
         .map(b -> BlockHeader.readFrom(RLP.input(b), blockHeaderFunctions));
   }
 
   @Override
   public Optional<BlockBody> getBlockBody(final Hash blockHash) {
-    return get(BLOCK_BODY_PREFIX, blockHash)
-        .map(bytes -> BlockBody.readFrom(RLP.input(bytes), blockHeaderFunctions));
+    return getBlockBodyRlp(blockHash)
+        .map(bytes -> BlockBody.readLazilyFrom(RLP.input(bytes), blockHeaderFunctions));
+  }
+
+  @Override
+  public Optional<Bytes> getBlockHeaderRlp(final Hash blockHash) {
+    return getBlockData(BLOCK_HEADER_PREFIX, blockHash, AncientBlockStore::getBlockHeader);
+  }
+
+  @Override
+  public Optional<Bytes> getBlockBodyRlp(final Hash blockHash) {
+    return getBlockData(BLOCK_BODY_PREFIX, blockHash, AncientBlockStore::getBlockBody);
   }
 
   @Override
   public Optional<List<TransactionReceipt>> getTransactionReceipts(final Hash blockHash) {
-    return get(TRANSACTION_RECEIPTS_PREFIX, blockHash).map(this::rlpDecodeTransactionReceipts);
+    return getBlockData(
+            TRANSACTION_RECEIPTS_PREFIX, blockHash, AncientBlockStore::getTransactionReceipts)
+        .map(this::rlpDecodeTransactionReceipts);
   }
 
   @Override
   public Optional<Hash> getBlockHash(final long blockNumber) {
-    return get(BLOCK_HASH_PREFIX, UInt256.valueOf(blockNumber)).map(this::bytesToHash);
+    final Optional<Bytes> blockHash = get(BLOCK_HASH_PREFIX, UInt256.valueOf(blockNumber));
+    if (blockHash.isPresent() || ancientBlockStore.isEmpty()) {
+      return blockHash.filter(bytes -> !bytes.isEmpty()).map(this::bytesToHash);
+    }
+    return ancientBlockStore.get().getBlockHash(blockNumber);
   }
 
   @Override
@@ -114,11 +175,187 @@ public class KeyValueStoragePrefixedKeyBlockchainStorage implements BlockchainSt
 
   @Override
   public Updater updater() {
-    return new Updater(storage.startTransaction());
+    return new Updater(storage.startTransaction(), compactTransactionReceipts, ancientBlockStore);
+  }
+
+  /**
+   * Moves canonical blocks up to and including the given block number from the key value storage
+   * to the ancient block store, continuing after the last block that was moved before. Blocks are
+   * appended and synced to the ancient block store before being removed from the key value
+   * storage, so they can be read from either while being moved, and a crash in between is
+   * reconciled on startup. If compact transaction receipts are enabled, legacy receipts are
+   * converted while they are moved.
+   *
+   * @param lastBlockNumber the number of the last block to move
+   * @return the number of blocks moved
+   */
+  public long moveToAncientBlockStore(final long lastBlockNumber) {
+    final AncientBlockStore ancientStore =
+        ancientBlockStore.orElseThrow(
+            () -> new IllegalStateException("The ancient block store is not enabled"));
+    final long firstBlockNumber = ancientStore.getBlockCount();
+    long blockNumber = firstBlockNumber;
+    while (blockNumber <= lastBlockNumber) {
+      final long batchEnd = Math.min(lastBlockNumber, blockNumber + ANCIENT_BATCH_SIZE - 1);
+      final List<Hash> movedBlocks = new ArrayList<>();
+      for (; blockNumber <= batchEnd; blockNumber++) {
+        final Optional<Hash> blockHash =
+            get(BLOCK_HASH_PREFIX, UInt256.valueOf(blockNumber))
+                .filter(bytes -> !bytes.isEmpty())
+                .map(this::bytesToHash);
+        final Optional<Bytes> header = blockHash.flatMap(h -> get(BLOCK_HEADER_PREFIX, h));
+        final Optional<Bytes> body = blockHash.flatMap(h -> get(BLOCK_BODY_PREFIX, h));
+        final Optional<Bytes> receipts =
+            blockHash
+                .flatMap(h -> get(TRANSACTION_RECEIPTS_PREFIX, h))
+                .map(this::convertTransactionReceipts);
+        if (header.isEmpty() || body.isEmpty() || receipts.isEmpty()) {
+          // The ancient block store has no gaps, so stop at the first block we don't fully have,
+          // e.g. because it was skipped by the sync
+          LOG.debug("Block {} is incomplete, not moving it to the ancient store", blockNumber);
+          finishAncientBatch(ancientStore, movedBlocks, blockNumber - movedBlocks.size());
+          return blockNumber - firstBlockNumber;
+        }
+        ancientStore.appendBlock(
+            blockNumber, blockHash.get(), header.get(), body.get(), receipts.get());
+        movedBlocks.add(blockHash.get());
+      }
+      finishAncientBatch(ancientStore, movedBlocks, blockNumber - movedBlocks.size());
+    }
+    return blockNumber - firstBlockNumber;
+  }
+
+  private void finishAncientBatch(
+      final AncientBlockStore ancientStore,
+      final List<Hash> movedBlocks,
+      final long firstBlockNumber) {
+    if (movedBlocks.isEmpty()) {
+      return;
+    }
+    ancientStore.sync();
+    removeAncientBlocks(movedBlocks, firstBlockNumber);
+  }
+
+  /**
+   * Removes blocks that are in the ancient block store from the key value storage, and records the
+   * number of blocks in the ancient block store in the same transaction.
+   */
+  private void removeAncientBlocks(final List<Hash> ancientBlocks, final long firstBlockNumber) {
+    final KeyValueStorageTransaction transaction = storage.startTransaction();
+    long blockNumber = firstBlockNumber;
+    for (final Hash blockHash : ancientBlocks) {
+      transaction.put(
+          Bytes.concatenate(ANCIENT_BLOCK_NUMBER_PREFIX, blockHash).toArrayUnsafe(),
+          Bytes.ofUnsignedLong(blockNumber).toArrayUnsafe());
+      transaction.remove(Bytes.concatenate(BLOCK_HEADER_PREFIX, blockHash).toArrayUnsafe());
+      transaction.remove(Bytes.concatenate(BLOCK_BODY_PREFIX, blockHash).toArrayUnsafe());
+      transaction.remove(Bytes.concatenate(TRANSACTION_RECEIPTS_PREFIX, blockHash).toArrayUnsafe());
+      transaction.remove(
+          Bytes.concatenate(BLOCK_HASH_PREFIX, UInt256.valueOf(blockNumber)).toArrayUnsafe());
+      blockNumber++;
+    }
+    transaction.put(
+        Bytes.concatenate(VARIABLES_PREFIX, ANCIENT_BLOCK_COUNT_KEY).toArrayUnsafe(),
+        Bytes.ofUnsignedLong(blockNumber).toArrayUnsafe());
+    transaction.commit();
+  }
+
+  /**
+   * Finishes moving blocks that were synced to the ancient block store but not yet removed from the
+   * key value storage when the node stopped.
+   */
+  private void reconcileAncientBlockStore(final AncientBlockStore ancientStore) {
+    final long ancientBlockCount = ancientStore.getBlockCount();
+    final long recordedBlockCount =
+        get(VARIABLES_PREFIX, ANCIENT_BLOCK_COUNT_KEY).map(Bytes::toLong).orElse(0L);
+    if (ancientBlockCount < recordedBlockCount) {
+      throw new IllegalStateException(
+          String.format(
+              "The ancient block store has %d blocks, but %d blocks were moved to it",
+              ancientBlockCount, recordedBlockCount));
+    }
+    if (ancientBlockCount > recordedBlockCount) {
+      LOG.info(
+          "Finishing the move of blocks {} to {} to the ancient block store",
+          recordedBlockCount,
+          ancientBlockCount - 1);
+    }
+    long blockNumber = recordedBlockCount;
+    while (blockNumber < ancientBlockCount) {
+      final long batchEnd = Math.min(ancientBlockCount, blockNumber + ANCIENT_BATCH_SIZE);
+      final List<Hash> ancientBlocks = new ArrayList<>();
+      for (long i = blockNumber; i < batchEnd; i++) {
+        ancientBlocks.add(ancientStore.getBlockHash(i).orElseThrow());
+      }
+      removeAncientBlocks(ancientBlocks, blockNumber);
+      blockNumber = batchEnd;
+    }
+  }
+
+  private Optional<Bytes> getBlockData(
+      final Bytes prefix,
+      final Hash blockHash,
+      final BiFunction<AncientBlockStore, Long, Optional<Bytes>> ancientGetter) {
+    final Optional<Bytes> data = get(prefix, blockHash);
+    if (data.isPresent() || ancientBlockStore.isEmpty()) {
+      return data;
+    }
+    return get(ANCIENT_BLOCK_NUMBER_PREFIX, blockHash)
+        .flatMap(number -> ancientGetter.apply(ancientBlockStore.get(), number.toLong()));
+  }
+
+  private Bytes convertTransactionReceipts(final Bytes bytes) {
+    if (!compactTransactionReceipts || bytes.get(0) == COMPACT_RECEIPTS_VERSION) {
+      return bytes;
+    }
+    return rlpEncodeTransactionReceipts(rlpDecodeTransactionReceipts(bytes), true);
   }
 
   private List<TransactionReceipt> rlpDecodeTransactionReceipts(final Bytes bytes) {
-    return RLP.input(bytes).readList(TransactionReceipt::readFrom);
+    if (bytes.get(0) != COMPACT_RECEIPTS_VERSION) {
+      return RLP.input(bytes).readList(TransactionReceipt::readFrom);
+    }
+    final RLPInput input = RLP.input(bytes.slice(1));
+    final List<TransactionReceipt> receipts = new ArrayList<>();
+    long cumulativeGasUsed = 0;
+    input.enterList();
+    while (!input.isEndOfCurrentList()) {
+      final TransactionReceipt receipt =
+          TransactionReceipt.readCompactFrom(input, cumulativeGasUsed);
+      cumulativeGasUsed = receipt.getCumulativeGasUsed();
+      receipts.add(receipt);
+    }
+    input.leaveList();
+    return receipts;
+  }
+
+  private static Bytes rlpEncodeTransactionReceipts(
+      final List<TransactionReceipt> receipts, final boolean compact) {
+    // Delta encoding needs the cumulative gas used to never decrease, as it does in valid blocks
+    if (!compact || !hasNonDecreasingCumulativeGasUsed(receipts)) {
+      return RLP.encode(o -> o.writeList(receipts, TransactionReceipt::writeToWithRevertReason));
+    }
+    final BytesValueRLPOutput out = new BytesValueRLPOutput();
+    long cumulativeGasUsed = 0;
+    out.startList();
+    for (final TransactionReceipt receipt : receipts) {
+      receipt.writeCompactTo(out, cumulativeGasUsed);
+      cumulativeGasUsed = receipt.getCumulativeGasUsed();
+    }
+    out.endList();
+    return Bytes.concatenate(Bytes.of(COMPACT_RECEIPTS_VERSION), out.encoded());
+  }
+
+  private static boolean hasNonDecreasingCumulativeGasUsed(
+      final List<TransactionReceipt> receipts) {
+    long cumulativeGasUsed = 0;
+    for (final TransactionReceipt receipt : receipts) {
+      if (receipt.getCumulativeGasUsed() < cumulativeGasUsed) {
+        return false;
+      }
+      cumulativeGasUsed = receipt.getCumulativeGasUsed();
+    }
+    return true;
   }
 
   private Hash bytesToHash(final Bytes bytes) {
@@ -132,9 +369,20 @@ public class KeyValueStoragePrefixedKeyBlockchainStorage implements BlockchainSt
   public static class Updater implements BlockchainStorage.Updater {
 
     private final KeyValueStorageTransaction transaction;
+    private final boolean compactTransactionReceipts;
+    private final Optional<AncientBlockStore> ancientBlockStore;
 
     Updater(final KeyValueStorageTransaction transaction) {
+      this(transaction, false, Optional.empty());
+    }
+
+    Updater(
+        final KeyValueStorageTransaction transaction,
+        final boolean compactTransactionReceipts,
+        final Optional<AncientBlockStore> ancientBlockStore) {
       this.transaction = transaction;
+      this.compactTransactionReceipts = compactTransactionReceipts;
+      this.ancientBlockStore = ancientBlockStore;
     }
 
     @Override
@@ -156,7 +404,10 @@ public class KeyValueStoragePrefixedKeyBlockchainStorage implements BlockchainSt
     @Override
     public void putTransactionReceipts(
         final Hash blockHash, final List<TransactionReceipt> transactionReceipts) {
-      set(TRANSACTION_RECEIPTS_PREFIX, blockHash, rlpEncode(transactionReceipts));
+      set(
+          TRANSACTION_RECEIPTS_PREFIX,
+          blockHash,
+          rlpEncodeTransactionReceipts(transactionReceipts, compactTransactionReceipts));
     }
 
     @Override
@@ -188,7 +439,12 @@ public class KeyValueStoragePrefixedKeyBlockchainStorage implements BlockchainSt
 
     @Override
     public void removeBlockHash(final long blockNumber) {
-      remove(BLOCK_HASH_PREFIX, UInt256.valueOf(blockNumber));
+      if (ancientBlockStore.map(store -> blockNumber < store.getBlockCount()).orElse(false)) {
+        // The ancient block store can't be changed, so hide its hash instead
+        set(BLOCK_HASH_PREFIX, UInt256.valueOf(blockNumber), Bytes.EMPTY);
+      } else {
+        remove(BLOCK_HASH_PREFIX, UInt256.valueOf(blockNumber));
+      }
     }
 
     @Override
@@ -213,9 +469,5 @@ public class KeyValueStoragePrefixedKeyBlockchainStorage implements BlockchainSt
     private void remove(final Bytes prefix, final Bytes key) {
       transaction.remove(Bytes.concatenate(prefix, key).toArrayUnsafe());
     }
-
-    private Bytes rlpEncode(final List<TransactionReceipt> receipts) {
-      return RLP.encode(o -> o.writeList(receipts, TransactionReceipt::writeToWithRevertReason));
-    }
   }
 }
@@ -21,6 +21,7 @@ import org.hyperledger.besu.ethereum.goquorum.GoQuorumPrivateStorage;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
 import org.hyperledger.besu.ethereum.mainnet.ScheduleBasedBlockHeaderFunctions;
 import org.hyperledger.besu.ethereum.storage.StorageProvider;
+import org.hyperledger.besu.ethereum.storage.ancient.AncientBlockStore;
 import org.hyperledger.besu.ethereum.worldstate.DataStorageFormat;
 import org.hyperledger.besu.ethereum.worldstate.WorldStatePreimageStorage;
 import org.hyperledger.besu.ethereum.worldstate.WorldStateStorage;
@@ -30,6 +31,7 @@ import org.hyperledger.besu.plugin.services.storage.SegmentIdentifier;
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Function;
 
 public class KeyValueStorageProvider implements StorageProvider {
@@ -68,6 +70,25 @@ public class KeyValueStorageProvider implements StorageProvider {
         ScheduleBasedBlockHeaderFunctions.create(protocolSchedule));
   }
 
+  /**
+   * Creates a blockchain storage with the optional storage features enabled.
+   *
+   * @param protocolSchedule the protocol schedule
+   * @param ancientBlockStore the store for old blocks, if enabled
+   * @param compactTransactionReceipts whether to write transaction receipts in the compact format
+   * @return the blockchain storage
+   */
+  public KeyValueStoragePrefixedKeyBlockchainStorage createBlockchainStorage(
+      final ProtocolSchedule protocolSchedule,
+      final Optional<AncientBlockStore> ancientBlockStore,
+      final boolean compactTransactionReceipts) {
+    return new KeyValueStoragePrefixedKeyBlockchainStorage(
+        getStorageBySegmentIdentifier(KeyValueSegmentIdentifier.BLOCKCHAIN),
+        ScheduleBasedBlockHeaderFunctions.create(protocolSchedule),
+        ancientBlockStore,
+        compactTransactionReceipts);
+  }
+
   @Override
   public WorldStateStorage createWorldStateStorage(final DataStorageFormat dataStorageFormat) {
     if (dataStorageFormat.equals(DataStorageFormat.BONSAI)) {
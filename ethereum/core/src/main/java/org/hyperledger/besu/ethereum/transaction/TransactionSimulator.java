@@ -152,6 +152,39 @@ public class TransactionSimulator {
     final WorldUpdater updater =
         getEffectiveWorldStateUpdater(header, publicWorldState, operationTracer);
 
+    return process(
+        callParams,
+        transactionValidationParams,
+        operationTracer,
+        header,
+        publicWorldState,
+        updater);
+  }
+
+  /**
+   * Resolves the world state of a block once so that several calls can be simulated on top of it,
+   * as when searching for the lowest gas limit a call succeeds with. Each simulation runs in its
+   * own child updater, so simulations never observe each other's changes.
+   *
+   * @param header the header of the block to simulate calls on top of
+   * @return the prepared world state, or empty if the world state of the block is not available
+   */
+  public Optional<PreparedWorldState> prepare(final BlockHeader header) {
+    if (header == null) {
+      return Optional.empty();
+    }
+    return worldStateArchive
+        .getMutable(header.getStateRoot(), header.getHash(), false)
+        .map(publicWorldState -> new PreparedWorldState(header, publicWorldState));
+  }
+
+  private Optional<TransactionSimulatorResult> process(
+      final CallParameter callParams,
+      final TransactionValidationParams transactionValidationParams,
+      final OperationTracer operationTracer,
+      final BlockHeader header,
+      final MutableWorldState publicWorldState,
+      final WorldUpdater updater) {
     final ProtocolSpec protocolSpec = protocolSchedule.getByBlockNumber(header.getNumber());
 
     final Address senderAddress =
@@ -287,6 +320,37 @@ public class TransactionSimulator {
     return updater;
   }
 
+  /** The world state of a block, resolved once and shared by several simulated calls. */
+  public class PreparedWorldState {
+    private final BlockHeader header;
+    private final MutableWorldState publicWorldState;
+
+    private PreparedWorldState(final BlockHeader header, final MutableWorldState publicWorldState) {
+      this.header = header;
+      this.publicWorldState = publicWorldState;
+    }
+
+    public BlockHeader getHeader() {
+      return header;
+    }
+
+    public Optional<TransactionSimulatorResult> process(
+        final CallParameter callParams,
+        final TransactionValidationParams transactionValidationParams,
+        final OperationTracer operationTracer) {
+      // the changes of a simulation are left in a child updater that is never committed
+      final WorldUpdater updater =
+          getEffectiveWorldStateUpdater(header, publicWorldState, operationTracer).updater();
+      return TransactionSimulator.this.process(
+          callParams,
+          transactionValidationParams,
+          operationTracer,
+          header,
+          publicWorldState,
+          updater);
+    }
+  }
+
   public Optional<Boolean> doesAddressExistAtHead(final Address address) {
     final BlockHeader header = blockchain.getChainHeadHeader();
     final MutableWorldState worldState =
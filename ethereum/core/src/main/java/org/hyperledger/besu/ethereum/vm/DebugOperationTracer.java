@@ -24,15 +24,18 @@ import org.hyperledger.besu.evm.Gas;
 import org.hyperledger.besu.evm.ModificationNotAllowedException;
 import org.hyperledger.besu.evm.frame.ExceptionalHaltReason;
 import org.hyperledger.besu.evm.frame.MessageFrame;
+import org.hyperledger.besu.evm.operation.ExtCodeCopyOperation;
 import org.hyperledger.besu.evm.operation.Operation;
 import org.hyperledger.besu.evm.tracing.OperationTracer;
 import org.hyperledger.besu.evm.worldstate.WorldUpdater;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.TreeMap;
+import java.util.function.Consumer;
 
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
@@ -41,11 +44,34 @@ import org.apache.tuweni.units.bigints.UInt256;
 public class DebugOperationTracer implements OperationTracer {
 
   private final TraceOptions options;
+  private final Optional<Consumer<TraceFrame>> frameConsumer;
   private List<TraceFrame> traceFrames = new ArrayList<>();
   private TraceFrame lastFrame;
+  // The frame whose next operation directly follows the last traced one, with the stack and
+  // memory that operation left behind. Its next operation only needs to capture what it changes.
+  private MessageFrame continuedFrame;
+  private Optional<Bytes32[]> continuedStack = Optional.empty();
+  private Optional<Bytes[]> continuedMemory = Optional.empty();
 
   public DebugOperationTracer(final TraceOptions options) {
     this.options = options;
+    this.frameConsumer = Optional.empty();
+  }
+
+  /**
+   * Creates a tracer that hands trace frames to the consumer as execution proceeds instead of
+   * collecting them. Only the frames that may still be amended are retained: the most recent
+   * non-RETURN frame, which receives the halt reason of a failed account creation, and the RETURN
+   * frames that follow it. Call {@link #flush()} once the transaction has been processed to emit
+   * them.
+   *
+   * @param options the trace options
+   * @param frameConsumer receives every trace frame, in execution order
+   */
+  public DebugOperationTracer(
+      final TraceOptions options, final Consumer<TraceFrame> frameConsumer) {
+    this.options = options;
+    this.frameConsumer = Optional.of(frameConsumer);
   }
 
   @Override
@@ -56,13 +82,25 @@ public class DebugOperationTracer implements OperationTracer {
     final int pc = frame.getPC();
     final Gas gasRemaining = frame.getRemainingGas();
     final Bytes inputData = frame.getInputData();
-    final Optional<Bytes32[]> stack = captureStack(frame);
+    final boolean continued = frame == continuedFrame;
+    final Optional<Bytes32[]> stack = continued ? continuedStack : captureStack(frame);
     final WorldUpdater worldUpdater = frame.getWorldUpdater();
     final Optional<Bytes32[]> stackPostExecution;
     final Operation.OperationResult operationResult = executeOperation.execute();
     final Bytes outputData = frame.getOutputData();
-    final Optional<Bytes[]> memory = captureMemory(frame);
+    final Optional<Bytes[]> memory =
+        continued && !(currentOperation instanceof ExtCodeCopyOperation)
+            ? continuedMemory.map(previousMemory -> updateMemory(frame, previousMemory))
+            : captureMemory(frame);
     stackPostExecution = captureStack(frame);
+    if (frame.getState() == MessageFrame.State.CODE_EXECUTING) {
+      // nothing else runs before the next operation of this frame, unlike after a call or create
+      continuedFrame = frame;
+      continuedStack = stackPostExecution;
+      continuedMemory = memory;
+    } else {
+      continuedFrame = null;
+    }
     if (lastFrame != null) {
       lastFrame.setGasRemainingPostExecution(gasRemaining);
     }
@@ -94,6 +132,10 @@ public class DebugOperationTracer implements OperationTracer {
             currentOperation.isVirtualOperation(),
             frame.getMaybeUpdatedMemory(),
             frame.getMaybeUpdatedStorage());
+    if (frameConsumer.isPresent() && !opcode.equals("RETURN")) {
+      // earlier frames can no longer be amended by traceAccountCreationResult
+      emitTraceFrames();
+    }
     traceFrames.add(lastFrame);
     frame.reset();
   }
@@ -207,6 +249,29 @@ public class DebugOperationTracer implements OperationTracer {
     return Optional.of(memoryContents);
   }
 
+  /**
+   * Captures memory from the memory before the current operation, re-reading only the words the
+   * operation reported writing. Memory can otherwise only grow, and grows with zeros. Words are
+   * immutable copies, so the unchanged ones are shared with the previous trace frame.
+   */
+  private Bytes[] updateMemory(final MessageFrame frame, final Bytes[] previousMemory) {
+    final Bytes[] memoryContents = Arrays.copyOf(previousMemory, frame.memoryWordSize());
+    Arrays.fill(memoryContents, previousMemory.length, memoryContents.length, Bytes32.ZERO);
+    frame
+        .getMaybeUpdatedMemory()
+        .filter(update -> !update.getValue().isEmpty())
+        .ifPresent(
+            update -> {
+              final int firstWord = (int) (update.getOffset() / 32);
+              final int lastWord =
+                  (int) ((update.getOffset() + update.getValue().size() - 1) / 32);
+              for (int i = firstWord; i <= lastWord; i++) {
+                memoryContents[i] = frame.readMemory(i * 32L, 32);
+              }
+            });
+    return memoryContents;
+  }
+
   private Optional<Bytes32[]> captureStack(final MessageFrame frame) {
     if (!options.isStackEnabled()) {
       return Optional.empty();
@@ -220,6 +285,21 @@ public class DebugOperationTracer implements OperationTracer {
     return Optional.of(stackContents);
   }
 
+  private void emitTraceFrames() {
+    frameConsumer.ifPresent(consumer -> traceFrames.forEach(consumer));
+    traceFrames.clear();
+  }
+
+  /**
+   * Emits the retained trace frames to the frame consumer, if this tracer has one. A no-op for
+   * tracers collecting their frames.
+   */
+  public void flush() {
+    if (frameConsumer.isPresent()) {
+      emitTraceFrames();
+    }
+  }
+
   public List<TraceFrame> getTraceFrames() {
     return traceFrames;
   }
@@ -227,6 +307,7 @@ public class DebugOperationTracer implements OperationTracer {
   public void reset() {
     traceFrames = new ArrayList<>();
     lastFrame = null;
+    continuedFrame = null;
   }
 
   public List<TraceFrame> copyTraceFrames() {
@@ -16,12 +16,17 @@
 
 package org.hyperledger.besu.ethereum.worldstate;
 
+import org.hyperledger.besu.ethereum.storage.ancient.AncientBlockStore;
+
+import java.util.Set;
+
 import org.immutables.value.Value;
 
 @Value.Immutable
 public interface DataStorageConfiguration {
 
   long DEFAULT_BONSAI_MAX_LAYERS_TO_LOAD = 512;
+  long DEFAULT_ANCIENT_BLOCK_FINALITY_DEPTH = 90_000;
 
   DataStorageConfiguration DEFAULT_CONFIG =
       ImmutableDataStorageConfiguration.builder()
@@ -32,4 +37,24 @@ public interface DataStorageConfiguration {
   DataStorageFormat getDataStorageFormat();
 
   Long getBonsaiMaxLayersToLoad();
+
+  @Value.Default
+  default boolean getAncientBlockStoreEnabled() {
+    return false;
+  }
+
+  @Value.Default
+  default long getAncientBlockFinalityDepth() {
+    return DEFAULT_ANCIENT_BLOCK_FINALITY_DEPTH;
+  }
+
+  @Value.Default
+  default Set<AncientBlockStore.Table> getAncientBlockCompressedTables() {
+    return Set.of();
+  }
+
+  @Value.Default
+  default boolean getCompactTransactionReceiptsEnabled() {
+    return false;
+  }
 }
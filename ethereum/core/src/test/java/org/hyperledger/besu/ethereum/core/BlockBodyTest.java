@@ -0,0 +1,93 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.ethereum.mainnet.MainnetBlockHeaderFunctions;
+import org.hyperledger.besu.ethereum.rlp.RLP;
+import org.hyperledger.besu.plugin.data.TransactionType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.Test;
+
+public class BlockBodyTest {
+
+  private final BlockDataGenerator gen = new BlockDataGenerator();
+
+  @Test
+  public void lazilyReadBodyShouldMatchDecodedBody() {
+    final BlockBody body = bodyWithAllTransactionTypes();
+    final Bytes rlp = RLP.encode(body::writeTo);
+
+    final BlockBody lazyBody =
+        BlockBody.readLazilyFrom(RLP.input(rlp), new MainnetBlockHeaderFunctions());
+
+    assertThat(lazyBody.getTransactions()).hasSize(body.getTransactions().size());
+    assertThat(lazyBody).isEqualTo(body);
+    assertThat(RLP.encode(lazyBody::writeTo)).isEqualTo(rlp);
+  }
+
+  @Test
+  public void lazilyReadBodyShouldComputeHashesWithoutDecoding() {
+    final BlockBody body = bodyWithAllTransactionTypes();
+    final BlockBody lazyBody =
+        BlockBody.readLazilyFrom(
+            RLP.input(RLP.encode(body::writeTo)), new MainnetBlockHeaderFunctions());
+
+    final List<Hash> expectedHashes =
+        body.getTransactions().stream().map(Transaction::getHash).collect(Collectors.toList());
+    assertThat(lazyBody.getTransactionHashes()).isEqualTo(expectedHashes);
+    assertThat(body.getTransactionHashes()).isEqualTo(expectedHashes);
+    for (int i = 0; i < expectedHashes.size(); i++) {
+      assertThat(lazyBody.getTransactions().get(i).getHash()).isEqualTo(expectedHashes.get(i));
+    }
+  }
+
+  @Test
+  public void lazilyReadBodyShouldDecodeEachTransactionOnce() {
+    final BlockBody lazyBody =
+        BlockBody.readLazilyFrom(
+            RLP.input(RLP.encode(bodyWithAllTransactionTypes()::writeTo)),
+            new MainnetBlockHeaderFunctions());
+
+    assertThat(lazyBody.getTransactions().get(1)).isSameAs(lazyBody.getTransactions().get(1));
+  }
+
+  @Test
+  public void lazilyReadEmptyBody() {
+    final BlockBody lazyBody =
+        BlockBody.readLazilyFrom(
+            RLP.input(RLP.encode(BlockBody.empty()::writeTo)), new MainnetBlockHeaderFunctions());
+
+    assertThat(lazyBody.getTransactions()).isEmpty();
+    assertThat(lazyBody.getTransactionHashes()).isEmpty();
+    assertThat(lazyBody).isEqualTo(BlockBody.empty());
+  }
+
+  private BlockBody bodyWithAllTransactionTypes() {
+    final List<Transaction> transactions = new ArrayList<>();
+    for (final TransactionType type : TransactionType.values()) {
+      transactions.add(gen.transaction(type));
+    }
+    return new BlockBody(transactions, Collections.singletonList(gen.header()));
+  }
+}
@@ -17,6 +17,9 @@ package org.hyperledger.besu.ethereum.core;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import org.hyperledger.besu.ethereum.rlp.RLP;
+import org.hyperledger.besu.evm.log.LogsBloomFilter;
+
+import java.util.Optional;
 
 import org.apache.tuweni.bytes.Bytes;
 import org.junit.Test;
@@ -40,4 +43,33 @@ public class TransactionReceiptTest {
         TransactionReceipt.readFrom(RLP.input(RLP.encode(receipt::writeToWithRevertReason)));
     assertThat(copy).isEqualTo(receipt);
   }
+
+  @Test
+  public void toFromCompactRlp() {
+    final BlockDataGenerator gen = new BlockDataGenerator();
+    final TransactionReceipt receipt = gen.receipt(Bytes.fromHexString("0x1122334455667788"));
+    final long previousCumulativeGasUsed = receipt.getCumulativeGasUsed() / 2;
+    final Bytes compact = RLP.encode(out -> receipt.writeCompactTo(out, previousCumulativeGasUsed));
+    final TransactionReceipt copy =
+        TransactionReceipt.readCompactFrom(RLP.input(compact), previousCumulativeGasUsed);
+
+    assertThat(copy).isEqualTo(receipt);
+    assertThat(copy.getRevertReason()).isEqualTo(receipt.getRevertReason());
+    final Bytes legacy = RLP.encode(receipt::writeToWithRevertReason);
+    assertThat(RLP.encode(copy::writeToWithRevertReason)).isEqualTo(legacy);
+    assertThat(compact.size()).isLessThan(legacy.size() - LogsBloomFilter.BYTE_SIZE);
+  }
+
+  @Test
+  public void toFromCompactRlpWithStateRoot() {
+    final BlockDataGenerator gen = new BlockDataGenerator();
+    final TransactionReceipt receipt =
+        new TransactionReceipt(gen.hash(), 42_000, gen.logs(2, 3), Optional.empty());
+    final TransactionReceipt copy =
+        TransactionReceipt.readCompactFrom(
+            RLP.input(RLP.encode(out -> receipt.writeCompactTo(out, 21_000))), 21_000);
+
+    assertThat(copy).isEqualTo(receipt);
+    assertThat(copy.getBloomFilter()).isEqualTo(receipt.getBloomFilter());
+  }
 }
@@ -0,0 +1,270 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.storage.ancient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.plugin.services.exception.StorageException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Set;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class AncientBlockStoreTest {
+
+  private static final int SEGMENT_SIZE = 64;
+
+  @Rule public final TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void shouldReadAppendedBlocks() throws Exception {
+    try (final AncientBlockStore store = createStore(folder.newFolder().toPath(), Set.of())) {
+      appendBlocks(store, 0, 5);
+      store.sync();
+
+      assertThat(store.getBlockCount()).isEqualTo(5);
+      for (int i = 0; i < 5; i++) {
+        assertBlock(store, i);
+      }
+      assertThat(store.getBlockHash(5)).isEmpty();
+      assertThat(store.getBlockHeader(5)).isEmpty();
+      assertThat(store.getBlockBody(5)).isEmpty();
+      assertThat(store.getTransactionReceipts(5)).isEmpty();
+    }
+  }
+
+  @Test
+  public void shouldRejectBlocksOutOfOrder() throws Exception {
+    try (final AncientBlockStore store = createStore(folder.newFolder().toPath(), Set.of())) {
+      appendBlocks(store, 0, 1);
+      store.sync();
+
+      assertThatThrownBy(() -> appendBlock(store, 2))
+          .isInstanceOf(IllegalArgumentException.class);
+      assertThat(store.getBlockCount()).isEqualTo(1);
+    }
+  }
+
+  @Test
+  public void shouldOnlyAddBlocksWhenSynced() throws Exception {
+    final Path directory = folder.newFolder().toPath();
+    try (final AncientBlockStore store = createStore(directory, Set.of())) {
+      appendBlocks(store, 0, 3);
+      store.sync();
+      appendBlocks(store, 3, 2);
+
+      assertThat(store.getBlockCount()).isEqualTo(3);
+      assertThat(store.getBlockHash(3)).isEmpty();
+      assertThatThrownBy(() -> appendBlock(store, 3))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    try (final AncientBlockStore store = createStore(directory, Set.of())) {
+      assertThat(store.getBlockCount()).isEqualTo(3);
+      appendBlocks(store, 3, 1);
+      store.sync();
+      for (int i = 0; i < 4; i++) {
+        assertBlock(store, i);
+      }
+    }
+  }
+
+  @Test
+  public void shouldReadBlocksAfterReopening() throws Exception {
+    final Path directory = folder.newFolder().toPath();
+    try (final AncientBlockStore store = createStore(directory, Set.of())) {
+      appendBlocks(store, 0, 10);
+      store.sync();
+    }
+
+    try (final AncientBlockStore store = createStore(directory, Set.of())) {
+      assertThat(store.getBlockCount()).isEqualTo(10);
+      appendBlocks(store, 10, 5);
+      store.sync();
+      for (int i = 0; i < 15; i++) {
+        assertBlock(store, i);
+      }
+    }
+  }
+
+  @Test
+  public void shouldRollSegmentsWhenFull() throws Exception {
+    final Path directory = folder.newFolder().toPath();
+    try (final AncientBlockStore store = createStore(directory, Set.of())) {
+      appendBlocks(store, 0, 20);
+      store.sync();
+
+      assertThat(directory.resolve("bodies.0001.dat")).exists();
+      for (int i = 0; i < 20; i++) {
+        assertBlock(store, i);
+      }
+    }
+  }
+
+  @Test
+  public void shouldReadCompressedBlocks() throws Exception {
+    final Path directory = folder.newFolder().toPath();
+    final Set<AncientBlockStore.Table> compressed =
+        Set.of(AncientBlockStore.Table.BODIES, AncientBlockStore.Table.RECEIPTS);
+    try (final AncientBlockStore store = createStore(directory, compressed)) {
+      appendBlocks(store, 0, 10);
+      store.sync();
+    }
+
+    try (final AncientBlockStore store = createStore(directory, compressed)) {
+      for (int i = 0; i < 10; i++) {
+        assertBlock(store, i);
+      }
+    }
+  }
+
+  @Test
+  public void shouldKeepCompressionOfExistingTables() throws Exception {
+    final Path directory = folder.newFolder().toPath();
+    try (final AncientBlockStore store =
+        createStore(directory, Set.of(AncientBlockStore.Table.BODIES))) {
+      appendBlocks(store, 0, 5);
+      store.sync();
+    }
+
+    try (final AncientBlockStore store =
+        createStore(directory, Set.of(AncientBlockStore.Table.HEADERS))) {
+      appendBlocks(store, 5, 5);
+      store.sync();
+      for (int i = 0; i < 10; i++) {
+        assertBlock(store, i);
+      }
+    }
+  }
+
+  @Test
+  public void shouldFailToReadTruncatedCompressedItem() throws Exception {
+    final Path directory = folder.newFolder().toPath();
+    final Bytes compressed;
+    try (final AncientTable table = new AncientTable(directory, "compressed", true, SEGMENT_SIZE)) {
+      table.append(Bytes.wrap(new byte[100]));
+      table.sync();
+      compressed = Bytes.wrap(Files.readAllBytes(directory.resolve("compressed.0000.dat")));
+    }
+    // Store the length prefix and the start of the compressed data in a table marked as compressed
+    try (final AncientTable table = new AncientTable(directory, "truncated", false, SEGMENT_SIZE)) {
+      table.append(compressed.slice(0, Integer.BYTES + 3));
+      table.sync();
+    }
+    Files.write(directory.resolve("truncated.meta"), new byte[] {1});
+
+    try (final AncientTable table = new AncientTable(directory, "truncated", true, SEGMENT_SIZE)) {
+      assertThatThrownBy(() -> table.get(0)).isInstanceOf(StorageException.class);
+    }
+  }
+
+  @Test
+  public void shouldDropPartiallyAppendedBlockWhenReopening() throws Exception {
+    final Path directory = folder.newFolder().toPath();
+    try (final AncientBlockStore store = createStore(directory, Set.of())) {
+      appendBlocks(store, 0, 3);
+      store.sync();
+    }
+    // Simulate a crash after the header of the next block was written, but before its hash
+    try (final AncientTable headers = new AncientTable(directory, "headers", false, SEGMENT_SIZE)) {
+      headers.append(Bytes.fromHexString("0xdeadbeef"));
+      headers.sync();
+    }
+
+    try (final AncientBlockStore store = createStore(directory, Set.of())) {
+      assertThat(store.getBlockCount()).isEqualTo(3);
+      appendBlocks(store, 3, 1);
+      store.sync();
+      for (int i = 0; i < 4; i++) {
+        assertBlock(store, i);
+      }
+    }
+  }
+
+  @Test
+  public void shouldIgnoreIndexEntriesPastTheEndOfTheData() throws Exception {
+    final Path directory = folder.newFolder().toPath();
+    try (final AncientBlockStore store = createStore(directory, Set.of())) {
+      appendBlocks(store, 0, 3);
+      store.sync();
+    }
+    // Lose the data of the last body, as if it was never flushed
+    final Path bodies = directory.resolve("bodies.0000.dat");
+    final byte[] data = Files.readAllBytes(bodies);
+    Files.write(bodies, Arrays.copyOf(data, data.length - 1));
+
+    try (final AncientBlockStore store = createStore(directory, Set.of())) {
+      assertThat(store.getBlockCount()).isEqualTo(2);
+      assertThat(store.getBlockBody(2)).isEmpty();
+      appendBlocks(store, 2, 1);
+      store.sync();
+      for (int i = 0; i < 3; i++) {
+        assertBlock(store, i);
+      }
+    }
+  }
+
+  private AncientBlockStore createStore(
+      final Path directory, final Set<AncientBlockStore.Table> compressedTables) {
+    return new AncientBlockStore(directory, compressedTables, SEGMENT_SIZE);
+  }
+
+  private void appendBlocks(final AncientBlockStore store, final int first, final int count) {
+    for (int i = first; i < first + count; i++) {
+      appendBlock(store, i);
+    }
+  }
+
+  private void appendBlock(final AncientBlockStore store, final int blockNumber) {
+    store.appendBlock(
+        blockNumber,
+        hash(blockNumber),
+        header(blockNumber),
+        body(blockNumber),
+        receipts(blockNumber));
+  }
+
+  private void assertBlock(final AncientBlockStore store, final int blockNumber) {
+    assertThat(store.getBlockHash(blockNumber)).contains(hash(blockNumber));
+    assertThat(store.getBlockHeader(blockNumber)).contains(header(blockNumber));
+    assertThat(store.getBlockBody(blockNumber)).contains(body(blockNumber));
+    assertThat(store.getTransactionReceipts(blockNumber)).contains(receipts(blockNumber));
+  }
+
+  private static Hash hash(final int blockNumber) {
+    return Hash.hash(Bytes.ofUnsignedInt(blockNumber));
+  }
+
+  private static Bytes header(final int blockNumber) {
+    return Bytes.concatenate(Bytes.of(1), Bytes.ofUnsignedInt(blockNumber));
+  }
+
+  private static Bytes body(final int blockNumber) {
+    return Bytes.concatenate(
+        Bytes.of(2), Bytes.ofUnsignedInt(blockNumber), Bytes.wrap(new byte[8]));
+  }
+
+  private static Bytes receipts(final int blockNumber) {
+    return Bytes.concatenate(Bytes.of(3), Bytes.ofUnsignedInt(blockNumber));
+  }
+}
@@ -0,0 +1,261 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.storage.keyvalue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.hyperledger.besu.ethereum.chain.DefaultBlockchain;
+import org.hyperledger.besu.ethereum.chain.MutableBlockchain;
+import org.hyperledger.besu.ethereum.core.Block;
+import org.hyperledger.besu.ethereum.core.BlockDataGenerator;
+import org.hyperledger.besu.ethereum.core.TransactionReceipt;
+import org.hyperledger.besu.ethereum.mainnet.MainnetBlockHeaderFunctions;
+import org.hyperledger.besu.ethereum.rlp.RLP;
+import org.hyperledger.besu.ethereum.storage.ancient.AncientBlockStore;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.hyperledger.besu.plugin.services.storage.KeyValueStorage;
+import org.hyperledger.besu.services.kvstore.InMemoryKeyValueStorage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.units.bigints.UInt256;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class KeyValueStoragePrefixedKeyBlockchainStorageTest {
+
+  @Rule public final TemporaryFolder folder = new TemporaryFolder();
+
+  private final BlockDataGenerator gen = new BlockDataGenerator();
+  private final KeyValueStorage kvStore = new InMemoryKeyValueStorage();
+  private final List<Block> blocks = gen.blockSequence(10);
+  private final List<List<TransactionReceipt>> blockReceipts = new ArrayList<>();
+
+  private AncientBlockStore ancientBlockStore;
+  private KeyValueStoragePrefixedKeyBlockchainStorage blockchainStorage;
+  private MutableBlockchain blockchain;
+
+  @Before
+  public void setUp() throws Exception {
+    ancientBlockStore = new AncientBlockStore(folder.newFolder().toPath(), Set.of());
+    blockchainStorage =
+        new KeyValueStoragePrefixedKeyBlockchainStorage(
+            kvStore, new MainnetBlockHeaderFunctions(), Optional.of(ancientBlockStore), false);
+    blockchain =
+        DefaultBlockchain.createMutable(
+            blocks.get(0), blockchainStorage, new NoOpMetricsSystem(), 0);
+    blockReceipts.add(Collections.emptyList());
+    for (int i = 1; i < blocks.size(); i++) {
+      final List<TransactionReceipt> receipts = gen.receipts(blocks.get(i));
+      blockReceipts.add(receipts);
+      blockchain.appendBlock(blocks.get(i), receipts);
+    }
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    ancientBlockStore.close();
+  }
+
+  @Test
+  public void shouldReadBlocksMovedToAncientBlockStore() {
+    assertThat(blockchainStorage.moveToAncientBlockStore(5)).isEqualTo(6);
+
+    assertThat(ancientBlockStore.getBlockCount()).isEqualTo(6);
+    for (int i = 0; i < blocks.size(); i++) {
+      assertBlockIsReadable(blocks.get(i), blockReceipts.get(i));
+    }
+  }
+
+  @Test
+  public void shouldRemoveMovedBlocksFromKeyValueStorage() {
+    blockchainStorage.moveToAncientBlockStore(5);
+
+    final KeyValueStoragePrefixedKeyBlockchainStorage kvOnlyStorage =
+        new KeyValueStoragePrefixedKeyBlockchainStorage(kvStore, new MainnetBlockHeaderFunctions());
+    for (int i = 0; i < blocks.size(); i++) {
+      final Block block = blocks.get(i);
+      final boolean moved = i <= 5;
+      assertThat(kvOnlyStorage.getBlockHeader(block.getHash()).isPresent()).isNotEqualTo(moved);
+      assertThat(kvOnlyStorage.getBlockBody(block.getHash()).isPresent()).isNotEqualTo(moved);
+      assertThat(kvOnlyStorage.getBlockHash(i).isPresent()).isNotEqualTo(moved);
+    }
+  }
+
+  @Test
+  public void shouldContinueAfterLastMovedBlock() {
+    blockchainStorage.moveToAncientBlockStore(3);
+    assertThat(blockchainStorage.moveToAncientBlockStore(3)).isZero();
+    assertThat(blockchainStorage.moveToAncientBlockStore(7)).isEqualTo(4);
+
+    assertThat(ancientBlockStore.getBlockCount()).isEqualTo(8);
+    for (int i = 0; i < blocks.size(); i++) {
+      assertBlockIsReadable(blocks.get(i), blockReceipts.get(i));
+    }
+  }
+
+  @Test
+  public void shouldStopAtFirstIncompleteBlock() {
+    final KeyValueStoragePrefixedKeyBlockchainStorage.Updater updater =
+        blockchainStorage.updater();
+    updater.removeBlockHash(4);
+    updater.commit();
+
+    assertThat(blockchainStorage.moveToAncientBlockStore(8)).isEqualTo(4);
+    assertThat(ancientBlockStore.getBlockCount()).isEqualTo(4);
+  }
+
+  @Test
+  public void shouldNotReadAncientBlockHashesRemovedByReorg() {
+    blockchainStorage.moveToAncientBlockStore(5);
+
+    final KeyValueStoragePrefixedKeyBlockchainStorage.Updater updater =
+        blockchainStorage.updater();
+    updater.removeBlockHash(5);
+    updater.commit();
+
+    assertThat(blockchainStorage.getBlockHash(5)).isEmpty();
+    assertThat(blockchainStorage.getBlockHash(4)).contains(blocks.get(4).getHash());
+  }
+
+  @Test
+  public void shouldOnlyKeepRemovedBlockHashesOfAncientBlocks() {
+    blockchainStorage.moveToAncientBlockStore(5);
+
+    final KeyValueStoragePrefixedKeyBlockchainStorage.Updater updater =
+        blockchainStorage.updater();
+    updater.removeBlockHash(5);
+    updater.removeBlockHash(8);
+    updater.commit();
+
+    assertThat(kvStore.get(blockHashKey(5)))
+        .hasValueSatisfying(value -> assertThat(value).isEmpty());
+    assertThat(kvStore.get(blockHashKey(8))).isEmpty();
+  }
+
+  @Test
+  public void shouldFinishMovingBlocksOnStartup() {
+    // Simulate a crash after blocks were synced to the ancient block store, but before they were
+    // removed from the key value storage
+    for (int i = 0; i < 4; i++) {
+      final Block block = blocks.get(i);
+      ancientBlockStore.appendBlock(
+          i,
+          block.getHash(),
+          blockchainStorage.getBlockHeaderRlp(block.getHash()).orElseThrow(),
+          blockchainStorage.getBlockBodyRlp(block.getHash()).orElseThrow(),
+          kvStoredReceipts(block));
+    }
+    ancientBlockStore.sync();
+
+    final KeyValueStoragePrefixedKeyBlockchainStorage restartedStorage =
+        new KeyValueStoragePrefixedKeyBlockchainStorage(
+            kvStore, new MainnetBlockHeaderFunctions(), Optional.of(ancientBlockStore), false);
+
+    final KeyValueStoragePrefixedKeyBlockchainStorage kvOnlyStorage =
+        new KeyValueStoragePrefixedKeyBlockchainStorage(kvStore, new MainnetBlockHeaderFunctions());
+    for (int i = 0; i < blocks.size(); i++) {
+      final Block block = blocks.get(i);
+      assertThat(kvOnlyStorage.getBlockHeader(block.getHash()).isPresent()).isEqualTo(i >= 4);
+      assertThat(restartedStorage.getBlockHeader(block.getHash())).contains(block.getHeader());
+    }
+    assertThat(restartedStorage.moveToAncientBlockStore(5)).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldFailToStartWhenMovedBlocksAreMissing() throws Exception {
+    blockchainStorage.moveToAncientBlockStore(5);
+
+    try (final AncientBlockStore emptyAncientBlockStore =
+        new AncientBlockStore(folder.newFolder().toPath(), Set.of())) {
+      assertThatThrownBy(
+              () ->
+                  new KeyValueStoragePrefixedKeyBlockchainStorage(
+                      kvStore,
+                      new MainnetBlockHeaderFunctions(),
+                      Optional.of(emptyAncientBlockStore),
+                      false))
+          .isInstanceOf(IllegalStateException.class);
+    }
+  }
+
+  @Test
+  public void shouldReadLegacyAndCompactTransactionReceipts() {
+    final KeyValueStoragePrefixedKeyBlockchainStorage compactStorage = createCompactStorage();
+    final Block block = blocks.get(5);
+    final List<TransactionReceipt> receipts = blockReceipts.get(5);
+    final Bytes legacy = kvStoredReceipts(block);
+
+    final KeyValueStoragePrefixedKeyBlockchainStorage.Updater updater = compactStorage.updater();
+    updater.putTransactionReceipts(block.getHash(), receipts);
+    updater.commit();
+
+    assertThat(kvStoredReceipts(block).size()).isLessThan(legacy.size());
+    assertThat(compactStorage.getTransactionReceipts(block.getHash())).contains(receipts);
+    assertThat(blockchainStorage.getTransactionReceipts(block.getHash())).contains(receipts);
+    assertThat(compactStorage.getTransactionReceipts(blocks.get(6).getHash()))
+        .contains(blockReceipts.get(6));
+  }
+
+  @Test
+  public void shouldCompactTransactionReceiptsWhenMovingToAncientBlockStore() {
+    final KeyValueStoragePrefixedKeyBlockchainStorage compactStorage = createCompactStorage();
+    final Bytes legacy = kvStoredReceipts(blocks.get(5));
+
+    compactStorage.moveToAncientBlockStore(5);
+
+    assertThat(ancientBlockStore.getTransactionReceipts(5).orElseThrow().size())
+        .isLessThan(legacy.size());
+    for (int i = 0; i < blocks.size(); i++) {
+      assertThat(compactStorage.getTransactionReceipts(blocks.get(i).getHash()))
+          .contains(blockReceipts.get(i));
+    }
+  }
+
+  private KeyValueStoragePrefixedKeyBlockchainStorage createCompactStorage() {
+    return new KeyValueStoragePrefixedKeyBlockchainStorage(
+        kvStore, new MainnetBlockHeaderFunctions(), Optional.of(ancientBlockStore), true);
+  }
+
+  private byte[] blockHashKey(final long blockNumber) {
+    return Bytes.concatenate(Bytes.of(5), UInt256.valueOf(blockNumber)).toArrayUnsafe();
+  }
+
+  private Bytes kvStoredReceipts(final Block block) {
+    return Bytes.wrap(
+        kvStore
+            .get(Bytes.concatenate(Bytes.of(4), block.getHash()).toArrayUnsafe())
+            .orElseThrow());
+  }
+
+  private void assertBlockIsReadable(final Block block, final List<TransactionReceipt> receipts) {
+    final long number = block.getHeader().getNumber();
+    assertThat(blockchain.getBlockHashByNumber(number)).contains(block.getHash());
+    assertThat(blockchain.getBlockHeader(block.getHash())).contains(block.getHeader());
+    assertThat(blockchain.getBlockBody(block.getHash())).contains(block.getBody());
+    assertThat(blockchain.getTxReceipts(block.getHash())).contains(receipts);
+    assertThat(blockchain.getBlockHeaderRlp(block.getHash()))
+        .contains(RLP.encode(block.getHeader()::writeTo));
+  }
+}
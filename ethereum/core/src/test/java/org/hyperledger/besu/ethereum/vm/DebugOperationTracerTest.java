@@ -36,6 +36,8 @@ import org.hyperledger.besu.evm.operation.Operation.OperationResult;
 import org.hyperledger.besu.evm.worldstate.WorldUpdater;
 import org.hyperledger.besu.evm.worldstate.WrappedEvmAccount;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.TreeMap;
@@ -174,6 +176,85 @@ public class DebugOperationTracerTest {
     assertThat(traceFrame.getStorage()).contains(updatedStorage);
   }
 
+  @Test
+  public void shouldEmitFramesOnceTheyCanNoLongerBeAmended() {
+    final MessageFrame frame = validMessageFrame();
+    final List<TraceFrame> emitted = new ArrayList<>();
+    final DebugOperationTracer tracer =
+        new DebugOperationTracer(new TraceOptions(false, false, false), emitted::add);
+
+    tracer.traceExecution(frame, () -> anOperation.execute(frame, null));
+    assertThat(emitted).isEmpty();
+
+    frame.setPC(11);
+    tracer.traceExecution(frame, () -> anOperation.execute(frame, null));
+    assertThat(emitted).extracting(TraceFrame::getPc).containsExactly(10);
+    assertThat(tracer.getTraceFrames()).extracting(TraceFrame::getPc).containsExactly(11);
+
+    tracer.flush();
+    assertThat(emitted).extracting(TraceFrame::getPc).containsExactly(10, 11);
+    assertThat(tracer.getTraceFrames()).isEmpty();
+  }
+
+  @Test
+  public void shouldApplyAccountCreationHaltReasonBeforeEmittingFrame() {
+    final MessageFrame frame = validMessageFrame();
+    final List<TraceFrame> emitted = new ArrayList<>();
+    final DebugOperationTracer tracer =
+        new DebugOperationTracer(new TraceOptions(false, false, false), emitted::add);
+
+    tracer.traceExecution(frame, () -> anOperation.execute(frame, null));
+    frame.setCurrentOperation(
+        new AbstractOperation(0xF3, "RETURN", 2, 0, 1, null) {
+          @Override
+          public OperationResult execute(final MessageFrame frame, final EVM evm) {
+            return new OperationResult(Optional.of(Gas.ZERO), Optional.empty());
+          }
+        });
+    tracer.traceExecution(frame, () -> frame.getCurrentOperation().execute(frame, null));
+    tracer.traceAccountCreationResult(frame, Optional.of(ExceptionalHaltReason.CODE_TOO_LARGE));
+    assertThat(emitted).isEmpty();
+
+    tracer.flush();
+    assertThat(emitted).extracting(TraceFrame::getOpcode).containsExactly("MUL", "RETURN");
+    assertThat(emitted.get(0).getExceptionalHaltReason())
+        .contains(ExceptionalHaltReason.CODE_TOO_LARGE);
+    assertThat(emitted.get(1).getExceptionalHaltReason()).isEmpty();
+  }
+
+  @Test
+  public void shouldOnlyReadMemoryWrittenSincePreviousOperationOfSameFrame() {
+    final MessageFrame frame = validMessageFrame();
+    frame.setState(MessageFrame.State.CODE_EXECUTING);
+    final Bytes32 word1 = Bytes32.fromHexString("0x01");
+    final Bytes32 word2 = Bytes32.fromHexString("0x02");
+    final Bytes32 word3 = Bytes32.fromHexString("0x03");
+    frame.writeMemory(0, 32, word1);
+    frame.writeMemory(32, 32, word2);
+    final DebugOperationTracer tracer =
+        new DebugOperationTracer(new TraceOptions(false, true, true));
+
+    tracer.traceExecution(
+        frame,
+        () -> {
+          frame.pushStackItem(UInt256.ONE);
+          return anOperation.execute(frame, null);
+        });
+    tracer.traceExecution(
+        frame,
+        () -> {
+          frame.writeMemory(32, 32, word3, true);
+          frame.expandMemory(96, 32);
+          return anOperation.execute(frame, null);
+        });
+
+    final TraceFrame first = tracer.getTraceFrames().get(0);
+    final TraceFrame second = tracer.getTraceFrames().get(1);
+    assertThat(second.getStack().get()).containsExactly(UInt256.ONE);
+    assertThat(second.getMemory().get()).containsExactly(word1, word3, Bytes32.ZERO, Bytes32.ZERO);
+    assertThat(second.getMemory().get()[0]).isSameAs(first.getMemory().get()[0]);
+  }
+
   private TraceFrame traceFrame(final MessageFrame frame) {
     return traceFrame(frame, new TraceOptions(false, false, false));
   }
@@ -22,6 +22,7 @@ import org.hyperledger.besu.evm.Gas;
 import org.hyperledger.besu.evm.frame.MessageFrame;
 import org.hyperledger.besu.evm.gascalculator.GasCalculator;
 import org.hyperledger.besu.evm.operation.CallCodeOperation;
+import org.hyperledger.besu.evm.operation.GasOperation;
 import org.hyperledger.besu.evm.operation.SStoreOperation;
 import org.hyperledger.besu.evm.tracing.EstimateGasOperationTracer;
 import org.hyperledger.besu.evm.tracing.OperationTracer.ExecuteOperation;
@@ -93,4 +94,20 @@ public class EstimateGasOperationTracerTest {
     operationTracer.traceExecution(secondFrame, noExecutionOperation);
     assertThat(operationTracer.getStipendNeeded()).isEqualTo(minimumGasRemaining);
   }
+
+  @Test
+  public void shouldDetectRemainingGasObservedByGasOperation() {
+
+    final ExecuteOperation noExecutionOperation = mock(ExecuteOperation.class);
+
+    final MessageFrame firstFrame = messageFrameTestFixture.build();
+    firstFrame.setCurrentOperation(mock(CallCodeOperation.class));
+    operationTracer.traceExecution(firstFrame, noExecutionOperation);
+    assertThat(operationTracer.isRemainingGasObserved()).isFalse();
+
+    final MessageFrame secondFrame = messageFrameTestFixture.build();
+    secondFrame.setCurrentOperation(mock(GasOperation.class));
+    operationTracer.traceExecution(secondFrame, noExecutionOperation);
+    assertThat(operationTracer.isRemainingGasObserved()).isTrue();
+  }
 }
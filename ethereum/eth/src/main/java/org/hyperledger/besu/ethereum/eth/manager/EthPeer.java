@@ -42,6 +42,7 @@ import org.hyperledger.besu.ethereum.p2p.rlpx.wire.messages.DisconnectMessage.Di
 import org.hyperledger.besu.plugin.services.permissioning.NodeMessagePermissioningProvider;
 
 import java.time.Clock;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
@@ -64,6 +65,8 @@ public class EthPeer {
   private static final Logger LOG = LoggerFactory.getLogger(EthPeer.class);
 
   private static final int MAX_OUTSTANDING_REQUESTS = 5;
+  // Requests are sized so a peer can be expected to answer well within the request timeout
+  static final Duration TARGET_RESPONSE_TIME = Duration.ofSeconds(2);
 
   private final PeerConnection connection;
 
@@ -142,17 +145,19 @@ public class EthPeer {
         Map.ofEntries(
             Map.entry(
                 EthPV62.GET_BLOCK_HEADERS,
-                new RequestManager(this, supportsRequestId, protocolName)),
+                new RequestManager(this, supportsRequestId, protocolName, clock)),
             Map.entry(
                 EthPV62.GET_BLOCK_BODIES,
-                new RequestManager(this, supportsRequestId, protocolName)),
+                new RequestManager(this, supportsRequestId, protocolName, clock)),
             Map.entry(
-                EthPV63.GET_RECEIPTS, new RequestManager(this, supportsRequestId, protocolName)),
+                EthPV63.GET_RECEIPTS,
+                new RequestManager(this, supportsRequestId, protocolName, clock)),
             Map.entry(
-                EthPV63.GET_NODE_DATA, new RequestManager(this, supportsRequestId, protocolName)),
+                EthPV63.GET_NODE_DATA,
+                new RequestManager(this, supportsRequestId, protocolName, clock)),
             Map.entry(
                 EthPV65.GET_POOLED_TRANSACTIONS,
-                new RequestManager(this, supportsRequestId, protocolName))));
+                new RequestManager(this, supportsRequestId, protocolName, clock))));
   }
 
   private void initSnapRequestManagers() {
@@ -160,10 +165,14 @@ public class EthPeer {
     requestManagers.put(
         SnapProtocol.NAME,
         Map.ofEntries(
-            Map.entry(SnapV1.GET_ACCOUNT_RANGE, new RequestManager(this, true, SnapProtocol.NAME)),
-            Map.entry(SnapV1.GET_STORAGE_RANGE, new RequestManager(this, true, SnapProtocol.NAME)),
-            Map.entry(SnapV1.GET_BYTECODES, new RequestManager(this, true, SnapProtocol.NAME)),
-            Map.entry(SnapV1.GET_TRIE_NODES, new RequestManager(this, true, SnapProtocol.NAME))));
+            Map.entry(
+                SnapV1.GET_ACCOUNT_RANGE, new RequestManager(this, true, SnapProtocol.NAME, clock)),
+            Map.entry(
+                SnapV1.GET_STORAGE_RANGE, new RequestManager(this, true, SnapProtocol.NAME, clock)),
+            Map.entry(
+                SnapV1.GET_BYTECODES, new RequestManager(this, true, SnapProtocol.NAME, clock)),
+            Map.entry(
+                SnapV1.GET_TRIE_NODES, new RequestManager(this, true, SnapProtocol.NAME, clock))));
   }
 
   public void markValidated(final PeerValidator validator) {
@@ -479,6 +488,41 @@ public class EthPeer {
     return lastRequestTimestamp;
   }
 
+  /**
+   * Returns how quickly this peer has been answering eth requests of the given type.
+   *
+   * @param requestCode the message code of the request
+   * @return the response rate of the peer for the request type
+   */
+  public ResponseRateTracker getResponseRate(final int requestCode) {
+    final RequestManager requestManager = requestManagers.get(protocolName).get(requestCode);
+    checkArgument(requestManager != null, "Message %s is not a request", requestCode);
+    return requestManager.getResponseRate();
+  }
+
+  /**
+   * Returns the estimated number of items per second this peer delivers in response to eth
+   * requests of the given type.
+   *
+   * @param requestCode the message code of the request
+   * @return the estimated items per second, or infinity if the peer has not been measured yet
+   */
+  public double getEstimatedThroughput(final int requestCode) {
+    return getResponseRate(requestCode).getItemsPerSecond();
+  }
+
+  /**
+   * Returns how many items to ask this peer for in a single request of the given type, so that it
+   * can be expected to respond within {@link #TARGET_RESPONSE_TIME}.
+   *
+   * @param requestCode the message code of the request
+   * @param maxItems the maximum number of items to request
+   * @return the number of items to request, between 1 and {@code maxItems}
+   */
+  public int getRequestCapacity(final int requestCode, final int maxItems) {
+    return getResponseRate(requestCode).capacity(TARGET_RESPONSE_TIME, maxItems);
+  }
+
   public boolean hasAvailableRequestCapacity() {
     return outstandingRequests() < MAX_OUTSTANDING_REQUESTS;
   }
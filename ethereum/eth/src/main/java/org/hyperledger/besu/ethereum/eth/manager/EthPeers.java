@@ -49,6 +49,20 @@ public class EthPeers {
       Comparator.comparing(EthPeer::outstandingRequests)
           .thenComparing(EthPeer::getLastRequestTimestamp);
 
+  /**
+   * Orders peers from least to most busy, and peers that are equally busy from the fastest to the
+   * slowest to answer the given type of request.
+   *
+   * @param requestCode the message code of the request
+   * @return the comparator
+   */
+  public static Comparator<EthPeer> leastBusyThenFastest(final int requestCode) {
+    return Comparator.comparing(EthPeer::outstandingRequests)
+        .thenComparing(
+            (final EthPeer p) -> p.getEstimatedThroughput(requestCode), Comparator.reverseOrder())
+        .thenComparing(EthPeer::getLastRequestTimestamp);
+  }
+
   private final Map<PeerConnection, EthPeer> connections = new ConcurrentHashMap<>();
   private final String protocolName;
   private final Clock clock;
@@ -124,8 +138,16 @@ public class EthPeers {
 
   public PendingPeerRequest executePeerRequest(
       final PeerRequest request, final long minimumBlockNumber, final Optional<EthPeer> peer) {
+    return executePeerRequest(request, minimumBlockNumber, peer, LEAST_TO_MOST_BUSY);
+  }
+
+  public PendingPeerRequest executePeerRequest(
+      final PeerRequest request,
+      final long minimumBlockNumber,
+      final Optional<EthPeer> peer,
+      final Comparator<EthPeer> peerPreference) {
     final PendingPeerRequest pendingPeerRequest =
-        new PendingPeerRequest(this, request, minimumBlockNumber, peer);
+        new PendingPeerRequest(this, request, minimumBlockNumber, peer, peerPreference);
     synchronized (this) {
       if (!pendingPeerRequest.attemptExecution()) {
         pendingRequests.add(pendingPeerRequest);
@@ -23,6 +23,7 @@ import org.hyperledger.besu.util.ExceptionUtils;
 
 import java.time.Duration;
 import java.util.Collection;
+import java.util.Optional;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentLinkedDeque;
@@ -46,7 +47,7 @@ public class EthScheduler {
   private final Duration defaultTimeout = Duration.ofSeconds(5);
   private final AtomicBoolean stopped = new AtomicBoolean(false);
   private final CountDownLatch shutdown = new CountDownLatch(1);
-  private static final int TX_WORKER_CAPACITY = 1000000;
+  public static final int TX_WORKER_CAPACITY = 1000000;
 
   protected final ExecutorService syncWorkerExecutor;
   protected final ScheduledExecutorService scheduler;
@@ -71,8 +72,39 @@ public class EthScheduler {
       final int computationWorkerCount,
       final MetricsSystem metricsSystem) {
     this(
-        MonitoredExecutors.newFixedThreadPool(
-            EthScheduler.class.getSimpleName() + "-Workers", syncWorkerCount, metricsSystem),
+        syncWorkerCount,
+        txWorkerCount,
+        txWorkerQueueSize,
+        computationWorkerCount,
+        false,
+        metricsSystem);
+  }
+
+  /**
+   * Creates a scheduler whose sync workers and services (pipeline stages and service tasks) may run
+   * on virtual threads. At most {@code syncWorkerCount} sync worker tasks run at the same time, as
+   * with the platform thread pool. When virtual threads are requested but the JVM does not support
+   * them, the usual platform thread pools are used instead.
+   */
+  public EthScheduler(
+      final int syncWorkerCount,
+      final int txWorkerCount,
+      final int txWorkerQueueSize,
+      final int computationWorkerCount,
+      final boolean virtualThreadsEnabled,
+      final MetricsSystem metricsSystem) {
+    this(
+        virtualThreadExecutor(
+                virtualThreadsEnabled,
+                EthScheduler.class.getSimpleName() + "-Workers",
+                syncWorkerCount,
+                metricsSystem)
+            .orElseGet(
+                () ->
+                    MonitoredExecutors.newFixedThreadPool(
+                        EthScheduler.class.getSimpleName() + "-Workers",
+                        syncWorkerCount,
+                        metricsSystem)),
         MonitoredExecutors.newScheduledThreadPool(
             EthScheduler.class.getSimpleName() + "-Timer", 1, metricsSystem),
         MonitoredExecutors.newBoundedThreadPool(
@@ -80,12 +112,23 @@ public class EthScheduler {
             txWorkerCount,
             txWorkerQueueSize,
             metricsSystem),
-        MonitoredExecutors.newCachedThreadPool(
-            EthScheduler.class.getSimpleName() + "-Services", metricsSystem),
+        // Not bounded, like the cached pool it replaces: every pipeline stage needs its own thread
+        virtualThreadExecutor(
+                virtualThreadsEnabled,
+                EthScheduler.class.getSimpleName() + "-Services",
+                Integer.MAX_VALUE,
+                metricsSystem)
+            .orElseGet(
+                () ->
+                    MonitoredExecutors.newCachedThreadPool(
+                        EthScheduler.class.getSimpleName() + "-Services", metricsSystem)),
         MonitoredExecutors.newFixedThreadPool(
             EthScheduler.class.getSimpleName() + "-Computation",
             computationWorkerCount,
             metricsSystem));
+    if (virtualThreadsEnabled && !MonitoredExecutors.isVirtualThreadSupported()) {
+      LOG.warn("Virtual threads are not supported by this JVM, using platform threads instead");
+    }
   }
 
   protected EthScheduler(
@@ -101,6 +144,18 @@ public class EthScheduler {
     this.computationExecutor = computationExecutor;
   }
 
+  private static Optional<ExecutorService> virtualThreadExecutor(
+      final boolean virtualThreadsEnabled,
+      final String name,
+      final int maxConcurrentTasks,
+      final MetricsSystem metricsSystem) {
+    if (!virtualThreadsEnabled) {
+      return Optional.empty();
+    }
+    return MonitoredExecutors.newVirtualThreadPerTaskExecutor(
+        name, maxConcurrentTasks, metricsSystem);
+  }
+
   public <T> CompletableFuture<T> scheduleSyncWorkerTask(
       final Supplier<CompletableFuture<T>> future) {
     final CompletableFuture<T> promise = new CompletableFuture<>();
@@ -16,7 +16,6 @@ package org.hyperledger.besu.ethereum.eth.manager;
 
 import org.hyperledger.besu.datatypes.Hash;
 import org.hyperledger.besu.ethereum.chain.Blockchain;
-import org.hyperledger.besu.ethereum.core.BlockBody;
 import org.hyperledger.besu.ethereum.core.BlockHeader;
 import org.hyperledger.besu.ethereum.core.Transaction;
 import org.hyperledger.besu.ethereum.core.TransactionReceipt;
@@ -36,18 +35,21 @@ import org.hyperledger.besu.ethereum.eth.messages.PooledTransactionsMessage;
 import org.hyperledger.besu.ethereum.eth.messages.ReceiptsMessage;
 import org.hyperledger.besu.ethereum.eth.transactions.TransactionPool;
 import org.hyperledger.besu.ethereum.p2p.rlpx.wire.MessageData;
+import org.hyperledger.besu.ethereum.rlp.RLP;
 import org.hyperledger.besu.ethereum.worldstate.WorldStateArchive;
 
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
-import com.google.common.collect.Lists;
 import org.apache.tuweni.bytes.Bytes;
 
 class EthServer {
+  // Responses stop growing once they reach this many bytes, even if fewer items than requested
+  // have been added, so a single response never gets close to the maximum message size
+  static final int SOFT_RESPONSE_SIZE_LIMIT = 2 * 1024 * 1024;
+
   private final Blockchain blockchain;
   private final WorldStateArchive worldStateArchive;
   private final TransactionPool transactionPool;
@@ -104,71 +106,108 @@ class EthServer {
 
   static MessageData constructGetHeadersResponse(
       final Blockchain blockchain, final MessageData message, final int requestLimit) {
+    return constructGetHeadersResponse(
+        blockchain, message, requestLimit, SOFT_RESPONSE_SIZE_LIMIT);
+  }
+
+  static MessageData constructGetHeadersResponse(
+      final Blockchain blockchain,
+      final MessageData message,
+      final int requestLimit,
+      final int responseSizeLimit) {
     final GetBlockHeadersMessage getHeaders = GetBlockHeadersMessage.readFrom(message);
     final Optional<Hash> hash = getHeaders.hash();
     final int skip = getHeaders.skip();
     final int maxHeaders = Math.min(requestLimit, getHeaders.maxHeaders());
     final boolean reversed = getHeaders.reverse();
-    final BlockHeader firstHeader;
+    final long firstNumber;
+    final Optional<Bytes> maybeFirstHeader;
     if (hash.isPresent()) {
       final Hash startHash = hash.get();
-      firstHeader = blockchain.getBlockHeader(startHash).orElse(null);
+      final Optional<BlockHeader> firstHeader = blockchain.getBlockHeader(startHash);
+      if (firstHeader.isEmpty()) {
+        return BlockHeadersMessage.createFromRlp(Collections.emptyList());
+      }
+      firstNumber = firstHeader.get().getNumber();
+      maybeFirstHeader = blockchain.getBlockHeaderRlp(startHash);
     } else {
-      final long firstNumber = getHeaders.blockNumber().getAsLong();
-      firstHeader = blockchain.getBlockHeader(firstNumber).orElse(null);
+      firstNumber = getHeaders.blockNumber().getAsLong();
+      maybeFirstHeader = blockchain.getBlockHeaderRlp(firstNumber);
     }
-    final Collection<BlockHeader> resp;
-    if (firstHeader == null) {
-      resp = Collections.emptyList();
-    } else {
-      resp = Lists.newArrayList(firstHeader);
+    final List<Bytes> resp = new ArrayList<>();
+    if (maybeFirstHeader.isPresent()) {
+      resp.add(maybeFirstHeader.get());
+      int responseSize = maybeFirstHeader.get().size();
       final long numberDelta = reversed ? -(skip + 1) : (skip + 1);
-      for (int i = 1; i < maxHeaders; i++) {
-        final long blockNumber = firstHeader.getNumber() + i * numberDelta;
+      for (int i = 1; i < maxHeaders && responseSize < responseSizeLimit; i++) {
+        final long blockNumber = firstNumber + i * numberDelta;
         if (blockNumber < BlockHeader.GENESIS_BLOCK_NUMBER) {
           break;
         }
-        final Optional<BlockHeader> maybeHeader = blockchain.getBlockHeader(blockNumber);
+        final Optional<Bytes> maybeHeader = blockchain.getBlockHeaderRlp(blockNumber);
         if (maybeHeader.isPresent()) {
           resp.add(maybeHeader.get());
+          responseSize += maybeHeader.get().size();
         } else {
           break;
         }
       }
     }
-    return BlockHeadersMessage.create(resp);
+    return BlockHeadersMessage.createFromRlp(resp);
   }
 
   static MessageData constructGetBodiesResponse(
       final Blockchain blockchain, final MessageData message, final int requestLimit) {
+    return constructGetBodiesResponse(blockchain, message, requestLimit, SOFT_RESPONSE_SIZE_LIMIT);
+  }
+
+  static MessageData constructGetBodiesResponse(
+      final Blockchain blockchain,
+      final MessageData message,
+      final int requestLimit,
+      final int responseSizeLimit) {
     final GetBlockBodiesMessage getBlockBodiesMessage = GetBlockBodiesMessage.readFrom(message);
     final Iterable<Hash> hashes = getBlockBodiesMessage.hashes();
 
-    final Collection<BlockBody> bodies = new ArrayList<>();
+    final List<Bytes> bodies = new ArrayList<>();
     int count = 0;
+    int responseSize = 0;
     for (final Hash hash : hashes) {
-      if (count >= requestLimit) {
+      if (count >= requestLimit || responseSize >= responseSizeLimit) {
         break;
       }
       count++;
-      final Optional<BlockBody> maybeBody = blockchain.getBlockBody(hash);
+      final Optional<Bytes> maybeBody = blockchain.getBlockBodyRlp(hash);
       if (!maybeBody.isPresent()) {
         continue;
       }
       bodies.add(maybeBody.get());
+      responseSize += maybeBody.get().size();
     }
-    return BlockBodiesMessage.create(bodies);
+    return BlockBodiesMessage.createFromRlp(bodies);
   }
 
   static MessageData constructGetReceiptsResponse(
       final Blockchain blockchain, final MessageData message, final int requestLimit) {
+    return constructGetReceiptsResponse(
+        blockchain, message, requestLimit, SOFT_RESPONSE_SIZE_LIMIT);
+  }
+
+  static MessageData constructGetReceiptsResponse(
+      final Blockchain blockchain,
+      final MessageData message,
+      final int requestLimit,
+      final int responseSizeLimit) {
     final GetReceiptsMessage getReceipts = GetReceiptsMessage.readFrom(message);
     final Iterable<Hash> hashes = getReceipts.hashes();
 
-    final List<List<TransactionReceipt>> receipts = new ArrayList<>();
+    // Stored receipts may include revert reasons, which are not part of the wire format, so
+    // receipts are re-encoded rather than served as stored
+    final List<Bytes> receipts = new ArrayList<>();
     int count = 0;
+    int responseSize = 0;
     for (final Hash hash : hashes) {
-      if (count >= requestLimit) {
+      if (count >= requestLimit || responseSize >= responseSizeLimit) {
         break;
       }
       count++;
@@ -176,9 +215,12 @@ class EthServer {
       if (!maybeReceipts.isPresent()) {
         continue;
       }
-      receipts.add(maybeReceipts.get());
+      final Bytes receiptsRlp =
+          RLP.encode(out -> out.writeList(maybeReceipts.get(), TransactionReceipt::writeTo));
+      receipts.add(receiptsRlp);
+      responseSize += receiptsRlp.size();
     }
-    return ReceiptsMessage.create(receipts);
+    return ReceiptsMessage.createFromRlp(receipts);
   }
 
   static MessageData constructGetPooledTransactionsResponse(
@@ -20,17 +20,22 @@ import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.Counter;
 
 import java.util.Locale;
+import java.util.Optional;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.RejectedExecutionHandler;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.ThreadPoolExecutor.AbortPolicy;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BiFunction;
 
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
@@ -98,6 +103,91 @@ public class MonitoredExecutors {
             new ScheduledThreadPoolExecutor(corePoolSize, threadFactory, rejectedExecutionHandler));
   }
 
+  /**
+   * Returns whether the running JVM supports virtual threads, i.e. whether {@link
+   * #newVirtualThreadPerTaskExecutor(String, int, MetricsSystem)} can create an executor.
+   *
+   * @return true if virtual threads are available
+   */
+  public static boolean isVirtualThreadSupported() {
+    return virtualThreadFactory(MonitoredExecutors.class.getSimpleName()).isPresent();
+  }
+
+  /**
+   * Creates an executor that starts a new virtual thread for each task, if the running JVM supports
+   * virtual threads. The executor is looked up reflectively so that this code keeps compiling
+   * against Java 11.
+   *
+   * <p>At most {@code maxConcurrentTasks} tasks run at the same time, like in a fixed thread pool
+   * of that size. Further tasks still get their virtual thread, which waits for a running task to
+   * finish before it starts.
+   *
+   * @param name the name of the executor, used as thread name prefix and metric name
+   * @param maxConcurrentTasks the maximum number of tasks to run at the same time
+   * @param metricsSystem the metrics system to report thread counts to
+   * @return the executor, or empty if virtual threads are not available
+   */
+  public static Optional<ExecutorService> newVirtualThreadPerTaskExecutor(
+      final String name, final int maxConcurrentTasks, final MetricsSystem metricsSystem) {
+    final Optional<ThreadFactory> virtualThreadFactory = virtualThreadFactory(name);
+    if (virtualThreadFactory.isEmpty()) {
+      return Optional.empty();
+    }
+    final CountingThreadFactory threadFactory =
+        new CountingThreadFactory(virtualThreadFactory.get(), new Semaphore(maxConcurrentTasks));
+    final ExecutorService executor;
+    try {
+      executor =
+          (ExecutorService)
+              Executors.class
+                  .getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                  .invoke(null, threadFactory);
+    } catch (final ReflectiveOperationException | RuntimeException e) {
+      return Optional.empty();
+    }
+
+    final String metricName = toMetricName(name);
+
+    metricsSystem.createIntegerGauge(
+        BesuMetricCategory.EXECUTORS,
+        metricName + "_queue_length_current",
+        "Current number of tasks awaiting execution",
+        threadFactory.permits::getQueueLength);
+
+    metricsSystem.createIntegerGauge(
+        BesuMetricCategory.EXECUTORS,
+        metricName + "_active_threads_current",
+        "Current number of threads executing tasks",
+        threadFactory.activeThreads::get);
+
+    metricsSystem.createLongGauge(
+        BesuMetricCategory.EXECUTORS,
+        metricName + "_completed_tasks_total",
+        "Total number of tasks executed",
+        threadFactory.completedThreads::sum);
+
+    metricsSystem.createLongGauge(
+        BesuMetricCategory.EXECUTORS,
+        metricName + "_submitted_tasks_total",
+        "Total number of tasks submitted",
+        threadFactory.createdThreads::sum);
+
+    return Optional.of(executor);
+  }
+
+  private static Optional<ThreadFactory> virtualThreadFactory(final String name) {
+    try {
+      final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+      final Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+      final Object namedBuilder =
+          builderClass.getMethod("name", String.class, long.class).invoke(builder, name + "-", 0L);
+      return Optional.of((ThreadFactory) builderClass.getMethod("factory").invoke(namedBuilder));
+    } catch (final ReflectiveOperationException | RuntimeException e) {
+      // Virtual threads are either missing (Java < 19) or still a disabled preview feature
+      return Optional.empty();
+    }
+  }
+
   private static <T extends ThreadPoolExecutor> T newMonitoredExecutor(
       final String name,
       final MetricsSystem metricsSystem,
@@ -165,4 +255,42 @@ public class MonitoredExecutors {
       super.rejectedExecution(r, e);
     }
   }
+
+  private static class CountingThreadFactory implements ThreadFactory {
+
+    private final ThreadFactory delegate;
+    private final Semaphore permits;
+    private final AtomicInteger activeThreads = new AtomicInteger();
+    private final LongAdder createdThreads = new LongAdder();
+    private final LongAdder completedThreads = new LongAdder();
+
+    private CountingThreadFactory(final ThreadFactory delegate, final Semaphore permits) {
+      this.delegate = delegate;
+      this.permits = permits;
+    }
+
+    @Override
+    public Thread newThread(final Runnable task) {
+      createdThreads.increment();
+      return delegate.newThread(
+          () -> {
+            try {
+              permits.acquire();
+            } catch (final InterruptedException e) {
+              // The executor was shut down while the task waited for a permit, so skip it
+              completedThreads.increment();
+              Thread.currentThread().interrupt();
+              return;
+            }
+            activeThreads.incrementAndGet();
+            try {
+              task.run();
+            } finally {
+              activeThreads.decrementAndGet();
+              completedThreads.increment();
+              permits.release();
+            }
+          });
+    }
+  }
 }
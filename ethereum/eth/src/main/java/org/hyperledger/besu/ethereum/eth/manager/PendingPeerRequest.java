@@ -19,6 +19,7 @@ import org.hyperledger.besu.ethereum.eth.manager.exceptions.NoAvailablePeersExce
 import org.hyperledger.besu.ethereum.eth.manager.exceptions.PeerDisconnectedException;
 import org.hyperledger.besu.ethereum.p2p.rlpx.connections.PeerConnection.PeerNotConnected;
 
+import java.util.Comparator;
 import java.util.Optional;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
@@ -31,16 +32,19 @@ public class PendingPeerRequest {
   private final CompletableFuture<ResponseStream> result = new CompletableFuture<>();
   private final long minimumBlockNumber;
   private final Optional<EthPeer> peer;
+  private final Comparator<EthPeer> peerPreference;
 
   PendingPeerRequest(
       final EthPeers ethPeers,
       final PeerRequest request,
       final long minimumBlockNumber,
-      final Optional<EthPeer> peer) {
+      final Optional<EthPeer> peer,
+      final Comparator<EthPeer> peerPreference) {
     this.ethPeers = ethPeers;
     this.request = request;
     this.minimumBlockNumber = minimumBlockNumber;
     this.peer = peer;
+    this.peerPreference = peerPreference;
   }
 
   /**
@@ -85,7 +89,7 @@ public class PendingPeerRequest {
         : ethPeers
             .streamAvailablePeers()
             .filter(peer -> peer.chainState().getEstimatedHeight() >= minimumBlockNumber)
-            .min(EthPeers.LEAST_TO_MOST_BUSY);
+            .min(peerPreference);
   }
 
   /**
@@ -17,8 +17,11 @@ package org.hyperledger.besu.ethereum.eth.manager;
 import org.hyperledger.besu.ethereum.p2p.rlpx.connections.PeerConnection.PeerNotConnected;
 import org.hyperledger.besu.ethereum.p2p.rlpx.wire.MessageData;
 import org.hyperledger.besu.ethereum.p2p.rlpx.wire.messages.DisconnectMessage;
+import org.hyperledger.besu.ethereum.rlp.RLP;
+import org.hyperledger.besu.ethereum.rlp.RLPException;
 
 import java.math.BigInteger;
+import java.time.Clock;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -35,20 +38,35 @@ public class RequestManager {
   private final EthPeer peer;
   private final boolean supportsRequestId;
   private final String protocolName;
+  private final Clock clock;
+  private final ResponseRateTracker responseRate = new ResponseRateTracker();
 
   private final AtomicInteger outstandingRequests = new AtomicInteger(0);
 
   public RequestManager(
       final EthPeer peer, final boolean supportsRequestId, final String protocolName) {
+    this(peer, supportsRequestId, protocolName, Clock.systemUTC());
+  }
+
+  public RequestManager(
+      final EthPeer peer,
+      final boolean supportsRequestId,
+      final String protocolName,
+      final Clock clock) {
     this.peer = peer;
     this.supportsRequestId = supportsRequestId;
     this.protocolName = protocolName;
+    this.clock = clock;
   }
 
   public int outstandingRequests() {
     return outstandingRequests.get();
   }
 
+  public ResponseRateTracker getResponseRate() {
+    return responseRate;
+  }
+
   public String getProtocolName() {
     return protocolName;
   }
@@ -71,12 +89,22 @@ public class RequestManager {
           ethMessage.getData().unwrapMessageData();
       Optional.ofNullable(responseStreams.get(requestIdAndEthMessage.getKey()))
           .ifPresentOrElse(
-              responseStream -> responseStream.processMessage(requestIdAndEthMessage.getValue()),
+              responseStream -> {
+                final MessageData response = requestIdAndEthMessage.getValue();
+                recordResponseRate(responseStream.requestTimestamp, response);
+                responseStream.processMessage(response);
+              },
               // disconnect on incorrect requestIds
               () -> peer.disconnect(DisconnectMessage.DisconnectReason.BREACH_OF_PROTOCOL));
     } else {
       // otherwise iterate through all of them
-      streams.forEach(stream -> stream.processMessage(ethMessage.getData()));
+      final MessageData response = ethMessage.getData();
+      // Without a requestId, assume the response is for the oldest outstanding request
+      streams.stream()
+          .mapToLong(stream -> stream.requestTimestamp)
+          .min()
+          .ifPresent(requestTimestamp -> recordResponseRate(requestTimestamp, response));
+      streams.forEach(stream -> stream.processMessage(response));
     }
     if (count == 0) {
       // No possibility of any remaining outstanding messages
@@ -88,8 +116,20 @@ public class RequestManager {
     closeOutstandingStreams(responseStreams.values());
   }
 
+  private void recordResponseRate(final long requestTimestamp, final MessageData response) {
+    final int items;
+    try {
+      items = RLP.input(response.getData()).enterList();
+    } catch (final RLPException e) {
+      // Malformed responses are dealt with by whoever made the request
+      return;
+    }
+    responseRate.recordResponse(clock.millis() - requestTimestamp, response.getSize(), items);
+  }
+
   private ResponseStream createStream(final BigInteger requestId) {
-    final ResponseStream stream = new ResponseStream(peer, () -> deregisterStream(requestId));
+    final ResponseStream stream =
+        new ResponseStream(peer, () -> deregisterStream(requestId), clock.millis());
     responseStreams.put(requestId, stream);
     return stream;
   }
@@ -140,13 +180,18 @@ public class RequestManager {
   public static class ResponseStream {
     private final EthPeer peer;
     private final DeregistrationProcessor deregisterCallback;
+    private final long requestTimestamp;
     private final Queue<Response> bufferedResponses = new ConcurrentLinkedQueue<>();
     private volatile boolean closed = false;
     private volatile ResponseCallback responseCallback = null;
 
-    public ResponseStream(final EthPeer peer, final DeregistrationProcessor deregisterCallback) {
+    public ResponseStream(
+        final EthPeer peer,
+        final DeregistrationProcessor deregisterCallback,
+        final long requestTimestamp) {
       this.peer = peer;
       this.deregisterCallback = deregisterCallback;
+      this.requestTimestamp = requestTimestamp;
     }
 
     public ResponseStream then(final ResponseCallback callback) {
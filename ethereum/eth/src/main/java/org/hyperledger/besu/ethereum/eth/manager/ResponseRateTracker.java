@@ -0,0 +1,109 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.eth.manager;
+
+import java.time.Duration;
+
+/**
+ * Tracks how quickly a peer answers one type of request, as exponentially weighted moving averages
+ * of the response latency and of the bytes and items delivered per second.
+ */
+public class ResponseRateTracker {
+  // Weight given to the newest measurement
+  static final double SMOOTHING_FACTOR = 0.25;
+  // Ask for slightly more than the measured rate allows, so the estimate can grow again after a
+  // peer was measured on small requests
+  static final double CAPACITY_OVERESTIMATION = 1.1;
+
+  private boolean measured = false;
+  private double latencyMillis;
+  private double bytesPerSecond;
+  private double itemsPerSecond;
+
+  /**
+   * Records a response to a request of the tracked type.
+   *
+   * @param latencyMillis the time between sending the request and receiving the response
+   * @param bytes the size of the response
+   * @param items the number of items, e.g. headers or bodies, in the response
+   */
+  public synchronized void recordResponse(
+      final long latencyMillis, final int bytes, final int items) {
+    // Responses can arrive within the same millisecond, avoid dividing by zero
+    final double seconds = Math.max(latencyMillis, 1) / 1000.0;
+    if (!measured) {
+      this.latencyMillis = latencyMillis;
+      this.bytesPerSecond = bytes / seconds;
+      this.itemsPerSecond = items / seconds;
+      measured = true;
+    } else {
+      this.latencyMillis = smooth(this.latencyMillis, latencyMillis);
+      this.bytesPerSecond = smooth(this.bytesPerSecond, bytes / seconds);
+      this.itemsPerSecond = smooth(this.itemsPerSecond, items / seconds);
+    }
+  }
+
+  public synchronized boolean hasMeasurements() {
+    return measured;
+  }
+
+  public synchronized double getLatencyMillis() {
+    return latencyMillis;
+  }
+
+  public synchronized double getBytesPerSecond() {
+    return bytesPerSecond;
+  }
+
+  /**
+   * Returns the estimated number of items per second the peer delivers. Peers that have not
+   * answered a request yet are assumed to be infinitely fast, so they get tried before being
+   * ranked.
+   *
+   * @return the estimated items per second
+   */
+  public synchronized double getItemsPerSecond() {
+    return measured ? itemsPerSecond : Double.POSITIVE_INFINITY;
+  }
+
+  /**
+   * Returns how many items can be requested from the peer so it can be expected to respond within
+   * the target response time.
+   *
+   * @param targetResponseTime the time within which the response should arrive
+   * @param maxItems the maximum number of items to request
+   * @return the number of items to request, between 1 and {@code maxItems}
+   */
+  public synchronized int capacity(final Duration targetResponseTime, final int maxItems) {
+    if (!measured) {
+      return maxItems;
+    }
+    final double items =
+        itemsPerSecond * targetResponseTime.toMillis() / 1000.0 * CAPACITY_OVERESTIMATION;
+    return (int) Math.max(1, Math.min(maxItems, Math.ceil(items)));
+  }
+
+  private static double smooth(final double average, final double sample) {
+    return average + SMOOTHING_FACTOR * (sample - average);
+  }
+
+  @Override
+  public synchronized String toString() {
+    return measured
+        ? String.format(
+            "%.0fms, %.0f bytes/s, %.1f items/s", latencyMillis, bytesPerSecond, itemsPerSecond)
+        : "unmeasured";
+  }
+}
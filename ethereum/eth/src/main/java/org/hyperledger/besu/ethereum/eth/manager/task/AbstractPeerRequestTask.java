@@ -16,6 +16,7 @@ package org.hyperledger.besu.ethereum.eth.manager.task;
 
 import org.hyperledger.besu.ethereum.eth.manager.EthContext;
 import org.hyperledger.besu.ethereum.eth.manager.EthPeer;
+import org.hyperledger.besu.ethereum.eth.manager.EthPeers;
 import org.hyperledger.besu.ethereum.eth.manager.PeerRequest;
 import org.hyperledger.besu.ethereum.eth.manager.PendingPeerRequest;
 import org.hyperledger.besu.ethereum.eth.manager.RequestManager;
@@ -87,7 +88,13 @@ public abstract class AbstractPeerRequestTask<R> extends AbstractPeerTask<R> {
 
   public PendingPeerRequest sendRequestToPeer(
       final PeerRequest request, final long minimumBlockNumber) {
-    return ethContext.getEthPeers().executePeerRequest(request, minimumBlockNumber, assignedPeer);
+    return ethContext
+        .getEthPeers()
+        .executePeerRequest(
+            request,
+            minimumBlockNumber,
+            assignedPeer,
+            EthPeers.leastBusyThenFastest(requestCode));
   }
 
   private void handleMessage(
@@ -86,8 +86,10 @@ public class GetBodiesFromPeerTask extends AbstractPeerRequestTask<List<Block>>
 
     return sendRequestToPeer(
         peer -> {
-          LOG.debug("Requesting {} bodies from peer {}.", blockHashes.size(), peer);
-          return peer.getBodies(blockHashes);
+          // Ask slow peers for fewer bodies, the remaining ones are requested again by the caller
+          final int count = peer.getRequestCapacity(EthPV62.GET_BLOCK_BODIES, blockHashes.size());
+          LOG.debug("Requesting {} bodies from peer {}.", count, peer);
+          return peer.getBodies(blockHashes.subList(0, count));
         },
         minimumRequiredBlockNumber);
   }
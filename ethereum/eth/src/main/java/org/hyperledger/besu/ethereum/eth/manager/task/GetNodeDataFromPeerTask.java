@@ -33,6 +33,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
+import com.google.common.collect.Iterables;
 import org.apache.tuweni.bytes.Bytes;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -66,8 +67,10 @@ public class GetNodeDataFromPeerTask extends AbstractPeerRequestTask<Map<Hash, B
   protected PendingPeerRequest sendRequest() {
     return sendRequestToPeer(
         peer -> {
-          LOG.debug("Requesting {} node data entries from peer {}.", hashes.size(), peer);
-          return peer.getNodeData(hashes);
+          // Ask slow peers for fewer entries, the remaining ones are requested again by the caller
+          final int count = peer.getRequestCapacity(EthPV63.GET_NODE_DATA, hashes.size());
+          LOG.debug("Requesting {} node data entries from peer {}.", count, peer);
+          return peer.getNodeData(Iterables.limit(hashes, count));
         },
         pivotBlockNumber);
   }
@@ -83,8 +83,10 @@ public class GetReceiptsFromPeerTask
             .collect(toList());
     return sendRequestToPeer(
         peer -> {
-          LOG.debug("Requesting {} receipts from peer {}.", blockHeaders.size(), peer);
-          return peer.getReceipts(blockHashes);
+          // Ask slow peers for fewer receipts, the remaining ones are requested again by the caller
+          final int count = peer.getRequestCapacity(EthPV63.GET_RECEIPTS, blockHashes.size());
+          LOG.debug("Requesting {} receipts from peer {}.", count, peer);
+          return peer.getReceipts(blockHashes.subList(0, count));
         },
         maximumRequiredBlockNumber);
   }
@@ -47,6 +47,20 @@ public final class BlockBodiesMessage extends AbstractMessageData {
     return new BlockBodiesMessage(tmp.encoded());
   }
 
+  /**
+   * Creates a message from bodies that are already RLP encoded, without decoding them.
+   *
+   * @param bodiesRlp the RLP encoding of each body
+   * @return the message
+   */
+  public static BlockBodiesMessage createFromRlp(final Iterable<Bytes> bodiesRlp) {
+    final BytesValueRLPOutput tmp = new BytesValueRLPOutput();
+    tmp.startList();
+    bodiesRlp.forEach(tmp::writeRaw);
+    tmp.endList();
+    return new BlockBodiesMessage(tmp.encoded());
+  }
+
   private BlockBodiesMessage(final Bytes data) {
     super(data);
   }
@@ -56,6 +56,20 @@ public final class BlockHeadersMessage extends AbstractMessageData {
     return new BlockHeadersMessage(tmp.encoded());
   }
 
+  /**
+   * Creates a message from headers that are already RLP encoded, without decoding them.
+   *
+   * @param headersRlp the RLP encoding of each header
+   * @return the message
+   */
+  public static BlockHeadersMessage createFromRlp(final Iterable<Bytes> headersRlp) {
+    final BytesValueRLPOutput tmp = new BytesValueRLPOutput();
+    tmp.startList();
+    headersRlp.forEach(tmp::writeRaw);
+    tmp.endList();
+    return new BlockHeadersMessage(tmp.encoded());
+  }
+
   private BlockHeadersMessage(final Bytes data) {
     super(data);
   }
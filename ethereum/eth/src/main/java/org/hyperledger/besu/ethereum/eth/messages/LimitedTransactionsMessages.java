@@ -16,9 +16,11 @@ package org.hyperledger.besu.ethereum.eth.messages;
 
 import org.hyperledger.besu.ethereum.core.Transaction;
 import org.hyperledger.besu.ethereum.rlp.BytesValueRLPOutput;
+import org.hyperledger.besu.ethereum.rlp.RLP;
 
 import java.util.HashSet;
 import java.util.Set;
+import java.util.function.Function;
 
 import org.apache.tuweni.bytes.Bytes;
 
@@ -37,14 +39,25 @@ public final class LimitedTransactionsMessages {
 
   public static LimitedTransactionsMessages createLimited(
       final Iterable<Transaction> transactions) {
+    return createLimited(transactions, transaction -> RLP.encode(transaction::writeTo));
+  }
+
+  /**
+   * Creates a message with as many of the transactions as fit within the message size limit.
+   *
+   * @param transactions the transactions to include
+   * @param encoder returns the RLP encoding of a transaction, allowing encodings to be shared
+   *     between the messages sent to different peers
+   * @return the message and the transactions it includes
+   */
+  public static LimitedTransactionsMessages createLimited(
+      final Iterable<Transaction> transactions, final Function<Transaction, Bytes> encoder) {
     final Set<Transaction> includedTransactions = new HashSet<>();
     final BytesValueRLPOutput message = new BytesValueRLPOutput();
     int messageSize = 0;
     message.startList();
     for (final Transaction transaction : transactions) {
-      final BytesValueRLPOutput encodedTransaction = new BytesValueRLPOutput();
-      transaction.writeTo(encodedTransaction);
-      final Bytes encodedBytes = encodedTransaction.encoded();
+      final Bytes encodedBytes = encoder.apply(transaction);
       if (messageSize != 0 // always at least one message
           && messageSize + encodedBytes.size() > LIMIT) {
         break;
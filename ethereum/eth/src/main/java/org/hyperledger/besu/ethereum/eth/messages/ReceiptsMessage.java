@@ -53,6 +53,20 @@ public final class ReceiptsMessage extends AbstractMessageData {
     return new ReceiptsMessage(tmp.encoded());
   }
 
+  /**
+   * Creates a message from receipt sets that are already RLP encoded, without decoding them.
+   *
+   * @param receiptsRlp the RLP encoding of the list of receipts of each block
+   * @return the message
+   */
+  public static ReceiptsMessage createFromRlp(final Iterable<Bytes> receiptsRlp) {
+    final BytesValueRLPOutput tmp = new BytesValueRLPOutput();
+    tmp.startList();
+    receiptsRlp.forEach(tmp::writeRaw);
+    tmp.endList();
+    return new ReceiptsMessage(tmp.encoded());
+  }
+
   private ReceiptsMessage(final Bytes data) {
     super(data);
   }
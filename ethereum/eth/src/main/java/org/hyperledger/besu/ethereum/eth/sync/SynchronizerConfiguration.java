@@ -17,8 +17,10 @@ package org.hyperledger.besu.ethereum.eth.sync;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import org.hyperledger.besu.services.pipeline.WaitStrategy;
 import org.hyperledger.besu.services.tasks.CachingTaskCollection;
 
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
 import com.google.common.collect.Range;
@@ -44,6 +46,7 @@ public class SynchronizerConfiguration {
   public static final int DEFAULT_DOWNLOADER_PARALLELISM = 4;
   public static final int DEFAULT_TRANSACTIONS_PARALLELISM = 2;
   public static final int DEFAULT_COMPUTATION_PARALLELISM = 2;
+  public static final boolean DEFAULT_VIRTUAL_THREADS_ENABLED = false;
   public static final int DEFAULT_WORLD_STATE_TASK_CACHE_SIZE =
       CachingTaskCollection.DEFAULT_CACHE_SIZE;
 
@@ -71,6 +74,8 @@ public class SynchronizerConfiguration {
   private final int downloaderParallelism;
   private final int transactionsParallelism;
   private final int computationParallelism;
+  private final boolean virtualThreadsEnabled;
+  private final Optional<WaitStrategy> downloaderPipeWaitStrategy;
   private final int maxTrailingPeers;
   private final long worldStateMinMillisBeforeStalling;
 
@@ -93,6 +98,8 @@ public class SynchronizerConfiguration {
       final int downloaderParallelism,
       final int transactionsParallelism,
       final int computationParallelism,
+      final boolean virtualThreadsEnabled,
+      final Optional<WaitStrategy> downloaderPipeWaitStrategy,
       final int maxTrailingPeers) {
     this.fastSyncPivotDistance = fastSyncPivotDistance;
     this.fastSyncFullValidationRate = fastSyncFullValidationRate;
@@ -112,6 +119,8 @@ public class SynchronizerConfiguration {
     this.downloaderParallelism = downloaderParallelism;
     this.transactionsParallelism = transactionsParallelism;
     this.computationParallelism = computationParallelism;
+    this.virtualThreadsEnabled = virtualThreadsEnabled;
+    this.downloaderPipeWaitStrategy = downloaderPipeWaitStrategy;
     this.maxTrailingPeers = maxTrailingPeers;
   }
 
@@ -180,6 +189,26 @@ public class SynchronizerConfiguration {
     return computationParallelism;
   }
 
+  /**
+   * Whether sync workers and pipeline stages should run on virtual threads when the JVM supports
+   * them.
+   *
+   * @return true if virtual threads should be used for sync workers and pipeline stages.
+   */
+  public boolean isVirtualThreadsEnabled() {
+    return virtualThreadsEnabled;
+  }
+
+  /**
+   * How the stages of the chain download pipelines wait on each other, if they are connected with
+   * lock-free ring buffer pipes.
+   *
+   * @return the wait strategy of the ring buffer pipes, or empty to use blocking queue pipes.
+   */
+  public Optional<WaitStrategy> getDownloaderPipeWaitStrategy() {
+    return downloaderPipeWaitStrategy;
+  }
+
   /**
    * The rate at which blocks should be fully validated during fast sync. At a rate of 1f, all
    * blocks are fully validated. At rates less than 1f, a subset of blocks will undergo light-weight
@@ -235,6 +264,8 @@ public class SynchronizerConfiguration {
     private int downloaderParallelism = DEFAULT_DOWNLOADER_PARALLELISM;
     private int transactionsParallelism = DEFAULT_TRANSACTIONS_PARALLELISM;
     private int computationParallelism = DEFAULT_COMPUTATION_PARALLELISM;
+    private boolean virtualThreadsEnabled = DEFAULT_VIRTUAL_THREADS_ENABLED;
+    private Optional<WaitStrategy> downloaderPipeWaitStrategy = Optional.empty();
     private int fastSyncPivotDistance = DEFAULT_PIVOT_DISTANCE_FROM_HEAD;
     private float fastSyncFullValidationRate = DEFAULT_FULL_VALIDATION_RATE;
     private int worldStateHashCountPerRequest = DEFAULT_WORLD_STATE_HASH_COUNT_PER_REQUEST;
@@ -314,6 +345,18 @@ public class SynchronizerConfiguration {
       return this;
     }
 
+    public Builder virtualThreadsEnabled(final boolean virtualThreadsEnabled) {
+      this.virtualThreadsEnabled = virtualThreadsEnabled;
+      return this;
+    }
+
+    public Builder downloaderPipeWaitStrategy(
+        final Optional<WaitStrategy> downloaderPipeWaitStrategy) {
+      checkNotNull(downloaderPipeWaitStrategy);
+      this.downloaderPipeWaitStrategy = downloaderPipeWaitStrategy;
+      return this;
+    }
+
     public Builder fastSyncMinimumPeerCount(final int fastSyncMinimumPeerCount) {
       this.fastSyncMinimumPeerCount = fastSyncMinimumPeerCount;
       return this;
@@ -370,6 +413,8 @@ public class SynchronizerConfiguration {
           downloaderParallelism,
           transactionsParallelism,
           computationParallelism,
+          virtualThreadsEnabled,
+          downloaderPipeWaitStrategy,
           maxTrailingPeers);
     }
   }
@@ -104,7 +104,14 @@ public class FullSyncDownloadPipelineFactory implements DownloadPipelineFactory
                 "step",
                 "action"),
             true,
-            "fullSync")
+            "fullSync",
+            syncConfig.getDownloaderPipeWaitStrategy())
+        .withStageTimer(
+            metricsSystem.createLabelledTimer(
+                BesuMetricCategory.SYNCHRONIZER,
+                "chain_download_pipeline_stage_duration_seconds",
+                "Time taken by each chain download pipeline stage to process an entry",
+                "step"))
         .thenProcessAsyncOrdered("downloadHeaders", downloadHeadersStep, downloaderParallelism)
         .thenFlatMap("validateHeadersJoin", validateHeadersJoinUpStep, singleHeaderBufferSize)
         .inBatches(headerRequestSize)
@@ -20,6 +20,8 @@ import org.hyperledger.besu.datatypes.Hash;
 import org.hyperledger.besu.ethereum.core.Transaction;
 import org.hyperledger.besu.ethereum.eth.manager.EthPeer;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
@@ -31,6 +33,32 @@ public class PeerTransactionTracker implements EthPeer.DisconnectCallback {
   private static final int MAX_TRACKED_SEEN_TRANSACTIONS = 10_000;
   private final Map<EthPeer, Set<Hash>> seenTransactions = new ConcurrentHashMap<>();
   private final Map<EthPeer, Set<Transaction>> transactionsToSend = new ConcurrentHashMap<>();
+  private final Map<EthPeer, SendBudget> sendBudgets = new ConcurrentHashMap<>();
+  private final long maxSendBytesPerPeer;
+  private final long sendBudgetPeriodMillis;
+  private final Clock clock;
+
+  public PeerTransactionTracker() {
+    this(
+        TransactionPoolConfiguration.DEFAULT_TX_GOSSIP_MAX_BYTES_PER_PEER,
+        TransactionPoolConfiguration.DEFAULT_TX_GOSSIP_BUDGET_PERIOD,
+        Clock.systemUTC());
+  }
+
+  /**
+   * Creates a tracker that limits how many bytes of transactions are sent to each peer over time.
+   * Each peer may send up to the maximum at once, and its budget refills at the maximum per period.
+   *
+   * @param maxSendBytesPerPeer how many bytes can be sent to a peer per period
+   * @param sendBudgetPeriod the period over which a peer's budget refills
+   * @param clock the clock used to refill the budgets
+   */
+  public PeerTransactionTracker(
+      final long maxSendBytesPerPeer, final Duration sendBudgetPeriod, final Clock clock) {
+    this.maxSendBytesPerPeer = maxSendBytesPerPeer;
+    this.sendBudgetPeriodMillis = Math.max(1, sendBudgetPeriod.toMillis());
+    this.clock = clock;
+  }
 
   public synchronized void markTransactionsAsSeen(
       final EthPeer peer, final Collection<Transaction> transactions) {
@@ -58,6 +86,53 @@ public class PeerTransactionTracker implements EthPeer.DisconnectCallback {
     }
   }
 
+  /**
+   * Puts transactions that were claimed for a peer, but not sent to it, back on its send queue.
+   *
+   * @param peer the peer the transactions were claimed for
+   * @param transactions the transactions that weren't sent
+   */
+  public synchronized void returnTransactionsToPeerSendQueue(
+      final EthPeer peer, final Collection<Transaction> transactions) {
+    if (!transactions.isEmpty()) {
+      transactionsToSend.computeIfAbsent(peer, key -> createTransactionsSet()).addAll(transactions);
+    }
+  }
+
+  public boolean hasUnsentTransactions() {
+    return !transactionsToSend.isEmpty();
+  }
+
+  /**
+   * Returns how many bytes can be sent to a peer now. This is negative while the peer is still
+   * paying off a message that was larger than its remaining budget.
+   *
+   * @param peer the peer to send to
+   * @return the number of bytes left in the peer's budget
+   */
+  public synchronized long getAvailableSendBytes(final EthPeer peer) {
+    final SendBudget budget = sendBudgets.get(peer);
+    if (budget == null) {
+      return maxSendBytesPerPeer;
+    }
+    budget.refill(clock.millis());
+    return budget.availableBytes;
+  }
+
+  /**
+   * Takes the size of a message that was sent to a peer from its budget.
+   *
+   * @param peer the peer the message was sent to
+   * @param bytes the size of the message
+   */
+  public synchronized void recordBytesSent(final EthPeer peer, final long bytes) {
+    final long now = clock.millis();
+    final SendBudget budget =
+        sendBudgets.computeIfAbsent(peer, key -> new SendBudget(maxSendBytesPerPeer, now));
+    budget.refill(now);
+    budget.availableBytes -= bytes;
+  }
+
   private Set<Hash> getOrCreateSeenTransactionsForPeer(final EthPeer peer) {
     return seenTransactions.computeIfAbsent(peer, key -> createTransactionsSet());
   }
@@ -82,5 +157,31 @@ public class PeerTransactionTracker implements EthPeer.DisconnectCallback {
   public void onDisconnect(final EthPeer peer) {
     seenTransactions.remove(peer);
     transactionsToSend.remove(peer);
+    sendBudgets.remove(peer);
+  }
+
+  private class SendBudget {
+    private long availableBytes;
+    private long lastRefillMillis;
+
+    private SendBudget(final long availableBytes, final long lastRefillMillis) {
+      this.availableBytes = availableBytes;
+      this.lastRefillMillis = lastRefillMillis;
+    }
+
+    private void refill(final long nowMillis) {
+      final long elapsedMillis = nowMillis - lastRefillMillis;
+      if (elapsedMillis >= sendBudgetPeriodMillis) {
+        availableBytes = maxSendBytesPerPeer;
+        lastRefillMillis = nowMillis;
+        return;
+      }
+      final long refill = elapsedMillis * maxSendBytesPerPeer / sendBudgetPeriodMillis;
+      // Wait for at least a byte, so short intervals aren't rounded away
+      if (refill > 0) {
+        availableBytes = Math.min(maxSendBytesPerPeer, availableBytes + refill);
+        lastRefillMillis = nowMillis;
+      }
+    }
   }
 }
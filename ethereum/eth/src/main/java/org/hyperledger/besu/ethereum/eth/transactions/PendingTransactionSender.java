@@ -19,11 +19,14 @@ import org.hyperledger.besu.ethereum.eth.EthProtocol;
 import org.hyperledger.besu.ethereum.eth.manager.EthContext;
 import org.hyperledger.besu.ethereum.eth.transactions.TransactionPool.TransactionBatchAddedListener;
 
+import java.util.concurrent.atomic.AtomicBoolean;
+
 class PendingTransactionSender implements TransactionBatchAddedListener {
 
   private final PeerPendingTransactionTracker transactionTracker;
   private final PendingTransactionsMessageSender transactionsMessageSender;
   private final EthContext ethContext;
+  private final AtomicBoolean sendScheduled = new AtomicBoolean(false);
 
   public PendingTransactionSender(
       final PeerPendingTransactionTracker transactionTracker,
@@ -45,8 +48,14 @@ class PendingTransactionSender implements TransactionBatchAddedListener {
                 transactions.forEach(
                     transaction ->
                         transactionTracker.addToPeerSendQueue(peer, transaction.getHash())));
-    ethContext
-        .getScheduler()
-        .scheduleSyncWorkerTask(transactionsMessageSender::sendTransactionsToPeers);
+    // Batches added while a send is waiting to run are sent along with it
+    if (sendScheduled.compareAndSet(false, true)) {
+      ethContext.getScheduler().scheduleSyncWorkerTask(this::sendTransactions);
+    }
+  }
+
+  private void sendTransactions() {
+    sendScheduled.set(false);
+    transactionsMessageSender.sendTransactionsToPeers();
   }
 }
@@ -32,6 +32,8 @@ public interface TransactionPoolConfiguration {
   Percentage DEFAULT_PRICE_BUMP = Percentage.fromInt(10);
   Wei DEFAULT_RPC_TX_FEE_CAP = Wei.fromEth(1);
   Duration ETH65_TRX_ANNOUNCED_BUFFERING_PERIOD = Duration.ofMillis(500);
+  int DEFAULT_TX_GOSSIP_MAX_BYTES_PER_PEER = 4 * 1024 * 1024;
+  Duration DEFAULT_TX_GOSSIP_BUDGET_PERIOD = Duration.ofSeconds(1);
 
   TransactionPoolConfiguration DEFAULT = ImmutableTransactionPoolConfiguration.builder().build();
 
@@ -65,6 +67,16 @@ public interface TransactionPoolConfiguration {
     return ETH65_TRX_ANNOUNCED_BUFFERING_PERIOD;
   }
 
+  @Value.Default
+  default int getTxGossipMaxBytesPerPeer() {
+    return DEFAULT_TX_GOSSIP_MAX_BYTES_PER_PEER;
+  }
+
+  @Value.Default
+  default Duration getTxGossipBudgetPeriod() {
+    return DEFAULT_TX_GOSSIP_BUDGET_PERIOD;
+  }
+
   @Value.Default
   default Wei getTxFeeCap() {
     return DEFAULT_RPC_TX_FEE_CAP;
@@ -47,7 +47,11 @@ public class TransactionPoolFactory {
         createPendingTransactionsSorter(
             protocolSchedule, protocolContext, clock, metricsSystem, transactionPoolConfiguration);
 
-    final PeerTransactionTracker transactionTracker = new PeerTransactionTracker();
+    final PeerTransactionTracker transactionTracker =
+        new PeerTransactionTracker(
+            transactionPoolConfiguration.getTxGossipMaxBytesPerPeer(),
+            transactionPoolConfiguration.getTxGossipBudgetPeriod(),
+            clock);
     final TransactionsMessageSender transactionsMessageSender =
         new TransactionsMessageSender(transactionTracker);
 
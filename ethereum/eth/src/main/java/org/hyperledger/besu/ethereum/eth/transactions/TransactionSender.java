@@ -18,11 +18,17 @@ import org.hyperledger.besu.ethereum.core.Transaction;
 import org.hyperledger.besu.ethereum.eth.manager.EthContext;
 import org.hyperledger.besu.ethereum.eth.transactions.TransactionPool.TransactionBatchAddedListener;
 
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 class TransactionSender implements TransactionBatchAddedListener {
+  // How long to wait before sending transactions that were deferred until a peer's budget refills
+  private static final Duration DEFERRED_SEND_DELAY = Duration.ofMillis(500);
 
   private final PeerTransactionTracker transactionTracker;
   private final TransactionsMessageSender transactionsMessageSender;
   private final EthContext ethContext;
+  private final AtomicBoolean sendScheduled = new AtomicBoolean(false);
 
   public TransactionSender(
       final PeerTransactionTracker transactionTracker,
@@ -42,8 +48,21 @@ class TransactionSender implements TransactionBatchAddedListener {
             peer ->
                 transactions.forEach(
                     transaction -> transactionTracker.addToPeerSendQueue(peer, transaction)));
-    ethContext
-        .getScheduler()
-        .scheduleSyncWorkerTask(transactionsMessageSender::sendTransactionsToPeers);
+    scheduleSend();
+  }
+
+  private void scheduleSend() {
+    // Batches added while a send is waiting to run are sent along with it
+    if (sendScheduled.compareAndSet(false, true)) {
+      ethContext.getScheduler().scheduleSyncWorkerTask(this::sendTransactions);
+    }
+  }
+
+  private void sendTransactions() {
+    sendScheduled.set(false);
+    transactionsMessageSender.sendTransactionsToPeers();
+    if (transactionTracker.hasUnsentTransactions()) {
+      ethContext.getScheduler().scheduleFutureTask(this::scheduleSend, DEFERRED_SEND_DELAY);
+    }
   }
 }
@@ -14,14 +14,20 @@
  */
 package org.hyperledger.besu.ethereum.eth.transactions;
 
+import org.hyperledger.besu.datatypes.Hash;
 import org.hyperledger.besu.ethereum.core.Transaction;
 import org.hyperledger.besu.ethereum.eth.manager.EthPeer;
 import org.hyperledger.besu.ethereum.eth.messages.LimitedTransactionsMessages;
 import org.hyperledger.besu.ethereum.p2p.rlpx.connections.PeerConnection.PeerNotConnected;
+import org.hyperledger.besu.ethereum.rlp.RLP;
 
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.stream.StreamSupport;
 
+import org.apache.tuweni.bytes.Bytes;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -35,16 +41,31 @@ class TransactionsMessageSender {
   }
 
   public void sendTransactionsToPeers() {
+    // Most peers are sent the same transactions, so each one is only encoded once per round
+    final Map<Hash, Bytes> encodedTransactions = new ConcurrentHashMap<>();
+    final Function<Transaction, Bytes> encoder =
+        transaction ->
+            encodedTransactions.computeIfAbsent(
+                transaction.getHash(), __ -> RLP.encode(transaction::writeTo));
     StreamSupport.stream(transactionTracker.getEthPeersWithUnsentTransactions().spliterator(), true)
         .parallel()
-        .forEach(this::sendTransactionsToPeer);
+        .forEach(peer -> sendTransactionsToPeer(peer, encoder));
   }
 
-  private void sendTransactionsToPeer(final EthPeer peer) {
+  private void sendTransactionsToPeer(
+      final EthPeer peer, final Function<Transaction, Bytes> encoder) {
     final Set<Transaction> allTxToSend = transactionTracker.claimTransactionsToSendToPeer(peer);
     while (!allTxToSend.isEmpty()) {
+      if (transactionTracker.getAvailableSendBytes(peer) <= 0) {
+        LOG.trace(
+            "Deferring {} transactions to peer {} until its budget refills",
+            allTxToSend.size(),
+            peer);
+        transactionTracker.returnTransactionsToPeerSendQueue(peer, allTxToSend);
+        return;
+      }
       final LimitedTransactionsMessages limitedTransactionsMessages =
-          LimitedTransactionsMessages.createLimited(allTxToSend);
+          LimitedTransactionsMessages.createLimited(allTxToSend, encoder);
       LOG.trace("Sending transactions to peer {} TRANSACTIONS count {}", peer, allTxToSend.size());
       allTxToSend.removeAll(limitedTransactionsMessages.getIncludedTransactions());
       try {
@@ -52,6 +73,8 @@ class TransactionsMessageSender {
       } catch (final PeerNotConnected e) {
         return;
       }
+      transactionTracker.recordBytesSent(
+          peer, limitedTransactionsMessages.getTransactionsMessage().getSize());
     }
   }
 }
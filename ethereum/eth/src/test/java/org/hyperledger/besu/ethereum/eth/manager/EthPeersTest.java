@@ -28,6 +28,7 @@ import org.hyperledger.besu.datatypes.Hash;
 import org.hyperledger.besu.ethereum.core.Difficulty;
 import org.hyperledger.besu.ethereum.eth.manager.exceptions.NoAvailablePeersException;
 import org.hyperledger.besu.ethereum.eth.manager.exceptions.PeerDisconnectedException;
+import org.hyperledger.besu.ethereum.eth.messages.EthPV62;
 import org.hyperledger.besu.ethereum.eth.messages.NodeDataMessage;
 import org.hyperledger.besu.ethereum.p2p.rlpx.connections.PeerConnection.PeerNotConnected;
 import org.hyperledger.besu.ethereum.p2p.rlpx.wire.messages.DisconnectMessage.DisconnectReason;
@@ -131,6 +132,30 @@ public class EthPeersTest {
     assertRequestSuccessful(pendingRequest);
   }
 
+  @Test
+  public void shouldUseFastestIdlePeerForRequest() throws Exception {
+    final RespondingEthPeer slowPeer =
+        EthProtocolManagerTestUtil.createPeer(ethProtocolManager, 1000);
+    final RespondingEthPeer fastPeer =
+        EthProtocolManagerTestUtil.createPeer(ethProtocolManager, 1000);
+    final RespondingEthPeer busyPeer =
+        EthProtocolManagerTestUtil.createPeer(ethProtocolManager, 1000);
+    slowPeer.getEthPeer().getResponseRate(EthPV62.GET_BLOCK_BODIES).recordResponse(1000, 100, 1);
+    fastPeer.getEthPeer().getResponseRate(EthPV62.GET_BLOCK_BODIES).recordResponse(100, 100, 10);
+    busyPeer.getEthPeer().getResponseRate(EthPV62.GET_BLOCK_BODIES).recordResponse(10, 100, 10);
+    useRequestSlot(busyPeer.getEthPeer());
+
+    final PendingPeerRequest pendingRequest =
+        ethPeers.executePeerRequest(
+            peerRequest,
+            10,
+            Optional.empty(),
+            EthPeers.leastBusyThenFastest(EthPV62.GET_BLOCK_BODIES));
+
+    verify(peerRequest).sendRequest(fastPeer.getEthPeer());
+    assertRequestSuccessful(pendingRequest);
+  }
+
   @Test
   public void shouldUseLeastRecentlyUsedPeerWhenBothHaveSameNumberOfOutstandingRequests()
       throws Exception {
@@ -16,18 +16,24 @@ package org.hyperledger.besu.ethereum.eth.manager;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.waitAtMost;
+import static org.junit.Assume.assumeTrue;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 import org.hyperledger.besu.testutil.MockExecutorService;
 
 import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -207,4 +213,58 @@ public class EthSchedulerTest {
     assertThat(task.isFailed()).isTrue();
     assertThat(task.isCancelled()).isTrue();
   }
+
+  @Test
+  public void virtualThreads_runTasksWithOrWithoutJvmSupport() throws Exception {
+    final EthScheduler scheduler = new EthScheduler(1, 1, 1, 1, true, new NoOpMetricsSystem());
+    try {
+      final CompletableFuture<String> result =
+          scheduler.scheduleSyncWorkerTask(() -> CompletableFuture.completedFuture("done"));
+      assertThat(result.get(10, TimeUnit.SECONDS)).isEqualTo("done");
+
+      final MockEthTask task = new MockEthTask();
+      final CompletableFuture<Object> serviceResult = scheduler.scheduleServiceTask(task);
+      waitAtMost(10, TimeUnit.SECONDS).until(task::hasBeenStarted);
+      task.complete();
+      assertThat(serviceResult).isDone();
+    } finally {
+      scheduler.stop();
+      scheduler.awaitStop();
+    }
+  }
+
+  @Test
+  public void virtualThreads_runAtMostSyncWorkerCountTasksAtOnce() throws Exception {
+    assumeTrue(MonitoredExecutors.isVirtualThreadSupported());
+    final EthScheduler scheduler = new EthScheduler(2, 1, 1, 1, true, new NoOpMetricsSystem());
+    final AtomicInteger running = new AtomicInteger();
+    final AtomicInteger maxRunning = new AtomicInteger();
+    final CountDownLatch release = new CountDownLatch(1);
+    final CountDownLatch finished = new CountDownLatch(5);
+    try {
+      for (int i = 0; i < 5; i++) {
+        scheduler.scheduleSyncWorkerTask(
+            () -> {
+              maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+              try {
+                release.await();
+              } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+              } finally {
+                running.decrementAndGet();
+                finished.countDown();
+              }
+            });
+      }
+      waitAtMost(10, TimeUnit.SECONDS).until(() -> running.get() == 2);
+      assertThat(finished.getCount()).isEqualTo(5);
+
+      release.countDown();
+      assertThat(finished.await(10, TimeUnit.SECONDS)).isTrue();
+      assertThat(maxRunning.get()).isEqualTo(2);
+    } finally {
+      scheduler.stop();
+      scheduler.awaitStop();
+    }
+  }
 }
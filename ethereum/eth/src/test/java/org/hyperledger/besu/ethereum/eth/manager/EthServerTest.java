@@ -22,10 +22,18 @@ import static org.mockito.Mockito.when;
 
 import org.hyperledger.besu.datatypes.Hash;
 import org.hyperledger.besu.ethereum.chain.Blockchain;
+import org.hyperledger.besu.ethereum.core.BlockBody;
+import org.hyperledger.besu.ethereum.core.BlockDataGenerator;
+import org.hyperledger.besu.ethereum.core.BlockHeader;
 import org.hyperledger.besu.ethereum.eth.EthProtocolConfiguration;
+import org.hyperledger.besu.ethereum.eth.messages.BlockBodiesMessage;
+import org.hyperledger.besu.ethereum.eth.messages.BlockHeadersMessage;
+import org.hyperledger.besu.ethereum.eth.messages.GetBlockBodiesMessage;
+import org.hyperledger.besu.ethereum.eth.messages.GetBlockHeadersMessage;
 import org.hyperledger.besu.ethereum.eth.messages.GetNodeDataMessage;
 import org.hyperledger.besu.ethereum.eth.messages.NodeDataMessage;
 import org.hyperledger.besu.ethereum.eth.transactions.TransactionPool;
+import org.hyperledger.besu.ethereum.rlp.RLP;
 import org.hyperledger.besu.ethereum.worldstate.WorldStateArchive;
 
 import java.util.Optional;
@@ -47,6 +55,7 @@ public class EthServerTest {
   private final TransactionPool transactionPool = mock(TransactionPool.class);
   private final EthPeer ethPeer = mock(EthPeer.class);
   private final EthMessages ethMessages = new EthMessages();
+  private final BlockDataGenerator generator = new BlockDataGenerator();
 
   @Before
   public void setUp() {
@@ -89,4 +98,53 @@ public class EthServerTest {
                 new EthMessage(ethPeer, GetNodeDataMessage.create(asList(HASH1, HASH2, HASH3)))))
         .contains(NodeDataMessage.create(singletonList(VALUE1)));
   }
+
+  @Test
+  public void shouldServeStoredBlockBodiesWithoutDecoding() {
+    final BlockBody body1 = generator.body();
+    final BlockBody body2 = generator.body();
+    when(blockchain.getBlockBodyRlp(HASH1)).thenReturn(Optional.of(RLP.encode(body1::writeTo)));
+    when(blockchain.getBlockBodyRlp(HASH2)).thenReturn(Optional.empty());
+    when(blockchain.getBlockBodyRlp(HASH3)).thenReturn(Optional.of(RLP.encode(body2::writeTo)));
+
+    assertThat(
+            EthServer.constructGetBodiesResponse(
+                blockchain, GetBlockBodiesMessage.create(asList(HASH1, HASH2, HASH3)), 10))
+        .isEqualTo(BlockBodiesMessage.create(asList(body1, body2)));
+  }
+
+  @Test
+  public void shouldLimitBlockBodiesResponseSize() {
+    final Bytes body1 = RLP.encode(generator.body()::writeTo);
+    final Bytes body2 = RLP.encode(generator.body()::writeTo);
+    final Bytes body3 = RLP.encode(generator.body()::writeTo);
+    when(blockchain.getBlockBodyRlp(HASH1)).thenReturn(Optional.of(body1));
+    when(blockchain.getBlockBodyRlp(HASH2)).thenReturn(Optional.of(body2));
+    when(blockchain.getBlockBodyRlp(HASH3)).thenReturn(Optional.of(body3));
+
+    // The body which crosses the limit is still included
+    assertThat(
+            EthServer.constructGetBodiesResponse(
+                blockchain,
+                GetBlockBodiesMessage.create(asList(HASH1, HASH2, HASH3)),
+                10,
+                body1.size() + 1))
+        .isEqualTo(BlockBodiesMessage.createFromRlp(asList(body1, body2)));
+  }
+
+  @Test
+  public void shouldLimitBlockHeadersResponseSize() {
+    final BlockHeader header0 = generator.header(0);
+    final BlockHeader header1 = generator.header(1);
+    final BlockHeader header2 = generator.header(2);
+    when(blockchain.getBlockHeaderRlp(0L)).thenReturn(Optional.of(RLP.encode(header0::writeTo)));
+    when(blockchain.getBlockHeaderRlp(1L)).thenReturn(Optional.of(RLP.encode(header1::writeTo)));
+    when(blockchain.getBlockHeaderRlp(2L)).thenReturn(Optional.of(RLP.encode(header2::writeTo)));
+    final GetBlockHeadersMessage request = GetBlockHeadersMessage.create(0, 3, 0, false);
+
+    assertThat(EthServer.constructGetHeadersResponse(blockchain, request, 10))
+        .isEqualTo(BlockHeadersMessage.create(header0, header1, header2));
+    assertThat(EthServer.constructGetHeadersResponse(blockchain, request, 10, 1))
+        .isEqualTo(BlockHeadersMessage.create(header0));
+  }
 }
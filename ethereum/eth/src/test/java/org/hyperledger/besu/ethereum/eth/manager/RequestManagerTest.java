@@ -273,6 +273,38 @@ public class RequestManagerTest {
     assertThat(receivedMessagesA.size() + receivedMessagesB.size()).isEqualTo(1);
   }
 
+  @Test
+  public void recordsResponseRate() throws Exception {
+    final EthPeer peer = createPeer();
+    final TestClock clock = new TestClock();
+    final RequestManager requestManager = new RequestManager(peer, false, EthProtocol.NAME, clock);
+
+    requestManager.dispatchRequest(__ -> {}, new RawMessage(0x01, Bytes.EMPTY));
+    clock.stepMillis(500);
+    final BytesValueRLPOutput response = new BytesValueRLPOutput();
+    response.startList();
+    response.writeBytes(Bytes.of(1));
+    response.writeBytes(Bytes.of(2));
+    response.writeBytes(Bytes.of(3));
+    response.endList();
+    requestManager.dispatchResponse(new EthMessage(peer, new RawMessage(1, response.encoded())));
+
+    final ResponseRateTracker responseRate = requestManager.getResponseRate();
+    assertThat(responseRate.getLatencyMillis()).isEqualTo(500);
+    assertThat(responseRate.getItemsPerSecond()).isEqualTo(6);
+  }
+
+  @Test
+  public void ignoresMalformedResponsesForResponseRate() throws Exception {
+    final EthPeer peer = createPeer();
+    final RequestManager requestManager = new RequestManager(peer, false, EthProtocol.NAME);
+
+    requestManager.dispatchRequest(__ -> {}, new RawMessage(0x01, Bytes.EMPTY));
+    requestManager.dispatchResponse(mockMessage(peer, false));
+
+    assertThat(requestManager.getResponseRate().hasMeasurements()).isFalse();
+  }
+
   private EthMessage mockMessage(final EthPeer peer, final boolean supportsRequestId) {
     if (!supportsRequestId) {
       return new EthMessage(peer, new RawMessage(1, Bytes.EMPTY));
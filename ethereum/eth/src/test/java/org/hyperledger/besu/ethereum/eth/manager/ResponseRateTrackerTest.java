@@ -0,0 +1,67 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.eth.manager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.time.Duration;
+
+import org.junit.Test;
+
+public class ResponseRateTrackerTest {
+
+  private final ResponseRateTracker tracker = new ResponseRateTracker();
+
+  @Test
+  public void shouldTreatUnmeasuredPeerAsFastest() {
+    assertThat(tracker.hasMeasurements()).isFalse();
+    assertThat(tracker.getItemsPerSecond()).isEqualTo(Double.POSITIVE_INFINITY);
+    assertThat(tracker.capacity(Duration.ofSeconds(2), 128)).isEqualTo(128);
+  }
+
+  @Test
+  public void shouldUseFirstResponseAsInitialEstimate() {
+    tracker.recordResponse(500, 2000, 10);
+
+    assertThat(tracker.getLatencyMillis()).isEqualTo(500);
+    assertThat(tracker.getBytesPerSecond()).isEqualTo(4000);
+    assertThat(tracker.getItemsPerSecond()).isEqualTo(20);
+  }
+
+  @Test
+  public void shouldSmoothLaterResponses() {
+    tracker.recordResponse(1000, 1000, 10);
+    tracker.recordResponse(1000, 1000, 50);
+
+    assertThat(tracker.getItemsPerSecond()).isCloseTo(20, within(0.001));
+  }
+
+  @Test
+  public void shouldSizeRequestsToPeerCapacity() {
+    tracker.recordResponse(1000, 1000, 10);
+
+    // 10 items/s for 2 seconds, plus some room to grow
+    assertThat(tracker.capacity(Duration.ofSeconds(2), 128)).isEqualTo(22);
+    assertThat(tracker.capacity(Duration.ofSeconds(2), 16)).isEqualTo(16);
+  }
+
+  @Test
+  public void shouldAlwaysAllowAtLeastOneItem() {
+    tracker.recordResponse(10_000, 10, 0);
+
+    assertThat(tracker.capacity(Duration.ofSeconds(2), 128)).isEqualTo(1);
+  }
+}
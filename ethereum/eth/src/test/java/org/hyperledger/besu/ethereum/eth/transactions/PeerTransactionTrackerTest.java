@@ -20,6 +20,9 @@ import static org.mockito.Mockito.mock;
 import org.hyperledger.besu.ethereum.core.BlockDataGenerator;
 import org.hyperledger.besu.ethereum.core.Transaction;
 import org.hyperledger.besu.ethereum.eth.manager.EthPeer;
+import org.hyperledger.besu.testutil.TestClock;
+
+import java.time.Duration;
 
 import com.google.common.collect.ImmutableSet;
 import org.junit.Test;
@@ -90,4 +93,36 @@ public class PeerTransactionTrackerTest {
     assertThat(tracker.claimTransactionsToSendToPeer(ethPeer1)).containsOnly(transaction1);
     assertThat(tracker.claimTransactionsToSendToPeer(ethPeer2)).containsOnly(transaction3);
   }
+
+  @Test
+  public void shouldRequeueClaimedTransactionsThatWereNotSent() {
+    tracker.addToPeerSendQueue(ethPeer1, transaction1);
+    tracker.addToPeerSendQueue(ethPeer1, transaction2);
+
+    assertThat(tracker.claimTransactionsToSendToPeer(ethPeer1))
+        .containsOnly(transaction1, transaction2);
+    assertThat(tracker.hasUnsentTransactions()).isFalse();
+
+    tracker.returnTransactionsToPeerSendQueue(ethPeer1, ImmutableSet.of(transaction2));
+    assertThat(tracker.hasUnsentTransactions()).isTrue();
+    assertThat(tracker.claimTransactionsToSendToPeer(ethPeer1)).containsOnly(transaction2);
+  }
+
+  @Test
+  public void shouldRefillSendBudgetOverTime() {
+    final TestClock clock = new TestClock();
+    final PeerTransactionTracker budgetedTracker =
+        new PeerTransactionTracker(1000, Duration.ofSeconds(1), clock);
+
+    assertThat(budgetedTracker.getAvailableSendBytes(ethPeer1)).isEqualTo(1000);
+    budgetedTracker.recordBytesSent(ethPeer1, 1500);
+    assertThat(budgetedTracker.getAvailableSendBytes(ethPeer1)).isEqualTo(-500);
+    assertThat(budgetedTracker.getAvailableSendBytes(ethPeer2)).isEqualTo(1000);
+
+    clock.stepMillis(600);
+    assertThat(budgetedTracker.getAvailableSendBytes(ethPeer1)).isEqualTo(100);
+
+    clock.stepMillis(5000);
+    assertThat(budgetedTracker.getAvailableSendBytes(ethPeer1)).isEqualTo(1000);
+  }
 }
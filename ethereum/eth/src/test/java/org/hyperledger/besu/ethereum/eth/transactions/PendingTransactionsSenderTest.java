@@ -14,6 +14,7 @@
  */
 package org.hyperledger.besu.ethereum.eth.transactions;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -30,9 +31,11 @@ import org.hyperledger.besu.ethereum.eth.manager.EthScheduler;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.stream.Stream;
 
 import org.apache.tuweni.bytes.Bytes32;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 
 public class PendingTransactionsSenderTest {
 
@@ -64,4 +67,32 @@ public class PendingTransactionsSenderTest {
     verify(peerPendingTransactionTracker, times(1)).addToPeerSendQueue(peer1, hash);
     verify(peerPendingTransactionTracker, never()).addToPeerSendQueue(peer2, hash);
   }
+
+  @Test
+  public void shouldCoalesceBatchesAddedBeforeSendRuns() {
+    final PeerPendingTransactionTracker peerPendingTransactionTracker =
+        mock(PeerPendingTransactionTracker.class);
+    final PendingTransactionsMessageSender pendingTransactionsMessageSender =
+        mock(PendingTransactionsMessageSender.class);
+    final EthContext ethContext = mock(EthContext.class);
+    final EthScheduler ethScheduler = mock(EthScheduler.class);
+    when(ethContext.getScheduler()).thenReturn(ethScheduler);
+    final EthPeers ethPeers = mock(EthPeers.class);
+    when(ethContext.getEthPeers()).thenReturn(ethPeers);
+    when(ethPeers.streamAvailablePeers()).thenAnswer(__ -> Stream.empty());
+    final PendingTransactionSender sender =
+        new PendingTransactionSender(
+            peerPendingTransactionTracker, pendingTransactionsMessageSender, ethContext);
+
+    sender.onTransactionsAdded(Collections.emptyList());
+    sender.onTransactionsAdded(Collections.emptyList());
+
+    final ArgumentCaptor<Runnable> sendTask = ArgumentCaptor.forClass(Runnable.class);
+    verify(ethScheduler, times(1)).scheduleSyncWorkerTask(sendTask.capture());
+    sendTask.getValue().run();
+    verify(pendingTransactionsMessageSender).sendTransactionsToPeers();
+
+    sender.onTransactionsAdded(Collections.emptyList());
+    verify(ethScheduler, times(2)).scheduleSyncWorkerTask(any(Runnable.class));
+  }
 }
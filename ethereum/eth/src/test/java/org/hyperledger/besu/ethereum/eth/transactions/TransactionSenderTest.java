@@ -0,0 +1,90 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.eth.transactions;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.hyperledger.besu.ethereum.eth.manager.EthContext;
+import org.hyperledger.besu.ethereum.eth.manager.EthPeers;
+import org.hyperledger.besu.ethereum.eth.manager.EthScheduler;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.stream.Stream;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+public class TransactionSenderTest {
+
+  private final PeerTransactionTracker transactionTracker = mock(PeerTransactionTracker.class);
+  private final TransactionsMessageSender transactionsMessageSender =
+      mock(TransactionsMessageSender.class);
+  private final EthContext ethContext = mock(EthContext.class);
+  private final EthScheduler ethScheduler = mock(EthScheduler.class);
+  private final TransactionSender sender =
+      new TransactionSender(transactionTracker, transactionsMessageSender, ethContext);
+
+  @Before
+  public void setUp() {
+    final EthPeers ethPeers = mock(EthPeers.class);
+    when(ethContext.getEthPeers()).thenReturn(ethPeers);
+    when(ethContext.getScheduler()).thenReturn(ethScheduler);
+    when(ethPeers.streamAvailablePeers()).thenAnswer(__ -> Stream.empty());
+  }
+
+  @Test
+  public void shouldScheduleAnotherSendWhenTransactionsWereDeferred() {
+    when(transactionTracker.hasUnsentTransactions()).thenReturn(true);
+
+    sender.onTransactionsAdded(Collections.emptyList());
+    runScheduledSend(1);
+
+    final ArgumentCaptor<Runnable> deferredSend = ArgumentCaptor.forClass(Runnable.class);
+    verify(ethScheduler).scheduleFutureTask(deferredSend.capture(), eq(Duration.ofMillis(500)));
+    verify(ethScheduler, times(1)).scheduleSyncWorkerTask(any(Runnable.class));
+
+    when(transactionTracker.hasUnsentTransactions()).thenReturn(false);
+    deferredSend.getValue().run();
+    runScheduledSend(2);
+
+    verify(transactionsMessageSender, times(2)).sendTransactionsToPeers();
+    verify(ethScheduler, times(1)).scheduleFutureTask(any(Runnable.class), any(Duration.class));
+  }
+
+  @Test
+  public void shouldNotScheduleAnotherSendWhenAllTransactionsWereSent() {
+    when(transactionTracker.hasUnsentTransactions()).thenReturn(false);
+
+    sender.onTransactionsAdded(Collections.emptyList());
+    runScheduledSend(1);
+
+    verify(transactionsMessageSender).sendTransactionsToPeers();
+    verify(ethScheduler, never()).scheduleFutureTask(any(Runnable.class), any(Duration.class));
+  }
+
+  private void runScheduledSend(final int expectedSends) {
+    final ArgumentCaptor<Runnable> sendTask = ArgumentCaptor.forClass(Runnable.class);
+    verify(ethScheduler, times(expectedSends)).scheduleSyncWorkerTask(sendTask.capture());
+    sendTask.getValue().run();
+  }
+}
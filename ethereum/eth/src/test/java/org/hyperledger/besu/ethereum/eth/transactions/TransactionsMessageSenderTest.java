@@ -16,6 +16,7 @@ package org.hyperledger.besu.ethereum.eth.transactions;
 
 import static com.google.common.collect.Sets.newHashSet;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -28,7 +29,9 @@ import org.hyperledger.besu.ethereum.eth.manager.EthPeer;
 import org.hyperledger.besu.ethereum.eth.messages.EthPV62;
 import org.hyperledger.besu.ethereum.eth.messages.TransactionsMessage;
 import org.hyperledger.besu.ethereum.p2p.rlpx.wire.MessageData;
+import org.hyperledger.besu.testutil.TestClock;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Set;
 
@@ -99,4 +102,39 @@ public class TransactionsMessageSenderTest {
     final TransactionsMessage transactionsMessage = TransactionsMessage.readFrom(message);
     return newHashSet(transactionsMessage.transactions());
   }
+
+  @Test
+  public void shouldDeferTransactionsOverPeerBudgetUntilItRefills() throws Exception {
+    final TestClock clock = new TestClock();
+    final PeerTransactionTracker budgetedTransactionTracker =
+        new PeerTransactionTracker(1, Duration.ofSeconds(1), clock);
+    final TransactionsMessageSender budgetedMessageSender =
+        new TransactionsMessageSender(budgetedTransactionTracker);
+    final Set<Transaction> transactions = generator.transactions(6000);
+    transactions.forEach(
+        transaction -> budgetedTransactionTracker.addToPeerSendQueue(peer1, transaction));
+
+    budgetedMessageSender.sendTransactionsToPeers();
+    verify(peer1, times(1)).send(any());
+    assertThat(budgetedTransactionTracker.hasUnsentTransactions()).isTrue();
+
+    // The budget is overdrawn by the first message, so nothing is sent until it has refilled
+    clock.stepMillis(500);
+    budgetedMessageSender.sendTransactionsToPeers();
+    verify(peer1, times(1)).send(any());
+
+    clock.stepMillis(500);
+    budgetedMessageSender.sendTransactionsToPeers();
+    final ArgumentCaptor<MessageData> messageDataArgumentCaptor =
+        ArgumentCaptor.forClass(MessageData.class);
+    verify(peer1, times(2)).send(messageDataArgumentCaptor.capture());
+    assertThat(budgetedTransactionTracker.hasUnsentTransactions()).isFalse();
+
+    final List<MessageData> sentMessages = messageDataArgumentCaptor.getAllValues();
+    assertThat(
+            Sets.union(
+                getTransactionsFromMessage(sentMessages.get(0)),
+                getTransactionsFromMessage(sentMessages.get(1))))
+        .isEqualTo(transactions);
+  }
 }
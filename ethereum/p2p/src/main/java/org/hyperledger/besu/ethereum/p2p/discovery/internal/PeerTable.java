@@ -15,7 +15,6 @@
 package org.hyperledger.besu.ethereum.p2p.discovery.internal;
 
 import static java.util.Comparator.comparingInt;
-import static java.util.stream.Collectors.toList;
 
 import org.hyperledger.besu.crypto.Hash;
 import org.hyperledger.besu.ethereum.p2p.discovery.DiscoveryPeer;
@@ -24,6 +23,7 @@ import org.hyperledger.besu.ethereum.p2p.discovery.internal.PeerTable.AddResult.
 import org.hyperledger.besu.ethereum.p2p.peers.Peer;
 import org.hyperledger.besu.ethereum.p2p.peers.PeerId;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -34,6 +34,7 @@ import java.util.stream.Stream;
 
 import com.google.common.hash.BloomFilter;
 import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
 
 /**
  * Implements a Kademlia routing table based on k-buckets with a keccak-256 XOR-based distance
@@ -191,13 +192,37 @@ public class PeerTable {
    * @return The <code>limit</code> closest peers, at most.
    */
   public List<DiscoveryPeer> nearestPeers(final Bytes target, final int limit) {
-    final Bytes keccak256 = Hash.keccak256(target);
-    return streamAllPeers()
-        .filter(p -> p.getStatus() == PeerDiscoveryStatus.BONDED)
-        .sorted(
-            comparingInt((peer) -> PeerDistanceCalculator.distance(peer.keccak256(), keccak256)))
-        .limit(limit)
-        .collect(toList());
+    final Bytes32 targetKeccak256 = Hash.keccak256(target);
+    final int targetDistance = PeerDistanceCalculator.distance(keccak256, targetKeccak256);
+
+    // A peer in bucket i is at distance i from the target when i > targetDistance, at distance
+    // targetDistance when i < targetDistance, and closer than that when i == targetDistance. So
+    // the nearest peers are found by walking the buckets outwards from the target's bucket, rather
+    // than by sorting every peer in the table.
+    final List<DiscoveryPeer> nearest = new ArrayList<>(limit);
+    final List<DiscoveryPeer> targetBucket = new ArrayList<>(table[targetDistance].getPeers());
+    targetBucket.sort(
+        comparingInt(peer -> PeerDistanceCalculator.distance(peer.keccak256(), targetKeccak256)));
+    addBondedPeers(nearest, targetBucket, limit);
+    for (int i = 1; i < targetDistance && nearest.size() < limit; i++) {
+      addBondedPeers(nearest, table[i].getPeers(), limit);
+    }
+    for (int i = targetDistance + 1; i <= N_BUCKETS && nearest.size() < limit; i++) {
+      addBondedPeers(nearest, table[i].getPeers(), limit);
+    }
+    return nearest;
+  }
+
+  private static void addBondedPeers(
+      final List<DiscoveryPeer> nearest, final List<DiscoveryPeer> peers, final int limit) {
+    for (final DiscoveryPeer peer : peers) {
+      if (nearest.size() >= limit) {
+        return;
+      }
+      if (peer.getStatus() == PeerDiscoveryStatus.BONDED) {
+        nearest.add(peer);
+      }
+    }
   }
 
   public Stream<DiscoveryPeer> streamAllPeers() {
@@ -37,6 +37,7 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.SimpleChannelInboundHandler;
 import io.netty.handler.codec.ByteToMessageDecoder;
 import io.netty.handler.codec.MessageToByteEncoder;
+import io.netty.util.concurrent.EventExecutorGroup;
 import org.apache.tuweni.bytes.Bytes;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -60,6 +61,8 @@ abstract class AbstractHandshakeHandler extends SimpleChannelInboundHandler<Byte
 
   private final FramerProvider framerProvider;
 
+  private final EventExecutorGroup deframers;
+
   AbstractHandshakeHandler(
       final List<SubProtocol> subProtocols,
       final LocalNode localNode,
@@ -68,7 +71,8 @@ abstract class AbstractHandshakeHandler extends SimpleChannelInboundHandler<Byte
       final PeerConnectionEventDispatcher connectionEventDispatcher,
       final MetricsSystem metricsSystem,
       final HandshakerProvider handshakerProvider,
-      final FramerProvider framerProvider) {
+      final FramerProvider framerProvider,
+      final EventExecutorGroup deframers) {
     this.subProtocols = subProtocols;
     this.localNode = localNode;
     this.expectedPeer = expectedPeer;
@@ -77,6 +81,7 @@ abstract class AbstractHandshakeHandler extends SimpleChannelInboundHandler<Byte
     this.metricsSystem = metricsSystem;
     this.handshaker = handshakerProvider.buildInstance();
     this.framerProvider = framerProvider;
+    this.deframers = deframers;
   }
 
   /**
@@ -119,10 +124,17 @@ abstract class AbstractHandshakeHandler extends SimpleChannelInboundHandler<Byte
               connectionFuture,
               metricsSystem);
 
+      // Incoming frames are processed on the deframers, rather than on the channel's event loop.
+      // The backlog stops reading from the peer while too much is queued for them.
+      final DeFramerBacklog backlog =
+          new DeFramerBacklog(DeFramerBacklog.DEFAULT_MAX_BACKLOG_BYTES);
       ctx.channel()
           .pipeline()
-          .replace(this, "DeFramer", deFramer)
-          .addBefore("DeFramer", "validate", new ValidateFirstOutboundMessage(framer));
+          .addAfter(ctx.name(), "DeFramerEnqueue", backlog.enqueueHandler())
+          .addAfter(deframers, "DeFramerEnqueue", "DeFramerDequeue", backlog.dequeueHandler())
+          .addAfter(deframers, "DeFramerDequeue", "DeFramer", deFramer)
+          .addBefore("DeFramer", "validate", new ValidateFirstOutboundMessage(framer))
+          .remove(this);
 
       ctx.writeAndFlush(new OutboundMessage(null, HelloMessage.create(localNode.getPeerInfo())))
           .addListener(
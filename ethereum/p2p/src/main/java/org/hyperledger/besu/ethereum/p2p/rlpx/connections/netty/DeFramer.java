@@ -38,6 +38,7 @@ import org.hyperledger.besu.metrics.BesuMetricCategory;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.Counter;
 import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
 
 import java.io.IOException;
 import java.net.InetSocketAddress;
@@ -70,6 +71,7 @@ final class DeFramer extends ByteToMessageDecoder {
   private final List<SubProtocol> subProtocols;
   private boolean hellosExchanged;
   private final LabelledMetric<Counter> outboundMessagesCounter;
+  private final OperationTimer deframeTimer;
 
   DeFramer(
       final Framer framer,
@@ -93,12 +95,17 @@ final class DeFramer extends ByteToMessageDecoder {
             "protocol",
             "name",
             "code");
+    this.deframeTimer =
+        metricsSystem.createTimer(
+            BesuMetricCategory.NETWORK,
+            "p2p_frame_deframe_latency_seconds",
+            "Time spent authenticating, decrypting and decompressing an incoming message");
   }
 
   @Override
   protected void decode(final ChannelHandlerContext ctx, final ByteBuf in, final List<Object> out) {
     MessageData message;
-    while ((message = framer.deframe(in)) != null) {
+    while ((message = deframe(in)) != null) {
 
       if (hellosExchanged) {
         out.add(message);
@@ -193,6 +200,16 @@ final class DeFramer extends ByteToMessageDecoder {
     }
   }
 
+  private MessageData deframe(final ByteBuf in) {
+    // Only calls that complete a message are timed, partial frames are just buffered
+    final OperationTimer.TimingContext timingContext = deframeTimer.startTimer();
+    final MessageData message = framer.deframe(in);
+    if (message != null) {
+      timingContext.stopTimer();
+    }
+    return message;
+  }
+
   private Peer createPeer(final PeerInfo peerInfo, final ChannelHandlerContext ctx) {
     final InetSocketAddress remoteAddress = ((InetSocketAddress) ctx.channel().remoteAddress());
     int port = peerInfo.getPort();
@@ -0,0 +1,83 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.p2p.rlpx.connections.netty;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+
+/**
+ * Stops reading from a connection while too many of its bytes are queued for the deframers. The
+ * deframers run on their own executor group, whose task queue would otherwise grow with everything
+ * a peer sends faster than it can be authenticated and decrypted.
+ *
+ * <p>{@link #enqueueHandler()} counts bytes on the channel's event loop as they are handed to the
+ * deframers, and {@link #dequeueHandler()} counts them again on the deframer thread as they are
+ * taken off its queue. Reading resumes once the backlog is down to half the limit.
+ */
+final class DeFramerBacklog {
+
+  static final int DEFAULT_MAX_BACKLOG_BYTES = 1024 * 1024;
+
+  private final int maxBacklogBytes;
+  private long backlogBytes = 0;
+  private boolean paused = false;
+
+  DeFramerBacklog(final int maxBacklogBytes) {
+    this.maxBacklogBytes = maxBacklogBytes;
+  }
+
+  ChannelHandler enqueueHandler() {
+    return new ChannelInboundHandlerAdapter() {
+      @Override
+      public void channelRead(final ChannelHandlerContext ctx, final Object msg) {
+        if (msg instanceof ByteBuf) {
+          enqueued(ctx.channel(), ((ByteBuf) msg).readableBytes());
+        }
+        ctx.fireChannelRead(msg);
+      }
+    };
+  }
+
+  ChannelHandler dequeueHandler() {
+    return new ChannelInboundHandlerAdapter() {
+      @Override
+      public void channelRead(final ChannelHandlerContext ctx, final Object msg) {
+        if (msg instanceof ByteBuf) {
+          dequeued(ctx.channel(), ((ByteBuf) msg).readableBytes());
+        }
+        ctx.fireChannelRead(msg);
+      }
+    };
+  }
+
+  synchronized void enqueued(final Channel channel, final int bytes) {
+    backlogBytes += bytes;
+    if (!paused && backlogBytes > maxBacklogBytes) {
+      paused = true;
+      channel.config().setAutoRead(false);
+    }
+  }
+
+  synchronized void dequeued(final Channel channel, final int bytes) {
+    backlogBytes -= bytes;
+    if (paused && backlogBytes <= maxBacklogBytes / 2) {
+      paused = false;
+      channel.config().setAutoRead(true);
+    }
+  }
+}
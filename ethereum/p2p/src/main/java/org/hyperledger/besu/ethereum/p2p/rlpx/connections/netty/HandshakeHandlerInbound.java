@@ -29,6 +29,7 @@ import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.util.concurrent.EventExecutorGroup;
 
 final class HandshakeHandlerInbound extends AbstractHandshakeHandler {
 
@@ -40,7 +41,8 @@ final class HandshakeHandlerInbound extends AbstractHandshakeHandler {
       final PeerConnectionEventDispatcher connectionEventDispatcher,
       final MetricsSystem metricsSystem,
       final HandshakerProvider handshakerProvider,
-      final FramerProvider framerProvider) {
+      final FramerProvider framerProvider,
+      final EventExecutorGroup deframers) {
     super(
         subProtocols,
         localNode,
@@ -49,7 +51,8 @@ final class HandshakeHandlerInbound extends AbstractHandshakeHandler {
         connectionEventDispatcher,
         metricsSystem,
         handshakerProvider,
-        framerProvider);
+        framerProvider,
+        deframers);
     handshaker.prepareResponder(nodeKey);
   }
 
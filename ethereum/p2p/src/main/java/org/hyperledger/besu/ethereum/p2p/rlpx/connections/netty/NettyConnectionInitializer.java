@@ -54,6 +54,9 @@ import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.util.concurrent.DefaultEventExecutorGroup;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import io.netty.util.concurrent.EventExecutorGroup;
 import io.netty.util.concurrent.SingleThreadEventExecutor;
 import org.jetbrains.annotations.NotNull;
 
@@ -61,6 +64,8 @@ public class NettyConnectionInitializer
     implements ConnectionInitializer, HandshakerProvider, FramerProvider {
 
   private static final int TIMEOUT_SECONDS = 10;
+  private static final int DEFRAMER_THREADS =
+      Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
 
   private final NodeKey nodeKey;
   private final RlpxConfiguration config;
@@ -72,6 +77,10 @@ public class NettyConnectionInitializer
   private ChannelFuture server;
   private final EventLoopGroup boss = new NioEventLoopGroup(1);
   private final EventLoopGroup workers = new NioEventLoopGroup(10);
+  // Authenticates, decrypts and decompresses incoming frames off the workers event loop. Each
+  // connection is pinned to a single deframer thread, so its frames stay in order.
+  private final EventExecutorGroup deframers =
+      new DefaultEventExecutorGroup(DEFRAMER_THREADS, new DefaultThreadFactory("rlpx-deframer"));
   private final AtomicBoolean started = new AtomicBoolean(false);
   private final AtomicBoolean stopped = new AtomicBoolean(false);
 
@@ -98,6 +107,12 @@ public class NettyConnectionInitializer
         "netty_boss_pending_tasks",
         "The number of pending tasks in the Netty boss event loop",
         pendingTaskCounter(boss));
+
+    metricsSystem.createIntegerGauge(
+        BesuMetricCategory.NETWORK,
+        "netty_deframers_pending_tasks",
+        "The number of pending tasks in the Netty deframers executor",
+        pendingTaskCounter(deframers));
   }
 
   @Override
@@ -147,6 +162,7 @@ public class NettyConnectionInitializer
 
     workers.shutdownGracefully();
     boss.shutdownGracefully();
+    deframers.shutdownGracefully();
     server
         .channel()
         .closeFuture()
@@ -240,7 +256,8 @@ public class NettyConnectionInitializer
         eventDispatcher,
         metricsSystem,
         this,
-        this);
+        this,
+        deframers);
   }
 
   @NotNull
@@ -255,7 +272,8 @@ public class NettyConnectionInitializer
         eventDispatcher,
         metricsSystem,
         this,
-        this);
+        this,
+        deframers);
   }
 
   @NotNull
@@ -273,9 +291,9 @@ public class NettyConnectionInitializer
   void addAdditionalInboundHandlers(final Channel ch)
       throws GeneralSecurityException, IOException {}
 
-  private IntSupplier pendingTaskCounter(final EventLoopGroup eventLoopGroup) {
+  private IntSupplier pendingTaskCounter(final EventExecutorGroup eventExecutorGroup) {
     return () ->
-        StreamSupport.stream(eventLoopGroup.spliterator(), false)
+        StreamSupport.stream(eventExecutorGroup.spliterator(), false)
             .filter(eventExecutor -> eventExecutor instanceof SingleThreadEventExecutor)
             .mapToInt(eventExecutor -> ((SingleThreadEventExecutor) eventExecutor).pendingTasks())
             .sum();
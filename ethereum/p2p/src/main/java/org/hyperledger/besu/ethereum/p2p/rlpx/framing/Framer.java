@@ -77,20 +77,26 @@ public class Framer {
 
   private final HandshakeSecrets secrets;
   private static final SnappyCompressor compressor = new SnappyCompressor();
+  // Incoming and outgoing frames use separate ciphers and MAC states, so they are guarded by
+  // separate locks: deframing a large message doesn't hold up framing on another thread.
+  private final Object ingressLock = new Object();
+  private final Object egressLock = new Object();
   private final StreamCipher encryptor;
   private final StreamCipher decryptor;
-  private final BlockCipher macEncryptor;
+  private final BlockCipher egressMacEncryptor;
+  private final BlockCipher ingressMacEncryptor;
   private boolean headerProcessed;
   private int frameSize;
-  private boolean compressionEnabled = false;
+  private volatile boolean compressionEnabled = false;
   // have we ever successfully uncompressed a packet?
-  private boolean compressionSuccessful = false;
+  private volatile boolean compressionSuccessful = false;
 
   protected Framer() {
     this.secrets = null;
     this.encryptor = null;
     this.decryptor = null;
-    this.macEncryptor = null;
+    this.egressMacEncryptor = null;
+    this.ingressMacEncryptor = null;
   }
 
   /**
@@ -110,8 +116,11 @@ public class Framer {
     decryptor = new SICBlockCipher(new AESEngine());
     decryptor.init(false, new ParametersWithIV(aesKey, IV));
 
-    macEncryptor = new AESEngine();
-    macEncryptor.init(true, macKey);
+    egressMacEncryptor = new AESEngine();
+    egressMacEncryptor.init(true, macKey);
+
+    ingressMacEncryptor = new AESEngine();
+    ingressMacEncryptor.init(true, macKey);
   }
 
   public void enableCompression() {
@@ -156,30 +165,32 @@ public class Framer {
    *     could be extracted yet.
    * @throws FramingException Thrown when a decryption or internal error occurs.
    */
-  public synchronized MessageData deframe(final ByteBuf buf) throws FramingException {
+  public MessageData deframe(final ByteBuf buf) throws FramingException {
     if (buf == null || !buf.isReadable()) {
       return null;
     }
 
-    if (!headerProcessed) {
-      // We don't have enough bytes to read the header.
-      if (buf.readableBytes() < LENGTH_FULL_HEADER) {
+    synchronized (ingressLock) {
+      if (!headerProcessed) {
+        // We don't have enough bytes to read the header.
+        if (buf.readableBytes() < LENGTH_FULL_HEADER) {
+          return null;
+        }
+        frameSize = processHeader(buf.readSlice(LENGTH_FULL_HEADER));
+        headerProcessed = true;
+        buf.discardReadBytes();
+      }
+
+      final int size = frameSize + padding16(frameSize) + LENGTH_MAC;
+      if (buf.readableBytes() < size) {
         return null;
       }
-      frameSize = processHeader(buf.readSlice(LENGTH_FULL_HEADER));
-      headerProcessed = true;
-      buf.discardReadBytes();
-    }
 
-    final int size = frameSize + padding16(frameSize) + LENGTH_MAC;
-    if (buf.readableBytes() < size) {
-      return null;
+      final MessageData msg = processFrame(buf.readSlice(size), frameSize);
+      buf.discardReadBytes();
+      headerProcessed = false;
+      return msg;
     }
-
-    final MessageData msg = processFrame(buf.readSlice(size), frameSize);
-    buf.discardReadBytes();
-    headerProcessed = false;
-    return msg;
   }
 
   /**
@@ -206,7 +217,7 @@ public class Framer {
 
     // Header MAC validation.
     byte[] expectedMac = new byte[16];
-    macEncryptor.processBlock(secrets.getIngressMac(), 0, expectedMac, 0);
+    ingressMacEncryptor.processBlock(secrets.getIngressMac(), 0, expectedMac, 0);
     expectedMac = secrets.updateIngress(xor(expectedMac, hCipher)).getIngressMac();
     expectedMac = Arrays.copyOf(expectedMac, LENGTH_MAC);
 
@@ -269,7 +280,7 @@ public class Framer {
     // Validate the frame's MAC.
     final byte[] fMacSeed = secrets.updateIngress(frameData).getIngressMac();
     final byte[] fMacSeedEnc = new byte[16];
-    macEncryptor.processBlock(fMacSeed, 0, fMacSeedEnc, 0);
+    ingressMacEncryptor.processBlock(fMacSeed, 0, fMacSeedEnc, 0);
     byte[] expectedMac = secrets.updateIngress(xor(fMacSeedEnc, fMacSeed)).getIngressMac();
     expectedMac = Arrays.copyOf(expectedMac, LENGTH_MAC);
 
@@ -285,14 +296,17 @@ public class Framer {
     // Write message data to ByteBuf, decompressing as necessary
     final Bytes data;
     if (compressionEnabled) {
-      final byte[] compressedMessageData = Arrays.copyOfRange(frameData, 1, frameData.length - pad);
-      final int uncompressedLength = compressor.uncompressedLength(compressedMessageData);
+      // Decompress straight from the frame, skipping the message id and the padding
+      final int compressedLength = frameData.length - pad - LENGTH_MESSAGE_ID;
+      final int uncompressedLength =
+          compressor.uncompressedLength(frameData, LENGTH_MESSAGE_ID, compressedLength);
       if (uncompressedLength >= LENGTH_MAX_MESSAGE_FRAME) {
         throw error("Message size %s in excess of maximum length.", uncompressedLength);
       }
       Bytes _data;
       try {
-        final byte[] decompressedMessageData = compressor.decompress(compressedMessageData);
+        final byte[] decompressedMessageData =
+            compressor.decompress(frameData, LENGTH_MESSAGE_ID, compressedLength);
         _data = Bytes.wrap(decompressedMessageData);
         compressionSuccessful = true;
       } catch (final FramingException fe) {
@@ -332,18 +346,22 @@ public class Framer {
    * @param message The message to frame.
    * @param output The {@link ByteBuf} to write framed data to.
    */
-  public synchronized void frame(final MessageData message, final ByteBuf output) {
+  public void frame(final MessageData message, final ByteBuf output) {
     Preconditions.checkArgument(
         message.getSize() < LENGTH_MAX_MESSAGE_FRAME, "Message size in excess of maximum length.");
     // Compress message
+    final MessageData frameData;
     if (compressionEnabled) {
       // Extract data from message
       // Compress data
       final byte[] compressed = compressor.compress(message.getData().toArrayUnsafe());
       // Construct new, compressed message
-      frameMessage(new RawMessage(message.getCode(), Bytes.wrap(compressed)), output);
+      frameData = new RawMessage(message.getCode(), Bytes.wrap(compressed));
     } else {
-      frameMessage(message, output);
+      frameData = message;
+    }
+    synchronized (egressLock) {
+      frameMessage(frameData, output);
     }
   }
 
@@ -365,7 +383,7 @@ public class Framer {
 
     // Generate the header MAC.
     byte[] hMac = Arrays.copyOf(secrets.getEgressMac(), LENGTH_MAC);
-    macEncryptor.processBlock(hMac, 0, hMac, 0);
+    egressMacEncryptor.processBlock(hMac, 0, hMac, 0);
     hMac = secrets.updateEgress(xor(h, hMac)).getEgressMac();
     hMac = Arrays.copyOf(hMac, LENGTH_MAC);
     buf.writeBytes(h).writeBytes(hMac);
@@ -385,7 +403,7 @@ public class Framer {
     final byte[] fMacSeed =
         Arrays.copyOf(secrets.updateEgress(f.toArrayUnsafe()).getEgressMac(), LENGTH_MAC);
     byte[] fMac = new byte[16];
-    macEncryptor.processBlock(fMacSeed, 0, fMac, 0);
+    egressMacEncryptor.processBlock(fMacSeed, 0, fMac, 0);
     fMac = Arrays.copyOf(secrets.updateEgress(xor(fMac, fMacSeed)).getEgressMac(), LENGTH_MAC);
 
     buf.writeBytes(f.toArrayUnsafe()).writeBytes(fMac);
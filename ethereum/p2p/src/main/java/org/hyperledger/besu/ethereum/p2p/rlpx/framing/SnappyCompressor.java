@@ -45,6 +45,25 @@ public class SnappyCompressor {
     }
   }
 
+  /**
+   * Decompresses part of an array, without copying it first.
+   *
+   * @param compressed the array containing the compressed data
+   * @param offset the offset of the compressed data
+   * @param length the length of the compressed data
+   * @return the decompressed data
+   */
+  public byte[] decompress(final byte[] compressed, final int offset, final int length) {
+    checkNotNull(compressed, "input data must not be null");
+    try {
+      final byte[] uncompressed = new byte[Snappy.uncompressedLength(compressed, offset, length)];
+      Snappy.uncompress(compressed, offset, length, uncompressed, 0);
+      return uncompressed;
+    } catch (final IOException e) {
+      throw new FramingException("Snappy decompression failed", e);
+    }
+  }
+
   public int uncompressedLength(final byte[] compressed) {
     checkNotNull(compressed, "input data must not be null");
     try {
@@ -53,4 +72,13 @@ public class SnappyCompressor {
       throw new FramingException("Snappy uncompressedLength failed", e);
     }
   }
+
+  public int uncompressedLength(final byte[] compressed, final int offset, final int length) {
+    checkNotNull(compressed, "input data must not be null");
+    try {
+      return Snappy.uncompressedLength(compressed, offset, length);
+    } catch (final IOException e) {
+      throw new FramingException("Snappy uncompressedLength failed", e);
+    }
+  }
 }
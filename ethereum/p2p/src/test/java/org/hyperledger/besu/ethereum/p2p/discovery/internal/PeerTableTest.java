@@ -16,10 +16,12 @@ package org.hyperledger.besu.ethereum.p2p.discovery.internal;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import org.hyperledger.besu.crypto.Hash;
 import org.hyperledger.besu.crypto.SignatureAlgorithm;
 import org.hyperledger.besu.crypto.SignatureAlgorithmFactory;
 import org.hyperledger.besu.ethereum.p2p.discovery.DiscoveryPeer;
 import org.hyperledger.besu.ethereum.p2p.discovery.Endpoint;
+import org.hyperledger.besu.ethereum.p2p.discovery.PeerDiscoveryStatus;
 import org.hyperledger.besu.ethereum.p2p.discovery.PeerDiscoveryTestHelper;
 import org.hyperledger.besu.ethereum.p2p.discovery.internal.PeerTable.AddResult.AddOutcome;
 import org.hyperledger.besu.ethereum.p2p.discovery.internal.PeerTable.EvictResult;
@@ -29,10 +31,12 @@ import org.hyperledger.besu.ethereum.p2p.peers.Peer;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import com.google.common.base.Supplier;
 import com.google.common.base.Suppliers;
 import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
 import org.junit.Test;
 
 public class PeerTableTest {
@@ -184,4 +188,34 @@ public class PeerTableTest {
     final EvictResult evictResult = table.tryEvict(peer);
     assertThat(evictResult.getOutcome()).isEqualTo(EvictOutcome.SELF);
   }
+
+  @Test
+  public void nearestPeersShouldReturnClosestBondedPeers() {
+    final PeerTable table = new PeerTable(Peer.randomId(), 16);
+    final List<DiscoveryPeer> peers = helper.createDiscoveryPeers(200);
+    for (int i = 0; i < peers.size(); i++) {
+      peers.get(i).setStatus(i % 3 == 0 ? PeerDiscoveryStatus.KNOWN : PeerDiscoveryStatus.BONDED);
+      table.tryAdd(peers.get(i));
+    }
+
+    final List<Bytes> targets =
+        List.of(Peer.randomId(), peers.get(1).getId(), peers.get(3).getId());
+    for (final Bytes target : targets) {
+      final Bytes32 targetKeccak256 = Hash.keccak256(target);
+      final List<Integer> expectedDistances =
+          table
+              .streamAllPeers()
+              .filter(peer -> peer.getStatus() == PeerDiscoveryStatus.BONDED)
+              .map(peer -> PeerDistanceCalculator.distance(peer.keccak256(), targetKeccak256))
+              .sorted()
+              .limit(16)
+              .collect(Collectors.toList());
+
+      final List<DiscoveryPeer> nearest = table.nearestPeers(target, 16);
+      assertThat(nearest)
+          .extracting(peer -> PeerDistanceCalculator.distance(peer.keccak256(), targetKeccak256))
+          .containsExactlyElementsOf(expectedDistances);
+      assertThat(nearest).allMatch(peer -> peer.getStatus() == PeerDiscoveryStatus.BONDED);
+    }
+  }
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.p2p.rlpx.connections.netty;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.Test;
+
+public class DeFramerBacklogTest {
+
+  private final DeFramerBacklog backlog = new DeFramerBacklog(100);
+  private final EmbeddedChannel channel = new EmbeddedChannel();
+
+  @Test
+  public void stopsReadingWhenTheBacklogExceedsTheLimit() {
+    backlog.enqueued(channel, 60);
+    assertThat(channel.config().isAutoRead()).isTrue();
+
+    backlog.enqueued(channel, 60);
+    assertThat(channel.config().isAutoRead()).isFalse();
+  }
+
+  @Test
+  public void resumesReadingOnceTheBacklogIsDownToHalfTheLimit() {
+    backlog.enqueued(channel, 60);
+    backlog.enqueued(channel, 60);
+
+    backlog.dequeued(channel, 60);
+    assertThat(channel.config().isAutoRead()).isFalse();
+
+    backlog.dequeued(channel, 60);
+    assertThat(channel.config().isAutoRead()).isTrue();
+  }
+
+  @Test
+  public void enqueueHandlerCountsTheBytesItPassesOn() {
+    final EmbeddedChannel handlerChannel = new EmbeddedChannel(backlog.enqueueHandler());
+
+    handlerChannel.writeInbound(Unpooled.wrappedBuffer(new byte[150]));
+
+    assertThat(handlerChannel.config().isAutoRead()).isFalse();
+    final ByteBuf passedOn = handlerChannel.readInbound();
+    assertThat(passedOn.readableBytes()).isEqualTo(150);
+    passedOn.release();
+  }
+}
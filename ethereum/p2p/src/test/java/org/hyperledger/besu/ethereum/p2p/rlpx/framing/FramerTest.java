@@ -33,6 +33,10 @@ import org.hyperledger.besu.ethereum.p2p.rlpx.wire.messages.DisconnectMessage.Di
 import java.io.IOException;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -271,6 +275,55 @@ public class FramerTest {
     assertThat(receivingFramer.isCompressionSuccessful()).isTrue();
   }
 
+  @Test
+  public void framesAndDeframesConcurrently() throws Exception {
+    final Framer localFramer = new Framer(testSecrets());
+    final Framer remoteFramer = new Framer(testSecrets());
+    final int messageCount = 200;
+
+    final ByteBuf incoming = Unpooled.buffer();
+    for (int i = 0; i < messageCount; i++) {
+      remoteFramer.frame(new RawMessage(0x10, Bytes.ofUnsignedInt(i)), incoming);
+    }
+
+    // Deframe incoming messages while framing outgoing ones on another thread
+    final ByteBuf outgoing = Unpooled.buffer();
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      final Future<?> framing =
+          executor.submit(
+              () -> {
+                for (int i = 0; i < messageCount; i++) {
+                  localFramer.frame(new RawMessage(0x11, Bytes.ofUnsignedInt(i)), outgoing);
+                }
+              });
+      for (int i = 0; i < messageCount; i++) {
+        final MessageData message = localFramer.deframe(incoming);
+        assertThat(message.getCode()).isEqualTo(0x10);
+        assertThat(message.getData()).isEqualTo(Bytes.ofUnsignedInt(i));
+      }
+      framing.get(10, TimeUnit.SECONDS);
+    } finally {
+      executor.shutdownNow();
+    }
+
+    for (int i = 0; i < messageCount; i++) {
+      final MessageData message = remoteFramer.deframe(outgoing);
+      assertThat(message.getCode()).isEqualTo(0x11);
+      assertThat(message.getData()).isEqualTo(Bytes.ofUnsignedInt(i));
+    }
+  }
+
+  private HandshakeSecrets testSecrets() {
+    return new HandshakeSecrets(
+        Bytes.fromHexString("0x75b3ee95adff0c529a05efd7612aa1dbe5057eb9facdde0dfc837ad143da1d43")
+            .toArray(),
+        Bytes.fromHexString("0x030dfd1566f4800c4842c177f7d476b64ae2b99a2aa0ab5600aa2f41a8710575")
+            .toArray(),
+        Bytes.fromHexString("0xc9d3385b1588a5969cba312f8c29bedb4cb9d56ec0cf825436addc1ec644f1d6")
+            .toArray());
+  }
+
   private HandshakeSecrets secretsFrom(final JsonNode td, final boolean swap) {
     final byte[] aes = decodeHexDump(td.get("aes_secret").asText());
     final byte[] mac = decodeHexDump(td.get("mac_secret").asText());
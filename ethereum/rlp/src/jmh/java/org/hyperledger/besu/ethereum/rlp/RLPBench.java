@@ -16,6 +16,7 @@ package org.hyperledger.besu.ethereum.rlp;
 
 import org.hyperledger.besu.ethereum.rlp.util.RLPTestUtil;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -61,11 +62,16 @@ public class RLPBench {
 
   volatile Object toEncode;
   volatile Bytes toDecode;
+  volatile ByteBuffer toDecodeHeapBuffer;
+  volatile ByteBuffer toDecodeDirectBuffer;
 
   @Setup(Level.Trial)
   public void prepare() {
     toEncode = generate(depth, width, size);
     toDecode = RLPTestUtil.encode(toEncode);
+    toDecodeHeapBuffer = ByteBuffer.wrap(toDecode.toArray());
+    toDecodeDirectBuffer = ByteBuffer.allocateDirect(toDecode.size());
+    toDecodeDirectBuffer.put(toDecode.toArrayUnsafe()).flip();
   }
 
   @Benchmark
@@ -77,4 +83,19 @@ public class RLPBench {
   public Object getBenchmarkDecoding() {
     return RLPTestUtil.decode(toDecode);
   }
+
+  @Benchmark
+  public Object getBenchmarkDecodingHeapBuffer() {
+    return RLPTestUtil.decode(RLP.input(toDecodeHeapBuffer));
+  }
+
+  @Benchmark
+  public Object getBenchmarkDecodingDirectBuffer() {
+    return RLPTestUtil.decode(RLP.input(toDecodeDirectBuffer));
+  }
+
+  @Benchmark
+  public Object getBenchmarkDecodingWrappedDirectBuffer() {
+    return RLPTestUtil.decode(RLP.input(Bytes.wrapByteBuffer(toDecodeDirectBuffer)));
+  }
 }
@@ -127,6 +127,23 @@ abstract class AbstractRLPOutput implements RLPOutput {
     payloadSizes[newCurrent] += finishedListSize;
   }
 
+  /**
+   * Clears this output so it can be reused for a new encoding, keeping its internal buffers.
+   *
+   * @param maxValuesToKeep the maximum number of values the output may have held to be kept
+   * @return false if the output held more values than {@code maxValuesToKeep}, in which case its
+   *     buffers are too large to be worth keeping and the output should not be reused
+   */
+  boolean reset(final int maxValuesToKeep) {
+    final boolean reusable = values.size() <= maxValuesToKeep;
+    values.clear();
+    rlpEncoded.clear();
+    Arrays.fill(payloadSizes, 0, listsCount, 0);
+    listsCount = 1;
+    stackSize = 1;
+    return reusable;
+  }
+
   /**
    * Computes the final encoded data size.
    *
@@ -0,0 +1,80 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.rlp;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+
+/**
+ * An {@link RLPInput} that reads RLP encoded data directly from a {@link ByteBuffer}, e.g. a direct
+ * or memory mapped buffer. Scalars are read straight from the buffer, and values are returned as
+ * views of the buffer rather than copies, so the buffer content must not change while they are in
+ * use.
+ */
+public class ByteBufferRLPInput extends AbstractRLPInput {
+
+  // The RLP encoded data, from the position of the buffer this input was created with.
+  private final ByteBuffer buffer;
+
+  public ByteBufferRLPInput(final ByteBuffer buffer, final boolean lenient) {
+    super(lenient);
+    // Slicing resets the byte order to big endian, which is what RLP uses
+    this.buffer = buffer.slice();
+    init(this.buffer.remaining(), true);
+  }
+
+  @Override
+  protected byte inputByte(final long offset) {
+    return buffer.get(Math.toIntExact(offset));
+  }
+
+  @Override
+  protected Bytes inputSlice(final long offset, final int length) {
+    return Bytes.wrapByteBuffer(buffer, Math.toIntExact(offset), length);
+  }
+
+  @Override
+  protected Bytes32 inputSlice32(final long offset) {
+    return Bytes32.wrap(inputSlice(offset, 32));
+  }
+
+  @Override
+  protected String inputHex(final long offset, final int length) {
+    return inputSlice(offset, length).toUnprefixedHexString();
+  }
+
+  @Override
+  protected BigInteger getUnsignedBigInteger(final long offset, final int length) {
+    return inputSlice(offset, length).toUnsignedBigInteger();
+  }
+
+  @Override
+  protected int getInt(final long offset) {
+    return buffer.getInt(Math.toIntExact(offset));
+  }
+
+  @Override
+  protected long getLong(final long offset) {
+    return buffer.getLong(Math.toIntExact(offset));
+  }
+
+  @Override
+  public Bytes raw() {
+    return Bytes.wrapByteBuffer(buffer);
+  }
+}
@@ -16,6 +16,9 @@ package org.hyperledger.besu.ethereum.rlp;
 
 import static java.lang.String.format;
 
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.function.Consumer;
 
 import org.apache.tuweni.bytes.Bytes;
@@ -25,6 +28,14 @@ import org.apache.tuweni.bytes.MutableBytes;
 public abstract class RLP {
   private RLP() {}
 
+  // Encoding can be nested, e.g. a trie node encoding its children, so every thread pools a few
+  // outputs. Outputs that encoded a lot of values aren't pooled so they don't hold on to large
+  // buffers.
+  private static final int MAX_POOLED_OUTPUTS = 8;
+  private static final int MAX_POOLED_OUTPUT_VALUES = 4096;
+  private static final ThreadLocal<Deque<BytesValueRLPOutput>> OUTPUT_POOL =
+      ThreadLocal.withInitial(ArrayDeque::new);
+
   /** The RLP encoding of a single empty value, also known as RLP null. */
   public static final Bytes NULL = encodeOne(Bytes.EMPTY);
 
@@ -58,6 +69,18 @@ public abstract class RLP {
     return new BytesValueRLPInput(encoded, lenient);
   }
 
+  /**
+   * Creates a new {@link RLPInput} that reads from the remaining bytes of a buffer without copying
+   * them.
+   *
+   * @param encoded The buffer containing the RLP encoded data, which must not be modified while
+   *     the input or any value read from it is in use.
+   * @return A newly created {@link RLPInput} to decode {@code encoded}.
+   */
+  public static RLPInput input(final ByteBuffer encoded) {
+    return new ByteBufferRLPInput(encoded, false);
+  }
+
   /**
    * Creates a {@link RLPOutput}, pass it to the provided consumer for writing, and then return the
    * RLP encoded result of that writing.
@@ -77,13 +100,23 @@ public abstract class RLP {
    * Bytes encoded = RLPs.encode(f::writeTo);
    * }</pre>
    *
+   * <p>The outputs used for encoding are pooled per thread, so the only allocation for an encoding
+   * is usually its result. The output passed to {@code writer} must not be used once it returns.
+   *
    * @param writer A method that given an {@link RLPOutput}, writes some data to it.
    * @return The RLP encoding of the data written by {@code writer}.
    */
   public static Bytes encode(final Consumer<RLPOutput> writer) {
-    final BytesValueRLPOutput out = new BytesValueRLPOutput();
-    writer.accept(out);
-    return out.encoded();
+    final Deque<BytesValueRLPOutput> pool = OUTPUT_POOL.get();
+    final BytesValueRLPOutput out = pool.isEmpty() ? new BytesValueRLPOutput() : pool.pop();
+    try {
+      writer.accept(out);
+      return out.encoded();
+    } finally {
+      if (out.reset(MAX_POOLED_OUTPUT_VALUES) && pool.size() < MAX_POOLED_OUTPUTS) {
+        pool.push(out);
+      }
+    }
   }
 
   /**
@@ -0,0 +1,104 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.rlp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.hyperledger.besu.ethereum.rlp.util.RLPTestUtil;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.units.bigints.UInt256;
+import org.junit.Test;
+
+public class ByteBufferRLPInputTest {
+
+  @Test
+  public void shouldDecodeLikeBytesValueInput() {
+    for (int seed = 0; seed < 100; seed++) {
+      final Bytes encoded = RLPTestUtil.randomRLPValue(seed).encoded();
+      final Object expected = RLPTestUtil.decode(encoded);
+
+      assertThat(RLPTestUtil.decode(RLP.input(ByteBuffer.wrap(encoded.toArrayUnsafe()))))
+          .isEqualTo(expected);
+      assertThat(RLPTestUtil.decode(RLP.input(directBuffer(encoded)))).isEqualTo(expected);
+    }
+  }
+
+  @Test
+  public void shouldReadScalars() {
+    final Bytes encoded =
+        RLP.encode(
+            out -> {
+              out.startList();
+              out.writeInt(0x12345678);
+              out.writeLong(0x123456789abcdef0L);
+              out.writeLongScalar(42);
+              out.writeBigIntegerScalar(BigInteger.TWO.pow(100));
+              out.writeUInt256Scalar(UInt256.MAX_VALUE);
+              out.endList();
+            });
+
+    final RLPInput in = RLP.input(directBuffer(encoded));
+    in.enterList();
+    assertThat(in.readInt()).isEqualTo(0x12345678);
+    assertThat(in.readLong()).isEqualTo(0x123456789abcdef0L);
+    assertThat(in.readLongScalar()).isEqualTo(42);
+    assertThat(in.readBigIntegerScalar()).isEqualTo(BigInteger.TWO.pow(100));
+    assertThat(in.readUInt256Scalar()).isEqualTo(UInt256.MAX_VALUE);
+    in.leaveList();
+    assertThat(in.isDone()).isTrue();
+  }
+
+  @Test
+  public void shouldReadFromBufferPosition() {
+    final Bytes encoded = RLP.encode(out -> out.writeBytes(Bytes.of(1, 2, 3)));
+    final ByteBuffer buffer = ByteBuffer.allocate(encoded.size() + 2);
+    buffer.put((byte) 0xff).put(encoded.toArrayUnsafe()).flip().position(1);
+
+    final RLPInput in = RLP.input(buffer);
+
+    assertThat(in.raw()).isEqualTo(encoded);
+    assertThat(in.readBytes()).isEqualTo(Bytes.of(1, 2, 3));
+  }
+
+  @Test
+  public void shouldNotCopyValues() {
+    final ByteBuffer buffer =
+        directBuffer(RLP.encode(out -> out.writeBytes(Bytes.fromHexString("0x0102030405"))));
+
+    final Bytes value = RLP.input(buffer).readBytes();
+    buffer.put(1, (byte) 9);
+
+    assertThat(value).isEqualTo(Bytes.fromHexString("0x0902030405"));
+  }
+
+  @Test
+  public void shouldRejectTruncatedInput() {
+    final Bytes encoded = RLP.encode(out -> out.writeBytes(Bytes.fromHexString("0x0102030405")));
+
+    assertThatThrownBy(() -> RLP.input(directBuffer(encoded.slice(0, encoded.size() - 1))))
+        .isInstanceOf(RLPException.class);
+  }
+
+  private static ByteBuffer directBuffer(final Bytes bytes) {
+    final ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.size());
+    buffer.put(bytes.toArrayUnsafe()).flip();
+    return buffer;
+  }
+}
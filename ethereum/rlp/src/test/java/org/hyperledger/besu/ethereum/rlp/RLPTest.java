@@ -19,6 +19,7 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 
 import org.hyperledger.besu.ethereum.rlp.util.RLPTestUtil;
 
+import java.util.List;
 import java.util.Random;
 
 import org.apache.tuweni.bytes.Bytes;
@@ -168,6 +169,44 @@ public class RLPTest {
         .hasMessageContaining("RLP item exceeds max supported size of 2147483647: 2147483648");
   }
 
+  @Test
+  public void encode_nestedEncodingsDoNotShareOutput() {
+    final Bytes inner = RLP.encode(out -> out.writeLongScalar(42));
+    final Bytes encoded =
+        RLP.encode(
+            out -> {
+              out.startList();
+              out.writeRaw(RLP.encode(o -> o.writeLongScalar(42)));
+              out.writeRaw(RLP.encode(o -> o.writeBytes(h("0x0102"))));
+              out.endList();
+            });
+
+    final RLPInput in = RLP.input(encoded);
+    in.enterList();
+    assertThat(in.readAsRlp().raw()).isEqualTo(inner);
+    assertThat(in.readBytes()).isEqualTo(h("0x0102"));
+    in.leaveList();
+  }
+
+  @Test
+  public void encode_reusedOutputStartsEmpty() {
+    final Bytes list =
+        RLP.encode(out -> out.writeList(List.of(1L, 2L), (v, o) -> o.writeLongScalar(v)));
+    assertThatThrownBy(
+            () ->
+                RLP.encode(
+                    out -> {
+                      out.startList();
+                      out.writeLongScalar(3);
+                      throw new IllegalStateException("writer failed");
+                    }))
+        .isInstanceOf(IllegalStateException.class);
+
+    assertThat(RLP.encode(out -> out.writeList(List.of(1L, 2L), (v, o) -> o.writeLongScalar(v))))
+        .isEqualTo(list);
+    assertThat(RLP.encode(out -> out.writeBytes(h("0x01")))).isEqualTo(h("0x01"));
+  }
+
   private static Bytes h(final String hex) {
     return Bytes.fromHexString(hex);
   }
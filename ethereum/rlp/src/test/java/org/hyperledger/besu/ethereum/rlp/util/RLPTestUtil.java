@@ -44,7 +44,14 @@ public class RLPTestUtil {
     return decode(RLP.input(value));
   }
 
-  private static Object decode(final RLPInput in) {
+  /**
+   * Recursively decodes the next item of an RLP input. Byte strings are assumed to be non-scalar
+   * (leading zeros are allowed).
+   *
+   * @param in The RLP input to decode from.
+   * @return The output of decoding the next item, see {@link #decode(Bytes)}.
+   */
+  public static Object decode(final RLPInput in) {
     if (!in.nextIsList()) {
       return in.readBytes();
     }
@@ -16,7 +16,6 @@ package org.hyperledger.besu.ethereum.trie;
 
 import static org.hyperledger.besu.crypto.Hash.keccak256;
 
-import org.hyperledger.besu.ethereum.rlp.BytesValueRLPOutput;
 import org.hyperledger.besu.ethereum.rlp.RLP;
 
 import java.lang.ref.SoftReference;
@@ -121,18 +120,20 @@ class BranchNode<V> implements Node<V> {
         return encoded;
       }
     }
-    final BytesValueRLPOutput out = new BytesValueRLPOutput();
-    out.startList();
-    for (int i = 0; i < RADIX; ++i) {
-      out.writeRaw(children.get(i).getRlpRef());
-    }
-    if (value.isPresent()) {
-      out.writeBytes(valueSerializer.apply(value.get()));
-    } else {
-      out.writeNull();
-    }
-    out.endList();
-    final Bytes encoded = out.encoded();
+    final Bytes encoded =
+        RLP.encode(
+            out -> {
+              out.startList();
+              for (int i = 0; i < RADIX; ++i) {
+                out.writeRaw(children.get(i).getRlpRef());
+              }
+              if (value.isPresent()) {
+                out.writeBytes(valueSerializer.apply(value.get()));
+              } else {
+                out.writeNull();
+              }
+              out.endList();
+            });
     rlp = new WeakReference<>(encoded);
     return encoded;
   }
@@ -16,7 +16,6 @@ package org.hyperledger.besu.ethereum.trie;
 
 import static org.hyperledger.besu.crypto.Hash.keccak256;
 
-import org.hyperledger.besu.ethereum.rlp.BytesValueRLPOutput;
 import org.hyperledger.besu.ethereum.rlp.RLP;
 
 import java.lang.ref.SoftReference;
@@ -108,12 +107,14 @@ class LeafNode<V> implements Node<V> {
       }
     }
 
-    final BytesValueRLPOutput out = new BytesValueRLPOutput();
-    out.startList();
-    out.writeBytes(CompactEncoding.encode(path));
-    out.writeBytes(valueSerializer.apply(value));
-    out.endList();
-    final Bytes encoded = out.encoded();
+    final Bytes encoded =
+        RLP.encode(
+            out -> {
+              out.startList();
+              out.writeBytes(CompactEncoding.encode(path));
+              out.writeBytes(valueSerializer.apply(value));
+              out.endList();
+            });
     rlp = new WeakReference<>(encoded);
     return encoded;
   }
@@ -16,6 +16,7 @@ package org.hyperledger.besu.evm.tracing;
 
 import org.hyperledger.besu.evm.Gas;
 import org.hyperledger.besu.evm.frame.MessageFrame;
+import org.hyperledger.besu.evm.operation.GasOperation;
 import org.hyperledger.besu.evm.operation.SStoreOperation;
 
 public class EstimateGasOperationTracer implements OperationTracer {
@@ -24,6 +25,8 @@ public class EstimateGasOperationTracer implements OperationTracer {
 
   private Gas sStoreStipendNeeded = Gas.ZERO;
 
+  private boolean remainingGasObserved = false;
+
   @Override
   public void traceExecution(
       final MessageFrame frame, final OperationTracer.ExecuteOperation executeOperation) {
@@ -35,6 +38,9 @@ public class EstimateGasOperationTracer implements OperationTracer {
         sStoreStipendNeeded =
             ((SStoreOperation) frame.getCurrentOperation()).getMinumumGasRemaining();
       }
+      if (frame.getCurrentOperation() instanceof GasOperation) {
+        remainingGasObserved = true;
+      }
       if (maxDepth < frame.getMessageStackDepth()) {
         maxDepth = frame.getMessageStackDepth();
       }
@@ -48,4 +54,14 @@ public class EstimateGasOperationTracer implements OperationTracer {
   public Gas getStipendNeeded() {
     return sStoreStipendNeeded;
   }
+
+  /**
+   * Whether the execution read its remaining gas with the GAS opcode, in which case it may branch
+   * differently when given a lower gas limit.
+   *
+   * @return true if the GAS opcode was executed
+   */
+  public boolean isRemainingGasObserved() {
+    return remainingGasObserved;
+  }
 }
@@ -35,6 +35,7 @@ public enum BesuMetricCategory implements MetricCategory {
   KVSTORE_PRIVATE_ROCKSDB_STATS("private_rocksdb", false),
   PRUNER("pruner"),
   RPC("rpc"),
+  CONSENSUS("consensus"),
   SYNCHRONIZER("synchronizer"),
   TRANSACTION_POOL("transaction_pool"),
   STRATUM("stratum");
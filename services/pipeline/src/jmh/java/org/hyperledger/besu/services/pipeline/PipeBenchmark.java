@@ -0,0 +1,147 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+package org.hyperledger.besu.services.pipeline;
+
+import static org.hyperledger.besu.metrics.noop.NoOpMetricsSystem.NO_OP_COUNTER;
+import static org.hyperledger.besu.metrics.noop.NoOpMetricsSystem.NO_OP_LABELLED_2_COUNTER;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PipeBenchmark {
+
+  private static final int ITEMS = 100_000;
+  private static final int BUFFER_SIZE = 1024;
+
+  /** BLOCKING_QUEUE for the lock based pipe, otherwise the wait strategy of a ring buffer pipe. */
+  @Param({"BLOCKING_QUEUE", "BUSY_SPIN", "YIELDING", "PARKING"})
+  public String pipeType;
+
+  @Param({"1", "4"})
+  public int producers;
+
+  @Param({"1", "64"})
+  public int batchSize;
+
+  private ExecutorService executorService;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    executorService = Executors.newCachedThreadPool();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    executorService.shutdownNow();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ITEMS)
+  public long transferThroughPipe() throws Exception {
+    final Pipe<Long> pipe = createPipe();
+    final int itemsPerProducer = ITEMS / producers;
+    final List<Future<?>> futures = new ArrayList<>();
+    for (int i = 0; i < producers; i++) {
+      futures.add(
+          executorService.submit(
+              () -> {
+                for (long item = 0; item < itemsPerProducer; item++) {
+                  pipe.put(item);
+                }
+              }));
+    }
+
+    long sum = 0;
+    int received = 0;
+    final int expected = itemsPerProducer * producers;
+    while (received < expected) {
+      if (batchSize == 1) {
+        sum += pipe.get();
+        received++;
+      } else {
+        for (final Long item : pipe.getBatch(batchSize)) {
+          sum += item;
+          received++;
+        }
+      }
+    }
+    for (final Future<?> future : futures) {
+      future.get();
+    }
+    return sum;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ITEMS)
+  public long runPipeline() throws Exception {
+    final Iterator<Long> source = LongStream.range(0, ITEMS).iterator();
+    final AtomicLong sum = new AtomicLong();
+    PipelineBuilder.createPipelineFrom(
+            "source",
+            source,
+            BUFFER_SIZE,
+            NO_OP_LABELLED_2_COUNTER,
+            false,
+            "benchmark",
+            waitStrategy())
+        .thenProcess("increment", item -> item + 1)
+        .inBatches(batchSize)
+        .thenProcessInParallel(
+            "sum", batch -> batch.stream().mapToLong(Long::longValue).sum(), producers)
+        .andFinishWith("complete", sum::addAndGet)
+        .start(executorService)
+        .get();
+    return sum.get();
+  }
+
+  private Pipe<Long> createPipe() {
+    return waitStrategy()
+        .map(
+            waitStrategy ->
+                new Pipe<Long>(
+                    BUFFER_SIZE, waitStrategy, NO_OP_COUNTER, NO_OP_COUNTER, NO_OP_COUNTER))
+        .orElseGet(() -> new Pipe<>(BUFFER_SIZE, NO_OP_COUNTER, NO_OP_COUNTER, NO_OP_COUNTER));
+  }
+
+  private Optional<WaitStrategy> waitStrategy() {
+    return pipeType.equals("BLOCKING_QUEUE")
+        ? Optional.empty()
+        : Optional.of(WaitStrategy.valueOf(pipeType));
+  }
+}
@@ -45,15 +45,12 @@ public class BatchingReadPipe<T> implements ReadPipe<List<T>> {
 
   @Override
   public List<T> get() {
-    final T firstItem = input.get();
-    if (firstItem == null) {
+    final List<T> batch = input.getBatch(maximumBatchSize);
+    if (batch == null) {
       // Contract of get is to explicitly return null when no more items are available.
       // An empty list is not a suitable thing to return here.
       return null;
     }
-    final List<T> batch = new ArrayList<>();
-    batch.add(firstItem);
-    input.drainTo(batch, maximumBatchSize - 1);
     batchCounter.inc();
     return batch;
   }
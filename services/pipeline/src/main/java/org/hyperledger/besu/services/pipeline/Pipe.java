@@ -50,7 +50,38 @@ public class Pipe<T> implements ReadPipe<T>, WritePipe<T> {
       final Counter inputCounter,
       final Counter outputCounter,
       final Counter abortedItemCounter) {
-    queue = new ArrayBlockingQueue<>(capacity);
+    this(new ArrayBlockingQueue<>(capacity), inputCounter, outputCounter, abortedItemCounter);
+  }
+
+  /**
+   * Creates a pipe backed by a lock-free ring buffer instead of a lock based queue. Its capacity is
+   * rounded up to the next power of two.
+   *
+   * @param capacity the minimum number of items the pipe can hold
+   * @param waitStrategy how readers and writers wait for items or room
+   * @param inputCounter the counter incremented for each item added
+   * @param outputCounter the counter incremented for each item removed
+   * @param abortedItemCounter the counter incremented for each item left when aborted
+   */
+  public Pipe(
+      final int capacity,
+      final WaitStrategy waitStrategy,
+      final Counter inputCounter,
+      final Counter outputCounter,
+      final Counter abortedItemCounter) {
+    this(
+        new RingBufferQueue<>(capacity, waitStrategy),
+        inputCounter,
+        outputCounter,
+        abortedItemCounter);
+  }
+
+  private Pipe(
+      final BlockingQueue<T> queue,
+      final Counter inputCounter,
+      final Counter outputCounter,
+      final Counter abortedItemCounter) {
+    this.queue = queue;
     this.inputCounter = inputCounter;
     this.outputCounter = outputCounter;
     this.abortedItemCounter = abortedItemCounter;
@@ -20,11 +20,13 @@ import static java.util.Collections.singleton;
 
 import org.hyperledger.besu.plugin.services.metrics.Counter;
 import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -53,6 +55,8 @@ public class PipelineBuilder<I, T> {
   private final LabelledMetric<Counter> outputCounter;
   private final boolean tracingEnabled;
   private final String pipelineName;
+  private final Optional<WaitStrategy> ringBufferWaitStrategy;
+  private final Optional<LabelledMetric<OperationTimer>> stageTimer;
 
   public PipelineBuilder(
       final Pipe<I> inputPipe,
@@ -64,6 +68,32 @@ public class PipelineBuilder<I, T> {
       final LabelledMetric<Counter> outputCounter,
       final boolean tracingEnabled,
       final String pipelineName) {
+    this(
+        inputPipe,
+        stages,
+        pipes,
+        lastStageName,
+        pipeEnd,
+        bufferSize,
+        outputCounter,
+        tracingEnabled,
+        pipelineName,
+        Optional.empty(),
+        Optional.empty());
+  }
+
+  private PipelineBuilder(
+      final Pipe<I> inputPipe,
+      final Collection<Stage> stages,
+      final Collection<Pipe<?>> pipes,
+      final String lastStageName,
+      final ReadPipe<T> pipeEnd,
+      final int bufferSize,
+      final LabelledMetric<Counter> outputCounter,
+      final boolean tracingEnabled,
+      final String pipelineName,
+      final Optional<WaitStrategy> ringBufferWaitStrategy,
+      final Optional<LabelledMetric<OperationTimer>> stageTimer) {
     checkArgument(!pipes.isEmpty(), "Must have at least one pipe in a pipeline");
     this.lastStageName = lastStageName;
     this.outputCounter = outputCounter;
@@ -74,6 +104,8 @@ public class PipelineBuilder<I, T> {
     this.bufferSize = bufferSize;
     this.tracingEnabled = tracingEnabled;
     this.pipelineName = pipelineName;
+    this.ringBufferWaitStrategy = ringBufferWaitStrategy;
+    this.stageTimer = stageTimer;
   }
 
   /**
@@ -98,7 +130,42 @@ public class PipelineBuilder<I, T> {
       final LabelledMetric<Counter> itemCounter,
       final boolean tracingEnabled,
       final String pipelineName) {
-    final Pipe<T> pipe = createPipe(bufferSize, sourceName, itemCounter);
+    return createPipelineFrom(
+        sourceName,
+        source,
+        bufferSize,
+        itemCounter,
+        tracingEnabled,
+        pipelineName,
+        Optional.empty());
+  }
+
+  /**
+   * Create a new pipeline that processes inputs from <i>source</i>, like {@link
+   * #createPipelineFrom(String, Iterator, int, LabelledMetric, boolean, String)}, optionally
+   * connecting its stages with lock-free ring buffer pipes.
+   *
+   * @param sourceName the name of this stage. Used as the label for the output count metric.
+   * @param source the source to pull items from for processing.
+   * @param bufferSize the number of items to be buffered between each stage in the pipeline.
+   * @param itemCounter the counter to increment for each output of a stage. Must accept two labels,
+   *     the stage name and action (output or drained).
+   * @param <T> the type of items input into the pipeline.
+   * @param tracingEnabled whether this pipeline should be traced
+   * @param pipelineName the name of the pipeline for tracing purposes
+   * @param ringBufferWaitStrategy if present, every pipe of the pipeline is a ring buffer using
+   *     this wait strategy, otherwise pipes are backed by a blocking queue.
+   * @return a {@link PipelineBuilder} ready to extend the pipeline with additional stages.
+   */
+  public static <T> PipelineBuilder<T, T> createPipelineFrom(
+      final String sourceName,
+      final Iterator<T> source,
+      final int bufferSize,
+      final LabelledMetric<Counter> itemCounter,
+      final boolean tracingEnabled,
+      final String pipelineName,
+      final Optional<WaitStrategy> ringBufferWaitStrategy) {
+    final Pipe<T> pipe = createPipe(bufferSize, sourceName, itemCounter, ringBufferWaitStrategy);
     final IteratorSourceStage<T> sourceStage = new IteratorSourceStage<>(sourceName, source, pipe);
     return new PipelineBuilder<>(
         pipe,
@@ -109,7 +176,9 @@ public class PipelineBuilder<I, T> {
         bufferSize,
         itemCounter,
         tracingEnabled,
-        pipelineName);
+        pipelineName,
+        ringBufferWaitStrategy,
+        Optional.empty());
   }
 
   /**
@@ -131,7 +200,34 @@ public class PipelineBuilder<I, T> {
       final LabelledMetric<Counter> outputCounter,
       final boolean tracingEnabled,
       final String pipelineName) {
-    final Pipe<T> pipe = createPipe(bufferSize, sourceName, outputCounter);
+    return createPipeline(
+        sourceName, bufferSize, outputCounter, tracingEnabled, pipelineName, Optional.empty());
+  }
+
+  /**
+   * Create a new pipeline that processes inputs added to <i>pipe</i>, like {@link
+   * #createPipeline(String, int, LabelledMetric, boolean, String)}, optionally connecting its
+   * stages with lock-free ring buffer pipes.
+   *
+   * @param sourceName the name of this stage. Used as the label for the output count metric.
+   * @param bufferSize the number of items to be buffered between each stage in the pipeline.
+   * @param outputCounter the counter to increment for each output of a stage. Must have a single
+   *     label which will be filled with the stage name.
+   * @param <T> the type of items input into the pipeline.
+   * @param tracingEnabled whether this pipeline should be traced
+   * @param pipelineName the name of the pipeline for tracing purposes
+   * @param ringBufferWaitStrategy if present, every pipe of the pipeline is a ring buffer using
+   *     this wait strategy, otherwise pipes are backed by a blocking queue.
+   * @return a {@link PipelineBuilder} ready to extend the pipeline with additional stages.
+   */
+  public static <T> PipelineBuilder<T, T> createPipeline(
+      final String sourceName,
+      final int bufferSize,
+      final LabelledMetric<Counter> outputCounter,
+      final boolean tracingEnabled,
+      final String pipelineName,
+      final Optional<WaitStrategy> ringBufferWaitStrategy) {
+    final Pipe<T> pipe = createPipe(bufferSize, sourceName, outputCounter, ringBufferWaitStrategy);
     return new PipelineBuilder<>(
         pipe,
         emptyList(),
@@ -141,7 +237,32 @@ public class PipelineBuilder<I, T> {
         bufferSize,
         outputCounter,
         tracingEnabled,
-        pipelineName);
+        pipelineName,
+        ringBufferWaitStrategy,
+        Optional.empty());
+  }
+
+  /**
+   * Records how long each processing stage added from here on takes per item. Asynchronous stages
+   * are timed until the returned future completes.
+   *
+   * @param stageTimer the timer to record stage latencies with. Must accept a single label, the
+   *     stage name.
+   * @return a {@link PipelineBuilder} ready to extend the pipeline with additional stages.
+   */
+  public PipelineBuilder<I, T> withStageTimer(final LabelledMetric<OperationTimer> stageTimer) {
+    return new PipelineBuilder<>(
+        inputPipe,
+        stages,
+        pipes,
+        lastStageName,
+        pipeEnd,
+        bufferSize,
+        outputCounter,
+        tracingEnabled,
+        pipelineName,
+        ringBufferWaitStrategy,
+        Optional.of(stageTimer));
   }
 
   /**
@@ -155,7 +276,7 @@ public class PipelineBuilder<I, T> {
    */
   public <O> PipelineBuilder<I, O> thenProcess(
       final String stageName, final Function<T, O> processor) {
-    final Processor<T, O> singleStepStage = new MapProcessor<>(processor);
+    final Processor<T, O> singleStepStage = new MapProcessor<>(timed(stageName, processor));
     return addStage(singleStepStage, stageName);
   }
 
@@ -174,7 +295,10 @@ public class PipelineBuilder<I, T> {
   public <O> PipelineBuilder<I, O> thenProcessInParallel(
       final String stageName, final Function<T, O> processor, final int numberOfThreads) {
     return thenProcessInParallel(
-        stageName, () -> new MapProcessor<>(processor), numberOfThreads, bufferSize);
+        stageName,
+        () -> new MapProcessor<>(timed(stageName, processor)),
+        numberOfThreads,
+        bufferSize);
   }
 
   /**
@@ -198,7 +322,9 @@ public class PipelineBuilder<I, T> {
       final String stageName,
       final Function<T, CompletableFuture<O>> processor,
       final int maxConcurrency) {
-    return addStage(new AsyncOperationProcessor<>(processor, maxConcurrency, false), stageName);
+    return addStage(
+        new AsyncOperationProcessor<>(timedAsync(stageName, processor), maxConcurrency, false),
+        stageName);
   }
 
   /**
@@ -222,7 +348,9 @@ public class PipelineBuilder<I, T> {
       final String stageName,
       final Function<T, CompletableFuture<O>> processor,
       final int maxConcurrency) {
-    return addStage(new AsyncOperationProcessor<>(processor, maxConcurrency, true), stageName);
+    return addStage(
+        new AsyncOperationProcessor<>(timedAsync(stageName, processor), maxConcurrency, true),
+        stageName);
   }
 
   /**
@@ -250,7 +378,9 @@ public class PipelineBuilder<I, T> {
         (int) Math.ceil(((double) bufferSize) / maximumBatchSize),
         outputCounter,
         tracingEnabled,
-        pipelineName);
+        pipelineName,
+        ringBufferWaitStrategy,
+        stageTimer);
   }
 
   /**
@@ -270,7 +400,7 @@ public class PipelineBuilder<I, T> {
    */
   public <O> PipelineBuilder<I, O> thenFlatMap(
       final String stageName, final Function<T, Stream<O>> mapper, final int newBufferSize) {
-    return addStage(new FlatMapProcessor<>(mapper), newBufferSize, stageName);
+    return addStage(new FlatMapProcessor<>(timed(stageName, mapper)), newBufferSize, stageName);
   }
 
   /**
@@ -296,7 +426,10 @@ public class PipelineBuilder<I, T> {
       final int numberOfThreads,
       final int newBufferSize) {
     return thenProcessInParallel(
-        stageName, () -> new FlatMapProcessor<>(mapper), numberOfThreads, newBufferSize);
+        stageName,
+        () -> new FlatMapProcessor<>(timed(stageName, mapper)),
+        numberOfThreads,
+        newBufferSize);
   }
 
   /**
@@ -321,7 +454,8 @@ public class PipelineBuilder<I, T> {
       final Supplier<Processor<T, O>> createProcessor,
       final int numberOfThreads,
       final int newBufferSize) {
-    final Pipe<O> newPipeEnd = createPipe(newBufferSize, stageName, outputCounter);
+    final Pipe<O> newPipeEnd =
+        createPipe(newBufferSize, stageName, outputCounter, ringBufferWaitStrategy);
     final WritePipe<O> outputPipe = new SharedWritePipe<>(newPipeEnd, numberOfThreads);
     final ArrayList<Stage> newStages = new ArrayList<>(stages);
     for (int i = 0; i < numberOfThreads; i++) {
@@ -338,7 +472,9 @@ public class PipelineBuilder<I, T> {
         newBufferSize,
         outputCounter,
         tracingEnabled,
-        pipelineName);
+        pipelineName,
+        ringBufferWaitStrategy,
+        stageTimer);
   }
 
   private <O> PipelineBuilder<I, O> addStage(
@@ -348,7 +484,8 @@ public class PipelineBuilder<I, T> {
 
   private <O> PipelineBuilder<I, O> addStage(
       final Processor<T, O> processor, final int newBufferSize, final String stageName) {
-    final Pipe<O> outputPipe = createPipe(newBufferSize, stageName, outputCounter);
+    final Pipe<O> outputPipe =
+        createPipe(newBufferSize, stageName, outputCounter, ringBufferWaitStrategy);
     final Stage processStage = new ProcessingStage<>(stageName, pipeEnd, outputPipe, processor);
     final List<Stage> newStages = concat(stages, processStage);
     return new PipelineBuilder<>(
@@ -360,7 +497,35 @@ public class PipelineBuilder<I, T> {
         newBufferSize,
         outputCounter,
         tracingEnabled,
-        pipelineName);
+        pipelineName,
+        ringBufferWaitStrategy,
+        stageTimer);
+  }
+
+  private <A, B> Function<A, B> timed(final String stageName, final Function<A, B> processor) {
+    if (stageTimer.isEmpty()) {
+      return processor;
+    }
+    final OperationTimer timer = stageTimer.get().labels(stageName);
+    return item -> {
+      try (final OperationTimer.TimingContext ignored = timer.startTimer()) {
+        return processor.apply(item);
+      }
+    };
+  }
+
+  private <A, B> Function<A, CompletableFuture<B>> timedAsync(
+      final String stageName, final Function<A, CompletableFuture<B>> processor) {
+    if (stageTimer.isEmpty()) {
+      return processor;
+    }
+    final OperationTimer timer = stageTimer.get().labels(stageName);
+    return item -> {
+      final OperationTimer.TimingContext timingContext = timer.startTimer();
+      final CompletableFuture<B> result = processor.apply(item);
+      result.whenComplete((r, t) -> timingContext.stopTimer());
+      return result;
+    };
   }
 
   private <X> List<X> concat(final Collection<X> existing, final X newItem) {
@@ -372,12 +537,18 @@ public class PipelineBuilder<I, T> {
   private static <O> Pipe<O> createPipe(
       final int newBufferSize,
       final String stageName,
-      final LabelledMetric<Counter> outputCounter) {
+      final LabelledMetric<Counter> outputCounter,
+      final Optional<WaitStrategy> ringBufferWaitStrategy) {
     final String labelName = stageName + "_outputPipe";
-    return new Pipe<>(
-        newBufferSize,
-        outputCounter.labels(labelName, "added"),
-        outputCounter.labels(labelName, "removed"),
-        outputCounter.labels(labelName, "aborted"));
+    final Counter inputCounter = outputCounter.labels(labelName, "added");
+    final Counter removedCounter = outputCounter.labels(labelName, "removed");
+    final Counter abortedItemCounter = outputCounter.labels(labelName, "aborted");
+    return ringBufferWaitStrategy
+        .map(
+            waitStrategy ->
+                new Pipe<O>(
+                    newBufferSize, waitStrategy, inputCounter, removedCounter, abortedItemCounter))
+        .orElseGet(
+            () -> new Pipe<>(newBufferSize, inputCounter, removedCounter, abortedItemCounter));
   }
 }
@@ -14,7 +14,9 @@
  */
 package org.hyperledger.besu.services.pipeline;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 /**
  * The interface used to read items from a pipe.
@@ -63,4 +65,24 @@ public interface ReadPipe<T> {
    * @param maxElements the maximum number of elements to transfer
    */
   void drainTo(Collection<T> output, int maxElements);
+
+  /**
+   * Get and remove the next items from this pipe. This method will block until at least one item is
+   * available and then takes as many of the available items as fit in the batch, without waiting
+   * for more. Like {@link #get()} it may return <code>null</code> if the pipe is closed or the
+   * thread interrupted while waiting.
+   *
+   * @param maxElements the maximum number of items in the batch
+   * @return the next items or <code>null</code> if the pipe is closed or the thread interrupted.
+   */
+  default List<T> getBatch(final int maxElements) {
+    final T firstItem = get();
+    if (firstItem == null) {
+      return null;
+    }
+    final List<T> batch = new ArrayList<>();
+    batch.add(firstItem);
+    drainTo(batch, maxElements - 1);
+    return batch;
+  }
 }
@@ -0,0 +1,276 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+package org.hyperledger.besu.services.pipeline;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.AbstractQueue;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded, lock-free queue backed by a ring buffer, safe for any number of producer and consumer
+ * threads.
+ *
+ * <p>Each slot carries a sequence number telling whether it is ready to be written or read for the
+ * current lap around the ring, so producers and consumers only contend on a compare-and-set of
+ * their own position (see Dmitry Vyukov's bounded MPMC queue). Blocking operations wait using the
+ * configured {@link WaitStrategy} instead of locks and conditions.
+ *
+ * <p>Iteration is weakly consistent: an iterator returns the items that are still queued as it
+ * walks from the head to the tail seen when it was created, skipping items consumed meanwhile, and
+ * never throws {@link java.util.ConcurrentModificationException}. Items can only be removed from
+ * the head, so removing an arbitrary item is not supported.
+ *
+ * @param <T> the type of item held in the queue.
+ */
+class RingBufferQueue<T> extends AbstractQueue<T> implements BlockingQueue<T> {
+
+  private final int capacity;
+  private final int mask;
+  private final AtomicReferenceArray<T> items;
+  private final AtomicLongArray sequences;
+  private final AtomicLong writePosition = new AtomicLong();
+  private final AtomicLong readPosition = new AtomicLong();
+  private final WaitStrategy waitStrategy;
+
+  /**
+   * Creates a queue.
+   *
+   * @param capacity the minimum capacity of the queue, rounded up to the next power of two and to
+   *     at least two
+   * @param waitStrategy how blocking operations wait for an item or for room
+   */
+  RingBufferQueue(final int capacity, final WaitStrategy waitStrategy) {
+    checkArgument(capacity > 0, "Capacity must be greater than 0");
+    checkArgument(capacity <= 1 << 30, "Capacity must be at most 2^30");
+    // a single slot cannot tell a full lap from an empty one
+    this.capacity = capacity <= 2 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+    this.mask = this.capacity - 1;
+    this.items = new AtomicReferenceArray<>(this.capacity);
+    this.sequences = new AtomicLongArray(this.capacity);
+    for (int i = 0; i < this.capacity; i++) {
+      sequences.set(i, i);
+    }
+    this.waitStrategy = waitStrategy;
+  }
+
+  @Override
+  public boolean offer(final T item) {
+    checkNotNull(item);
+    long position = writePosition.get();
+    while (true) {
+      final int index = (int) (position & mask);
+      final long available = sequences.get(index) - position;
+      if (available == 0) {
+        if (writePosition.compareAndSet(position, position + 1)) {
+          items.lazySet(index, item);
+          // publishes the item to readers of this lap
+          sequences.set(index, position + 1);
+          return true;
+        }
+        position = writePosition.get();
+      } else if (available < 0) {
+        // the slot still holds an item of the previous lap
+        return false;
+      } else {
+        position = writePosition.get();
+      }
+    }
+  }
+
+  @Override
+  public T poll() {
+    long position = readPosition.get();
+    while (true) {
+      final int index = (int) (position & mask);
+      final long available = sequences.get(index) - (position + 1);
+      if (available == 0) {
+        if (readPosition.compareAndSet(position, position + 1)) {
+          final T item = items.get(index);
+          items.lazySet(index, null);
+          // hands the slot over to writers of the next lap
+          sequences.set(index, position + capacity);
+          return item;
+        }
+        position = readPosition.get();
+      } else if (available < 0) {
+        // the slot has not been written yet in this lap
+        return null;
+      } else {
+        position = readPosition.get();
+      }
+    }
+  }
+
+  @Override
+  public T peek() {
+    final long position = readPosition.get();
+    final int index = (int) (position & mask);
+    return sequences.get(index) == position + 1 ? items.get(index) : null;
+  }
+
+  @Override
+  public void put(final T item) throws InterruptedException {
+    int attempt = 0;
+    while (!offer(item)) {
+      checkInterrupted();
+      waitStrategy.idle(attempt++);
+    }
+  }
+
+  @Override
+  public boolean offer(final T item, final long timeout, final TimeUnit unit)
+      throws InterruptedException {
+    final long deadline = System.nanoTime() + unit.toNanos(timeout);
+    int attempt = 0;
+    while (!offer(item)) {
+      checkInterrupted();
+      if (System.nanoTime() - deadline >= 0) {
+        return false;
+      }
+      waitStrategy.idle(attempt++);
+    }
+    return true;
+  }
+
+  @Override
+  public T take() throws InterruptedException {
+    int attempt = 0;
+    T item;
+    while ((item = poll()) == null) {
+      checkInterrupted();
+      waitStrategy.idle(attempt++);
+    }
+    return item;
+  }
+
+  @Override
+  public T poll(final long timeout, final TimeUnit unit) throws InterruptedException {
+    final long deadline = System.nanoTime() + unit.toNanos(timeout);
+    int attempt = 0;
+    T item;
+    while ((item = poll()) == null) {
+      checkInterrupted();
+      if (System.nanoTime() - deadline >= 0) {
+        return null;
+      }
+      waitStrategy.idle(attempt++);
+    }
+    return item;
+  }
+
+  @Override
+  public int size() {
+    while (true) {
+      final long read = readPosition.get();
+      final long write = writePosition.get();
+      if (read == readPosition.get()) {
+        return (int) Math.max(0, Math.min(capacity, write - read));
+      }
+    }
+  }
+
+  @Override
+  public int remainingCapacity() {
+    return capacity - size();
+  }
+
+  @Override
+  public int drainTo(final Collection<? super T> output) {
+    return drainTo(output, Integer.MAX_VALUE);
+  }
+
+  @Override
+  public int drainTo(final Collection<? super T> output, final int maxElements) {
+    int count = 0;
+    T item;
+    while (count < maxElements && (item = poll()) != null) {
+      output.add(item);
+      count++;
+    }
+    return count;
+  }
+
+  @Override
+  public Iterator<T> iterator() {
+    return new WeaklyConsistentIterator();
+  }
+
+  @Override
+  public boolean remove(final Object item) {
+    throw new UnsupportedOperationException("Ring buffer queues only remove items from the head");
+  }
+
+  private class WeaklyConsistentIterator implements Iterator<T> {
+    private final long end = writePosition.get();
+    private long position = readPosition.get();
+    private T next;
+
+    private WeaklyConsistentIterator() {
+      advance();
+    }
+
+    @Override
+    public boolean hasNext() {
+      return next != null;
+    }
+
+    @Override
+    public T next() {
+      final T item = next;
+      if (item == null) {
+        throw new NoSuchElementException();
+      }
+      advance();
+      return item;
+    }
+
+    private void advance() {
+      next = null;
+      // items before the current head have been consumed since the last step
+      position = Math.max(position, readPosition.get());
+      while (position < end) {
+        final int index = (int) (position & mask);
+        final long sequence = sequences.get(index);
+        if (sequence < position + 1) {
+          // the slot is claimed by a writer but not published yet, so neither is anything after it
+          return;
+        }
+        final T item = items.get(index);
+        position++;
+        // sequences only grow, so an unchanged sequence means the item belongs to this position
+        if (sequence == position && item != null && sequences.get(index) == sequence) {
+          next = item;
+          return;
+        }
+      }
+    }
+  }
+
+  private static void checkInterrupted() throws InterruptedException {
+    if (Thread.interrupted()) {
+      throw new InterruptedException();
+    }
+  }
+}
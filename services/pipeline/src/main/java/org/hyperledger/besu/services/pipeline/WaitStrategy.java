@@ -0,0 +1,73 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+package org.hyperledger.besu.services.pipeline;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * How a thread waits for a ring buffer {@link Pipe} to have an item to read or room to write.
+ * Strategies trade CPU usage for latency: spinning reacts immediately but keeps a core busy while
+ * parking frees the core at the cost of a delayed wake-up.
+ */
+public enum WaitStrategy {
+  /** Spin on the CPU. Lowest latency, only suitable when stages have dedicated cores. */
+  BUSY_SPIN {
+    @Override
+    void idle(final int attempt) {
+      Thread.onSpinWait();
+    }
+  },
+
+  /** Spin briefly, then yield the CPU to other threads between attempts. */
+  YIELDING {
+    @Override
+    void idle(final int attempt) {
+      if (attempt < SPIN_ATTEMPTS) {
+        Thread.onSpinWait();
+      } else {
+        Thread.yield();
+      }
+    }
+  },
+
+  /** Spin and yield briefly, then park with a growing back-off up to a millisecond. */
+  PARKING {
+    @Override
+    void idle(final int attempt) {
+      if (attempt < SPIN_ATTEMPTS) {
+        Thread.onSpinWait();
+      } else if (attempt < SPIN_ATTEMPTS + YIELD_ATTEMPTS) {
+        Thread.yield();
+      } else {
+        final int parks = attempt - SPIN_ATTEMPTS - YIELD_ATTEMPTS;
+        LockSupport.parkNanos(Math.min(MIN_PARK_NANOS << Math.min(parks, 10), MAX_PARK_NANOS));
+      }
+    }
+  };
+
+  private static final int SPIN_ATTEMPTS = 100;
+  private static final int YIELD_ATTEMPTS = 100;
+  private static final long MIN_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(1);
+  private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+  /**
+   * Waits before the next attempt to read from or write to the pipe.
+   *
+   * @param attempt the number of attempts that already failed, starting from zero
+   */
+  abstract void idle(int attempt);
+}
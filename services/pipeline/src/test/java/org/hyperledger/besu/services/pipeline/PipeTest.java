@@ -137,4 +137,40 @@ public class PipeTest {
     Thread.currentThread().interrupt();
     assertThat(pipe.get()).isNull();
   }
+
+  @Test
+  public void shouldGetBatchOfAvailableItems() {
+    pipe.put("A");
+    pipe.put("B");
+    pipe.put("C");
+
+    assertThat(pipe.getBatch(2)).containsExactly("A", "B");
+    assertThat(pipe.getBatch(2)).containsExactly("C");
+
+    pipe.close();
+    assertThat(pipe.getBatch(2)).isNull();
+  }
+
+  @Test
+  public void shouldPassItemsThroughRingBufferPipe() {
+    final Pipe<String> ringBufferPipe =
+        new Pipe<>(4, WaitStrategy.PARKING, inputCounter, outputCounter, abortedItemCounter);
+    ringBufferPipe.put("A");
+    ringBufferPipe.put("B");
+    ringBufferPipe.put("C");
+    ringBufferPipe.close();
+
+    assertThat(ringBufferPipe.get()).isEqualTo("A");
+    assertThat(ringBufferPipe.getBatch(5)).containsExactly("B", "C");
+    assertThat(ringBufferPipe.get()).isNull();
+    verify(inputCounter, times(3)).inc();
+  }
+
+  @Test
+  public void shouldReturnNullFromRingBufferPipeImmediatelyIfThreadIsInterrupted() {
+    final Pipe<String> ringBufferPipe =
+        new Pipe<>(4, WaitStrategy.PARKING, inputCounter, outputCounter, abortedItemCounter);
+    Thread.currentThread().interrupt();
+    assertThat(ringBufferPipe.get()).isNull();
+  }
 }
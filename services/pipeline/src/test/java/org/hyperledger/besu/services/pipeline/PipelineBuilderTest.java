@@ -27,12 +27,14 @@ import static org.hyperledger.besu.metrics.noop.NoOpMetricsSystem.NO_OP_LABELLED
 
 import org.hyperledger.besu.plugin.services.metrics.Counter;
 import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CancellationException;
@@ -86,6 +88,30 @@ public class PipelineBuilderTest {
     assertThat(output).containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15);
   }
 
+  @Test
+  public void shouldPipeTasksThroughRingBufferPipes() throws Exception {
+    final List<String> output = new ArrayList<>();
+    final Pipeline<Integer> pipeline =
+        PipelineBuilder.createPipelineFrom(
+                "input",
+                tasks,
+                4,
+                NO_OP_LABELLED_2_COUNTER,
+                false,
+                "test",
+                Optional.of(WaitStrategy.PARKING))
+            .thenProcess("toString", Object::toString)
+            .inBatches(3)
+            .thenFlatMap("flatten", List::stream, 4)
+            .andFinishWith("end", output::add);
+
+    final CompletableFuture<?> result = pipeline.start(executorService);
+    result.get(10, SECONDS);
+    assertThat(output)
+        .containsExactly(
+            "1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11", "12", "13", "14", "15");
+  }
+
   @Test
   public void shouldPassInputThroughIntermediateStage() throws Exception {
     final List<String> output = new ArrayList<>();
@@ -471,6 +497,45 @@ public class PipelineBuilderTest {
     assertThat(counters.get("asyncOrdered_outputPipe-batches").count).hasValueBetween(4, 15);
   }
 
+  @Test
+  public void shouldTrackStageLatencyMetrics() throws Exception {
+    final Map<String, SimpleCounter> stoppedTimers = new ConcurrentHashMap<>();
+    final LabelledMetric<OperationTimer> stageTimer =
+        labels ->
+            () -> {
+              final SimpleCounter stopped =
+                  stoppedTimers.computeIfAbsent(labels[0], label -> new SimpleCounter());
+              return () -> {
+                stopped.inc();
+                return 0;
+              };
+            };
+    final CompletableFuture<Integer> pendingResult = new CompletableFuture<>();
+    final Pipeline<Integer> pipeline =
+        PipelineBuilder.createPipelineFrom(
+                "input", tasks, 10, NO_OP_LABELLED_2_COUNTER, false, "test")
+            .thenProcess("untimed", Function.identity())
+            .withStageTimer(stageTimer)
+            .thenProcessInParallel("parallel", Function.identity(), 3)
+            .thenProcessAsyncOrdered(
+                "async", value -> value == 15 ? pendingResult : completedFuture(value), 3)
+            .thenFlatMap("flatMap", Stream::of, 10)
+            .andFinishWith("finish", new ArrayList<>()::add);
+
+    final CompletableFuture<Void> result = pipeline.start(executorService);
+    waitAtMost(10, SECONDS)
+        .untilAsserted(
+            () ->
+                assertThat(
+                        stoppedTimers.computeIfAbsent("async", label -> new SimpleCounter()).count)
+                    .hasValue(14));
+    pendingResult.complete(15);
+    result.get(10, SECONDS);
+
+    assertThat(stoppedTimers).containsOnlyKeys("parallel", "async", "flatMap");
+    stoppedTimers.values().forEach(counter -> assertThat(counter.count).hasValue(15));
+  }
+
   private void waitForSize(final Collection<?> collection, final int targetSize) {
     waitAtMost(10, SECONDS).untilAsserted(() -> assertThat(collection).hasSize(targetSize));
   }
@@ -0,0 +1,178 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+package org.hyperledger.besu.services.pipeline;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class RingBufferQueueTest {
+
+  private final ExecutorService executorService = Executors.newCachedThreadPool();
+
+  @After
+  public void tearDown() {
+    executorService.shutdownNow();
+  }
+
+  @Test
+  public void shouldRoundCapacityUpToPowerOfTwo() {
+    assertThat(new RingBufferQueue<>(1, WaitStrategy.PARKING).remainingCapacity()).isEqualTo(2);
+    assertThat(new RingBufferQueue<>(5, WaitStrategy.PARKING).remainingCapacity()).isEqualTo(8);
+    assertThat(new RingBufferQueue<>(8, WaitStrategy.PARKING).remainingCapacity()).isEqualTo(8);
+  }
+
+  @Test
+  public void shouldReturnItemsInOrderAcrossLaps() {
+    final RingBufferQueue<Integer> queue = new RingBufferQueue<>(4, WaitStrategy.PARKING);
+    for (int lap = 0; lap < 3; lap++) {
+      for (int i = 0; i < 4; i++) {
+        assertThat(queue.offer(lap * 4 + i)).isTrue();
+      }
+      assertThat(queue.offer(-1)).isFalse();
+      assertThat(queue.size()).isEqualTo(4);
+      assertThat(queue.peek()).isEqualTo(lap * 4);
+      for (int i = 0; i < 4; i++) {
+        assertThat(queue.poll()).isEqualTo(lap * 4 + i);
+      }
+      assertThat(queue.poll()).isNull();
+    }
+  }
+
+  @Test
+  public void shouldDrainAvailableItems() {
+    final RingBufferQueue<Integer> queue = new RingBufferQueue<>(8, WaitStrategy.PARKING);
+    for (int i = 0; i < 5; i++) {
+      queue.offer(i);
+    }
+    final List<Integer> output = new ArrayList<>();
+
+    assertThat(queue.drainTo(output, 3)).isEqualTo(3);
+    assertThat(queue.drainTo(output, 3)).isEqualTo(2);
+    assertThat(output).containsExactly(0, 1, 2, 3, 4);
+  }
+
+  @Test
+  public void shouldIterateOverQueuedItemsAcrossLaps() {
+    final RingBufferQueue<Integer> queue = new RingBufferQueue<>(4, WaitStrategy.PARKING);
+    for (int i = 0; i < 6; i++) {
+      queue.offer(i);
+    }
+    queue.poll();
+    queue.poll();
+    queue.poll();
+
+    assertThat(queue).containsExactly(3, 4, 5);
+    assertThat(queue.contains(4)).isTrue();
+    assertThat(queue.contains(1)).isFalse();
+    assertThat(queue.containsAll(List.of(3, 5))).isTrue();
+    assertThat(queue).hasToString("[3, 4, 5]");
+  }
+
+  @Test
+  public void shouldSkipItemsConsumedDuringIteration() {
+    final RingBufferQueue<Integer> queue = new RingBufferQueue<>(4, WaitStrategy.PARKING);
+    for (int i = 0; i < 4; i++) {
+      queue.offer(i);
+    }
+    final Iterator<Integer> iterator = queue.iterator();
+    assertThat(iterator.next()).isEqualTo(0);
+
+    queue.poll();
+    queue.poll();
+    queue.poll();
+    queue.offer(4);
+
+    assertThat(iterator.hasNext()).isTrue();
+    assertThat(iterator.next()).isEqualTo(3);
+    assertThat(iterator.hasNext()).isFalse();
+  }
+
+  @Test
+  public void shouldNotRemoveArbitraryItems() {
+    final RingBufferQueue<Integer> queue = new RingBufferQueue<>(4, WaitStrategy.PARKING);
+    queue.offer(1);
+    queue.offer(2);
+
+    assertThatThrownBy(() -> queue.remove(2)).isInstanceOf(UnsupportedOperationException.class);
+    assertThat(queue).containsExactly(1, 2);
+  }
+
+  @Test
+  public void shouldTimeOutWhenEmptyOrFull() throws Exception {
+    final RingBufferQueue<Integer> queue = new RingBufferQueue<>(2, WaitStrategy.PARKING);
+    assertThat(queue.poll(10, MILLISECONDS)).isNull();
+
+    queue.offer(1);
+    queue.offer(2);
+    assertThat(queue.offer(3, 10, MILLISECONDS)).isFalse();
+  }
+
+  @Test
+  public void shouldTransferEveryItemBetweenConcurrentProducersAndConsumers() throws Exception {
+    final RingBufferQueue<Long> queue = new RingBufferQueue<>(16, WaitStrategy.YIELDING);
+    final int producers = 4;
+    final int consumers = 4;
+    final long itemsPerProducer = 10_000;
+    final AtomicLong sum = new AtomicLong();
+    final AtomicLong received = new AtomicLong();
+
+    final List<Future<?>> futures = new ArrayList<>();
+    for (int p = 0; p < producers; p++) {
+      futures.add(
+          executorService.submit(
+              () -> {
+                for (long i = 1; i <= itemsPerProducer; i++) {
+                  queue.put(i);
+                }
+                return null;
+              }));
+    }
+    for (int c = 0; c < consumers; c++) {
+      futures.add(
+          executorService.submit(
+              () -> {
+                while (received.get() < producers * itemsPerProducer) {
+                  final Long item = queue.poll(10, MILLISECONDS);
+                  if (item != null) {
+                    sum.addAndGet(item);
+                    received.incrementAndGet();
+                  }
+                }
+                return null;
+              }));
+    }
+    for (final Future<?> future : futures) {
+      future.get(30, SECONDS);
+    }
+
+    assertThat(received).hasValue(producers * itemsPerProducer);
+    assertThat(sum).hasValue(producers * itemsPerProducer * (itemsPerProducer + 1) / 2);
+    assertThat(queue).isEmpty();
+  }
+}
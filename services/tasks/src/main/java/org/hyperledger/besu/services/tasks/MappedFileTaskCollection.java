@@ -0,0 +1,472 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.services.tasks;
+
+import org.hyperledger.besu.services.tasks.FlatFileTaskCollection.StorageException;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import com.google.common.annotations.VisibleForTesting;
+import org.apache.tuweni.bytes.Bytes;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A task collection backed by memory-mapped segment files.
+ *
+ * <p>Each record is stored as its length, a CRC32 checksum of the length and data, and the data.
+ * Appends and reads go directly to the mapped segments so no system call is made per task. The
+ * position of the oldest task that has not been completed yet is kept in a mapped checkpoint file,
+ * which allows a new collection opened on the same directory to resume where the previous one
+ * stopped.
+ *
+ * <p>Delivery is at-least-once. Only the oldest outstanding task is recorded, so after a crash the
+ * tasks from that position onwards are handed out again, including any that were completed after
+ * it. The checkpoint is flushed to disk before the segments it no longer needs are deleted, and
+ * otherwise relies on the operating system writing back the mapping.
+ */
+public class MappedFileTaskCollection<T> implements TaskCollection<T> {
+  private static final Logger LOG = LoggerFactory.getLogger(MappedFileTaskCollection.class);
+  private static final int DEFAULT_SEGMENT_SIZE_BYTES = 1024 * 1024 * 64; // 64Mb
+  private static final int HEADER_SIZE = Integer.BYTES * 2;
+  static final String SEGMENT_PREFIX = "segment";
+  static final String CHECKPOINT_FILENAME = "checkpoint";
+
+  private final Path storageDirectory;
+  private final Function<T, Bytes> serializer;
+  private final Function<Bytes, T> deserializer;
+  private final int segmentSizeBytes;
+  private final CRC32 crc = new CRC32();
+
+  // Positions of tasks that have been removed, but not marked completed yet
+  private final NavigableSet<Long> outstandingTasks = new TreeSet<>();
+
+  private MappedByteBuffer checkpointBuffer;
+  private MappedByteBuffer readBuffer;
+  private MappedByteBuffer writeBuffer;
+
+  private long size = 0;
+  private int generation = 0;
+  private int firstSegmentNumber = 0;
+  private int readSegmentNumber = 0;
+  private int readOffset = 0;
+  private int writeSegmentNumber = 0;
+  private int writeOffset = 0;
+
+  public MappedFileTaskCollection(
+      final Path storageDirectory,
+      final Function<T, Bytes> serializer,
+      final Function<Bytes, T> deserializer) {
+    this(storageDirectory, serializer, deserializer, DEFAULT_SEGMENT_SIZE_BYTES);
+  }
+
+  MappedFileTaskCollection(
+      final Path storageDirectory,
+      final Function<T, Bytes> serializer,
+      final Function<Bytes, T> deserializer,
+      final int segmentSizeBytes) {
+    this.storageDirectory = storageDirectory;
+    this.serializer = serializer;
+    this.deserializer = deserializer;
+    this.segmentSizeBytes = segmentSizeBytes;
+    checkpointBuffer = mapFile(storageDirectory.resolve(CHECKPOINT_FILENAME), Long.BYTES, false);
+    recover();
+  }
+
+  private void recover() {
+    final int[] segmentNumbers = existingSegmentNumbers();
+    if (segmentNumbers.length == 0) {
+      firstSegmentNumber = 0;
+      readSegmentNumber = 0;
+      readOffset = 0;
+      writeSegmentNumber = 0;
+      writeOffset = 0;
+      writeBuffer = mapFile(pathForSegmentNumber(0), segmentSizeBytes, true);
+      readBuffer = writeBuffer;
+      size = 0;
+      updateCheckpoint();
+      return;
+    }
+
+    final long checkpoint = checkpointBuffer.getLong(0);
+    readSegmentNumber = segmentNumber(checkpoint);
+    readOffset = segmentOffset(checkpoint);
+    firstSegmentNumber = segmentNumbers[0];
+    writeSegmentNumber = segmentNumbers[segmentNumbers.length - 1];
+    if (readSegmentNumber < firstSegmentNumber || readSegmentNumber > writeSegmentNumber) {
+      LOG.warn("Task queue checkpoint is outside of the stored segments, reading all segments");
+      readSegmentNumber = firstSegmentNumber;
+      readOffset = 0;
+    }
+    deleteSegmentsBefore(readSegmentNumber);
+
+    // Count the records left to read and find where the last valid record ends
+    size = 0;
+    int segmentNumber = readSegmentNumber;
+    int offset = readOffset;
+    MappedByteBuffer buffer = mapExistingSegment(segmentNumber);
+    readBuffer = buffer;
+    while (true) {
+      final int recordLength = validRecordLength(buffer, offset);
+      if (recordLength >= 0) {
+        size++;
+        offset += HEADER_SIZE + recordLength;
+      } else if (segmentNumber < writeSegmentNumber) {
+        segmentNumber++;
+        offset = 0;
+        buffer = mapExistingSegment(segmentNumber);
+      } else {
+        break;
+      }
+    }
+    writeBuffer = buffer;
+    writeOffset = offset;
+    if (readSegmentNumber == writeSegmentNumber) {
+      readBuffer = writeBuffer;
+    }
+    LOG.info("Resumed task queue with {} pending tasks", size);
+  }
+
+  @Override
+  public synchronized void add(final T taskData) {
+    writeTaskData(serializer.apply(taskData));
+  }
+
+  /**
+   * Add several tasks at once, avoiding repeated locking for each one.
+   *
+   * @param taskData The data to be processed.
+   */
+  public synchronized void addAll(final Collection<T> taskData) {
+    taskData.forEach(data -> writeTaskData(serializer.apply(data)));
+  }
+
+  @Override
+  public synchronized Task<T> remove() {
+    if (isEmpty()) {
+      return null;
+    }
+    final Task<T> task = readNextTask();
+    updateCheckpoint();
+    return task;
+  }
+
+  /**
+   * Get up to {@code maxTasks} tasks for processing at once. Each task is tracked as a pending task
+   * until it is marked completed or failed.
+   *
+   * @param maxTasks The maximum number of tasks to return.
+   * @return The tasks to be processed, which is empty if there are no tasks left.
+   */
+  public synchronized List<Task<T>> remove(final int maxTasks) {
+    final List<Task<T>> tasks = new ArrayList<>((int) Math.min(maxTasks, size));
+    while (tasks.size() < maxTasks && !isEmpty()) {
+      tasks.add(readNextTask());
+    }
+    updateCheckpoint();
+    return tasks;
+  }
+
+  private void writeTaskData(final Bytes data) {
+    final int length = data.size();
+    if (writeOffset + HEADER_SIZE + length > writeBuffer.capacity()) {
+      LOG.debug("Writing reached end of segment {}", writeSegmentNumber);
+      writeSegmentNumber++;
+      writeOffset = 0;
+      writeBuffer =
+          mapFile(
+              pathForSegmentNumber(writeSegmentNumber),
+              Math.max(segmentSizeBytes, HEADER_SIZE + length),
+              true);
+    }
+    final byte[] bytes = data.toArrayUnsafe();
+    final ByteBuffer buffer = writeBuffer.duplicate();
+    buffer.position(writeOffset + HEADER_SIZE);
+    buffer.put(bytes);
+    // Write the header last so a record is never seen before its data is in place
+    writeBuffer.putInt(writeOffset + Integer.BYTES, checksum(length, bytes));
+    writeBuffer.putInt(writeOffset, length);
+    writeOffset += HEADER_SIZE + length;
+    size++;
+  }
+
+  private Task<T> readNextTask() {
+    int length = validRecordLength(readBuffer, readOffset);
+    if (length < 0 && readSegmentNumber < writeSegmentNumber) {
+      LOG.debug("Reading reached end of segment {}", readSegmentNumber);
+      readSegmentNumber++;
+      readOffset = 0;
+      readBuffer =
+          readSegmentNumber == writeSegmentNumber
+              ? writeBuffer
+              : mapExistingSegment(readSegmentNumber);
+      length = validRecordLength(readBuffer, readOffset);
+    }
+    if (length < 0) {
+      throw new IllegalStateException(
+          "Task queue corrupted. No valid record at offset "
+              + readOffset
+              + " of segment "
+              + readSegmentNumber);
+    }
+    final byte[] bytes = new byte[length];
+    final ByteBuffer buffer = readBuffer.duplicate();
+    buffer.position(readOffset + HEADER_SIZE);
+    buffer.get(bytes);
+
+    final long position = position(readSegmentNumber, readOffset);
+    readOffset += HEADER_SIZE + length;
+    size--;
+    outstandingTasks.add(position);
+    return new MappedFileTask<>(this, deserializer.apply(Bytes.wrap(bytes)), position, generation);
+  }
+
+  /**
+   * Returns the data length of the record at the given offset, or -1 if there is no complete record
+   * with a matching checksum there.
+   */
+  private int validRecordLength(final MappedByteBuffer buffer, final int offset) {
+    if (offset + HEADER_SIZE > buffer.capacity()) {
+      return -1;
+    }
+    final int length = buffer.getInt(offset);
+    // Compare against the space left so a corrupt large length can't overflow
+    if (length < 0 || length > buffer.capacity() - offset - HEADER_SIZE) {
+      return -1;
+    }
+    final byte[] bytes = new byte[length];
+    final ByteBuffer data = buffer.duplicate();
+    data.position(offset + HEADER_SIZE);
+    data.get(bytes);
+    return checksum(length, bytes) == buffer.getInt(offset + Integer.BYTES) ? length : -1;
+  }
+
+  private int checksum(final int length, final byte[] data) {
+    // Include the length so that a zeroed header is never a valid empty record
+    crc.reset();
+    crc.update(length >>> 24);
+    crc.update(length >>> 16);
+    crc.update(length >>> 8);
+    crc.update(length);
+    crc.update(data);
+    return (int) crc.getValue();
+  }
+
+  private void updateCheckpoint() {
+    final long checkpoint =
+        outstandingTasks.isEmpty()
+            ? position(readSegmentNumber, readOffset)
+            : outstandingTasks.first();
+    checkpointBuffer.putLong(0, checkpoint);
+    if (segmentNumber(checkpoint) > firstSegmentNumber) {
+      // A crash must not leave a checkpoint pointing into the segments deleted below
+      checkpointBuffer.force();
+    }
+    deleteSegmentsBefore(segmentNumber(checkpoint));
+  }
+
+  private void deleteSegmentsBefore(final int segmentNumber) {
+    for (; firstSegmentNumber < segmentNumber; firstSegmentNumber++) {
+      deleteFile(pathForSegmentNumber(firstSegmentNumber).toFile());
+    }
+  }
+
+  @Override
+  public synchronized long size() {
+    return size;
+  }
+
+  @Override
+  public synchronized boolean isEmpty() {
+    return size() == 0;
+  }
+
+  @VisibleForTesting
+  int getReadSegmentNumber() {
+    return readSegmentNumber;
+  }
+
+  @VisibleForTesting
+  int getWriteSegmentNumber() {
+    return writeSegmentNumber;
+  }
+
+  @Override
+  public synchronized void clear() {
+    outstandingTasks.clear();
+    generation++;
+    for (int i = firstSegmentNumber; i <= writeSegmentNumber; i++) {
+      deleteFile(pathForSegmentNumber(i).toFile());
+    }
+    firstSegmentNumber = 0;
+    readSegmentNumber = 0;
+    readOffset = 0;
+    writeSegmentNumber = 0;
+    writeOffset = 0;
+    writeBuffer = mapFile(pathForSegmentNumber(0), segmentSizeBytes, true);
+    readBuffer = writeBuffer;
+    size = 0;
+    updateCheckpoint();
+  }
+
+  @Override
+  public synchronized boolean allTasksCompleted() {
+    return isEmpty() && outstandingTasks.isEmpty();
+  }
+
+  @Override
+  public synchronized void close() {
+    writeBuffer.force();
+    checkpointBuffer.force();
+  }
+
+  private int[] existingSegmentNumbers() {
+    try (final Stream<Path> files = Files.list(storageDirectory)) {
+      return files
+          .map(path -> path.getFileName().toString())
+          .filter(name -> name.startsWith(SEGMENT_PREFIX))
+          .mapToInt(name -> Integer.parseInt(name.substring(SEGMENT_PREFIX.length())))
+          .sorted()
+          .toArray();
+    } catch (final IOException e) {
+      throw new StorageException(
+          "There was a problem listing task segments in " + storageDirectory, e);
+    }
+  }
+
+  private MappedByteBuffer mapExistingSegment(final int segmentNumber) {
+    final Path path = pathForSegmentNumber(segmentNumber);
+    try {
+      return mapFile(path, Files.size(path), false);
+    } catch (final IOException e) {
+      throw new StorageException("There was a problem opening task segment " + path, e);
+    }
+  }
+
+  private static MappedByteBuffer mapFile(
+      final Path path, final long sizeBytes, final boolean truncate) {
+    try (final FileChannel channel =
+        truncate
+            ? FileChannel.open(
+                path,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.CREATE)
+            : FileChannel.open(
+                path,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.CREATE)) {
+      return channel.map(MapMode.READ_WRITE, 0, sizeBytes);
+    } catch (final IOException e) {
+      throw new StorageException("There was a problem mapping " + path, e);
+    }
+  }
+
+  private static void deleteFile(final File file) {
+    if (!file.delete() && file.exists()) {
+      LOG.error("Failed to delete tasks file {}", file.getAbsolutePath());
+    }
+  }
+
+  private Path pathForSegmentNumber(final int segmentNumber) {
+    return storageDirectory.resolve(SEGMENT_PREFIX + segmentNumber);
+  }
+
+  private static long position(final int segmentNumber, final int offset) {
+    return ((long) segmentNumber << Integer.SIZE) | offset;
+  }
+
+  private static int segmentNumber(final long position) {
+    return (int) (position >>> Integer.SIZE);
+  }
+
+  private static int segmentOffset(final long position) {
+    return (int) position;
+  }
+
+  private synchronized boolean markTaskCompleted(final MappedFileTask<T> task) {
+    if (task.generation != generation || !outstandingTasks.remove(task.position)) {
+      return false;
+    }
+    updateCheckpoint();
+    return true;
+  }
+
+  private synchronized void handleFailedTask(final MappedFileTask<T> task) {
+    if (task.generation != generation || !outstandingTasks.contains(task.position)) {
+      return;
+    }
+    // Append the task again before releasing its position so it is never lost on a crash
+    add(task.getData());
+    markTaskCompleted(task);
+  }
+
+  private static class MappedFileTask<T> implements Task<T> {
+    private final AtomicBoolean completed = new AtomicBoolean(false);
+    private final MappedFileTaskCollection<T> parentQueue;
+    private final T data;
+    private final long position;
+    private final int generation;
+
+    private MappedFileTask(
+        final MappedFileTaskCollection<T> parentQueue,
+        final T data,
+        final long position,
+        final int generation) {
+      this.parentQueue = parentQueue;
+      this.data = data;
+      this.position = position;
+      this.generation = generation;
+    }
+
+    @Override
+    public T getData() {
+      return data;
+    }
+
+    @Override
+    public void markCompleted() {
+      if (completed.compareAndSet(false, true)) {
+        parentQueue.markTaskCompleted(this);
+      }
+    }
+
+    @Override
+    public void markFailed() {
+      if (completed.compareAndSet(false, true)) {
+        parentQueue.handleFailedTask(this);
+      }
+    }
+  }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.services.tasks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class MappedFileTaskCollectionTest
+    extends AbstractTaskQueueTest<MappedFileTaskCollection<Bytes>> {
+
+  private static final int SEGMENT_SIZE = 64;
+  @Rule public final TemporaryFolder folder = new TemporaryFolder();
+
+  @Override
+  protected MappedFileTaskCollection<Bytes> createQueue() throws IOException {
+    final Path dataDir = folder.newFolder().toPath();
+    return createQueue(dataDir);
+  }
+
+  private MappedFileTaskCollection<Bytes> createQueue(final Path dataDir) {
+    return new MappedFileTaskCollection<>(
+        dataDir, Function.identity(), Function.identity(), SEGMENT_SIZE);
+  }
+
+  @Test
+  public void shouldRollSegmentsWhenFull() throws Exception {
+    final Path dataDir = folder.newFolder().toPath();
+    try (final MappedFileTaskCollection<Bytes> queue = createQueue(dataDir)) {
+      final List<Bytes> tasks = new ArrayList<>();
+      for (int i = 0; i < 20; i++) {
+        addItem(queue, tasks, i);
+      }
+      assertThat(queue.getWriteSegmentNumber()).isGreaterThan(0);
+      assertThat(queue.getReadSegmentNumber()).isEqualTo(0);
+
+      final List<Bytes> removedTasks = new ArrayList<>();
+      while (!queue.isEmpty()) {
+        final Task<Bytes> task = queue.remove();
+        task.markCompleted();
+        removedTasks.add(task.getData());
+      }
+      assertThat(queue.getReadSegmentNumber()).isEqualTo(queue.getWriteSegmentNumber());
+      assertThat(removedTasks).isEqualTo(tasks);
+      assertThat(dataDir.resolve(MappedFileTaskCollection.SEGMENT_PREFIX + 0)).doesNotExist();
+    }
+  }
+
+  @Test
+  public void shouldStoreTasksLargerThanSegment() throws Exception {
+    try (final MappedFileTaskCollection<Bytes> queue = createQueue()) {
+      final Bytes large = Bytes.wrap(new byte[SEGMENT_SIZE * 2]);
+      queue.add(Bytes.of(1));
+      queue.add(large);
+      queue.add(Bytes.of(2));
+
+      assertThat(queue.remove().getData()).isEqualTo(Bytes.of(1));
+      assertThat(queue.remove().getData()).isEqualTo(large);
+      assertThat(queue.remove().getData()).isEqualTo(Bytes.of(2));
+    }
+  }
+
+  @Test
+  public void shouldAddAndRemoveInBatches() throws Exception {
+    try (final MappedFileTaskCollection<Bytes> queue = createQueue()) {
+      final List<Bytes> tasks = new ArrayList<>();
+      for (int i = 0; i < 10; i++) {
+        tasks.add(Bytes.of(i));
+      }
+      queue.addAll(tasks);
+      assertThat(queue.size()).isEqualTo(10);
+
+      final List<Task<Bytes>> firstBatch = queue.remove(6);
+      final List<Task<Bytes>> secondBatch = queue.remove(6);
+      assertThat(firstBatch).hasSize(6);
+      assertThat(secondBatch).hasSize(4);
+      assertThat(queue.remove(6)).isEmpty();
+
+      firstBatch.addAll(secondBatch);
+      assertThat(firstBatch.stream().map(Task::getData).collect(Collectors.toList()))
+          .isEqualTo(tasks);
+    }
+  }
+
+  @Test
+  public void shouldResumeFromOldestOutstandingTask() throws Exception {
+    final Path dataDir = folder.newFolder().toPath();
+    try (final MappedFileTaskCollection<Bytes> queue = createQueue(dataDir)) {
+      for (int i = 0; i < 20; i++) {
+        queue.add(Bytes.of(i));
+      }
+      for (int i = 0; i < 5; i++) {
+        queue.remove().markCompleted();
+      }
+      // Removed but never completed, e.g. because the node crashed
+      queue.remove();
+      queue.remove().markCompleted();
+    }
+
+    try (final MappedFileTaskCollection<Bytes> queue = createQueue(dataDir)) {
+      assertThat(queue.size()).isEqualTo(15);
+      final List<Bytes> removedTasks = new ArrayList<>();
+      while (!queue.isEmpty()) {
+        removedTasks.add(queue.remove().getData());
+      }
+      assertThat(removedTasks).hasSize(15);
+      assertThat(removedTasks.get(0)).isEqualTo(Bytes.of(5));
+      assertThat(removedTasks.get(14)).isEqualTo(Bytes.of(19));
+    }
+  }
+
+  @Test
+  public void shouldIgnoreTornRecordWhenResuming() throws Exception {
+    final Path dataDir = folder.newFolder().toPath();
+    try (final MappedFileTaskCollection<Bytes> queue = createQueue(dataDir)) {
+      queue.add(Bytes.of(1));
+      queue.add(Bytes.of(2, 3));
+    }
+
+    // Corrupt the data of the second record: header of first (8) + data (1) + header (8)
+    try (final RandomAccessFile file =
+        new RandomAccessFile(
+            dataDir.resolve(MappedFileTaskCollection.SEGMENT_PREFIX + 0).toFile(), "rw")) {
+      file.seek(17);
+      file.write(9);
+    }
+
+    try (final MappedFileTaskCollection<Bytes> queue = createQueue(dataDir)) {
+      assertThat(queue.size()).isEqualTo(1);
+      assertThat(queue.remove().getData()).isEqualTo(Bytes.of(1));
+
+      queue.add(Bytes.of(4));
+      assertThat(queue.remove().getData()).isEqualTo(Bytes.of(4));
+    }
+  }
+
+  @Test
+  public void shouldIgnoreRecordWithCorruptLargeLengthWhenResuming() throws Exception {
+    final Path dataDir = folder.newFolder().toPath();
+    try (final MappedFileTaskCollection<Bytes> queue = createQueue(dataDir)) {
+      queue.add(Bytes.of(1));
+      queue.add(Bytes.of(2, 3));
+    }
+
+    // Corrupt the length of the second record, which starts after the first record (8 + 1)
+    try (final RandomAccessFile file =
+        new RandomAccessFile(
+            dataDir.resolve(MappedFileTaskCollection.SEGMENT_PREFIX + 0).toFile(), "rw")) {
+      file.seek(9);
+      file.writeInt(Integer.MAX_VALUE - 4);
+    }
+
+    try (final MappedFileTaskCollection<Bytes> queue = createQueue(dataDir)) {
+      assertThat(queue.size()).isEqualTo(1);
+      assertThat(queue.remove().getData()).isEqualTo(Bytes.of(1));
+    }
+  }
+
+  private void addItem(
+      final MappedFileTaskCollection<Bytes> queue, final List<Bytes> tasks, final int value) {
+    tasks.add(Bytes.of(value));
+    queue.add(Bytes.of(value));
+  }
+}